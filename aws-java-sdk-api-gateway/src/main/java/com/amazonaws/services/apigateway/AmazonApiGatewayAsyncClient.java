@@ -93,8 +93,8 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
     public AmazonApiGatewayAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonApiGatewayAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -113,8 +113,8 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
      */
     public AmazonApiGatewayAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonApiGatewayAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -176,8 +176,8 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
      */
     public AmazonApiGatewayAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonApiGatewayAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -204,8 +204,8 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonApiGatewayAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -140,8 +140,8 @@ public class AWSApplicationAutoScalingAsyncClient extends
     public AWSApplicationAutoScalingAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSApplicationAutoScalingAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -160,8 +160,8 @@ public class AWSApplicationAutoScalingAsyncClient extends
      */
     public AWSApplicationAutoScalingAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSApplicationAutoScalingAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -223,8 +223,8 @@ public class AWSApplicationAutoScalingAsyncClient extends
      */
     public AWSApplicationAutoScalingAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSApplicationAutoScalingAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -251,8 +251,8 @@ public class AWSApplicationAutoScalingAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSApplicationAutoScalingAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
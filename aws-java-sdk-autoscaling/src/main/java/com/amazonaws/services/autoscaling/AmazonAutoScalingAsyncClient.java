@@ -91,8 +91,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
     public AmazonAutoScalingAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonAutoScalingAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -111,8 +111,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public AmazonAutoScalingAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonAutoScalingAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -174,8 +174,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public AmazonAutoScalingAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonAutoScalingAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -202,8 +202,8 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonAutoScalingAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.auth;
+
+import static com.amazonaws.benchmarks.BenchmarkUtils.CREDENTIALS;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.transform.GetItemRequestMarshaller;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.transform.SendMessageRequestMarshaller;
+
+/**
+ * Signs requests produced by the generated marshallers with
+ * {@link AWS4Signer}: a JSON GetItem, and a query protocol SendMessage whose
+ * parameters are form encoded into the payload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AWS4SignerBenchmark {
+
+    private AWS4Signer dynamoDBSigner;
+    private AWS4Signer sqsSigner;
+
+    private Request<?> getItemRequest;
+    private Map<String, String> getItemHeaders;
+    private Request<?> sendMessageRequest;
+    private Map<String, String> sendMessageHeaders;
+
+    @Setup
+    public void setUp() {
+        dynamoDBSigner = newSigner("dynamodb");
+        sqsSigner = newSigner("sqs");
+
+        Map<String, AttributeValue> key = new HashMap<String, AttributeValue>();
+        key.put("Artist", new AttributeValue("No One You Know"));
+        key.put("SongTitle", new AttributeValue("Call Me Today"));
+        getItemRequest = new GetItemRequestMarshaller(new SdkJsonProtocolFactory(
+                new JsonClientMetadata().withProtocolVersion("1.0")))
+                .marshall(new GetItemRequest("Music", key, true));
+        getItemRequest.setEndpoint(URI.create("https://dynamodb.us-east-1.amazonaws.com"));
+        getItemHeaders = new HashMap<String, String>(getItemRequest.getHeaders());
+
+        sendMessageRequest = new SendMessageRequestMarshaller().marshall(new SendMessageRequest(
+                "https://sqs.us-east-1.amazonaws.com/123456789012/benchmark-queue",
+                "This is a test message"));
+        sendMessageRequest.setEndpoint(URI.create("https://sqs.us-east-1.amazonaws.com"));
+        sendMessageHeaders = new HashMap<String, String>(sendMessageRequest.getHeaders());
+    }
+
+    @Benchmark
+    public Request<?> signJsonRequest() {
+        // Start from the marshalled headers so that the signature from the
+        // previous invocation is not itself signed.
+        getItemRequest.setHeaders(getItemHeaders);
+        dynamoDBSigner.sign(getItemRequest, CREDENTIALS);
+        return getItemRequest;
+    }
+
+    @Benchmark
+    public Request<?> signQueryRequest() {
+        sendMessageRequest.setHeaders(sendMessageHeaders);
+        sqsSigner.sign(sendMessageRequest, CREDENTIALS);
+        return sendMessageRequest;
+    }
+
+    private static AWS4Signer newSigner(String serviceName) {
+        AWS4Signer signer = new AWS4Signer();
+        signer.setServiceName(serviceName);
+        signer.setRegionName("us-east-1");
+        return signer;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.dynamodb;
+
+import static com.amazonaws.benchmarks.BenchmarkUtils.CREDENTIALS;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.datamodeling.ConversionSchema;
+import com.amazonaws.services.dynamodbv2.datamodeling.ConversionSchemas;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.ItemConverter;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Converts an annotated POJO to a DynamoDB item and back, as done by
+ * {@link DynamoDBMapper} on every save and load. No requests are sent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamoDBMapperBenchmark {
+
+    private DynamoDBMapper mapper;
+    private ItemConverter converter;
+    private Song song;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setUp() {
+        mapper = new DynamoDBMapper(new AmazonDynamoDBClient(CREDENTIALS));
+        converter = ConversionSchemas.V2_COMPATIBLE.getConverter(
+                new ConversionSchema.Dependencies());
+
+        song = new Song();
+        song.setArtist("No One You Know");
+        song.setSongTitle("Call Me Today");
+        song.setAlbumTitle("Somewhat Famous");
+        song.setYear(2015);
+        song.setPrice(2.14d);
+        song.setExplicit(false);
+        song.setReleased(new Date(1466035200000L));
+        Set<String> tags = new HashSet<String>();
+        tags.add("country");
+        tags.add("new");
+        tags.add("single");
+        song.setTags(tags);
+
+        item = converter.convert(song);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> convert() {
+        return converter.convert(song);
+    }
+
+    @Benchmark
+    public Song unconvert() {
+        return mapper.marshallIntoObject(Song.class, item);
+    }
+
+    @DynamoDBTable(tableName = "Music")
+    public static class Song {
+        private String artist;
+        private String songTitle;
+        private String albumTitle;
+        private Integer year;
+        private Double price;
+        private Boolean explicit;
+        private Date released;
+        private Set<String> tags;
+
+        @DynamoDBHashKey(attributeName = "Artist")
+        public String getArtist() {
+            return artist;
+        }
+
+        public void setArtist(String artist) {
+            this.artist = artist;
+        }
+
+        @DynamoDBRangeKey(attributeName = "SongTitle")
+        public String getSongTitle() {
+            return songTitle;
+        }
+
+        public void setSongTitle(String songTitle) {
+            this.songTitle = songTitle;
+        }
+
+        @DynamoDBAttribute(attributeName = "AlbumTitle")
+        public String getAlbumTitle() {
+            return albumTitle;
+        }
+
+        public void setAlbumTitle(String albumTitle) {
+            this.albumTitle = albumTitle;
+        }
+
+        public Integer getYear() {
+            return year;
+        }
+
+        public void setYear(Integer year) {
+            this.year = year;
+        }
+
+        public Double getPrice() {
+            return price;
+        }
+
+        public void setPrice(Double price) {
+            this.price = price;
+        }
+
+        public Boolean getExplicit() {
+            return explicit;
+        }
+
+        public void setExplicit(Boolean explicit) {
+            this.explicit = explicit;
+        }
+
+        public Date getReleased() {
+            return released;
+        }
+
+        public void setReleased(Date released) {
+            this.released = released;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
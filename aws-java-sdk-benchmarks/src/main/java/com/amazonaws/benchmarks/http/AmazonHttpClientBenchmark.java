@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import static com.amazonaws.benchmarks.BenchmarkUtils.CREDENTIALS;
+import static com.amazonaws.benchmarks.BenchmarkUtils.utf8;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+
+/**
+ * Complete client round-trips through {@link com.amazonaws.http.AmazonHttpClient}
+ * against a {@link StubHttpServer} on the loopback interface: marshalling,
+ * signing, request handlers, the Apache HTTP client, unmarshalling and
+ * metrics collection. Run with several threads ({@code -t}) to measure
+ * contention in the shared client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmazonHttpClientBenchmark {
+
+    private static final String GET_ITEM_RESPONSE = "{\"Item\":{"
+            + "\"Artist\":{\"S\":\"No One You Know\"},"
+            + "\"SongTitle\":{\"S\":\"Call Me Today\"},"
+            + "\"AlbumTitle\":{\"S\":\"Somewhat Famous\"},"
+            + "\"Year\":{\"N\":\"2015\"}}}";
+
+    private StubHttpServer server;
+    private AmazonDynamoDBClient client;
+    private GetItemRequest getItemRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new StubHttpServer("application/x-amz-json-1.0", utf8(GET_ITEM_RESPONSE));
+
+        client = new AmazonDynamoDBClient(CREDENTIALS,
+                new ClientConfiguration().withMaxErrorRetry(0));
+        client.setEndpoint(server.getEndpoint().toString());
+        client.setSignerRegionOverride("us-east-1");
+
+        Map<String, AttributeValue> key = new HashMap<String, AttributeValue>();
+        key.put("Artist", new AttributeValue("No One You Know"));
+        key.put("SongTitle", new AttributeValue("Call Me Today"));
+        getItemRequest = new GetItemRequest("Music", key);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        server.stop();
+    }
+
+    @Benchmark
+    public GetItemResult getItem() {
+        return client.getItem(getItemRequest);
+    }
+}
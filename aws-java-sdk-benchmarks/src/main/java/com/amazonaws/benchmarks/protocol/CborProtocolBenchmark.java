@@ -0,0 +1,115 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import static com.amazonaws.benchmarks.BenchmarkUtils.newHttpResponse;
+import static com.amazonaws.benchmarks.BenchmarkUtils.utf8;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.protocol.json.StructuredJsonGenerator;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.PutRecordRequest;
+import com.amazonaws.services.kinesis.model.transform.GetRecordsResultJsonUnmarshaller;
+import com.amazonaws.services.kinesis.model.transform.PutRecordRequestMarshaller;
+
+/**
+ * Marshalling and unmarshalling with the code generated from the
+ * {@code json} templates over the CBOR wire format, using Amazon Kinesis'
+ * PutRecord and GetRecords.
+ * <p>
+ * Note that CBOR is not used when the
+ * {@value com.amazonaws.SDKGlobalConfiguration#AWS_CBOR_DISABLE_SYSTEM_PROPERTY}
+ * system property is set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CborProtocolBenchmark {
+
+    private static final int RECORDS = 10;
+
+    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+            new JsonClientMetadata().withProtocolVersion("1.1").withSupportsCbor(true));
+
+    private PutRecordRequestMarshaller marshaller;
+    private HttpResponseHandler<AmazonWebServiceResponse<GetRecordsResult>> responseHandler;
+    private PutRecordRequest putRecordRequest;
+    private byte[] getRecordsResponse;
+
+    @Setup
+    public void setUp() {
+        marshaller = new PutRecordRequestMarshaller(protocolFactory);
+        responseHandler = protocolFactory.createResponseHandler(
+                new JsonOperationMetadata().withPayloadJson(true)
+                        .withHasStreamingSuccessResponse(false),
+                new GetRecordsResultJsonUnmarshaller());
+
+        putRecordRequest = new PutRecordRequest()
+                .withStreamName("benchmark-stream")
+                .withPartitionKey("partition-key-0001")
+                .withData(ByteBuffer.wrap(new byte[512]));
+
+        StructuredJsonGenerator generator = protocolFactory.createGenerator();
+        generator.writeStartObject();
+        generator.writeFieldName("Records").writeStartArray();
+        for (int i = 0; i < RECORDS; i++) {
+            generator.writeStartObject();
+            generator.writeFieldName("SequenceNumber").writeValue(
+                    "4954852586423623848591708008966541830860937" + i);
+            generator.writeFieldName("PartitionKey").writeValue("partition-key-" + i);
+            generator.writeFieldName("Data").writeValue(ByteBuffer.wrap(utf8(
+                    "{\"sensor\":\"thermostat-" + i + "\",\"reading\":21.5}")));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeFieldName("NextShardIterator").writeValue(
+                "AAAAAAAAAAHsW8zCWf9164uy8Epue6WS3w6wmj4a4USt+CNvMd6uXQ+HL5vAJMznqqC0DLKsIjuoiTi1BpT6nW0LN2M2D56zM5H8anHm30Gbri9ua+qaGgj+3XTyvbhpERfrezgLHbPB/rIcVpykJbaSj5tmcXYRmFnqZBEyHwtZYFmh6hvWVFkIwLuMZLMrpWhG5r5hzkE=");
+        generator.writeFieldName("MillisBehindLatest").writeValue(0L);
+        generator.writeEndObject();
+        getRecordsResponse = generator.getBytes();
+    }
+
+    @Benchmark
+    public Request<PutRecordRequest> marshallPutRecord() {
+        return marshaller.marshall(putRecordRequest);
+    }
+
+    @Benchmark
+    public GetRecordsResult unmarshallGetRecords() throws Exception {
+        return responseHandler.handle(newHttpResponse(getRecordsResponse)).getResult();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import static com.amazonaws.benchmarks.BenchmarkUtils.newHttpResponse;
+import static com.amazonaws.benchmarks.BenchmarkUtils.utf8;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.transform.GetItemResultJsonUnmarshaller;
+import com.amazonaws.services.dynamodbv2.model.transform.PutItemRequestMarshaller;
+
+/**
+ * Marshalling and unmarshalling with the code generated from the
+ * {@code json} templates, using Amazon DynamoDB's PutItem and GetItem.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonProtocolBenchmark {
+
+    private static final String GET_ITEM_RESPONSE = "{\"Item\":{"
+            + "\"Artist\":{\"S\":\"No One You Know\"},"
+            + "\"SongTitle\":{\"S\":\"Call Me Today\"},"
+            + "\"AlbumTitle\":{\"S\":\"Somewhat Famous\"},"
+            + "\"Year\":{\"N\":\"2015\"},"
+            + "\"Price\":{\"N\":\"2.14\"},"
+            + "\"Genre\":{\"S\":\"Country\"},"
+            + "\"Tags\":{\"SS\":[\"country\",\"new\",\"single\"]},"
+            + "\"Explicit\":{\"BOOL\":false}}}";
+
+    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+            new JsonClientMetadata().withProtocolVersion("1.0").withSupportsCbor(false));
+
+    private PutItemRequestMarshaller marshaller;
+    private HttpResponseHandler<AmazonWebServiceResponse<GetItemResult>> responseHandler;
+    private PutItemRequest putItemRequest;
+    private byte[] getItemResponse;
+
+    @Setup
+    public void setUp() {
+        marshaller = new PutItemRequestMarshaller(protocolFactory);
+        responseHandler = protocolFactory.createResponseHandler(
+                new JsonOperationMetadata().withPayloadJson(true)
+                        .withHasStreamingSuccessResponse(false),
+                new GetItemResultJsonUnmarshaller());
+
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("Artist", new AttributeValue("No One You Know"));
+        item.put("SongTitle", new AttributeValue("Call Me Today"));
+        item.put("AlbumTitle", new AttributeValue("Somewhat Famous"));
+        item.put("Year", new AttributeValue().withN("2015"));
+        item.put("Price", new AttributeValue().withN("2.14"));
+        item.put("Genre", new AttributeValue("Country"));
+        item.put("Tags", new AttributeValue().withSS("country", "new", "single"));
+        item.put("Explicit", new AttributeValue().withBOOL(false));
+        putItemRequest = new PutItemRequest("Music", item)
+                .withConditionExpression("attribute_not_exists(Artist)");
+
+        getItemResponse = utf8(GET_ITEM_RESPONSE);
+    }
+
+    @Benchmark
+    public Request<PutItemRequest> marshallPutItem() {
+        return marshaller.marshall(putItemRequest);
+    }
+
+    @Benchmark
+    public GetItemResult unmarshallGetItem() throws Exception {
+        return responseHandler.handle(newHttpResponse(getItemResponse)).getResult();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import static com.amazonaws.benchmarks.BenchmarkUtils.REQUEST_ID;
+import static com.amazonaws.benchmarks.BenchmarkUtils.newHttpResponse;
+import static com.amazonaws.benchmarks.BenchmarkUtils.utf8;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.Request;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageResultStaxUnmarshaller;
+import com.amazonaws.services.sqs.model.transform.SendMessageRequestMarshaller;
+
+/**
+ * Marshalling and unmarshalling with the code generated from the
+ * {@code query} templates, using Amazon SQS' SendMessage and ReceiveMessage.
+ * Unmarshalling exercises {@link com.amazonaws.transform.StaxUnmarshallerContext}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryProtocolBenchmark {
+
+    private static final int MESSAGES = 10;
+
+    private final SendMessageRequestMarshaller marshaller = new SendMessageRequestMarshaller();
+    private StaxResponseHandler<ReceiveMessageResult> responseHandler;
+    private SendMessageRequest sendMessageRequest;
+    private byte[] receiveMessageResponse;
+
+    @Setup
+    public void setUp() {
+        responseHandler = new StaxResponseHandler<ReceiveMessageResult>(
+                new ReceiveMessageResultStaxUnmarshaller());
+
+        sendMessageRequest = new SendMessageRequest(
+                "https://sqs.us-east-1.amazonaws.com/123456789012/benchmark-queue",
+                "{\"orderId\":\"1234-5678\",\"items\":[\"widget\",\"gadget\"],\"total\":42.5}")
+                .withDelaySeconds(0)
+                .addMessageAttributesEntry("Source", new MessageAttributeValue()
+                        .withDataType("String").withStringValue("benchmark"))
+                .addMessageAttributesEntry("Priority", new MessageAttributeValue()
+                        .withDataType("Number").withStringValue("5"));
+
+        StringBuilder xml = new StringBuilder()
+                .append("<ReceiveMessageResponse xmlns=\"http://queue.amazonaws.com/doc/2012-11-05/\">")
+                .append("<ReceiveMessageResult>");
+        for (int i = 0; i < MESSAGES; i++) {
+            xml.append("<Message>")
+               .append("<MessageId>5fea7756-0ea4-451a-a703-a558b933e27").append(i).append("</MessageId>")
+               .append("<ReceiptHandle>MbZj6wDWli+JvwwJaBV+3dcjk2YW2vA3+STFFljTM8tJJg6HRG6PYSasuWXPJB+Cw")
+               .append("Lj1FjgXUv1uSj1gUPAWV66FU/WeR4mq2OKpEGYWbnLmpRCJVAyeMjeU5ZBdtcQ+QEauMZc8ZRv37sIW2iJK")
+               .append("q3M9MFx1YvV11A2x/KSbkJ0=</ReceiptHandle>")
+               .append("<MD5OfBody>fafb00f5732ab283681e124bf8747ed1</MD5OfBody>")
+               .append("<Body>This is test message number ").append(i).append("</Body>")
+               .append("<Attribute><Name>SenderId</Name><Value>195004372649</Value></Attribute>")
+               .append("<Attribute><Name>SentTimestamp</Name><Value>1238099229000</Value></Attribute>")
+               .append("<Attribute><Name>ApproximateReceiveCount</Name><Value>5</Value></Attribute>")
+               .append("</Message>");
+        }
+        xml.append("</ReceiveMessageResult>")
+           .append("<ResponseMetadata><RequestId>").append(REQUEST_ID).append("</RequestId></ResponseMetadata>")
+           .append("</ReceiveMessageResponse>");
+        receiveMessageResponse = utf8(xml.toString());
+    }
+
+    @Benchmark
+    public Request<SendMessageRequest> marshallSendMessage() {
+        return marshaller.marshall(sendMessageRequest);
+    }
+
+    @Benchmark
+    public ReceiveMessageResult unmarshallReceiveMessage() throws Exception {
+        return responseHandler.handle(newHttpResponse(receiveMessageResponse)).getResult();
+    }
+}
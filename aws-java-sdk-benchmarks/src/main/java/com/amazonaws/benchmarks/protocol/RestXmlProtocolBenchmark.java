@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import static com.amazonaws.benchmarks.BenchmarkUtils.newHttpResponse;
+import static com.amazonaws.benchmarks.BenchmarkUtils.utf8;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.Request;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.route53.model.Change;
+import com.amazonaws.services.route53.model.ChangeAction;
+import com.amazonaws.services.route53.model.ChangeBatch;
+import com.amazonaws.services.route53.model.ChangeResourceRecordSetsRequest;
+import com.amazonaws.services.route53.model.ListResourceRecordSetsResult;
+import com.amazonaws.services.route53.model.RRType;
+import com.amazonaws.services.route53.model.ResourceRecord;
+import com.amazonaws.services.route53.model.ResourceRecordSet;
+import com.amazonaws.services.route53.model.transform.ChangeResourceRecordSetsRequestMarshaller;
+import com.amazonaws.services.route53.model.transform.ListResourceRecordSetsResultStaxUnmarshaller;
+
+/**
+ * Marshalling and unmarshalling with the code generated from the
+ * {@code rest-xml} templates, using Amazon Route 53's
+ * ChangeResourceRecordSets and ListResourceRecordSets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestXmlProtocolBenchmark {
+
+    private static final int RECORD_SETS = 20;
+
+    private final ChangeResourceRecordSetsRequestMarshaller marshaller =
+            new ChangeResourceRecordSetsRequestMarshaller();
+    private StaxResponseHandler<ListResourceRecordSetsResult> responseHandler;
+    private ChangeResourceRecordSetsRequest changeRequest;
+    private byte[] listResponse;
+
+    @Setup
+    public void setUp() {
+        responseHandler = new StaxResponseHandler<ListResourceRecordSetsResult>(
+                new ListResourceRecordSetsResultStaxUnmarshaller());
+
+        List<Change> changes = new ArrayList<Change>();
+        for (int i = 0; i < RECORD_SETS; i++) {
+            changes.add(new Change(ChangeAction.UPSERT,
+                    new ResourceRecordSet("host" + i + ".example.com.", RRType.A)
+                            .withTTL(300L)
+                            .withResourceRecords(new ResourceRecord("192.0.2." + i))));
+        }
+        changeRequest = new ChangeResourceRecordSetsRequest("Z1D633PJN98FT9",
+                new ChangeBatch(changes).withComment("benchmark"));
+
+        StringBuilder xml = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<ListResourceRecordSetsResponse xmlns=\"https://route53.amazonaws.com/doc/2013-04-01/\">")
+                .append("<ResourceRecordSets>");
+        for (int i = 0; i < RECORD_SETS; i++) {
+            xml.append("<ResourceRecordSet>")
+               .append("<Name>host").append(i).append(".example.com.</Name>")
+               .append("<Type>A</Type><TTL>300</TTL>")
+               .append("<ResourceRecords><ResourceRecord><Value>192.0.2.").append(i)
+               .append("</Value></ResourceRecord></ResourceRecords>")
+               .append("</ResourceRecordSet>");
+        }
+        xml.append("</ResourceRecordSets>")
+           .append("<IsTruncated>false</IsTruncated><MaxItems>100</MaxItems>")
+           .append("</ListResourceRecordSetsResponse>");
+        listResponse = utf8(xml.toString());
+    }
+
+    @Benchmark
+    public Request<ChangeResourceRecordSetsRequest> marshallChangeResourceRecordSets() {
+        return marshaller.marshall(changeRequest);
+    }
+
+    @Benchmark
+    public ListResourceRecordSetsResult unmarshallListResourceRecordSets() throws Exception {
+        return responseHandler.handle(newHttpResponse(listResponse)).getResult();
+    }
+}
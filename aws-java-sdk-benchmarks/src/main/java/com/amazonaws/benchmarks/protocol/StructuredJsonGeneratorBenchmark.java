@@ -0,0 +1,93 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.SdkJsonGenerator;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.protocol.json.StructuredJsonGenerator;
+
+/**
+ * Writes a small document of mixed types with {@link SdkJsonGenerator} and
+ * {@code SdkCborGenerator}, independently of any generated marshaller. The
+ * generators are obtained from {@link SdkJsonProtocolFactory}, as the
+ * marshallers do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructuredJsonGeneratorBenchmark {
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    private final Date date = new Date(1466035200000L);
+    private final byte[] blob = new byte[256];
+
+    private SdkJsonProtocolFactory protocolFactory;
+
+    @Setup
+    public void setUp() {
+        if (!"json".equals(format) && !"cbor".equals(format)) {
+            throw new IllegalArgumentException("Unknown format " + format);
+        }
+        protocolFactory = new SdkJsonProtocolFactory(new JsonClientMetadata()
+                .withProtocolVersion("1.1")
+                .withSupportsCbor("cbor".equals(format)));
+    }
+
+    @Benchmark
+    public byte[] writeDocument() {
+        StructuredJsonGenerator generator = protocolFactory.createGenerator();
+
+        generator.writeStartObject();
+        generator.writeFieldName("StreamName").writeValue("benchmark-stream");
+        generator.writeFieldName("ShardCount").writeValue(16);
+        generator.writeFieldName("RetentionPeriodHours").writeValue(24L);
+        generator.writeFieldName("Enabled").writeValue(true);
+        generator.writeFieldName("Ratio").writeValue(0.75d);
+        generator.writeFieldName("CreatedAt").writeValue(date);
+        generator.writeFieldName("Payload").writeValue(ByteBuffer.wrap(blob));
+        generator.writeFieldName("Tags").writeStartArray();
+        for (int i = 0; i < 10; i++) {
+            generator.writeStartObject();
+            generator.writeFieldName("Key").writeValue("key-" + i);
+            generator.writeFieldName("Value").writeValue("value-" + i);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        return generator.getBytes();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.timers;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.http.timers.HashedWheelTimer;
+import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
+
+/**
+ * Schedules and cancels a timeout, as done for the request timeout and the
+ * client execution timeout of every request that completes in time. Compares
+ * the {@link HashedWheelTimer} used by the timers with the
+ * {@link ScheduledThreadPoolExecutor} they used before. Run with several
+ * threads ({@code -t}) to measure contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeoutTimerBenchmark {
+
+    /** Long enough that no timeout expires during the benchmark. */
+    private static final long TIMEOUT_MILLIS = 60 * 1000;
+
+    private static final Runnable NO_OP = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    private ScheduledThreadPoolExecutor executor;
+    private HashedWheelTimer timer;
+
+    @Setup
+    public void setUp() {
+        executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
+        timer = new HashedWheelTimer();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        timer.shutdown();
+    }
+
+    @Benchmark
+    public boolean scheduledThreadPoolExecutor() {
+        ScheduledFuture<?> future = executor.schedule(NO_OP, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        return future.cancel(false);
+    }
+
+    @Benchmark
+    public boolean hashedWheelTimer() {
+        HashedWheelTimer.Timeout timeout = timer.schedule(NO_OP, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        return timeout.cancel();
+    }
+}
@@ -110,8 +110,8 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
     public AmazonCloudFormationAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudFormationAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -130,8 +130,8 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public AmazonCloudFormationAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudFormationAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -193,8 +193,8 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public AmazonCloudFormationAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudFormationAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -221,8 +221,8 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudFormationAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
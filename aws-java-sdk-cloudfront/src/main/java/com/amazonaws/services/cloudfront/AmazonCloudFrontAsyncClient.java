@@ -83,8 +83,8 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
     public AmazonCloudFrontAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudFrontAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -103,8 +103,8 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public AmazonCloudFrontAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudFrontAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -166,8 +166,8 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public AmazonCloudFrontAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudFrontAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -194,8 +194,8 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudFrontAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -85,8 +85,8 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
     public AWSCloudHSMAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCloudHSMAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -105,8 +105,8 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
      */
     public AWSCloudHSMAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCloudHSMAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -168,8 +168,8 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
      */
     public AWSCloudHSMAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCloudHSMAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -196,8 +196,8 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCloudHSMAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -102,8 +102,8 @@ public class AmazonCloudSearchDomainAsyncClient extends
     public AmazonCloudSearchDomainAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudSearchDomainAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -122,8 +122,8 @@ public class AmazonCloudSearchDomainAsyncClient extends
      */
     public AmazonCloudSearchDomainAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudSearchDomainAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -185,8 +185,8 @@ public class AmazonCloudSearchDomainAsyncClient extends
      */
     public AmazonCloudSearchDomainAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudSearchDomainAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -213,8 +213,8 @@ public class AmazonCloudSearchDomainAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudSearchDomainAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
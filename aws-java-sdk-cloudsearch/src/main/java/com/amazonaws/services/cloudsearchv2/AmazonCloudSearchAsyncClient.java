@@ -100,8 +100,8 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
     public AmazonCloudSearchAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudSearchAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -120,8 +120,8 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public AmazonCloudSearchAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudSearchAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -183,8 +183,8 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public AmazonCloudSearchAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudSearchAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -211,8 +211,8 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudSearchAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -112,8 +112,8 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
     public AWSCloudTrailAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCloudTrailAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -132,8 +132,8 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
      */
     public AWSCloudTrailAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCloudTrailAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -195,8 +195,8 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
      */
     public AWSCloudTrailAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCloudTrailAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -223,8 +223,8 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCloudTrailAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
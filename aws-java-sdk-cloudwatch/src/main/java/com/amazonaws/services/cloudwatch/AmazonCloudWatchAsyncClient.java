@@ -104,8 +104,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
     public AmazonCloudWatchAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudWatchAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -124,8 +124,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public AmazonCloudWatchAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudWatchAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -187,8 +187,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public AmazonCloudWatchAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudWatchAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -215,8 +215,8 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudWatchAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -66,9 +66,9 @@ public class CloudWatchMetricConfig {
      */
     static final int MAX_METRICS_DATUM_SIZE = 20;
     /**
-     * Default metrics queue size. If the queue size
-     * exceeds this value, then excessive metrics will be dropped to prevent
-     * resource exhaustion.
+     * Default metrics queue size, which is the maximum number of unique
+     * metrics summarized in memory between uploads. Metrics beyond this number
+     * will be dropped to prevent resource exhaustion.
      */
     public static final int DEFAULT_METRICS_QSIZE = 1000;
     /**
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.http.annotation.ThreadSafe;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+/**
+ * Summarizes the metric data collected by the request and service metric
+ * collectors into the statistics of each unique metric, identified by the
+ * metric name and dimensions, as the data is collected. Each metric keeps its
+ * statistics in a few stripes, so that threads collecting the same metric
+ * rarely contend with one another.
+ */
+@ThreadSafe
+class MetricAggregator {
+    private static final int STRIPES = stripeCount();
+
+    /** The maximum number of unique metrics summarized between uploads. */
+    private final int maxMetrics;
+    private final ConcurrentMap<String, Statistics> metrics =
+        new ConcurrentHashMap<String, Statistics>();
+    /** Whether any metric data has been added since the last drain. */
+    private volatile boolean pending;
+
+    MetricAggregator(int maxMetrics) {
+        if (maxMetrics < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxMetrics = maxMetrics;
+    }
+
+    /**
+     * Summarizes the given datum into the statistics of its metric, returning
+     * true if successful or false if the maximum number of unique metrics has
+     * been reached.
+     */
+    boolean add(MetricDatum datum) {
+        Double value = datum.getValue();
+        if (value == null) {
+            return true;
+        }
+        final String key = keyOf(datum);
+        while (true) {
+            Statistics stats = metrics.get(key);
+            if (stats == null) {
+                if (metrics.size() >= maxMetrics) {
+                    return false;
+                }
+                stats = new Statistics(datum);
+                Statistics existing = metrics.putIfAbsent(key, stats);
+                if (existing != null) {
+                    stats = existing;
+                }
+            }
+            if (stats.add(value)) {
+                break;
+            }
+            // Drained meanwhile; summarize into the next statistics instead
+            metrics.remove(key, stats);
+        }
+        if (!pending) {
+            synchronized (this) {
+                pending = true;
+                notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Blocks until some metric data has been added since the last drain.
+     */
+    synchronized void awaitMetrics() throws InterruptedException {
+        while (!pending) {
+            wait();
+        }
+    }
+
+    /**
+     * Returns the statistics summarized since the last drain, one datum per
+     * unique metric, and starts summarizing anew.
+     */
+    List<MetricDatum> drain() {
+        pending = false;
+        List<MetricDatum> data = new ArrayList<MetricDatum>();
+        for (Map.Entry<String, Statistics> e : metrics.entrySet()) {
+            Statistics stats = e.getValue();
+            metrics.remove(e.getKey(), stats);
+            MetricDatum datum = stats.retire();
+            if (datum != null) {
+                data.add(datum);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Returns the key of the unique metric of the given datum, sorting its
+     * dimensions in place.
+     */
+    private static String keyOf(MetricDatum datum) {
+        List<Dimension> dims = datum.getDimensions();
+        Collections.sort(dims, DimensionComparator.INSTANCE);
+        StringBuilder sb = new StringBuilder(datum.getMetricName());
+        for (Dimension dim : dims) {
+            sb.append('\n').append(dim.getName()).append('=').append(dim.getValue());
+        }
+        return sb.toString();
+    }
+
+    private static int stripeCount() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+        return Integer.highestOneBit(Math.max(processors, 1));
+    }
+
+    /**
+     * The statistics of a unique metric. A stripe holds the sample count, sum,
+     * minimum and maximum of the values added by the threads mapped to it.
+     */
+    private static final class Statistics {
+        private final MetricDatum template;
+        private final double[][] stripes = new double[STRIPES][4];
+        /** True once the statistics have been drained. */
+        private volatile boolean retired;
+
+        Statistics(MetricDatum datum) {
+            this.template = datum;
+        }
+
+        /**
+         * Returns true if the value is added; or false if the statistics
+         * have been drained.
+         */
+        boolean add(double value) {
+            final double[] stripe =
+                stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+            synchronized (stripe) {
+                if (retired) {
+                    return false;
+                }
+                if (stripe[0] == 0) {
+                    stripe[2] = value;
+                    stripe[3] = value;
+                } else if (value < stripe[2]) {
+                    stripe[2] = value;
+                } else if (value > stripe[3]) {
+                    stripe[3] = value;
+                }
+                stripe[0]++;
+                stripe[1] += value;
+                return true;
+            }
+        }
+
+        /**
+         * Stops the statistics from accepting values, and returns them as a
+         * datum; or null if no value has been added.
+         */
+        MetricDatum retire() {
+            double count = 0, sum = 0;
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            retired = true;
+            for (double[] stripe : stripes) {
+                // Values added to a stripe before it is locked here are
+                // counted; the ones added after are refused.
+                synchronized (stripe) {
+                    if (stripe[0] > 0) {
+                        count += stripe[0];
+                        sum += stripe[1];
+                        min = Math.min(min, stripe[2]);
+                        max = Math.max(max, stripe[3]);
+                    }
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+            return new MetricDatum()
+                .withDimensions(template.getDimensions())
+                .withMetricName(template.getMetricName())
+                .withUnit(template.getUnit())
+                .withStatisticValues(new StatisticSet()
+                    .withMaximum(max)
+                    .withMinimum(min)
+                    .withSampleCount(count)
+                    .withSum(sum))
+                ;
+        }
+    }
+}
@@ -76,6 +76,7 @@ public class PredefinedMetricTransformer {
                 case RetryCount:
                     return metricOfRequestOrRetryCount(predefined, request, response);
                 case RetryCapacityConsumed:
+                case RateLimiterSendRate:
                     return counterMetricOf(predefined, request, response, EXCLUDE_REQUEST_TYPE);
                 case ResponseProcessingTime: // drop thru
                 case RequestSigningTime: // drop thru
@@ -86,6 +87,7 @@ public class PredefinedMetricTransformer {
                 case HttpClientReceiveResponseTime:
                 case HttpRequestTime:
                 case HttpSocketReadTime:
+                case RateLimiterDelayTime:
                     return latencyMetricOf(predefined, request, response, INCLUDE_REQUEST_TYPE);
                 case Exception:
                 case ThrottleException:
@@ -39,18 +39,28 @@ import com.amazonaws.util.AWSRequestMetrics;
 public class RequestMetricCollectorSupport extends RequestMetricCollector 
 {
     protected final static Log log = LogFactory.getLog(RequestMetricCollectorSupport.class);
-    private final BlockingQueue<MetricDatum> queue;
+    private final MetricAggregator aggregator;
     private final PredefinedMetricTransformer transformer = new PredefinedMetricTransformer();
 
+    /**
+     * @deprecated The metric data are no longer added to the given queue, but
+     *             summarized into statistics as they are collected; the queue
+     *             is not used.
+     */
+    @Deprecated
     protected RequestMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
-        this.queue = queue;
+        this(new MetricAggregator(CloudWatchMetricConfig.DEFAULT_METRICS_QSIZE));
+    }
+
+    RequestMetricCollectorSupport(MetricAggregator aggregator) {
+        this.aggregator = aggregator;
     }
 
     /**
      * Collects the metrics at the end of a request/response cycle, transforms
      * the metric data points into a cloud watch metric datum representation,
-     * and then adds it to a memory queue so it will get summarized into the
-     * necessary statistics and uploaded to Amazon CloudWatch.
+     * and then summarizes it into the necessary statistics in memory to be
+     * uploaded to Amazon CloudWatch.
      */
     @Override
     public void collectMetrics(Request<?> request, Response<?> response) {
@@ -91,11 +101,11 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
     }
 
     /**
-     * Adds the given metric to the queue, returning true if successful or false
-     * if no space available.
+     * Summarizes the given metric into the statistics to be uploaded, returning
+     * true if successful or false if no space available.
      */
     protected boolean addMetricsToQueue(MetricDatum metric) {
-        return queue.offer(metric); 
+        return aggregator.add(metric);
     }
     /** Returns the predefined metrics transformer. */
     protected PredefinedMetricTransformer getTransformer() { return transformer; }
@@ -46,10 +46,20 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
 {
     static final double NANO_PER_SEC = TimeUnit.SECONDS.toNanos(1);
     protected final static Log log = LogFactory.getLog(ServiceMetricCollectorSupport.class);
-    private final BlockingQueue<MetricDatum> queue;
+    private final MetricAggregator aggregator;
 
+    /**
+     * @deprecated The metric data are no longer added to the given queue, but
+     *             summarized into statistics as they are collected; the queue
+     *             is not used.
+     */
+    @Deprecated
     protected ServiceMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
-        this.queue = queue;
+        this(new MetricAggregator(CloudWatchMetricConfig.DEFAULT_METRICS_QSIZE));
+    }
+
+    ServiceMetricCollectorSupport(MetricAggregator aggregator) {
+        this.aggregator = aggregator;
     }
 
     @Override
@@ -150,10 +160,10 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
         }
     }
     /**
-     * Adds the given metric to the queue, returning true if successful or false
-     * if no space available.
+     * Summarizes the given metric into the statistics to be uploaded, returning
+     * true if successful or false if no space available.
      */
     protected boolean addMetricsToQueue(MetricDatum metric) {
-        return queue.offer(metric); 
+        return aggregator.add(metric);
     }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StandardUnit;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+public class MetricAggregatorTest {
+
+    @Test
+    public void summarizesValuesOfSameMetric() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        assertTrue(aggregator.add(datum("Latency", 3, dimension("Service", "S3"))));
+        assertTrue(aggregator.add(datum("Latency", 1, dimension("Service", "S3"))));
+        assertTrue(aggregator.add(datum("Latency", 5, dimension("Service", "S3"))));
+
+        List<MetricDatum> data = aggregator.drain();
+
+        assertEquals(1, data.size());
+        MetricDatum datum = data.get(0);
+        assertEquals("Latency", datum.getMetricName());
+        assertEquals(StandardUnit.Milliseconds.toString(), datum.getUnit());
+        assertEquals(1, datum.getDimensions().size());
+        assertStatistics(3, 9, 1, 5, datum.getStatisticValues());
+    }
+
+    @Test
+    public void summarizesMetricsByNameAndDimensions() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(datum("Latency", 1, dimension("Service", "S3"), dimension("Type", "Put")));
+        aggregator.add(datum("Latency", 2, dimension("Type", "Put"), dimension("Service", "S3")));
+        aggregator.add(datum("Latency", 4, dimension("Service", "S3"), dimension("Type", "Get")));
+        aggregator.add(datum("Retries", 8, dimension("Service", "S3"), dimension("Type", "Put")));
+
+        List<MetricDatum> data = aggregator.drain();
+
+        assertEquals(3, data.size());
+        double sum = 0;
+        for (MetricDatum datum : data) {
+            StatisticSet stats = datum.getStatisticValues();
+            if (stats.getSum() == 3) {
+                assertEquals("Latency", datum.getMetricName());
+                assertEquals(2, stats.getSampleCount(), 0);
+            } else {
+                assertEquals(1, stats.getSampleCount(), 0);
+            }
+            sum += stats.getSum();
+        }
+        assertEquals(15, sum, 0);
+    }
+
+    @Test
+    public void startsAnewAfterDrain() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(datum("Latency", 1));
+        aggregator.add(datum("Latency", 2));
+        assertEquals(1, aggregator.drain().size());
+        assertTrue(aggregator.drain().isEmpty());
+
+        aggregator.add(datum("Latency", 7));
+
+        List<MetricDatum> data = aggregator.drain();
+        assertEquals(1, data.size());
+        assertStatistics(1, 7, 7, 7, data.get(0).getStatisticValues());
+    }
+
+    @Test
+    public void ignoresDataWithoutValue() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        assertTrue(aggregator.add(new MetricDatum().withMetricName("Latency")));
+        assertTrue(aggregator.drain().isEmpty());
+    }
+
+    @Test
+    public void refusesNewMetricsBeyondMaximum() {
+        MetricAggregator aggregator = new MetricAggregator(2);
+        assertTrue(aggregator.add(datum("A", 1)));
+        assertTrue(aggregator.add(datum("B", 1)));
+        assertFalse(aggregator.add(datum("C", 1)));
+        // Known metrics are still summarized
+        assertTrue(aggregator.add(datum("A", 1)));
+
+        assertEquals(2, aggregator.drain().size());
+        assertTrue(aggregator.add(datum("C", 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveMaximum() {
+        new MetricAggregator(0);
+    }
+
+    @Test
+    public void awaitsMetricsAddedSinceLastDrain() throws Exception {
+        final MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(datum("Latency", 1));
+        aggregator.awaitMetrics();
+        aggregator.drain();
+
+        final CountDownLatch awaited = new CountDownLatch(1);
+        Thread waiter = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    aggregator.awaitMetrics();
+                    awaited.countDown();
+                } catch (InterruptedException e) {
+                    // test fails
+                }
+            }
+        };
+        waiter.start();
+        Thread.sleep(50);
+        assertEquals(1, awaited.getCount());
+
+        aggregator.add(datum("Latency", 1));
+        waiter.join(10000);
+        assertEquals(0, awaited.getCount());
+    }
+
+    @Test
+    public void losesNoValueAddedWhileDraining() throws Exception {
+        final MetricAggregator aggregator = new MetricAggregator(10);
+        final int threads = 4;
+        final int values = 20000;
+        Thread[] adders = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            adders[i] = new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < values; j++) {
+                        aggregator.add(datum("Latency", 1, dimension("Service", "S3")));
+                    }
+                }
+            };
+            adders[i].start();
+        }
+        double count = 0;
+        double sum = 0;
+        boolean running = true;
+        while (running) {
+            // Drains once more after the adders are done
+            running = false;
+            for (Thread adder : adders) {
+                running |= adder.isAlive();
+            }
+            for (MetricDatum datum : aggregator.drain()) {
+                count += datum.getStatisticValues().getSampleCount();
+                sum += datum.getStatisticValues().getSum();
+            }
+        }
+        assertEquals(threads * values, count, 0);
+        assertEquals(threads * values, sum, 0);
+    }
+
+    private static MetricDatum datum(String metricName, double value, Dimension... dimensions) {
+        return new MetricDatum()
+            .withMetricName(metricName)
+            .withUnit(StandardUnit.Milliseconds)
+            .withValue(value)
+            .withDimensions(dimensions);
+    }
+
+    private static Dimension dimension(String name, String value) {
+        return new Dimension().withName(name).withValue(value);
+    }
+
+    private static void assertStatistics(double count, double sum, double min,
+            double max, StatisticSet stats) {
+        assertEquals(count, stats.getSampleCount(), 0);
+        assertEquals(sum, stats.getSum(), 0);
+        assertEquals(min, stats.getMinimum(), 0);
+        assertEquals(max, stats.getMaximum(), 0);
+    }
+}
@@ -1,39 +1,46 @@
-<#macro content shapeVarName memberModel >
+<#-- Returns the expression matching the elements the member is unmarshalled from -->
+<#function unmarshallingPath memberModel>
+    <#local unmarshallerLocationName = memberModel.http.unmarshallLocationName />
+    <#if memberModel.http.additionalUnmarshallingPath?has_content>
+        <#local unmarshallerLocationName = unmarshallerLocationName + "/" + memberModel.http.additionalUnmarshallingPath />
+    </#if>
 
-<#local unmarshallerLocationName = memberModel.http.unmarshallLocationName />
-<#if memberModel.http.additionalUnmarshallingPath?has_content>
-    <#local unmarshallerLocationName = unmarshallerLocationName + "/" + memberModel.http.additionalUnmarshallingPath />
-</#if>
+    <#if memberModel.list>
+        <#if memberModel.http.flattened>
+            <#local listMemberPath = memberModel.listModel.memberLocationName!memberModel.name />
+        <#else>
+            <#local listMemberPath = unmarshallerLocationName + "/" + memberModel.listModel.memberLocationName!"member" />
+        </#if>
 
-<#if memberModel.list>
-    <#if memberModel.http.flattened>
-        <#local listMemberPath = memberModel.listModel.memberLocationName!memberModel.name />
+        <#if memberModel.listModel.memberAdditionalUnmarshallingPath?has_content>
+            <#local listMemberPath = listMemberPath + "/" + memberModel.listModel.memberAdditionalUnmarshallingPath />
+        </#if>
+        <#return listMemberPath />
+    <#elseif memberModel.map && !memberModel.http.flattened>
+        <#return "${unmarshallerLocationName}/entry" />
     <#else>
-        <#local listMemberPath = unmarshallerLocationName + "/" + memberModel.listModel.memberLocationName!"member" />
+        <#return unmarshallerLocationName />
     </#if>
+</#function>
 
-    <#if memberModel.listModel.memberAdditionalUnmarshallingPath?has_content>
-        <#local listMemberPath = listMemberPath + "/" + memberModel.listModel.memberAdditionalUnmarshallingPath />
-    </#if>
-                if (context.testExpression("${listMemberPath}", targetDepth)) {
+<#macro content shapeVarName memberModel >
+
+<#local path = unmarshallingPath(memberModel) />
+<#if memberModel.list>
+                if (context.testExpression("${path}", targetDepth)) {
                     ${shapeVarName}.with${memberModel.name}(${memberModel.listModel.simpleType}StaxUnmarshaller.getInstance().unmarshall(context));
                     continue;
                 }
 
 <#elseif memberModel.map>
-    <#local mapEntryPath = unmarshallerLocationName />
-
-    <#if !memberModel.http.flattened>
-        <#local mapEntryPath = "${unmarshallerLocationName}/entry" />
-    </#if>
-                if (context.testExpression("${mapEntryPath}", targetDepth)) {
+                if (context.testExpression("${path}", targetDepth)) {
                     Entry<${memberModel.mapModel.keyType}, ${memberModel.mapModel.valueType}> entry = ${memberModel.name}MapEntryUnmarshaller.getInstance().unmarshall(context);
                     ${shapeVarName}.add${memberModel.name}Entry(entry.getKey(), entry.getValue());
                     continue;
                 }
 
 <#else>
-                if (context.testExpression("${unmarshallerLocationName}", targetDepth)) {
+                if (context.testExpression("${path}", targetDepth)) {
                     ${shapeVarName}.set${memberModel.name}(${memberModel.variable.simpleType}StaxUnmarshaller.getInstance().unmarshall(context));
                     continue;
                 }
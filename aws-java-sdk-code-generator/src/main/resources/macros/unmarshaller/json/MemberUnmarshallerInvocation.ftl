@@ -1,6 +1,7 @@
-<#macro content shapeVarName memberModel >
-if (context.testExpression("${memberModel.http.unmarshallLocationName}", targetDepth)) {
+<#-- A case of the switch on the position of the current field in the FIELD_INDEX of the shape -->
+<#macro content shapeVarName memberModel index >
+case ${index}:
     context.nextToken();
     ${shapeVarName}.set${memberModel.name}(<@MemberUnmarshallerDeclarationMacro.content memberModel />.unmarshall(context));
-}
+    break;
 </#macro>
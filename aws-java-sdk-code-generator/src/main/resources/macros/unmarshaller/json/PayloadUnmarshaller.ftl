@@ -19,9 +19,11 @@
         artificial container object) -->
         <#else>
             if (token == FIELD_NAME || token == START_OBJECT) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
                 <#list shape.unboundMembers as payloadMember>
-                    <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember />
+                    <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember payloadMember_index />
                 </#list>
+                }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
                     if (context.getCurrentDepth() <= originalDepth) break;
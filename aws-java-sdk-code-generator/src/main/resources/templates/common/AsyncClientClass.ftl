@@ -69,7 +69,7 @@ public class ${metadata.asyncClient} extends ${metadata.syncClient}
     public ${metadata.asyncClient}(com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
                 clientConfiguration,
-                java.util.concurrent.Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+                com.amazonaws.util.SdkExecutors.newFixedThreadPool("${metadata.asyncClient}", clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -85,7 +85,7 @@ public class ${metadata.asyncClient} extends ${metadata.syncClient}
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public ${metadata.asyncClient}(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors.newFixedThreadPool("${metadata.asyncClient}", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -141,7 +141,7 @@ public class ${metadata.asyncClient} extends ${metadata.syncClient}
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public ${metadata.asyncClient}(com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors.newFixedThreadPool("${metadata.asyncClient}", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -168,7 +168,7 @@ public class ${metadata.asyncClient} extends ${metadata.syncClient}
 
         this(awsCredentialsProvider,
                 clientConfiguration,
-                java.util.concurrent.Executors.newFixedThreadPool(clientConfiguration.getMaxConnections()));
+                com.amazonaws.util.SdkExecutors.newFixedThreadPool("${metadata.asyncClient}", clientConfiguration.getMaxConnections()));
     }
 
     /**
@@ -19,6 +19,13 @@ import static com.fasterxml.jackson.core.JsonToken.*;
  */
 public class ${shape.shapeName}JsonUnmarshaller implements Unmarshaller<${shape.shapeName}, JsonUnmarshallerContext> {
 
+<#if !shape.hasPayloadMember && shape.unboundMembers?has_content>
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+    <#list shape.unboundMembers as payloadMember>
+            "${payloadMember.http.unmarshallLocationName}"<#if payloadMember_has_next>,<#else>);</#if>
+    </#list>
+
+</#if>
     public ${shape.shapeName} unmarshall(JsonUnmarshallerContext context) throws Exception {
         ${shape.shapeName} ${shape.variable.variableName} = new ${shape.shapeName}();
 
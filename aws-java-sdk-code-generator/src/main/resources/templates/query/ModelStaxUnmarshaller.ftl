@@ -21,6 +21,28 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
  */
 public class ${shape.shapeName}StaxUnmarshaller implements Unmarshaller<${shape.shapeName}, StaxUnmarshallerContext> {
 
+<#-- The elements at the target depth which no member is unmarshalled from are skipped as a whole, -->
+<#-- unless a member expression may match any element. -->
+<#assign memberElements = [] />
+<#assign skipUnknownElements = !shape.hasPayloadMember && !shape.customization.artificialResultWrapper?has_content />
+<#if skipUnknownElements && shape.members?has_content>
+    <#list shape.members as memberModel>
+        <#if !memberModel.http.isHeader() && !memberModel.http.isStatusCode() >
+            <#assign firstStep = MemberUnmarshallerInvocationMacro.unmarshallingPath(memberModel)?split("/")[0] />
+            <#if firstStep == "" || firstStep == "." || firstStep?starts_with("@")>
+                <#assign skipUnknownElements = false />
+            <#elseif !memberElements?seq_contains(firstStep)>
+                <#assign memberElements = memberElements + [firstStep] />
+            </#if>
+        </#if>
+    </#list>
+</#if>
+<#assign skipUnknownElements = skipUnknownElements && memberElements?has_content />
+<#if skipUnknownElements>
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(java.util.Arrays.asList(
+        <#list memberElements as memberElement>"${memberElement}"<#if memberElement_has_next>, </#if></#list>));
+
+</#if>
 <#if shape.members?has_content>
 <#list shape.members as memberModel>
     <#if memberModel.map>
@@ -96,6 +118,11 @@ public class ${shape.shapeName}StaxUnmarshaller implements Unmarshaller<${shape.
         </#if>
     </#list>
   </#if>
+</#if>
+<#if skipUnknownElements>
+                if (context.skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
 </#if>
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
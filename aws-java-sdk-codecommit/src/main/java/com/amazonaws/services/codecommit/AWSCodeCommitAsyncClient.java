@@ -143,8 +143,8 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
     public AWSCodeCommitAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCodeCommitAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -163,8 +163,8 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
      */
     public AWSCodeCommitAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCodeCommitAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -226,8 +226,8 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
      */
     public AWSCodeCommitAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCodeCommitAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -254,8 +254,8 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCodeCommitAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -166,8 +166,8 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
     public AmazonCodeDeployAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCodeDeployAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -186,8 +186,8 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public AmazonCodeDeployAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCodeDeployAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -249,8 +249,8 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
      */
     public AmazonCodeDeployAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCodeDeployAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -277,8 +277,8 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCodeDeployAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -278,8 +278,8 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
     public AWSCodePipelineAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCodePipelineAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -298,8 +298,8 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
      */
     public AWSCodePipelineAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCodePipelineAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -361,8 +361,8 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
      */
     public AWSCodePipelineAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCodePipelineAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -389,8 +389,8 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCodePipelineAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
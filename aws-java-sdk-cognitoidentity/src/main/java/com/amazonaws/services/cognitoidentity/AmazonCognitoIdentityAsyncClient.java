@@ -129,8 +129,8 @@ public class AmazonCognitoIdentityAsyncClient extends
     public AmazonCognitoIdentityAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCognitoIdentityAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -149,8 +149,8 @@ public class AmazonCognitoIdentityAsyncClient extends
      */
     public AmazonCognitoIdentityAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCognitoIdentityAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -212,8 +212,8 @@ public class AmazonCognitoIdentityAsyncClient extends
      */
     public AmazonCognitoIdentityAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCognitoIdentityAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -240,8 +240,8 @@ public class AmazonCognitoIdentityAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCognitoIdentityAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
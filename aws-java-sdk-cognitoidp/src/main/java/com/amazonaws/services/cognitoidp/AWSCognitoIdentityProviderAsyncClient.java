@@ -95,8 +95,8 @@ public class AWSCognitoIdentityProviderAsyncClient extends
     public AWSCognitoIdentityProviderAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCognitoIdentityProviderAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -115,8 +115,8 @@ public class AWSCognitoIdentityProviderAsyncClient extends
      */
     public AWSCognitoIdentityProviderAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCognitoIdentityProviderAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -178,8 +178,8 @@ public class AWSCognitoIdentityProviderAsyncClient extends
      */
     public AWSCognitoIdentityProviderAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSCognitoIdentityProviderAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +206,8 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSCognitoIdentityProviderAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -113,8 +113,8 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
     public AmazonCognitoSyncAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCognitoSyncAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -133,8 +133,8 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public AmazonCognitoSyncAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCognitoSyncAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -196,8 +196,8 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
      */
     public AmazonCognitoSyncAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCognitoSyncAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -224,8 +224,8 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCognitoSyncAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
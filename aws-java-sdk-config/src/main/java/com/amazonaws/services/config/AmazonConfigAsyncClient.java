@@ -120,8 +120,8 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
     public AmazonConfigAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonConfigAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -140,8 +140,8 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
      */
     public AmazonConfigAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonConfigAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -203,8 +203,8 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
      */
     public AmazonConfigAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonConfigAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -231,8 +231,8 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonConfigAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
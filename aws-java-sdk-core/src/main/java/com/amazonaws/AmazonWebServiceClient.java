@@ -328,6 +328,29 @@ public abstract class AmazonWebServiceClient {
         this.setRegion(Region.getRegion(region));
     }
 
+    /**
+     * Opens connections to the endpoint of this client ahead of its requests,
+     * and blocks until they are open. The connections are added to the
+     * connection pool of this client, so that the first requests sent after
+     * startup do not all wait for a TCP connection and a TLS handshake at
+     * once.
+     *
+     * @param connections
+     *            The number of connections to the endpoint to hold in the pool,
+     *            at most {@link ClientConfiguration#getMaxConnections()}. The
+     *            connections already in the pool are counted.
+     * @param keepWarm
+     *            True to reopen the connections closed by the idle connection
+     *            reaper after each of its runs, if the reaper is used (see
+     *            {@link ClientConfiguration#useReaper()}); false to only open
+     *            them now.
+     * @return The number of connections opened. No connection is opened if
+     *         the requests of this client are tunnelled through a proxy.
+     */
+    public int warmUpConnections(int connections, boolean keepWarm) {
+        return client.warmUpConnections(endpoint, connections, keepWarm);
+    }
+
     /**
      * Shuts down this client object, releasing any resources that might be held
      * open. This is an optional method, and callers are not expected to call
@@ -548,7 +571,12 @@ public abstract class AmazonWebServiceClient {
             Response<?> response, @Deprecated boolean loggingAwsRequestMetrics) {
         if (request != null) {
             awsRequestMetrics.endEvent(Field.ClientExecuteTime);
-            awsRequestMetrics.getTimingInfo().endTiming();
+            TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+            if (AwsSdkMetrics.isLatencyHistogramsEnabled()) {
+                AwsSdkMetrics.recordLatency(request.getServiceName(),
+                        request.getOriginalRequest(),
+                        timingInfo.getEndTimeNano() - timingInfo.getStartTimeNano());
+            }
             RequestMetricCollector c = findRequestMetricCollector(request);
             c.collectMetrics(request, response);
             awsRequestMetrics.log();
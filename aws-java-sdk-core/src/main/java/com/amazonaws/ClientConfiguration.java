@@ -15,6 +15,8 @@
 package com.amazonaws;
 
 import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.retry.AdaptiveRateLimiter;
+import com.amazonaws.retry.HedgingPolicy;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.VersionInfoUtils;
@@ -187,6 +189,17 @@ public class ClientConfiguration {
 
     private boolean throttleRetries = DEFAULT_THROTTLE_RETRIES;
 
+    /**
+     * The rate limiter pacing the requests of the client, possibly shared with other clients; or
+     * null if requests are not paced.
+     */
+    private AdaptiveRateLimiter rateLimiter;
+
+    /**
+     * The policy for hedging slow requests, or null if requests are not hedged.
+     */
+    private HedgingPolicy hedgingPolicy;
+
     /**
      * Optional size hint (in bytes) for the low level TCP send buffer. This is an advanced option
      * for advanced users who want to tune low level TCP parameters to try and squeeze out more
@@ -301,6 +314,8 @@ public class ClientConfiguration {
         this.maxErrorRetry = other.maxErrorRetry;
         this.retryPolicy = other.retryPolicy;
         this.throttleRetries = other.throttleRetries;
+        this.rateLimiter = other.rateLimiter;
+        this.hedgingPolicy = other.hedgingPolicy;
         this.localAddress = other.localAddress;
         this.protocol = other.protocol;
         this.proxyDomain = other.proxyDomain;
@@ -1251,6 +1266,86 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the rate limiter pacing the requests of the client, or null if requests are not
+     * paced.
+     *
+     * @return The rate limiter pacing the requests of the client.
+     * @see AdaptiveRateLimiter
+     */
+    public AdaptiveRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Sets the rate limiter pacing the requests of the client.
+     * <p>
+     * Once the service starts throttling requests, the limiter adapts the rate at which the client
+     * sends them to the rate the service accepts, so that requests wait in the client rather than
+     * being throttled and retried. Setting the same limiter on several clients makes them share a
+     * single budget. Requests are not paced by default.
+     * </p>
+     *
+     * @param rateLimiter
+     *            The rate limiter pacing the requests of the client, or null to not pace them.
+     */
+    public void setRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Sets the rate limiter pacing the requests of the client, and returns the updated
+     * ClientConfiguration object.
+     *
+     * @param rateLimiter
+     *            The rate limiter pacing the requests of the client, or null to not pace them.
+     * @return The updated ClientConfiguration object.
+     * @see #setRateLimiter(AdaptiveRateLimiter)
+     */
+    public ClientConfiguration withRateLimiter(AdaptiveRateLimiter rateLimiter) {
+        setRateLimiter(rateLimiter);
+        return this;
+    }
+
+    /**
+     * Returns the policy for hedging slow requests, or null if requests are not hedged.
+     *
+     * @return The policy for hedging slow requests.
+     * @see HedgingPolicy
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Sets the policy for hedging slow requests.
+     * <p>
+     * When a request accepted by the policy has been in flight longer than most requests of the
+     * same operation, a duplicate of it is sent, and the first successful response is used.
+     * Requests are not hedged by default.
+     * </p>
+     *
+     * @param hedgingPolicy
+     *            The policy for hedging slow requests, or null to not hedge requests.
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Sets the policy for hedging slow requests, and returns the updated ClientConfiguration
+     * object.
+     *
+     * @param hedgingPolicy
+     *            The policy for hedging slow requests, or null to not hedge requests.
+     * @return The updated ClientConfiguration object.
+     * @see #setHedgingPolicy(HedgingPolicy)
+     */
+    public ClientConfiguration withHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        setHedgingPolicy(hedgingPolicy);
+        return this;
+    }
+
     /**
      * Checks if gzip compression is used
      *
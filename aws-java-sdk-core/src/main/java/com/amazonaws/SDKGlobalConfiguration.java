@@ -147,6 +147,22 @@ public class SDKGlobalConfiguration {
     public static final String ENABLE_IN_REGION_OPTIMIZED_MODE =
             "com.amazonaws.sdk.enableInRegionOptimizedMode";
 
+    /**
+     * System property for overriding the maximum number of AWS4 signing keys
+     * cached per class loader. The default is 300.
+     */
+    public static final String SIGNING_KEY_CACHE_SIZE_SYSTEM_PROPERTY =
+            "com.amazonaws.sdk.signingKeyCacheSize";
+
+    /**
+     * System property naming a class implementing
+     * {@link com.amazonaws.util.SdkExecutorProvider}, with a no-argument
+     * constructor, which supplies the executor backing the thread pools of the
+     * SDK. If not set, each pool creates its own threads.
+     */
+    public static final String EXECUTOR_PROVIDER_SYSTEM_PROPERTY =
+            "com.amazonaws.sdk.executorProvider";
+
     /**
      * @deprecated with {@link AmazonWebServiceRequest#getRequestClientOptions()}
      * and {@link RequestClientOptions#setReadLimit(int)}.
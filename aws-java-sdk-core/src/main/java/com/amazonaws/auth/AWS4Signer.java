@@ -20,7 +20,7 @@ import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 import com.amazonaws.auth.internal.SignerKey;
-import com.amazonaws.internal.FIFOCache;
+import com.amazonaws.auth.internal.SigningKeyCache;
 import com.amazonaws.log.InternalLogApi;
 import com.amazonaws.log.InternalLogFactory;
 import com.amazonaws.util.BinaryUtils;
@@ -31,7 +31,6 @@ import com.amazonaws.util.StringUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -62,8 +61,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
         ServiceAwareSigner, RegionAwareSigner, Presigner {
 
     protected static final InternalLogApi log = InternalLogFactory.getLog(AWS4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final SigningKeyCache signerCache = SigningKeyCache.getInstance();
     private static final List<String> listOfHeadersToIgnoreInLowerCase = Arrays.asList("connection");
 
     /**
@@ -281,10 +279,10 @@ public class AWS4Signer extends AbstractAWSSigner implements
         final String path = SdkHttpUtils.appendUri(
                 request.getEndpoint().getPath(), request.getResourcePath());
 
-        final StringBuilder canonicalRequestBuilder = new StringBuilder(request
-                .getHttpMethod().toString());
+        final StringBuilder canonicalRequestBuilder = new StringBuilder(512);
 
-        canonicalRequestBuilder.append(LINE_SEPARATOR)
+        canonicalRequestBuilder.append(request.getHttpMethod().toString())
+                .append(LINE_SEPARATOR)
                 // This would optionally double url-encode the resource path
                 .append(getCanonicalizedResourcePath(path, doubleUrlEncode))
                 .append(LINE_SEPARATOR)
@@ -337,19 +335,18 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private final byte[] deriveSigningKey(AWSCredentials credentials,
             AWS4SignerRequestParams signerRequestParams) {
 
-        final String cacheKey = computeSigningCacheKeyName(credentials,
-                signerRequestParams);
+        final String secretKey = credentials.getAWSSecretKey();
+        final String regionName = signerRequestParams.getRegionName();
+        final String serviceName = signerRequestParams.getServiceName();
         final long daysSinceEpochSigningDate = DateUtils
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
 
-        SignerKey signerKey = signerCache.get(cacheKey);
+        SignerKey signerKey = signerCache.get(secretKey, regionName,
+                serviceName, daysSinceEpochSigningDate);
 
         if (signerKey != null) {
-            if (daysSinceEpochSigningDate == signerKey
-                    .getNumberOfDaysSinceEpoch()) {
-                return signerKey.getSigningKey();
-            }
+            return signerKey.getSigningKey();
         }
         if (log.isDebugEnabled()) {
             log.debug("Generating a new signing key as the signing key not available in the cache for the date "
@@ -357,27 +354,13 @@ public class AWS4Signer extends AbstractAWSSigner implements
         }
         byte[] signingKey = newSigningKey(credentials,
                 signerRequestParams.getFormattedSigningDate(),
-                signerRequestParams.getRegionName(),
-                signerRequestParams.getServiceName());
-        signerCache.add(cacheKey, new SignerKey(
+                regionName,
+                serviceName);
+        signerCache.put(secretKey, regionName, serviceName, new SignerKey(
                 daysSinceEpochSigningDate, signingKey));
         return signingKey;
     }
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private final String computeSigningCacheKeyName(AWSCredentials credentials,
-            AWS4SignerRequestParams signerRequestParams) {
-        final StringBuilder hashKeyBuilder = new StringBuilder(
-                credentials.getAWSSecretKey());
-
-        return hashKeyBuilder.append("-")
-                .append(signerRequestParams.getRegionName())
-                .append("-")
-                .append(signerRequestParams.getServiceName()).toString();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -386,7 +369,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected final byte[] computeSignature(String stringToSign,
             byte[] signingKey, AWS4SignerRequestParams signerRequestParams) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
+        return sign(stringToSign.getBytes(StringUtils.UTF8), signingKey,
                 SigningAlgorithm.HmacSHA256);
     }
 
@@ -450,15 +433,14 @@ public class AWS4Signer extends AbstractAWSSigner implements
         Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
 
         final Map<String, String> requestHeaders = request.getHeaders();
-        StringBuilder buffer = new StringBuilder();
+        StringBuilder buffer = new StringBuilder(256);
         for (String header : sortedHeaders) {
             if (shouldExcludeHeaderFromSigning(header)) {
                 continue;
             }
-            String key = StringUtils.lowerCase(header);
             String value = requestHeaders.get(header);
 
-            StringUtils.appendCompactedString(buffer, key);
+            appendLowerCase(buffer, header, true);
             buffer.append(":");
             if (value != null) {
                 StringUtils.appendCompactedString(buffer, value);
@@ -482,14 +464,49 @@ public class AWS4Signer extends AbstractAWSSigner implements
             }
             if (buffer.length() > 0)
                 buffer.append(";");
-            buffer.append(StringUtils.lowerCase(header));
+            appendLowerCase(buffer, header, false);
         }
 
         return buffer.toString();
     }
 
+    /**
+     * Appends the lower case form of the given header name to the buffer,
+     * optionally compacting any whitespace. ASCII names are lower cased in
+     * place, rather than through an intermediate string.
+     */
+    private static void appendLowerCase(StringBuilder buffer, String header,
+            boolean compact) {
+        final int start = buffer.length();
+        if (compact) {
+            StringUtils.appendCompactedString(buffer, header);
+        } else {
+            buffer.append(header);
+        }
+        for (int i = start; i < buffer.length(); i++) {
+            char ch = buffer.charAt(i);
+            if (ch >= 'A' && ch <= 'Z') {
+                buffer.setCharAt(i, (char) (ch + ('a' - 'A')));
+            } else if (ch >= 0x80) {
+                buffer.setLength(start);
+                if (compact) {
+                    StringUtils.appendCompactedString(buffer,
+                            StringUtils.lowerCase(header));
+                } else {
+                    buffer.append(StringUtils.lowerCase(header));
+                }
+                return;
+            }
+        }
+    }
+
     protected boolean shouldExcludeHeaderFromSigning(String header) {
-        return listOfHeadersToIgnoreInLowerCase.contains(header.toLowerCase());
+        for (String ignored : listOfHeadersToIgnoreInLowerCase) {
+            if (ignored.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected void addHostHeader(SignableRequest<?> request) {
@@ -585,7 +602,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private byte[] newSigningKey(AWSCredentials credentials,
             String dateStamp, String regionName, String serviceName) {
         byte[] kSecret = ("AWS4" + credentials.getAWSSecretKey())
-                .getBytes(Charset.forName("UTF-8"));
+                .getBytes(StringUtils.UTF8);
         byte[] kDate = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
         byte[] kRegion = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
         byte[] kService = sign(serviceName, kRegion,
@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -54,6 +55,31 @@ import com.amazonaws.util.StringUtils;
 public abstract class AbstractAWSSigner implements Signer {
     public static final String EMPTY_STRING_SHA256_HEX;
 
+    /**
+     * Size of the per-thread buffer used to feed strings and streams into the
+     * SHA-256 digest.
+     */
+    private static final int HASH_BUFFER_SIZE = 4096;
+
+    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new AmazonClientException(
+                        "Unable to get SHA256 Function: " + e.getMessage(), e);
+            }
+        }
+    };
+
+    private static final ThreadLocal<byte[]> HASH_BUFFER = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[HASH_BUFFER_SIZE];
+        }
+    };
+
     static {
         EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(doHash(""));
     }
@@ -108,7 +134,7 @@ public abstract class AbstractAWSSigner implements Signer {
     protected byte[] sign(byte[] data, byte[] key,
             SigningAlgorithm algorithm) throws AmazonClientException {
         try {
-            Mac mac = Mac.getInstance(algorithm.toString());
+            Mac mac = algorithm.getMac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
@@ -136,8 +162,8 @@ public abstract class AbstractAWSSigner implements Signer {
 
     private static byte[] doHash(String text) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            md.update(text.getBytes(UTF8));
+            MessageDigest md = getMessageDigestInstance();
+            updateUtf8(md, text);
             return md.digest();
         } catch (Exception e) {
             throw new AmazonClientException(
@@ -146,13 +172,54 @@ public abstract class AbstractAWSSigner implements Signer {
         }
     }
 
+    /**
+     * Feeds the UTF-8 encoding of the given text into the digest. Runs of
+     * ASCII characters, which make up nearly all of a canonical request, are
+     * encoded into the per-thread buffer rather than a new byte array.
+     */
+    private static void updateUtf8(MessageDigest md, String text) {
+        final byte[] buffer = HASH_BUFFER.get();
+        final int length = text.length();
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if (ch >= 0x80) {
+                md.update(buffer, 0, position);
+                md.update(text.substring(i).getBytes(UTF8));
+                return;
+            }
+            if (position == buffer.length) {
+                md.update(buffer, 0, position);
+                position = 0;
+            }
+            buffer[position++] = (byte) ch;
+        }
+        md.update(buffer, 0, position);
+    }
+
+    /**
+     * Returns the SHA-256 digest for the current thread, reset and ready for
+     * use.
+     */
+    private static MessageDigest getMessageDigestInstance() {
+        MessageDigest md = SHA256_MESSAGE_DIGEST.get();
+        md.reset();
+        return md;
+    }
+
+    /**
+     * Hashes the content of the given stream using the SHA-256 algorithm.
+     * Reading the stream may hash other data on the same thread, as chunked
+     * content does, so this uses its own digest and buffer rather than the
+     * per-thread ones.
+     */
     protected byte[] hash(InputStream input) throws AmazonClientException {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
             @SuppressWarnings("resource")
             DigestInputStream digestInputStream = new SdkDigestInputStream(
                     input, md);
-            byte[] buffer = new byte[1024];
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
             while (digestInputStream.read(buffer) > -1)
                 ;
             return digestInputStream.getMessageDigest().digest();
@@ -176,7 +243,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(byte[] data) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = getMessageDigestInstance();
             md.update(data);
             return md.digest();
         } catch (Exception e) {
@@ -199,6 +266,9 @@ public abstract class AbstractAWSSigner implements Signer {
      * @return A canonicalized form for the specified query string parameters.
      */
     protected String getCanonicalizedQueryString(Map<String, List<String>> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
 
         final SortedMap<String, List<String>> sorted = new TreeMap<String, List<String>>();
 
@@ -210,6 +280,12 @@ public abstract class AbstractAWSSigner implements Signer {
             final String encodedParamName = SdkHttpUtils.urlEncode(
                     entry.getKey(), false);
             final List<String> paramValues = entry.getValue();
+            if (paramValues.size() == 1) {
+                // The common case; no need to copy and sort the values
+                sorted.put(encodedParamName, Collections.singletonList(
+                        SdkHttpUtils.urlEncode(paramValues.get(0), false)));
+                continue;
+            }
             final List<String> encodedValues = new ArrayList<String>(
                     paramValues.size());
             for (String value : paramValues) {
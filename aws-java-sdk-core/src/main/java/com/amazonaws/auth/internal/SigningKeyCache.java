@@ -0,0 +1,273 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import static com.amazonaws.SDKGlobalConfiguration.SIGNING_KEY_CACHE_SIZE_SYSTEM_PROPERTY;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A bounded cache of AWS4 signing keys, keyed on the secret key, region and
+ * service name of the request being signed.
+ * <p>
+ * Lookups take no lock and allocate nothing: they go through a
+ * {@link ConcurrentHashMap} with a lookup key reused by the calling thread.
+ * When the cache is full, a put evicts the key least recently used, as
+ * approximated by the number of puts made before the key's last use; the
+ * scan this takes is small next to deriving the new signing key. Hit and
+ * miss counts are kept in striped counters to avoid contention between
+ * signing threads.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+
+    /** Default maximum number of signing keys to cache. */
+    public static final int DEFAULT_MAX_SIZE = 300;
+
+    private static final SigningKeyCache instance = new SigningKeyCache(configuredMaxSize());
+
+    private static final ThreadLocal<Key> lookupKey = new ThreadLocal<Key>() {
+        @Override
+        protected Key initialValue() {
+            return new Key();
+        }
+    };
+
+    private final int maxSize;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<Key, Entry>();
+    /**
+     * Advanced twice by every put, so that keys used after a put are
+     * stamped later than the key put.
+     */
+    private final AtomicLong clock = new AtomicLong();
+    private final StripedCounter hits = new StripedCounter();
+    private final StripedCounter misses = new StripedCounter();
+
+    /**
+     * @param maxSize
+     *            the maximum number of signing keys to cache
+     */
+    public SigningKeyCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache shared by all AWS4 signers in the current class
+     * loader. Its size can be configured with the
+     * {@value com.amazonaws.SDKGlobalConfiguration#SIGNING_KEY_CACHE_SIZE_SYSTEM_PROPERTY}
+     * system property.
+     */
+    public static SigningKeyCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the cached signing key for the given secret key, region and
+     * service, provided it was derived for the given day; or null otherwise.
+     */
+    public SignerKey get(String secretKey, String regionName, String serviceName,
+            long daysSinceEpoch) {
+        Key key = lookupKey.get().set(secretKey, regionName, serviceName);
+        Entry entry = entries.get(key);
+        key.clear();
+        if (entry != null
+                && entry.signerKey.getNumberOfDaysSinceEpoch() == daysSinceEpoch) {
+            long now = clock.get();
+            // Written only on the first use since the last put
+            if (entry.lastUsed != now) {
+                entry.lastUsed = now;
+            }
+            hits.increment();
+            return entry.signerKey;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the given signing key, evicting the least recently used one if
+     * the cache is full.
+     */
+    public void put(String secretKey, String regionName, String serviceName,
+            SignerKey signerKey) {
+        Key key = new Key().set(secretKey, regionName, serviceName);
+        Entry entry = new Entry(key, signerKey, clock.incrementAndGet());
+        clock.incrementAndGet();
+        entries.put(key, entry);
+        while (entries.size() > maxSize) {
+            Entry eldest = null;
+            for (Entry e : entries.values()) {
+                if (e != entry && (eldest == null || e.lastUsed < eldest.lastUsed)) {
+                    eldest = e;
+                }
+            }
+            if (eldest == null) {
+                break;
+            }
+            entries.remove(eldest.key, eldest);
+        }
+    }
+
+    /**
+     * Returns the number of signing keys currently cached.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of signing keys this cache can hold.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a usable signing key.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required a new signing key to be
+     * derived.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private static int hashCode(String s) {
+        return s == null ? 0 : s.hashCode();
+    }
+
+    private static boolean equals(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static int configuredMaxSize() {
+        String value = System.getProperty(SIGNING_KEY_CACHE_SIZE_SYSTEM_PROPERTY);
+        if (value != null) {
+            try {
+                int size = Integer.parseInt(value.trim());
+                if (size >= 1) {
+                    return size;
+                }
+            } catch (NumberFormatException ignore) {
+                // fall through to the warning below
+            }
+            LogFactory.getLog(SigningKeyCache.class).warn(
+                    "Ignoring invalid value for " + SIGNING_KEY_CACHE_SIZE_SYSTEM_PROPERTY
+                            + ": " + value);
+        }
+        return DEFAULT_MAX_SIZE;
+    }
+
+    /**
+     * The secret key, region and service name of a signing key. Each thread
+     * reuses one instance to look keys up; cached keys are never modified.
+     */
+    private static final class Key {
+        private String secretKey;
+        private String regionName;
+        private String serviceName;
+        private int hash;
+
+        Key set(String secretKey, String regionName, String serviceName) {
+            this.secretKey = secretKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            int h = SigningKeyCache.hashCode(secretKey);
+            h = 31 * h + SigningKeyCache.hashCode(regionName);
+            this.hash = 31 * h + SigningKeyCache.hashCode(serviceName);
+            return this;
+        }
+
+        /** Releases the secret key held by a lookup key. */
+        void clear() {
+            set(null, null, null);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return SigningKeyCache.equals(secretKey, that.secretKey)
+                    && SigningKeyCache.equals(regionName, that.regionName)
+                    && SigningKeyCache.equals(serviceName, that.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final SignerKey signerKey;
+        /** The value of the clock when the key was last put or used. */
+        private volatile long lastUsed;
+
+        Entry(Key key, SignerKey signerKey, long lastUsed) {
+            this.key = key;
+            this.signerKey = signerKey;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * A counter spread over several cache-line padded cells, so that threads
+     * incrementing it concurrently rarely write to the same cell.
+     */
+    private static final class StripedCounter {
+        private static final int STRIPES = 16;
+        /** Number of longs between cells; 8 longs fill a 64 byte cache line. */
+        private static final int PADDING = 8;
+
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+        void increment() {
+            int stripe = (int) (Thread.currentThread().getId() & (STRIPES - 1));
+            cells.incrementAndGet(stripe * PADDING);
+        }
+
+        long sum() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += cells.get(i * PADDING);
+            }
+            return sum;
+        }
+    }
+}
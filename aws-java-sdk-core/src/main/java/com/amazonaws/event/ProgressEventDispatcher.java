@@ -0,0 +1,351 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.event;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.util.SdkExecutors;
+
+/**
+ * Delivers progress events to listeners asynchronously, on a few single
+ * threaded stripes. All the events of a listener are delivered in order by the
+ * same stripe, so listeners following different transfers do not wait for one
+ * another.
+ * <p>
+ * The events of a {@link ProgressListenerChain} are queued for each of its
+ * listeners rather than for the chain. A listener added to the chains of
+ * several transfers, such as a shared progress bar, is thus still called by
+ * one thread at a time, and gets the events of all the transfers in order.
+ * <p>
+ * Byte transfer events waiting to be delivered to a listener are coalesced
+ * into one event carrying their total, so a listener slower than the transfer
+ * it follows receives fewer, larger events instead of an ever growing backlog.
+ */
+@ThreadSafe
+class ProgressEventDispatcher {
+
+    private static final String THREAD_NAME = "java-sdk-progress-listener-callback-thread";
+
+    private static final Runnable NOOP = new Runnable() {
+        public void run() {
+        }
+    };
+
+    private final ExecutorService[] stripes;
+
+    private final ConcurrentMap<Object, ListenerQueue> queues =
+            new ConcurrentHashMap<Object, ListenerQueue>();
+
+    /** Whether each class of chain seen leaves progressChanged as it is. */
+    private final ConcurrentMap<Class<?>, Boolean> plainChainClasses =
+            new ConcurrentHashMap<Class<?>, Boolean>();
+
+    /** Number of events and callbacks waiting to be delivered, across all listeners. */
+    private final AtomicInteger queuedEventCount = new AtomicInteger();
+
+    ProgressEventDispatcher(int stripeCount) {
+        stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            final String threadName = stripeCount == 1 ? THREAD_NAME : THREAD_NAME + "-" + (i + 1);
+            stripes[i] = SdkExecutors.newSingleThreadExecutor(THREAD_NAME, new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r);
+                    t.setName(threadName);
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+    }
+
+    /**
+     * Delivers the event to the listener.
+     *
+     * @return The future of the task delivering the event, which may deliver
+     *         other events of the listener as well.
+     */
+    Future<?> deliver(ProgressListener listener, ProgressEvent event) {
+        if (!isPlainChain(listener)) {
+            return enqueue(listener, event);
+        }
+        ProgressListenerChain chain = (ProgressListenerChain) listener;
+        ProgressEvent filteredEvent = chain.filter(event);
+        if (filteredEvent == null) {
+            return null;
+        }
+        Future<?> future = null;
+        for (ProgressListener member : chain.getListeners()) {
+            Future<?> memberFuture = deliver(member, filteredEvent);
+            if (memberFuture != null) {
+                future = memberFuture;
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Returns whether the listener is a chain which only passes the events on
+     * to its listeners, so that they can be queued for each of them.
+     */
+    private boolean isPlainChain(ProgressListener listener) {
+        if (!(listener instanceof ProgressListenerChain)) {
+            return false;
+        }
+        Class<?> clazz = listener.getClass();
+        Boolean plain = plainChainClasses.get(clazz);
+        if (plain == null) {
+            try {
+                plain = clazz.getMethod("progressChanged", ProgressEvent.class)
+                        .getDeclaringClass() == ProgressListenerChain.class;
+            } catch (Exception e) {
+                plain = false;
+            }
+            plainChainClasses.put(clazz, plain);
+        }
+        return plain;
+    }
+
+    /**
+     * Runs a callback of the listener, in order with the events delivered to
+     * it.
+     *
+     * @param listener
+     *            The listener called back, which does not need to be a
+     *            {@link ProgressListener}.
+     */
+    Future<?> deliver(Object listener, Runnable callback) {
+        return enqueue(listener, callback);
+    }
+
+    private Future<?> enqueue(Object listener, Object item) {
+        while (true) {
+            ListenerQueue queue = queues.get(listener);
+            if (queue == null) {
+                queue = new ListenerQueue(listener, stripeOf(listener));
+                ListenerQueue existing = queues.putIfAbsent(listener, queue);
+                if (existing != null) {
+                    queue = existing;
+                }
+            }
+            synchronized (queue) {
+                // A queue is removed once drained; its next events then go to a new queue
+                if (!queue.removed) {
+                    return queue.add(item);
+                }
+            }
+        }
+    }
+
+    private ExecutorService stripeOf(Object listener) {
+        int hash = System.identityHashCode(listener);
+        return stripes[(hash & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    /**
+     * Returns the number of events and callbacks waiting to be delivered.
+     */
+    int getQueuedEventCount() {
+        return queuedEventCount.get();
+    }
+
+    /**
+     * Returns how long the oldest event waiting to be delivered has been
+     * waiting, or 0 if none is waiting.
+     */
+    long getDeliveryLag(TimeUnit unit) {
+        long now = System.nanoTime();
+        long lag = 0;
+        for (ListenerQueue queue : queues.values()) {
+            lag = Math.max(lag, queue.getWaitingTime(now));
+        }
+        return unit.convert(lag, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Blocks until the events and callbacks delivered before the call are
+     * delivered, on every stripe; the stripes which are shut down are not
+     * waited for.
+     */
+    void waitTillCompletion() throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<Future<?>>(stripes.length);
+        for (ExecutorService stripe : stripes) {
+            try {
+                // A stripe runs its tasks in order
+                futures.add(stripe.submit(NOOP));
+            } catch (RejectedExecutionException e) {
+                // shut down
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    /**
+     * Returns the executor delivering the events of stripe 0.
+     */
+    ExecutorService getExecutorService() {
+        return stripes[0];
+    }
+
+    void shutdown(boolean now) {
+        for (ExecutorService stripe : stripes) {
+            if (now) {
+                stripe.shutdownNow();
+            } else {
+                stripe.shutdown();
+            }
+        }
+    }
+
+    /**
+     * The events waiting to be delivered to one listener, delivered by a
+     * single task at a time.
+     */
+    private final class ListenerQueue implements Runnable {
+
+        private final Object listener;
+        private final ExecutorService stripe;
+
+        // Guarded by this
+        private final LinkedList<Object> items = new LinkedList<Object>();
+        private final LinkedList<Long> enqueueTimes = new LinkedList<Long>();
+        private Future<?> future;
+        private boolean removed;
+
+        ListenerQueue(Object listener, ExecutorService stripe) {
+            this.listener = listener;
+            this.stripe = stripe;
+        }
+
+        Future<?> add(Object item) {
+            if (!items.isEmpty() && coalesce(items.getLast(), item)) {
+                return future;
+            }
+            items.add(item);
+            enqueueTimes.add(System.nanoTime());
+            queuedEventCount.incrementAndGet();
+            if (future == null) {
+                try {
+                    future = stripe.submit(this);
+                } catch (RuntimeException e) {
+                    discardAll();
+                    throw e;
+                }
+            }
+            return future;
+        }
+
+        /**
+         * Merges a byte transfer event into the last one waiting, if they are
+         * of the same type.
+         */
+        private boolean coalesce(Object last, Object item) {
+            if (!isCoalescable(last) || !isCoalescable(item)) {
+                return false;
+            }
+            ProgressEvent lastEvent = (ProgressEvent) last;
+            ProgressEvent event = (ProgressEvent) item;
+            if (lastEvent.getEventType() != event.getEventType()) {
+                return false;
+            }
+            items.set(items.size() - 1, new ProgressEvent(event.getEventType(),
+                    lastEvent.getBytes() + event.getBytes()));
+            return true;
+        }
+
+        private boolean isCoalescable(Object item) {
+            if (item == null || item.getClass() != ProgressEvent.class) {
+                return false;
+            }
+            ProgressEventType type = ((ProgressEvent) item).getEventType();
+            return type == ProgressEventType.REQUEST_BYTE_TRANSFER_EVENT
+                    || type == ProgressEventType.RESPONSE_BYTE_TRANSFER_EVENT;
+        }
+
+        synchronized long getWaitingTime(long now) {
+            return enqueueTimes.isEmpty() ? 0 : now - enqueueTimes.getFirst();
+        }
+
+        /**
+         * Delivers the items waiting when the task starts; the items added
+         * meanwhile are delivered by the next task, so that a busy listener
+         * does not hold up the other listeners of its stripe.
+         */
+        @Override
+        public void run() {
+            List<Object> batch;
+            synchronized (this) {
+                batch = new ArrayList<Object>(items);
+                items.clear();
+                enqueueTimes.clear();
+                queuedEventCount.addAndGet(-batch.size());
+                future = null;
+            }
+            for (Object item : batch) {
+                if (item instanceof ProgressEvent) {
+                    quietlyCallListener((ProgressListener) listener, (ProgressEvent) item);
+                } else {
+                    quietlyRun((Runnable) item);
+                }
+            }
+            synchronized (this) {
+                if (future == null) {
+                    removed = true;
+                    queues.remove(listener, this);
+                }
+            }
+        }
+
+        private void discardAll() {
+            queuedEventCount.addAndGet(-items.size());
+            items.clear();
+            enqueueTimes.clear();
+            future = null;
+        }
+
+        private void quietlyCallListener(ProgressListener listener, ProgressEvent event) {
+            try {
+                listener.progressChanged(event);
+            } catch (Throwable t) {
+                LogFactory.getLog(SDKProgressPublisher.class)
+                    .debug("Failure from the event listener", t);
+            }
+        }
+
+        private void quietlyRun(Runnable callback) {
+            try {
+                callback.run();
+            } catch (Throwable t) {
+                LogFactory.getLog(SDKProgressPublisher.class)
+                    .debug("Failure from the event listener", t);
+            }
+        }
+    }
+}
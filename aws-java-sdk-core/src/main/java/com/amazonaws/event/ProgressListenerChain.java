@@ -87,11 +87,8 @@ public class ProgressListenerChain implements ProgressListener, DeliveryMode {
     }
 
     public void progressChanged(final ProgressEvent progressEvent) {
-        ProgressEvent filteredEvent = progressEvent;
-        if (progressEventFilter != null) {
-            filteredEvent = progressEventFilter.filter(progressEvent);
-            if (filteredEvent == null) return;
-        }
+        ProgressEvent filteredEvent = filter(progressEvent);
+        if (filteredEvent == null) return;
 
         for ( ProgressListener listener : listeners ) {
             try {
@@ -102,5 +99,15 @@ public class ProgressListenerChain implements ProgressListener, DeliveryMode {
         }
     }
 
+    /**
+     * Returns the event to pass on to the listeners of this chain; or null if
+     * it is filtered out.
+     */
+    ProgressEvent filter(final ProgressEvent progressEvent) {
+        return progressEventFilter == null
+             ? progressEvent
+             : progressEventFilter.filter(progressEvent);
+    }
+
     @Override public boolean isSyncCallSafe() { return syncCallSafe; }
 }
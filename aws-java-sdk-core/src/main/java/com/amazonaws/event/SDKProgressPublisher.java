@@ -23,16 +23,17 @@ import static com.amazonaws.event.ProgressEventType.RESPONSE_CONTENT_LENGTH_EVEN
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.LogFactory;
 
 /**
  * This class is responsible for executing the callback method of
- * ProgressListener; listener callbacks are executed sequentially in a separate
- * single thread.
+ * ProgressListener; the callbacks of a listener are executed sequentially in
+ * a separate thread, one of a few shared by all listeners. Byte transfer events
+ * waiting for a listener are coalesced, so that a slow listener never has a
+ * growing backlog of events.
  */
 public class SDKProgressPublisher {
 
@@ -72,12 +73,22 @@ public class SDKProgressPublisher {
         // This is unfortunate as the listener should never block in the first
         // place, but such task submission is necessary to remain backward
         // compatible.
-        return latestFutureTask = LazyHolder.executor.submit(new Runnable() {
-            @Override
-            public void run() {
-                listener.progressChanged(event);
-            }
-        });
+        Future<?> future = LazyHolder.dispatcher.deliver(listener, event);
+        if (future != null) {
+            latestFutureTask = future;
+        }
+        return future;
+    }
+
+    /**
+     * Runs the given callback of the listener asynchronously, in order with
+     * the progress events delivered to the same listener.
+     *
+     * @return the future of the submitted task
+     */
+    protected static Future<?> deliverCallback(final Object listener,
+            final Runnable callback) {
+        return latestFutureTask = LazyHolder.dispatcher.deliver(listener, callback);
     }
 
     private static Future<?> quietlyCallListener(final ProgressListener listener,
@@ -215,9 +226,31 @@ public class SDKProgressPublisher {
 
     /**
      * Returns the executor service used for performing the callbacks.
+     *
+     * @deprecated The callbacks are spread over several executors, so that
+     *             the tasks submitted to this one are not ordered with the
+     *             events of their listener; use
+     *             {@link #deliverCallback(Object, Runnable)} instead.
      */
+    @Deprecated
     protected static ExecutorService getExecutorService() {
-        return LazyHolder.executor;
+        return LazyHolder.dispatcher.getExecutorService();
+    }
+
+    /**
+     * Returns the number of progress events and callbacks waiting to be
+     * delivered to the asynchronous listeners.
+     */
+    public static int getQueuedEventCount() {
+        return LazyHolder.dispatcher.getQueuedEventCount();
+    }
+
+    /**
+     * Returns how long the oldest progress event waiting to be delivered to
+     * an asynchronous listener has been waiting, or 0 if none is waiting.
+     */
+    public static long getDeliveryLag(TimeUnit unit) {
+        return LazyHolder.dispatcher.getDeliveryLag(unit);
     }
 
     protected static Future<?> setLatestFutureTask(Future<?> f) {
@@ -226,14 +259,17 @@ public class SDKProgressPublisher {
 
     /**
      * For internal testing and backward compatibility only. This method blocks
-     * until all the submitted callbacks are executed. Listeners should never
-     * block so this method should never be used.
+     * until all the callbacks submitted before the call are executed, whichever
+     * thread executes them. Listeners should never block so this method should
+     * never be used.
      */
     @Deprecated
     public static void waitTillCompletion()
             throws InterruptedException, ExecutionException {
-        if (latestFutureTask != null) {
-            latestFutureTask.get();
+        Future<?> f = latestFutureTask;
+        if (f != null) {
+            LazyHolder.dispatcher.waitTillCompletion();
+            f.get();
         }
     }
 
@@ -241,23 +277,13 @@ public class SDKProgressPublisher {
      * Used to avoid creating the extra thread until absolutely necessary.
      */
     private static final class LazyHolder {
-        /** A single thread pool for executing all ProgressListener callbacks. **/
-        private static final ExecutorService executor = createNewExecutorService();
+        /** Number of threads executing the ProgressListener callbacks. **/
+        private static final int STRIPE_COUNT =
+                Math.min(4, Runtime.getRuntime().availableProcessors());
 
-        /**
-         * Creates a new single threaded executor service for performing the
-         * callbacks.
-         */
-        private static ExecutorService createNewExecutorService() {
-            return Executors.newSingleThreadExecutor(new ThreadFactory() {
-                public Thread newThread(Runnable r) {
-                    Thread t = new Thread(r);
-                    t.setName("java-sdk-progress-listener-callback-thread");
-                    t.setDaemon(true);
-                    return t;
-                }
-            });
-        }
+        /** The dispatcher executing all ProgressListener callbacks. **/
+        private static final ProgressEventDispatcher dispatcher =
+                new ProgressEventDispatcher(STRIPE_COUNT);
     }
 
     /**
@@ -272,9 +298,6 @@ public class SDKProgressPublisher {
      * @param now true if shutdown now; false otherwise.
      */
     public static void shutdown(boolean now) {
-        if (now)
-            LazyHolder.executor.shutdownNow();
-        else
-            LazyHolder.executor.shutdown();
+        LazyHolder.dispatcher.shutdown(now);
     }
 }
@@ -37,12 +37,16 @@ import com.amazonaws.event.ProgressInputStream;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.handlers.CredentialsRequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.apache.SdkProxyRoutePlanner;
 import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
 import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
 import com.amazonaws.http.apache.request.impl.ApacheHttpRequestFactory;
 import com.amazonaws.http.apache.utils.ApacheUtils;
 import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.conn.ConnectionPoolWarmer;
 import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.http.hedging.HedgedRequestExecutor;
+import com.amazonaws.http.hedging.HedgedRequestExecutor.HedgedResult;
 import com.amazonaws.http.request.HttpRequestFactory;
 import com.amazonaws.http.settings.HttpClientSettings;
 import com.amazonaws.http.timers.client.ClientExecutionTimeoutException;
@@ -56,6 +60,7 @@ import com.amazonaws.internal.ResettableInputStream;
 import com.amazonaws.internal.SdkBufferedInputStream;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.AdaptiveRateLimiter;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.retry.internal.AuthErrorRetryStrategy;
@@ -78,12 +83,21 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
 import org.apache.http.annotation.ThreadSafe;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.message.BasicHttpRequest;
 import org.apache.http.pool.ConnPoolControl;
 
 import java.io.BufferedInputStream;
@@ -196,6 +210,12 @@ public class AmazonHttpClient {
     /** Retry capacity manager, used to manage throttled retry resource */
     private final CapacityManager retryCapacity;
 
+    /** Rate limiter pacing the requests, possibly shared with other clients; or null if there is none */
+    private final AdaptiveRateLimiter rateLimiter;
+
+    /** Executor hedging slow requests; or null if requests are not hedged */
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+
     /**
      * Timer to enforce timeouts on the whole execution of the request (request handlers, retries, backoff strategy,
      * unmarshalling, etc)
@@ -283,6 +303,9 @@ public class AmazonHttpClient {
         int throttledRetryMaxCapacity = clientConfig.useThrottledRetries()
                 ? THROTTLED_RETRY_COST * THROTTLED_RETRIES : -1;
         this.retryCapacity = new CapacityManager(throttledRetryMaxCapacity);
+        this.rateLimiter = clientConfig.getRateLimiter();
+        this.hedgedRequestExecutor = clientConfig.getHedgingPolicy() != null
+                ? new HedgedRequestExecutor(clientConfig.getHedgingPolicy()) : null;
     }
 
     /**
@@ -806,6 +829,7 @@ public class AmazonHttpClient {
         if (execOneParams.isRetry()) {
             pauseBeforeRetry(request, awsRequestMetrics, execOneParams, listener);
         }
+        acquireRateLimiter(awsRequestMetrics);
         updateRetryHeaderInfo(request, execOneParams);
 
         // Sign the request if a signer was provided
@@ -843,6 +867,7 @@ public class AmazonHttpClient {
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
         awsRequestMetrics.startEvent(Field.HttpRequestTime);
         awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
+        final long sendTime = System.nanoTime();
 
         /////////// Send HTTP request ////////////
         execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
@@ -851,7 +876,13 @@ public class AmazonHttpClient {
                 .startTimer(execOneParams.apacheRequest, getRequestTimeout(awsreq));
 
         try {
-            execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
+            if (hedgedRequestExecutor != null
+                    && hedgedRequestExecutor.isHedgeable(request, execOneParams.apacheRequest)) {
+                execOneParams.apacheResponse = executeHedged(request, execContext, execOneParams,
+                        localRequestContext, requestAbortTaskTracker);
+            } else {
+                execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
+            }
             if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(), execContext, execOneParams,
                     requestAbortTaskTracker)) {
                 execOneParams.apacheResponse
@@ -897,6 +928,9 @@ public class AmazonHttpClient {
             } else {
                 retryCapacity.release();
             }
+            if (rateLimiter != null) {
+                rateLimiter.onSuccess();
+            }
             return new Response<T>(response, httpResponse);
         }
         if (isTemporaryRedirect(execOneParams.apacheResponse)) {
@@ -921,6 +955,9 @@ public class AmazonHttpClient {
         awsRequestMetrics.addPropertyWith(Field.AWSRequestID, ase.getRequestId())
                 .addPropertyWith(Field.AWSErrorCode, ase.getErrorCode())
                 .addPropertyWith(Field.StatusCode, ase.getStatusCode());
+        if (rateLimiter != null && RetryUtils.isThrottlingException(ase)) {
+            rateLimiter.onThrottle(sendTime);
+        }
         // Check whether we should internally retry the auth error
         execOneParams.authRetryParam = null;
         AuthErrorRetryStrategy authRetry = execContext.getAuthErrorRetryStrategy();
@@ -954,6 +991,35 @@ public class AmazonHttpClient {
         return null; // => retry
     }
 
+    /**
+     * Executes the request through the hedged request executor, which sends a duplicate of it if
+     * it is slow, once enough latencies of its operation have been observed.
+     */
+    private org.apache.http.HttpResponse executeHedged(final Request<?> request,
+                                                       final ExecutionContext execContext,
+                                                       ExecOneRequestParams execOneParams,
+                                                       final HttpClientContext localRequestContext,
+                                                       final HttpRequestAbortTaskTracker requestAbortTaskTracker)
+            throws IOException, InterruptedException {
+        final long hedgeDelay = hedgedRequestExecutor.getHedgeDelay(request);
+        HttpRequestBase hedgeRequest = null;
+        HttpClientContext hedgeContext = null;
+        if (hedgeDelay >= 0) {
+            hedgeRequest = httpRequestFactory.create(request, httpClientSettings);
+            hedgeRequest.setURI(execOneParams.apacheRequest.getURI());
+            hedgedRequestExecutor.shareContent(execOneParams.apacheRequest, hedgeRequest);
+            hedgeContext = ApacheUtils.newClientContext(httpClientSettings, null);
+        }
+        HedgedResult result = hedgedRequestExecutor.execute(httpClient, request, execOneParams.apacheRequest,
+                localRequestContext, hedgeRequest, hedgeContext, requestAbortTaskTracker, hedgeDelay);
+        if (result.getRequest() != execOneParams.apacheRequest) {
+            // The response of the hedge request is read, or aborted, through it
+            execOneParams.apacheRequest = result.getRequest();
+            execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
+        }
+        return result.getResponse();
+    }
+
     /**
      * Reset the input stream of the request before a retry.
      *
@@ -1101,6 +1167,59 @@ public class AmazonHttpClient {
         request.addHeader(HEADER_SDK_RETRY_INFO, headerValue);
     }
 
+    /**
+     * Opens pooled connections to the endpoint ahead of the requests sent to it, and blocks until they are open.
+     *
+     * @param endpoint    The endpoint of the requests the connections are opened for.
+     * @param connections The number of connections to the endpoint the pool should hold, at most the maximum number
+     *                    of connections of the client configuration.
+     * @param keepWarm    True to reopen connections after the idle connection reaper closes them, if the reaper is
+     *                    used; false to only open them once.
+     * @return The number of connections opened, which is 0 if the connections to the endpoint are tunnelled through
+     * a proxy, as those cannot be opened ahead of a request.
+     */
+    public int warmUpConnections(URI endpoint, int connections, boolean keepWarm) {
+        HttpClientConnectionManager connectionManager = httpClient.getHttpClientConnectionManager();
+        HttpRoute route = determineRoute(endpoint);
+        if (route == null || route.isTunnelled()) {
+            log.debug("Connections to " + endpoint + " cannot be warmed up");
+            IdleConnectionReaper.removeConnectionPoolWarmer(connectionManager);
+            return 0;
+        }
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(connectionManager, route,
+                Math.min(connections, httpClientSettings.getMaxConnections()),
+                httpClientSettings.getConnectionTimeout(), httpClientSettings.getMaxIdleConnectionTime());
+        if (keepWarm) {
+            IdleConnectionReaper.registerConnectionPoolWarmer(connectionManager, warmer);
+        } else {
+            IdleConnectionReaper.removeConnectionPoolWarmer(connectionManager);
+        }
+        return warmer.warmUp();
+    }
+
+    /**
+     * Returns the route the requests to the endpoint take, as planned by the underlying client.
+     */
+    private HttpRoute determineRoute(URI endpoint) {
+        HttpRoutePlanner routePlanner = httpClientSettings.getProxyHost() != null
+                && httpClientSettings.getProxyPort() > 0
+                ? new SdkProxyRoutePlanner(httpClientSettings.getProxyHost(),
+                        httpClientSettings.getProxyPort(), httpClientSettings.getNonProxyHosts())
+                : new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setLocalAddress(httpClientSettings.getLocalAddress())
+                .build());
+        try {
+            return routePlanner.determineRoute(
+                    new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme()),
+                    new BasicHttpRequest("GET", "/"), context);
+        } catch (HttpException e) {
+            log.debug("Unable to determine the route to " + endpoint, e);
+            return null;
+        }
+    }
+
     /**
      * Shuts down this HTTP client object, releasing any resources that might be held open. This is an optional method,
      * and callers are not expected to call it, but can if they want to explicitly release any open resources. Once a
@@ -1109,6 +1228,9 @@ public class AmazonHttpClient {
     public void shutdown() {
         clientExecutionTimer.shutdown();
         httpRequestTimer.shutdown();
+        if (hedgedRequestExecutor != null) {
+            hedgedRequestExecutor.shutdown();
+        }
         IdleConnectionReaper.removeConnectionManager(httpClient
                 .getHttpClientConnectionManager());
         httpClient.getHttpClientConnectionManager().shutdown();
@@ -1422,6 +1544,22 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Waits for the rate limiter, if any, to let the request be sent.
+     */
+    private void acquireRateLimiter(AWSRequestMetrics awsRequestMetrics) throws InterruptedException {
+        if (rateLimiter == null) {
+            return;
+        }
+        awsRequestMetrics.startEvent(Field.RateLimiterDelayTime);
+        try {
+            rateLimiter.acquire();
+        } finally {
+            awsRequestMetrics.endEvent(Field.RateLimiterDelayTime);
+        }
+        awsRequestMetrics.setCounter(Field.RateLimiterSendRate, (long) rateLimiter.getMeasuredSendRate());
+    }
+
     /**
      * Sleep for a period of time on failed request to avoid flooding a service with retries.
      *
@@ -15,6 +15,8 @@
 package com.amazonaws.http;
 
 import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.http.conn.ConnectionPoolWarmer;
+import com.amazonaws.util.SdkExecutors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -22,7 +24,12 @@ import org.apache.http.conn.HttpClientConnectionManager;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,6 +49,12 @@ import java.util.concurrent.TimeUnit;
  * cleaning up old/inactive HTTP connections, we'd see more IO exceptions when
  * stale connections (i.e. closed on the AWS side) are left in the connection
  * pool, and requests grab one of them to begin executing a request.
+ * <p/>
+ * Once the idle connections of the pools are closed, the connections of the
+ * pools which were asked to be kept warm are reopened, see
+ * {@link AmazonHttpClient#warmUpConnections(java.net.URI, int, boolean)}.
+ * They are reopened on a thread of their own, so that a slow endpoint does
+ * not hold up the reaping of idle connections.
  */
 public final class IdleConnectionReaper extends Thread {
 
@@ -53,12 +66,23 @@ public final class IdleConnectionReaper extends Thread {
      * The period between invocations of the idle connection reaper.
      */
     private static final int PERIOD_MILLISECONDS = 1000 * 60 * 1;
+    /**
+     * The time the connections of all the pools kept warm have to be reopened
+     * in, after each invocation of the idle connection reaper.
+     */
+    private static final int WARM_UP_BUDGET_MILLISECONDS = PERIOD_MILLISECONDS / 2;
     /**
      * The list of registered connection managers, whose connections
      * will be periodically checked and idle connections closed.
      */
     private static final ArrayList<HttpClientConnectionManager>
             connectionManagers = new ArrayList<HttpClientConnectionManager>();
+    /**
+     * The warmers reopening the connections of the registered connection
+     * managers, by connection manager.
+     */
+    private static final Map<HttpClientConnectionManager, ConnectionPoolWarmer>
+            connectionPoolWarmers = new HashMap<HttpClientConnectionManager, ConnectionPoolWarmer>();
     /**
      * Singleton instance of the connection reaper.
      */
@@ -68,6 +92,22 @@ public final class IdleConnectionReaper extends Thread {
      * flag is never set back to false.
      */
     private volatile boolean shuttingDown;
+    /**
+     * Reopens the connections of the pools kept warm.
+     */
+    private final ExecutorService warmUpExecutor = SdkExecutors.newSingleThreadExecutor(
+            "java-sdk-http-connection-warmer", new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "java-sdk-http-connection-warmer");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+    /**
+     * The last round of warm-ups, only accessed by this thread.
+     */
+    private Future<?> warmUpRound;
 
     /**
      * Private constructor - singleton pattern.
@@ -100,11 +140,35 @@ public final class IdleConnectionReaper extends Thread {
      */
     public static synchronized boolean removeConnectionManager(HttpClientConnectionManager connectionManager) {
         boolean b = connectionManagers.remove(connectionManager);
+        connectionPoolWarmers.remove(connectionManager);
         if (connectionManagers.isEmpty())
             shutdown();
         return b;
     }
 
+    /**
+     * Registers the warmer to run after the idle connections of the given
+     * connection manager are closed, in place of any warmer registered before.
+     *
+     * @return true if the warmer has been registered; false if the connection
+     * manager is not registered with this reaper.
+     */
+    public static synchronized boolean registerConnectionPoolWarmer(HttpClientConnectionManager connectionManager,
+                                                                    ConnectionPoolWarmer warmer) {
+        if (!connectionManagers.contains(connectionManager)) {
+            return false;
+        }
+        connectionPoolWarmers.put(connectionManager, warmer);
+        return true;
+    }
+
+    /**
+     * Removes the warmer of the given connection manager, if any.
+     */
+    public static synchronized void removeConnectionPoolWarmer(HttpClientConnectionManager connectionManager) {
+        connectionPoolWarmers.remove(connectionManager);
+    }
+
     @SdkTestInternalApi
     public static synchronized List<HttpClientConnectionManager> getRegisteredConnectionManagers() {
         return Collections.unmodifiableList(connectionManagers);
@@ -125,7 +189,9 @@ public final class IdleConnectionReaper extends Thread {
         if (instance != null) {
             instance.markShuttingDown();
             instance.interrupt();
+            instance.warmUpExecutor.shutdownNow();
             connectionManagers.clear();
+            connectionPoolWarmers.clear();
             instance = null;
             return true;
         }
@@ -161,8 +227,11 @@ public final class IdleConnectionReaper extends Thread {
                 // removeConnectionManager are called while we're iterating (rather
                 // than block/lock while this loop executes).
                 List<HttpClientConnectionManager> connectionManagers = null;
+                List<ConnectionPoolWarmer> connectionPoolWarmers = null;
                 synchronized (IdleConnectionReaper.class) {
                     connectionManagers = (List<HttpClientConnectionManager>) IdleConnectionReaper.connectionManagers.clone();
+                    connectionPoolWarmers = new ArrayList<ConnectionPoolWarmer>(
+                            IdleConnectionReaper.connectionPoolWarmers.values());
                 }
                 for (HttpClientConnectionManager connectionManager : connectionManagers) {
                     // When we release connections, the connection manager leaves them
@@ -174,9 +243,42 @@ public final class IdleConnectionReaper extends Thread {
                         log.warn("Unable to close idle connections", t);
                     }
                 }
+                if (!connectionPoolWarmers.isEmpty()) {
+                    warmUp(connectionPoolWarmers);
+                }
             } catch (Throwable t) {
                 log.debug("Reaper thread: ", t);
             }
         }
     }
+
+    /**
+     * Reopens the connections of the pools kept warm on the warm-up thread,
+     * unless the previous round is still running.
+     */
+    private void warmUp(final List<ConnectionPoolWarmer> connectionPoolWarmers) {
+        if (warmUpRound != null && !warmUpRound.isDone()) {
+            log.debug("Skipping connection warm-up, the previous one is still running");
+            return;
+        }
+        warmUpRound = warmUpExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                final long deadline = System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(WARM_UP_BUDGET_MILLISECONDS);
+                for (ConnectionPoolWarmer connectionPoolWarmer : connectionPoolWarmers) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                        log.debug("Ran out of time warming up connections");
+                        return;
+                    }
+                    try {
+                        connectionPoolWarmer.warmUp(remaining, TimeUnit.NANOSECONDS);
+                    } catch (Exception t) {
+                        log.warn("Unable to warm up connections", t);
+                    }
+                }
+            }
+        });
+    }
 }
\ No newline at end of file
@@ -41,6 +41,13 @@ import java.io.OutputStream;
  */
 public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
 
+    /**
+     * The largest chunk of content copied to the connection at once. Large chunks let the
+     * connection write straight to the socket, bypassing its own buffer, and cross the stack of
+     * content input streams (progress, MD5, length check...) once per chunk rather than once per 4KB.
+     */
+    static final int MAX_BUFFER_SIZE = 128 * 1024;
+
     /** True if the request entity hasn't been written out yet */
     private boolean firstAttempt = true;
 
@@ -157,11 +164,57 @@ public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
             if (!firstAttempt && isRepeatable()) content.reset();
 
             firstAttempt = false;
-            inputStreamRequestEntity.writeTo(output);
+            if (inputStreamRequestEntity instanceof MetricInputStreamEntity) {
+                inputStreamRequestEntity.writeTo(output);
+            } else {
+                copyContent(output);
+            }
         } catch (IOException ioe) {
             if (originalException == null) originalException = ioe;
             throw originalException;
         }
     }
 
+    /**
+     * Same as {@link InputStreamEntity#writeTo(OutputStream)}, but with a buffer sized after the
+     * content rather than a fixed 4KB one.
+     */
+    private void copyContent(OutputStream output) throws IOException {
+        final long length = getContentLength();
+        try {
+            byte[] buffer = new byte[bufferSize(length)];
+            int l;
+            if (length < 0) {
+                // consume until EOF
+                while ((l = content.read(buffer)) != -1) {
+                    output.write(buffer, 0, l);
+                }
+            } else {
+                // consume no more than length
+                long remaining = length;
+                while (remaining > 0) {
+                    l = content.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (l == -1) {
+                        break;
+                    }
+                    output.write(buffer, 0, l);
+                    remaining -= l;
+                }
+            }
+        } finally {
+            content.close();
+        }
+    }
+
+    /**
+     * Returns the size of the buffer to copy content of the given length with; small content is
+     * copied with a buffer of its own size, and content of unknown length with a 4KB one.
+     */
+    static int bufferSize(long contentLength) {
+        if (contentLength < 0) {
+            return 4096;
+        }
+        return (int) Math.max(1, Math.min(contentLength, MAX_BUFFER_SIZE));
+    }
+
 }
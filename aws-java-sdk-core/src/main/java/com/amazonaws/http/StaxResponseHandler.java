@@ -19,7 +19,6 @@ import java.io.InputStream;
 import java.util.Map;
 
 import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.logging.Log;
@@ -31,6 +30,7 @@ import com.amazonaws.transform.StaxUnmarshallerContext;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.transform.VoidStaxUnmarshaller;
 import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.XmlUtils;
 
 /**
  * Default implementation of HttpResponseHandler that handles a successful
@@ -48,9 +48,6 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
     /** Shared logger for profiling information */
     private static final Log log = LogFactory.getLog("com.amazonaws.request");
 
-    /** Shared factory for creating XML event readers */
-    private static final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
-
     /**
      * Constructs a new response handler that will use the specified StAX
      * unmarshaller to unmarshall the service response and uses the specified
@@ -86,10 +83,7 @@ public class StaxResponseHandler<T> implements HttpResponseHandler<AmazonWebServ
             content = new ByteArrayInputStream("<eof/>".getBytes(StringUtils.UTF8));
         }
 
-        XMLEventReader eventReader;
-        synchronized (xmlInputFactory) {
-            eventReader = xmlInputFactory.createXMLEventReader(content);
-        }
+        XMLEventReader eventReader = XmlUtils.getXmlInputFactory().createXMLEventReader(content);
 
         try {
             AmazonWebServiceResponse<T> awsResponse = new AmazonWebServiceResponse<T>();
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Opens pooled connections to a route ahead of the requests sent over it, so
+ * that the first requests of a client do not all pay for the TCP and TLS
+ * handshakes at once. The endpoint's address is resolved, and for HTTPS the
+ * TLS session negotiated, when each connection is opened; the connections
+ * opened after the first one can resume its TLS session.
+ */
+@ThreadSafe
+@SdkInternalApi
+public class ConnectionPoolWarmer {
+
+    private static final Log log = LogFactory.getLog(ConnectionPoolWarmer.class);
+
+    private final HttpClientConnectionManager connectionManager;
+    private final HttpRoute route;
+    private final int connections;
+    private final int connectionTimeout;
+    private final long keepAliveMillis;
+
+    /**
+     * @param connectionManager
+     *            The pool to open the connections in.
+     * @param route
+     *            The route of the requests the connections are opened for.
+     * @param connections
+     *            The number of connections to the route the pool should hold.
+     * @param connectionTimeout
+     *            The timeout in milliseconds for leasing and opening a
+     *            connection.
+     * @param keepAliveMillis
+     *            How long an opened connection may be kept idle in the pool,
+     *            or 0 or less to keep it until closed by the pool.
+     */
+    public ConnectionPoolWarmer(HttpClientConnectionManager connectionManager, HttpRoute route,
+                                int connections, int connectionTimeout, long keepAliveMillis) {
+        this.connectionManager = connectionManager;
+        this.route = route;
+        this.connections = connections;
+        this.connectionTimeout = connectionTimeout;
+        this.keepAliveMillis = keepAliveMillis;
+    }
+
+    public HttpRoute getRoute() {
+        return route;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    /**
+     * Opens connections to the route until the pool holds the target number
+     * of them, counting the connections leased by requests in flight. Stops at
+     * the first connection which fails to open, as the others would likely
+     * fail as well.
+     *
+     * @return The number of connections opened.
+     */
+    public int warmUp() {
+        return warmUp(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Opens connections like {@link #warmUp()}, but stops once the given time
+     * has elapsed, so that an unresponsive endpoint holds the calling thread
+     * for at most about that long. Leasing and opening each connection times
+     * out at the earlier of the connection timeout and the end of that time.
+     *
+     * @return The number of connections opened.
+     */
+    public synchronized int warmUp(long timeout, TimeUnit unit) {
+        final long start = System.nanoTime();
+        final long budgetNanos = unit.toNanos(timeout);
+        int toLease = connections;
+        if (connectionManager instanceof ConnPoolControl) {
+            @SuppressWarnings("unchecked")
+            PoolStats stats = ((ConnPoolControl<HttpRoute>) connectionManager).getStats(route);
+            if (stats.getAvailable() + stats.getLeased() >= connections) {
+                return 0;
+            }
+            // The idle connections are leased first, before new ones are created
+            toLease = connections - stats.getLeased();
+        }
+
+        // Connections are held until all are open, as a released connection
+        // would be leased again instead of a new one being created.
+        List<HttpClientConnection> leased = new ArrayList<HttpClientConnection>();
+        int opened = 0;
+        try {
+            for (int i = 0; i < toLease; i++) {
+                int timeoutMillis = timeoutMillis(budgetNanos - (System.nanoTime() - start));
+                if (timeoutMillis <= 0) {
+                    log.debug("Ran out of time warming up connections to " + route);
+                    break;
+                }
+                HttpClientConnection conn = lease(timeoutMillis);
+                if (conn == null) {
+                    break;
+                }
+                leased.add(conn);
+                if (!conn.isOpen()) {
+                    timeoutMillis = timeoutMillis(budgetNanos - (System.nanoTime() - start));
+                    if (timeoutMillis <= 0 || !open(conn, timeoutMillis)) {
+                        break;
+                    }
+                    opened++;
+                }
+            }
+        } finally {
+            for (HttpClientConnection conn : leased) {
+                // The pool discards the connections which are not open
+                connectionManager.releaseConnection(conn, null, keepAliveMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Opened " + opened + " connections to " + route);
+        }
+        return opened;
+    }
+
+    /**
+     * Returns the connection timeout, shortened to the given remaining time;
+     * or 0 or less if no time remains.
+     */
+    private int timeoutMillis(long remainingNanos) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(remainingNanos);
+        if (connectionTimeout <= 0) {
+            // No connection timeout
+            return (int) Math.min(remainingMillis, Integer.MAX_VALUE);
+        }
+        return (int) Math.min(remainingMillis, connectionTimeout);
+    }
+
+    private HttpClientConnection lease(int timeoutMillis) {
+        ConnectionRequest request = connectionManager.requestConnection(route, null);
+        try {
+            return request.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            // The pool is exhausted, or shut down
+            log.debug("Unable to lease a connection to warm up", e);
+            return null;
+        }
+    }
+
+    private boolean open(HttpClientConnection conn, int timeoutMillis) {
+        HttpClientContext context = HttpClientContext.create();
+        try {
+            connectionManager.connect(conn, route, timeoutMillis, context);
+            connectionManager.routeComplete(conn, route, context);
+            return true;
+        } catch (Exception e) {
+            log.debug("Unable to open a connection to " + route, e);
+            try {
+                conn.shutdown();
+            } catch (Exception ignored) {
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.hedging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.Request;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.http.timers.HashedWheelTimer;
+import com.amazonaws.http.timers.request.HttpRequestAbortTaskTracker;
+import com.amazonaws.retry.HedgingPolicy;
+import com.amazonaws.util.SdkExecutors;
+
+/**
+ * Executes the HTTP requests of a client according to its {@link HedgingPolicy}: a duplicate of a
+ * request is sent once it has been in flight longer than the configured percentile of the
+ * latencies of its operation, and the first successful response is used while the other request
+ * is aborted.
+ */
+@ThreadSafe
+@SdkInternalApi
+public class HedgedRequestExecutor {
+
+    private static final Log log = LogFactory.getLog(HedgedRequestExecutor.class);
+
+    /** Largest request content sent a second time by a hedge request. */
+    private static final long MAX_HEDGED_CONTENT_LENGTH = 1024 * 1024;
+
+    /**
+     * Executor sending the duplicate requests, shared among all clients. Its daemon threads do not
+     * keep the JVM from exiting, and are released when idle.
+     */
+    private static final ExecutorService executor = SdkExecutors.newCachedThreadPool(
+            "sdk-hedged-request", new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r);
+                    t.setName("sdk-hedged-request-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    private final HedgingPolicy hedgingPolicy;
+
+    private final HashedWheelTimer timer = new HashedWheelTimer();
+
+    private final ConcurrentMap<Class<?>, LatencyTracker> latencyTrackers =
+            new ConcurrentHashMap<Class<?>, LatencyTracker>();
+
+    public HedgedRequestExecutor(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Returns true if the request may be hedged: it is accepted by the hedging condition, and its
+     * content, if any, is repeatable and small enough to be sent twice.
+     */
+    public boolean isHedgeable(Request<?> request, HttpRequestBase apacheRequest) {
+        if (!hedgingPolicy.getHedgingCondition().shouldHedge(request.getOriginalRequest(), request)) {
+            return false;
+        }
+        if (apacheRequest instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest) apacheRequest).getEntity();
+            return entity == null || (entity.isRepeatable() && entity.getContentLength() >= 0
+                    && entity.getContentLength() <= MAX_HEDGED_CONTENT_LENGTH);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the delay in nanoseconds after which the request should be hedged, or -1 if not
+     * enough latencies of its operation were observed yet.
+     */
+    public long getHedgeDelay(Request<?> request) {
+        long percentileNanos = getLatencyTracker(request).getPercentileNanos();
+        if (percentileNanos < 0) {
+            return -1;
+        }
+        return Math.max(percentileNanos, TimeUnit.MILLISECONDS.toNanos(hedgingPolicy.getMinDelayMillis()));
+    }
+
+    /**
+     * Shares the repeatable content of the request with its hedge request. The content is written
+     * out for one request at a time, so that the hedge request, if it is ever sent, reads it again
+     * once the request has sent it; nothing is buffered.
+     */
+    public void shareContent(HttpRequestBase apacheRequest, HttpRequestBase hedgeRequest) {
+        if (!(apacheRequest instanceof HttpEntityEnclosingRequest)) {
+            return;
+        }
+        HttpEntity entity = ((HttpEntityEnclosingRequest) apacheRequest).getEntity();
+        if (entity == null) {
+            return;
+        }
+        SharedEntity content = new SharedEntity(entity);
+        ((HttpEntityEnclosingRequest) apacheRequest).setEntity(content);
+        ((HttpEntityEnclosingRequest) hedgeRequest).setEntity(content);
+    }
+
+    /**
+     * Executes the request, and its hedge request after the given delay unless the request has
+     * completed by then. The latency of the request is recorded for its operation.
+     *
+     * @param hedgeRequest
+     *            The duplicate of the request, or null to not hedge the request.
+     * @param hedgeContext
+     *            The context to execute the hedge request with, which must not be shared with the
+     *            request.
+     * @param requestAbortTaskTracker
+     *            The request timeout of the request, which is moved to the hedge request if it
+     *            wins.
+     * @return The request whose response is used, and the response.
+     * @throws IOException
+     *             If neither request succeeded, the failure of the first request.
+     */
+    public HedgedResult execute(HttpClient httpClient, Request<?> request,
+                                HttpRequestBase apacheRequest, HttpContext context,
+                                HttpRequestBase hedgeRequest, HttpContext hedgeContext,
+                                HttpRequestAbortTaskTracker requestAbortTaskTracker,
+                                long delayNanos) throws IOException, InterruptedException {
+        LatencyTracker latencyTracker = getLatencyTracker(request);
+        long startTime = System.nanoTime();
+        if (hedgeRequest == null) {
+            HttpResponse response = httpClient.execute(apacheRequest, context);
+            if (isSuccessful(response)) {
+                latencyTracker.record(System.nanoTime() - startTime);
+            }
+            return new HedgedResult(apacheRequest, response);
+        }
+
+        Race race = new Race(httpClient, apacheRequest, hedgeRequest, hedgeContext,
+                requestAbortTaskTracker, latencyTracker, startTime);
+        race.schedule(delayNanos);
+        HttpResponse response = null;
+        IOException failure = null;
+        boolean done = false;
+        try {
+            response = httpClient.execute(apacheRequest, context);
+            done = true;
+        } catch (IOException e) {
+            failure = e;
+            done = true;
+        } finally {
+            if (!done) {
+                race.cancelHedge();
+            }
+        }
+        return race.awaitResult(response, failure);
+    }
+
+    /**
+     * Stops the timer starting the hedge requests.
+     */
+    public void shutdown() {
+        timer.shutdown();
+    }
+
+    private LatencyTracker getLatencyTracker(Request<?> request) {
+        Class<?> operation = request.getOriginalRequest().getClass();
+        LatencyTracker latencyTracker = latencyTrackers.get(operation);
+        if (latencyTracker == null) {
+            latencyTracker = new LatencyTracker(hedgingPolicy.getLatencyPercentile());
+            LatencyTracker existing = latencyTrackers.putIfAbsent(operation, latencyTracker);
+            if (existing != null) {
+                latencyTracker = existing;
+            }
+        }
+        return latencyTracker;
+    }
+
+    /**
+     * A response counts as a success unless it is a server error, which another attempt may not
+     * get.
+     */
+    private static boolean isSuccessful(HttpResponse response) {
+        return response != null && response.getStatusLine() != null
+                && response.getStatusLine().getStatusCode() < 500;
+    }
+
+    /**
+     * The request whose response is used, and the response.
+     */
+    public static final class HedgedResult {
+
+        private final HttpRequestBase request;
+        private final HttpResponse response;
+
+        HedgedResult(HttpRequestBase request, HttpResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        public HttpRequestBase getRequest() {
+            return request;
+        }
+
+        public HttpResponse getResponse() {
+            return response;
+        }
+    }
+
+    /**
+     * The content of a request and its hedge request, which is written out for one of them at a
+     * time.
+     */
+    private static final class SharedEntity extends HttpEntityWrapper {
+
+        SharedEntity(HttpEntity entity) {
+            super(entity);
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            synchronized (wrappedEntity) {
+                wrappedEntity.writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * A request and its hedge request, of which the first to succeed wins.
+     */
+    private final class Race implements Runnable {
+
+        private final HttpClient httpClient;
+        private final HttpRequestBase firstRequest;
+        private final HttpRequestBase hedgeRequest;
+        private final HttpContext hedgeContext;
+        private final HttpRequestAbortTaskTracker requestAbortTaskTracker;
+        private final LatencyTracker latencyTracker;
+        private final long startTime;
+
+        // Guarded by this
+        private boolean firstDone;
+        private boolean hedgeStarted;
+        private boolean hedgeDone;
+        private HttpRequestBase winner;
+        private HttpResponse hedgeResponse;
+        private HashedWheelTimer.Timeout timeout;
+
+        Race(HttpClient httpClient, HttpRequestBase firstRequest, HttpRequestBase hedgeRequest,
+             HttpContext hedgeContext, HttpRequestAbortTaskTracker requestAbortTaskTracker,
+             LatencyTracker latencyTracker, long startTime) {
+            this.httpClient = httpClient;
+            this.firstRequest = firstRequest;
+            this.hedgeRequest = hedgeRequest;
+            this.hedgeContext = hedgeContext;
+            this.requestAbortTaskTracker = requestAbortTaskTracker;
+            this.latencyTracker = latencyTracker;
+            this.startTime = startTime;
+        }
+
+        void schedule(long delayNanos) {
+            HashedWheelTimer.Timeout scheduled = timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    startHedge();
+                }
+            }, delayNanos, TimeUnit.NANOSECONDS);
+            synchronized (this) {
+                timeout = scheduled;
+            }
+        }
+
+        /**
+         * Runs on the timer thread, which must not block: hands the hedge request over to the
+         * executor, unless the first request is done.
+         */
+        private void startHedge() {
+            synchronized (this) {
+                if (firstDone) {
+                    return;
+                }
+                hedgeStarted = true;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                onHedgeDone(null);
+            }
+        }
+
+        @Override
+        public void run() {
+            HttpResponse response = null;
+            try {
+                response = httpClient.execute(hedgeRequest, hedgeContext);
+            } catch (IOException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Hedge request failed: " + e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                log.debug("Hedge request failed", e);
+            }
+            onHedgeDone(response);
+        }
+
+        private synchronized void onHedgeDone(HttpResponse response) {
+            hedgeDone = true;
+            if (winner == null && isSuccessful(response)) {
+                winner = hedgeRequest;
+                hedgeResponse = response;
+                // The request timeout now applies to the response being read
+                requestAbortTaskTracker.setCurrentHttpRequest(hedgeRequest);
+                if (!firstDone) {
+                    // The first request is at least this slow; recording it
+                    // keeps the hedges from pulling the percentile down.
+                    latencyTracker.record(System.nanoTime() - startTime);
+                    firstRequest.abort();
+                }
+            } else {
+                // Releases the connection of a response which is not used
+                hedgeRequest.abort();
+            }
+            notifyAll();
+        }
+
+        /**
+         * Called by the thread of the first request once it is done. Waits for the hedge request
+         * if the first request failed while the hedge request is in flight.
+         */
+        HedgedResult awaitResult(HttpResponse response, IOException failure)
+                throws IOException, InterruptedException {
+            synchronized (this) {
+                firstDone = true;
+                if (winner == null && isSuccessful(response)) {
+                    winner = firstRequest;
+                    latencyTracker.record(System.nanoTime() - startTime);
+                } else if (winner == null && hedgeStarted && !firstRequest.isAborted()) {
+                    // A request aborted by a timeout is not waited for
+                    try {
+                        while (!hedgeDone) {
+                            wait();
+                        }
+                    } catch (InterruptedException e) {
+                        hedgeRequest.abort();
+                        throw e;
+                    }
+                }
+                if (winner == hedgeRequest) {
+                    firstRequest.abort();
+                    return new HedgedResult(hedgeRequest, hedgeResponse);
+                }
+            }
+            cancelHedge();
+            if (failure != null) {
+                throw failure;
+            }
+            return new HedgedResult(firstRequest, response);
+        }
+
+        void cancelHedge() {
+            HashedWheelTimer.Timeout scheduled;
+            synchronized (this) {
+                firstDone = true;
+                scheduled = timeout;
+            }
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+            hedgeRequest.abort();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.hedging;
+
+import java.util.Arrays;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Keeps the recent latencies of one operation, and a percentile of them.
+ */
+@ThreadSafe
+class LatencyTracker {
+
+    /** Number of latencies the percentile is computed over. */
+    static final int WINDOW_SIZE = 512;
+
+    /** Number of latencies recorded between two computations of the percentile. */
+    static final int UPDATE_INTERVAL = 64;
+
+    private final double percentile;
+
+    // Guarded by this
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private long recorded;
+
+    /** The percentile of the recent latencies in nanoseconds, or -1 until enough were recorded. */
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param percentile
+     *            The percentile to keep, between 0 and 100.
+     */
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * Records the latency of a request.
+     */
+    void record(long latencyNanos) {
+        long[] window = null;
+        synchronized (this) {
+            latencies[(int) (recorded++ % WINDOW_SIZE)] = latencyNanos;
+            if (recorded % UPDATE_INTERVAL == 0) {
+                window = Arrays.copyOf(latencies, (int) Math.min(recorded, WINDOW_SIZE));
+            }
+        }
+        // Sort outside the lock, so that recording latencies never waits
+        if (window != null) {
+            Arrays.sort(window);
+            int index = (int) Math.ceil(percentile / 100 * window.length) - 1;
+            percentileNanos = window[Math.max(index, 0)];
+        }
+    }
+
+    /**
+     * @return The percentile of the recent latencies in nanoseconds, or -1 if not enough latencies
+     *         were recorded yet.
+     */
+    long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A timer for large numbers of short timeouts which are usually canceled before they expire, such
+ * as the request timeout and client execution timeout of every request.
+ * <p>
+ * Timeouts are kept in a wheel of buckets, one bucket per tick, each guarded by its own lock, so
+ * that scheduling and canceling a timeout are constant time and rarely contend, unlike the single
+ * locked heap of a {@link java.util.concurrent.ScheduledThreadPoolExecutor}. The price is
+ * precision: a timeout expires on the first tick after its deadline, so up to one tick late.
+ * <p>
+ * Expired tasks run on the single worker thread of the timer, so they must be short. The worker is
+ * started on demand and stops once no timeouts have been pending for the idle timeout.
+ */
+@ThreadSafe
+@SdkInternalApi
+public class HashedWheelTimer {
+
+    private static final Log log = LogFactory.getLog(HashedWheelTimer.class);
+
+    private static final AtomicInteger timerCount = new AtomicInteger();
+
+    /** Default tick duration, the precision of the timeouts. */
+    private static final long DEFAULT_TICK_DURATION_MILLIS = 10;
+
+    /** Default number of ticks per wheel; a turn of the wheel lasts about 5 seconds. */
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /** Default time the worker thread lives without pending timeouts. */
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 5 * 1000;
+
+    private final String threadName;
+    private final long tickNanos;
+    private final long idleTimeoutNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+
+    private final AtomicInteger pendingTimeouts = new AtomicInteger();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+
+    /** The thread running the worker, or null when it is stopped. */
+    private volatile Thread workerThread;
+
+    private volatile boolean shutdown;
+
+    /**
+     * The last tick processed by the worker. Only accessed by the worker thread, or with the lock
+     * held while no worker runs.
+     */
+    private long tick;
+
+    /**
+     * Creates a timer with the default settings for the request timeout and client execution
+     * timeout features.
+     */
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_DURATION_MILLIS, DEFAULT_TICKS_PER_WHEEL, DEFAULT_IDLE_TIMEOUT_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param tickDuration
+     *            The duration of a tick, which is the precision of the timer.
+     * @param ticksPerWheel
+     *            The number of buckets of the wheel, rounded up to a power of two. Timeouts further
+     *            away than a full turn of the wheel go round it more than once.
+     * @param idleTimeout
+     *            How long the worker thread lives without pending timeouts.
+     */
+    public HashedWheelTimer(long tickDuration, int ticksPerWheel, long idleTimeout, TimeUnit unit) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+        this.threadName = "sdk-timeout-timer-" + timerCount.incrementAndGet();
+    }
+
+    /**
+     * Schedules the task to run once the delay has elapsed.
+     *
+     * @return A handle to cancel the timeout with.
+     * @throws IllegalStateException
+     *             If the timer has been shut down.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (shutdown) {
+            throw new IllegalStateException("The timer has been shut down");
+        }
+        long now = System.nanoTime() - startTime;
+        // Round up, so that a timeout never expires before its deadline. The
+        // worker may already be processing the current tick, so the earliest
+        // tick a timeout can go in is the next one.
+        long deadlineTick = Math.max((now + unit.toNanos(Math.max(0, delay)) + tickNanos - 1) / tickNanos,
+                now / tickNanos + 1);
+        Timeout timeout = new Timeout(task, deadlineTick, wheel[(int) (deadlineTick & mask)]);
+        pendingTimeouts.incrementAndGet();
+        timeout.bucket.add(timeout);
+        // The worker clears workerThread before it checks for pending
+        // timeouts, so either it sees this timeout or this sees it is gone.
+        if (workerThread == null) {
+            startWorker();
+        }
+        return timeout;
+    }
+
+    /**
+     * Stops the worker. Pending timeouts never expire.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        Thread thread = workerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * @return The number of timeouts which are neither expired nor canceled.
+     */
+    public int getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * @return The number of timeouts whose task has been run.
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    /**
+     * @return True if the worker thread is currently running.
+     */
+    public boolean isWorkerRunning() {
+        return workerThread != null;
+    }
+
+    public long getIdleTimeout(TimeUnit unit) {
+        return unit.convert(idleTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void startWorker() {
+        if (workerThread != null || shutdown) {
+            return;
+        }
+        // Visiting the last turn of the wheel is enough to expire anything
+        // scheduled since the previous worker stopped.
+        tick = Math.max(tick, currentTick() - wheel.length);
+        Thread thread = new Thread(new Worker(), threadName);
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        workerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Lets the current worker thread take over again after it stopped, if no other worker was
+     * started meanwhile.
+     */
+    private synchronized boolean resumeWorker() {
+        if (workerThread != null || shutdown) {
+            return false;
+        }
+        workerThread = Thread.currentThread();
+        return true;
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - startTime) / tickNanos;
+    }
+
+    private final class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            long idleSince = System.nanoTime();
+            while (!shutdown) {
+                if (!waitForNextTick()) {
+                    break;
+                }
+                wheel[(int) (tick & mask)].expireTimeouts(tick);
+
+                if (pendingTimeouts.get() > 0) {
+                    idleSince = System.nanoTime();
+                } else if (System.nanoTime() - idleSince >= idleTimeoutNanos) {
+                    workerThread = null;
+                    if (pendingTimeouts.get() == 0 || !resumeWorker()) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sleeps until the start of the next tick, and advances to it.
+         *
+         * @return False if the worker was interrupted by a shut down.
+         */
+        private boolean waitForNextTick() {
+            long deadline = (tick + 1) * tickNanos;
+            for (;;) {
+                long sleepNanos = deadline - (System.nanoTime() - startTime);
+                if (sleepNanos <= 0) {
+                    tick++;
+                    return true;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (shutdown) {
+                        return false;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The timeouts whose deadline tick maps to one slot of the wheel.
+     */
+    private final class Bucket {
+
+        // Guarded by this
+        private Timeout head;
+
+        synchronized void add(Timeout timeout) {
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        /**
+         * Unlinks the timeout and changes its state, unless it is no longer pending.
+         */
+        synchronized boolean remove(Timeout timeout, int newState) {
+            if (timeout.state != Timeout.PENDING) {
+                return false;
+            }
+            timeout.state = newState;
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = timeout.next = null;
+            return true;
+        }
+
+        void expireTimeouts(long tick) {
+            Timeout expired = null;
+            synchronized (this) {
+                Timeout timeout = head;
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    // Later turns of the wheel stay for now
+                    if (timeout.deadlineTick <= tick) {
+                        remove(timeout, Timeout.EXPIRED);
+                        timeout.next = expired;
+                        expired = timeout;
+                    }
+                    timeout = next;
+                }
+            }
+            // Run the tasks without the lock, so that they don't hold up the
+            // requests scheduling and canceling timeouts
+            while (expired != null) {
+                Timeout next = expired.next;
+                expired.next = null;
+                expired.run();
+                expired = next;
+            }
+        }
+    }
+
+    /**
+     * A scheduled task, which can be canceled until it expires.
+     */
+    public final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineTick;
+        private final Bucket bucket;
+
+        // Guarded by the bucket
+        private volatile int state = PENDING;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineTick, Bucket bucket) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+            this.bucket = bucket;
+        }
+
+        /**
+         * Cancels the timeout, unless it already expired. Does not wait for the task if it is
+         * running.
+         *
+         * @return True if the timeout was canceled by this call.
+         */
+        public boolean cancel() {
+            if (state != PENDING || !bucket.remove(this, CANCELED)) {
+                return false;
+            }
+            pendingTimeouts.decrementAndGet();
+            return true;
+        }
+
+        public boolean isCanceled() {
+            return state == CANCELED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void run() {
+            pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("Timeout task threw an exception", t);
+            }
+            completedTaskCount.incrementAndGet();
+        }
+    }
+}
@@ -14,6 +14,8 @@
  */
 package com.amazonaws.http.timers.request;
 
+import org.apache.http.client.methods.HttpRequestBase;
+
 import com.amazonaws.annotation.SdkInternalApi;
 
 /**
@@ -22,6 +24,14 @@ import com.amazonaws.annotation.SdkInternalApi;
 @SdkInternalApi
 public interface HttpRequestAbortTask extends Runnable {
 
+    /**
+     * HTTP request timer task needs to abort the HTTP request whose response is being read, which
+     * is a hedge request once it has won over the original request.
+     *
+     * @param newRequest
+     */
+    public void setCurrentHttpRequest(HttpRequestBase newRequest);
+
     public boolean httpRequestAborted();
 
     public boolean isEnabled();
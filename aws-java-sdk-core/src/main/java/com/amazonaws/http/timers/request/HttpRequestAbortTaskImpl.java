@@ -25,7 +25,7 @@ import com.amazonaws.annotation.SdkInternalApi;
 @SdkInternalApi
 public class HttpRequestAbortTaskImpl implements HttpRequestAbortTask {
 
-    private final HttpRequestBase httpRequest;
+    private volatile HttpRequestBase httpRequest;
     private volatile boolean httpRequestAborted;
 
     public HttpRequestAbortTaskImpl(final HttpRequestBase httpRequest) {
@@ -34,12 +34,18 @@ public class HttpRequestAbortTaskImpl implements HttpRequestAbortTask {
 
     @Override
     public void run() {
-        if (!httpRequest.isAborted()) {
+        HttpRequestBase request = httpRequest;
+        if (!request.isAborted()) {
             httpRequestAborted = true;
-            httpRequest.abort();
+            request.abort();
         }
     }
 
+    @Override
+    public void setCurrentHttpRequest(HttpRequestBase newRequest) {
+        this.httpRequest = newRequest;
+    }
+
     public boolean httpRequestAborted() {
         return httpRequestAborted;
     }
@@ -14,6 +14,8 @@
  */
 package com.amazonaws.http.timers.request;
 
+import org.apache.http.client.methods.HttpRequestBase;
+
 import com.amazonaws.annotation.SdkInternalApi;
 
 /**
@@ -22,6 +24,14 @@ import com.amazonaws.annotation.SdkInternalApi;
 @SdkInternalApi
 public interface HttpRequestAbortTaskTracker {
 
+    /**
+     * Sets the HTTP request the scheduled task aborts in place of the one the timer was started
+     * for.
+     *
+     * @param newRequest
+     */
+    void setCurrentHttpRequest(HttpRequestBase newRequest);
+
     /**
      * @return True if the HTTP request the scheduled task is tracking has been aborted by the task.
      *         False otherwise
@@ -14,24 +14,29 @@
  */
 package com.amazonaws.http.timers.request;
 
-import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledFuture;
+import org.apache.http.client.methods.HttpRequestBase;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.http.timers.HashedWheelTimer;
 import com.amazonaws.util.ValidationUtils;
 
 /**
- * Keeps track of the scheduled {@link HttpRequestAbortTask} and the associated {@link Future}
+ * Keeps track of the scheduled {@link HttpRequestAbortTask} and the associated {@link HashedWheelTimer.Timeout}
  */
 @SdkInternalApi
 public class HttpRequestAbortTaskTrackerImpl implements HttpRequestAbortTaskTracker {
 
     private final HttpRequestAbortTask task;
-    private final ScheduledFuture<?> future;
+    private final HashedWheelTimer.Timeout timeout;
 
-    public HttpRequestAbortTaskTrackerImpl(final HttpRequestAbortTask task, final ScheduledFuture<?> future) {
+    public HttpRequestAbortTaskTrackerImpl(final HttpRequestAbortTask task, final HashedWheelTimer.Timeout timeout) {
         this.task = ValidationUtils.assertNotNull(task, "task");
-        this.future = ValidationUtils.assertNotNull(future, "future");
+        this.timeout = ValidationUtils.assertNotNull(timeout, "timeout");
+    }
+
+    @Override
+    public void setCurrentHttpRequest(HttpRequestBase newRequest) {
+        task.setCurrentHttpRequest(newRequest);
     }
 
     @Override
@@ -46,7 +51,7 @@ public class HttpRequestAbortTaskTrackerImpl implements HttpRequestAbortTaskTrac
 
     @Override
     public void cancelTask() {
-        future.cancel(false);
+        timeout.cancel();
     }
 
 }
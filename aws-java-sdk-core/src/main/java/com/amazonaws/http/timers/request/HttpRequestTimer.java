@@ -14,8 +14,6 @@
  */
 package com.amazonaws.http.timers.request;
 
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.http.client.methods.HttpRequestBase;
@@ -23,7 +21,7 @@ import org.apache.http.client.methods.HttpRequestBase;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
-import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
+import com.amazonaws.http.timers.HashedWheelTimer;
 
 /**
  * Represents a timer class to enforce HTTP request timeouts.
@@ -32,7 +30,7 @@ import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 @SdkInternalApi
 public class HttpRequestTimer {
 
-    private volatile ScheduledThreadPoolExecutor executor;
+    private volatile HashedWheelTimer timer;
 
     /**
      * Start the timer with the specified timeout and return a object that can be used to track the
@@ -49,12 +47,12 @@ public class HttpRequestTimer {
     public HttpRequestAbortTaskTracker startTimer(final HttpRequestBase apacheRequest, final int requestTimeoutMillis) {
         if (isTimeoutDisabled(requestTimeoutMillis)) {
             return NoOpHttpRequestAbortTaskTracker.INSTANCE;
-        } else if (executor == null) {
-            initializeExecutor();
+        } else if (timer == null) {
+            initializeTimer();
         }
         HttpRequestAbortTaskImpl timerTask = new HttpRequestAbortTaskImpl(apacheRequest);
-        ScheduledFuture<?> timerTaskFuture = executor.schedule(timerTask, requestTimeoutMillis, TimeUnit.MILLISECONDS);
-        return new HttpRequestAbortTaskTrackerImpl(timerTask, timerTaskFuture);
+        HashedWheelTimer.Timeout timeout = timer.schedule(timerTask, requestTimeoutMillis, TimeUnit.MILLISECONDS);
+        return new HttpRequestAbortTaskTrackerImpl(timerTask, timeout);
     }
 
     private boolean isTimeoutDisabled(final int requestTimeoutMillis) {
@@ -62,32 +60,32 @@ public class HttpRequestTimer {
     }
 
     /**
-     * Executor is lazily initialized as it's not compatible with Java 6
+     * Timer is lazily initialized so that no thread is started unless the timeout is enabled
      */
-    private synchronized void initializeExecutor() {
-        if (executor == null) {
-            executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
+    private synchronized void initializeTimer() {
+        if (timer == null) {
+            timer = new HashedWheelTimer();
         }
     }
 
     /**
-     * Shutdown the underlying {@link ScheduledThreadPoolExecutor}. Should be invoked when
+     * Shutdown the underlying {@link HashedWheelTimer}. Should be invoked when
      * {@link AmazonHttpClient} is shutdown
      */
     public synchronized void shutdown() {
-        if (executor != null) {
-            executor.shutdown();
+        if (timer != null) {
+            timer.shutdown();
         }
     }
 
     /**
      * This method is current exposed for testing purposes
      * 
-     * @return The underlying {@link ScheduledThreadPoolExecutor}
+     * @return The underlying {@link HashedWheelTimer}
      */
     @SdkTestInternalApi
-    public ScheduledThreadPoolExecutor getExecutor() {
-        return executor;
+    public HashedWheelTimer getTimer() {
+        return timer;
     }
 
 }
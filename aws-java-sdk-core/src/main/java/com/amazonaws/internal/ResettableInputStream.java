@@ -20,6 +20,7 @@ package com.amazonaws.internal;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.FileChannel;
 
 import org.apache.commons.logging.Log;
@@ -171,11 +172,39 @@ public class ResettableInputStream extends ReleasableInputStream {
     @Override
     public void reset() throws IOException {
         abortIfNeeded();
-        fileChannel.position(markPos);
+        try {
+            fileChannel.position(markPos);
+        } catch (ClosedByInterruptException e) {
+            reopen(markPos, e);
+        }
         if (log.isTraceEnabled())
             log.trace("Reset to position " + markPos);
     }
 
+    /**
+     * Reopens the file at the given position after an interrupt closed its
+     * channel, so that the stream can still be reset and re-read, such as on
+     * a retry. The thread is left interrupted.
+     */
+    private void reopen(long pos, ClosedByInterruptException e)
+            throws IOException {
+        if (file == null)
+            throw e;
+        // The interrupt would close the new channel too
+        boolean interrupted = Thread.interrupted();
+        try {
+            FileInputStream reopened = new FileInputStream(file);
+            reopened.getChannel().position(pos);
+            in = fis = reopened;
+            fileChannel = reopened.getChannel();
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+        if (log.isDebugEnabled())
+            log.debug("Reopened interrupted file input stream at position " + pos);
+    }
+
     @Override
     public int available() throws IOException {
         abortIfNeeded();
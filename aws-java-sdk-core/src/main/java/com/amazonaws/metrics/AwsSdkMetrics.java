@@ -24,15 +24,22 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.auth.PropertiesCredentials;
+import com.amazonaws.auth.internal.SigningKeyCache;
+import com.amazonaws.event.SDKProgressPublisher;
 import com.amazonaws.jmx.spi.SdkMBeanRegistry;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.util.AWSRequestMetrics;
@@ -245,6 +252,15 @@ public enum AwsSdkMetrics {
      */
     private static volatile boolean httpSocketReadMetricEnabled;
 
+    /**
+     * True if the latencies of requests are recorded in a histogram per
+     * operation; false otherwise. Disabled by default.
+     */
+    private static volatile boolean latencyHistogramsEnabled;
+    /** The latency histograms of the operations, by request class. */
+    private static final ConcurrentMap<Class<?>, LatencyHistogram> latencyHistograms =
+        new ConcurrentHashMap<Class<?>, LatencyHistogram>();
+
     private static volatile Regions region;
     private static volatile Integer metricQueueSize;
     private static volatile Long queuePollTimeoutMilli;
@@ -854,6 +870,110 @@ public enum AwsSdkMetrics {
         AwsSdkMetrics.hostMetricName = hostMetricName;
     }
 
+    /**
+     * Returns the number of times an AWS4 signing key was found in the shared
+     * signing key cache since the class was loaded.
+     */
+    public static long getSigningKeyCacheHitCount() {
+        return SigningKeyCache.getInstance().getHitCount();
+    }
+
+    /**
+     * Returns the number of times an AWS4 signing key had to be derived
+     * because it was not found in the shared signing key cache since the class
+     * was loaded.
+     */
+    public static long getSigningKeyCacheMissCount() {
+        return SigningKeyCache.getInstance().getMissCount();
+    }
+
+    /**
+     * Returns the number of progress events and callbacks waiting to be
+     * delivered to the asynchronous progress listeners.
+     */
+    public static int getProgressEventQueueSize() {
+        return SDKProgressPublisher.getQueuedEventCount();
+    }
+
+    /**
+     * Returns how long, in milliseconds, the oldest progress event waiting to
+     * be delivered to an asynchronous progress listener has been waiting, or 0
+     * if none is waiting.
+     */
+    public static long getProgressEventDeliveryLagMillis() {
+        return SDKProgressPublisher.getDeliveryLag(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Used to set whether the latencies of requests are recorded in a
+     * histogram per operation. Unlike the request metrics, recording the
+     * latencies does not require a metric collector, and costs only a few
+     * atomic operations per request.
+     *
+     * @see #getLatencyHistograms()
+     */
+    public static void setLatencyHistogramsEnabled(boolean latencyHistogramsEnabled) {
+        AwsSdkMetrics.latencyHistogramsEnabled = latencyHistogramsEnabled;
+    }
+
+    /**
+     * Returns true if the latencies of requests are recorded in a histogram
+     * per operation; false otherwise.
+     */
+    public static boolean isLatencyHistogramsEnabled() {
+        return latencyHistogramsEnabled;
+    }
+
+    /**
+     * Returns the latency histograms of the operations called since the
+     * latency histograms were enabled, such that a request metric collector
+     * can report their percentiles.
+     */
+    public static Collection<LatencyHistogram> getLatencyHistograms() {
+        return Collections.unmodifiableCollection(latencyHistograms.values());
+    }
+
+    /**
+     * Clears the latencies recorded in all the latency histograms.
+     */
+    public static void resetLatencyHistograms() {
+        for (LatencyHistogram histogram : latencyHistograms.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Records the latency of a request in the histogram of its operation, if
+     * latency histograms are enabled.
+     */
+    @SdkInternalApi
+    public static void recordLatency(String serviceName,
+            AmazonWebServiceRequest request, long latencyNanos) {
+        if (!latencyHistogramsEnabled) {
+            return;
+        }
+        Class<?> requestClass = request.getClass();
+        LatencyHistogram histogram = latencyHistograms.get(requestClass);
+        if (histogram == null) {
+            histogram = new LatencyHistogram(serviceName + "." + operationNameOf(requestClass));
+            LatencyHistogram existing = latencyHistograms.putIfAbsent(requestClass, histogram);
+            if (existing != null) {
+                histogram = existing;
+            }
+        }
+        histogram.record(latencyNanos);
+    }
+
+    private static String operationNameOf(Class<?> requestClass) {
+        String name = requestClass.getSimpleName();
+        if (name.length() == 0) {
+            name = requestClass.getName();
+        }
+        return name.endsWith("Request") && name.length() > "Request".length()
+             ? name.substring(0, name.length() - "Request".length())
+             : name;
+    }
+
     /**
      * Used as a registry for the predefined metrics to be captured by the
      * metric collector at the AWS SDK level.
@@ -873,6 +993,8 @@ public enum AwsSdkMetrics {
 //            metricTypes.add(Field.ResponseProcessingTime);
             metricTypes.add(Field.RetryCount);
             metricTypes.add(Field.RetryCapacityConsumed);
+            metricTypes.add(Field.RateLimiterSendRate);
+            metricTypes.add(Field.RateLimiterDelayTime);
             metricTypes.add(Field.HttpClientSendRequestTime);
             metricTypes.add(Field.HttpClientReceiveResponseTime);
             metricTypes.add(Field.HttpSocketReadTime);
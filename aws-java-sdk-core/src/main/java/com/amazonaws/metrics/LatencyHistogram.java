@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A histogram of request latencies, recorded without locking and with a
+ * fixed footprint, from which percentiles can be read at any time.
+ * <p>
+ * Latencies are counted in microseconds, in buckets whose width is at most
+ * 1/16 of their lower bound, so a percentile read from the histogram is
+ * within about 6% of the exact value. Latencies longer than about 12 days are
+ * counted in the last bucket.
+ */
+@ThreadSafe
+public class LatencyHistogram {
+    /** Number of buckets per power of two. */
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Latencies in microseconds are counted up to 2^MAX_EXPONENT. */
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the histogram, such as the service and operation
+     * whose latencies it records.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param latencyNanos
+     *            the latency in nanoseconds; negative values are ignored
+     */
+    public void record(long latencyNanos) {
+        if (latencyNanos >= 0) {
+            counts.incrementAndGet(indexOf(TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        }
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the given percentile of the recorded latencies in milliseconds,
+     * as the upper bound of the bucket it falls in; or -1 if no latency has
+     * been recorded.
+     *
+     * @param percentile
+     *            the percentile, between 0 and 100, such as 99.9
+     */
+    public double getPercentileMillis(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        int i = 0;
+        for (; i < BUCKETS - 1; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                break;
+            }
+        }
+        return upperBoundOf(i) / 1000.0;
+    }
+
+    /**
+     * Clears the recorded latencies. Latencies recorded concurrently may or
+     * may not be cleared.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + ": count=" + getCount()
+            + ", p50=" + getPercentileMillis(50)
+            + ", p90=" + getPercentileMillis(90)
+            + ", p99=" + getPercentileMillis(99)
+            + ", p99.9=" + getPercentileMillis(99.9)
+            + " (ms)";
+    }
+
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Returns the largest latency in microseconds counted in the given bucket.
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
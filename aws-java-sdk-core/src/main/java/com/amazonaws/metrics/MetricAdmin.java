@@ -16,6 +16,9 @@ package com.amazonaws.metrics;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import com.amazonaws.regions.Regions;
 
@@ -144,4 +147,41 @@ public class MetricAdmin implements MetricAdminMBean {
     public void setSingleMetricNamespace(boolean singleMetricNamespace) {
         AwsSdkMetrics.setSingleMetricNamespace(singleMetricNamespace);
     }
+    @Override
+    public long getSigningKeyCacheHitCount() {
+        return AwsSdkMetrics.getSigningKeyCacheHitCount();
+    }
+    @Override
+    public long getSigningKeyCacheMissCount() {
+        return AwsSdkMetrics.getSigningKeyCacheMissCount();
+    }
+    @Override
+    public int getProgressEventQueueSize() {
+        return AwsSdkMetrics.getProgressEventQueueSize();
+    }
+    @Override
+    public long getProgressEventDeliveryLagMillis() {
+        return AwsSdkMetrics.getProgressEventDeliveryLagMillis();
+    }
+    @Override
+    public boolean isLatencyHistogramsEnabled() {
+        return AwsSdkMetrics.isLatencyHistogramsEnabled();
+    }
+    @Override
+    public void setLatencyHistogramsEnabled(boolean latencyHistogramsEnabled) {
+        AwsSdkMetrics.setLatencyHistogramsEnabled(latencyHistogramsEnabled);
+    }
+    @Override
+    public String[] getLatencyPercentiles() {
+        List<String> list = new ArrayList<String>();
+        for (LatencyHistogram histogram : AwsSdkMetrics.getLatencyHistograms()) {
+            list.add(histogram.toString());
+        }
+        Collections.sort(list);
+        return list.toArray(new String[list.size()]);
+    }
+    @Override
+    public void resetLatencyHistograms() {
+        AwsSdkMetrics.resetLatencyHistograms();
+    }
 }
\ No newline at end of file
@@ -184,4 +184,52 @@ public interface MetricAdminMBean {
      * Used to set whether a single metric name space is to be used.
      */
     public void setSingleMetricNamespace(boolean singleMetricNamespace);
+
+    /**
+     * Returns the number of times an AWS4 signing key was found in the signing
+     * key cache.
+     */
+    public long getSigningKeyCacheHitCount();
+
+    /**
+     * Returns the number of times an AWS4 signing key had to be derived
+     * because it was not found in the signing key cache.
+     */
+    public long getSigningKeyCacheMissCount();
+
+    /**
+     * Returns the number of progress events and callbacks waiting to be
+     * delivered to the asynchronous progress listeners.
+     */
+    public int getProgressEventQueueSize();
+
+    /**
+     * Returns how long, in milliseconds, the oldest progress event waiting to
+     * be delivered has been waiting, or 0 if none is waiting.
+     */
+    public long getProgressEventDeliveryLagMillis();
+
+    /**
+     * Returns true if the latencies of requests are recorded in a histogram
+     * per operation; false otherwise.
+     */
+    public boolean isLatencyHistogramsEnabled();
+
+    /**
+     * Used to set whether the latencies of requests are recorded in a
+     * histogram per operation.
+     */
+    public void setLatencyHistogramsEnabled(boolean latencyHistogramsEnabled);
+
+    /**
+     * Returns the number of requests and the p50, p90, p99 and p99.9
+     * latencies in milliseconds of each operation called since the latency
+     * histograms were enabled or reset.
+     */
+    public String[] getLatencyPercentiles();
+
+    /**
+     * Clears the latencies recorded in the latency histograms.
+     */
+    public void resetLatencyHistograms();
 }
\ No newline at end of file
@@ -66,6 +66,10 @@
  * <li>RetryCount - Number of retries per logical request. Captured on a per service 
  * client type level. </li>
  * <li>ThrottleException - Number of times of a request has been throttled by the service.</li>
+ * <li>RateLimiterSendRate - Number of requests per second recently sent by the clients sharing the
+ * rate limiter of the client, if the client has one. Captured on a per service client type level.</li>
+ * <li>RateLimiterDelayTime - Number of milliseconds a request waited for the rate limiter of the
+ * client before being sent, if the client has one. Captured on a per request type level.</li>
  * <li>DynamoDBConsumedCapacity - Number of Amazon DynamoDB capacity units consumed.
  * Captured on a per request type level, and is only available if the request
  * has been specified with the necessary "ReturnConsumedCapacity" parameter.
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A client side rate limiter which adapts the rate of requests sent to the rate the service
+ * accepts without throttling them.
+ * <p>
+ * The limiter is a token bucket whose fill rate follows an additive increase, multiplicative
+ * decrease scheme. It lets every request through until the service first throttles one, for
+ * instance with a {@code ThrottlingException} or a {@code ProvisionedThroughputExceededException}.
+ * From then on, each throttled request cuts the send rate by a constant factor, and each
+ * successful request raises it a little, so that the calls are paced before the service has to
+ * reject them, rather than being retried all at once.
+ * <p>
+ * The same limiter can be set on the {@link com.amazonaws.ClientConfiguration} of several clients,
+ * which then share a single budget; for instance all the clients of a process calling the same
+ * DynamoDB table. The current send rate and the time requests spend waiting for the limiter are
+ * captured by the {@link com.amazonaws.metrics.AwsSdkMetrics AWS SDK metrics}.
+ */
+@ThreadSafe
+public class AdaptiveRateLimiter {
+
+    /** Default lowest send rate, in requests per second. */
+    public static final double DEFAULT_MIN_SEND_RATE = 0.5;
+
+    /** Default send rate gained every second without throttling, in requests per second. */
+    public static final double DEFAULT_ADDITIVE_INCREASE = 5;
+
+    /** Default factor the send rate is multiplied by when a request is throttled. */
+    public static final double DEFAULT_DECREASE_FACTOR = 0.7;
+
+    /** Length of the intervals over which the send rate is measured. */
+    private static final long MEASUREMENT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /** Weight of the last interval in the smoothed send rate. */
+    private static final double MEASUREMENT_SMOOTHING = 0.2;
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double minSendRate;
+    private final double additiveIncrease;
+    private final double decreaseFactor;
+
+    private final AtomicLong throttledRequests = new AtomicLong();
+    private final AtomicLong delayNanos = new AtomicLong();
+
+    // Guarded by this
+
+    /** False until the first throttled request; requests are not limited before. */
+    private boolean enabled;
+    /** The number of tokens added to the bucket every second. */
+    private double fillRate;
+    /** The tokens in the bucket, negative when callers are waiting for tokens. */
+    private double tokens;
+    private long lastRefillTime;
+    /** Throttled requests sent before this time do not decrease the fill rate again. */
+    private long lastDecreaseTime;
+
+    private double measuredSendRate;
+    private long measurementStart = System.nanoTime();
+    private int measuredRequests;
+
+    /**
+     * Creates a rate limiter with the default settings.
+     */
+    public AdaptiveRateLimiter() {
+        this(DEFAULT_MIN_SEND_RATE, DEFAULT_ADDITIVE_INCREASE, DEFAULT_DECREASE_FACTOR);
+    }
+
+    /**
+     * @param minSendRate
+     *            The rate the limiter never goes under, in requests per second.
+     * @param additiveIncrease
+     *            The send rate gained every second without throttling, in requests per second.
+     * @param decreaseFactor
+     *            The factor, between 0 and 1, the send rate is multiplied by when a request is
+     *            throttled.
+     */
+    public AdaptiveRateLimiter(double minSendRate, double additiveIncrease, double decreaseFactor) {
+        if (!(minSendRate > 0)) {
+            throw new IllegalArgumentException("minSendRate must be positive: " + minSendRate);
+        }
+        if (!(additiveIncrease > 0)) {
+            throw new IllegalArgumentException("additiveIncrease must be positive: " + additiveIncrease);
+        }
+        if (!(decreaseFactor > 0 && decreaseFactor < 1)) {
+            throw new IllegalArgumentException("decreaseFactor must be between 0 and 1: " + decreaseFactor);
+        }
+        this.minSendRate = minSendRate;
+        this.additiveIncrease = additiveIncrease;
+        this.decreaseFactor = decreaseFactor;
+    }
+
+    /**
+     * Waits until a request may be sent at the current send rate.
+     *
+     * @return The time waited, in nanoseconds.
+     * @throws InterruptedException
+     *             If the thread was interrupted while waiting.
+     */
+    public long acquire() throws InterruptedException {
+        final long delay;
+        synchronized (this) {
+            long now = System.nanoTime();
+            updateMeasuredSendRate(now);
+            measuredRequests++;
+            if (!enabled) {
+                return 0;
+            }
+            refill(now);
+            // Take the token now, even if it is not there yet, so that the
+            // waiting callers are served in order.
+            tokens -= 1;
+            delay = tokens >= 0 ? 0 : (long) (-tokens / fillRate * NANOS_PER_SECOND);
+        }
+        if (delay > 0) {
+            delayNanos.addAndGet(delay);
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+        return delay;
+    }
+
+    /**
+     * Records a request which was not throttled, raising the send rate.
+     */
+    public synchronized void onSuccess() {
+        if (!enabled) {
+            return;
+        }
+        // Each response adds a fraction of the increase, so that the rate
+        // gains about the full increase every second.
+        fillRate += additiveIncrease / Math.max(fillRate, 1);
+        // Keep the rate within reach of the actual traffic, so that a quiet
+        // period does not let the next burst through unpaced.
+        fillRate = Math.min(fillRate, Math.max(2 * sendRate(System.nanoTime()), minSendRate));
+    }
+
+    /**
+     * Records a request which was throttled by the service, cutting the send rate.
+     *
+     * @param sendTime
+     *            The {@link System#nanoTime()} at which the throttled request was sent. The rate is
+     *            cut only once for all the requests sent before the previous cut, as they
+     *            were throttled by the same congestion.
+     */
+    public synchronized void onThrottle(long sendTime) {
+        throttledRequests.incrementAndGet();
+        long now = System.nanoTime();
+        if (enabled && sendTime - lastDecreaseTime < 0) {
+            return;
+        }
+        if (!enabled) {
+            enabled = true;
+            fillRate = sendRate(now);
+            tokens = 0;
+            lastRefillTime = now;
+        }
+        refill(now);
+        fillRate = Math.max(fillRate * decreaseFactor, minSendRate);
+        lastDecreaseTime = now;
+    }
+
+    /**
+     * @return The rate at which requests are currently allowed, in requests per second, or
+     *         {@link Double#POSITIVE_INFINITY} if no request has been throttled yet.
+     */
+    public synchronized double getAllowedSendRate() {
+        return enabled ? fillRate : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @return The rate at which requests have recently been sent, in requests per second.
+     */
+    public synchronized double getMeasuredSendRate() {
+        long now = System.nanoTime();
+        updateMeasuredSendRate(now);
+        return sendRate(now);
+    }
+
+    /**
+     * @return The number of requests reported as throttled.
+     */
+    public long getThrottledRequestCount() {
+        return throttledRequests.get();
+    }
+
+    /**
+     * @return The total time requests waited for the limiter.
+     */
+    public long getTotalDelay(TimeUnit unit) {
+        return unit.convert(delayNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    private void refill(long now) {
+        // Allow no burst: a caller finding the bucket full goes at once, the
+        // next one waits for the following token.
+        tokens = Math.min(tokens + (now - lastRefillTime) / NANOS_PER_SECOND * fillRate, 1);
+        lastRefillTime = now;
+    }
+
+    private void updateMeasuredSendRate(long now) {
+        long elapsed = now - measurementStart;
+        if (elapsed >= MEASUREMENT_INTERVAL_NANOS) {
+            double lastRate = measuredRequests / (elapsed / NANOS_PER_SECOND);
+            measuredSendRate = measuredSendRate == 0 ? lastRate
+                    : MEASUREMENT_SMOOTHING * lastRate + (1 - MEASUREMENT_SMOOTHING) * measuredSendRate;
+            measurementStart = now;
+            measuredRequests = 0;
+        }
+    }
+
+    /**
+     * Returns the smoothed send rate, or an estimate from the current interval until the first one
+     * is complete.
+     */
+    private double sendRate(long now) {
+        if (measuredSendRate > 0) {
+            return measuredSendRate;
+        }
+        double elapsed = Math.max(now - measurementStart, MEASUREMENT_INTERVAL_NANOS);
+        return Math.max(measuredRequests / (elapsed / NANOS_PER_SECOND), minSendRate);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.http.annotation.Immutable;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpMethodName;
+
+/**
+ * Policy for hedging requests: when a request has not been answered after most requests of the
+ * same operation would have been, the client sends a duplicate of it and takes whichever response
+ * comes first, aborting the other request. This trades a few percent more requests for a shorter
+ * tail latency.
+ * <p>
+ * The delay before the duplicate is sent is the configured percentile of the latencies recently
+ * observed for the operation, so that only the slowest requests are hedged. Until enough latencies
+ * have been observed, requests are not hedged.
+ * <p>
+ * Only requests which can safely be sent twice must be hedged, as chosen by the
+ * {@link HedgingCondition} of the policy.
+ *
+ * @see ClientConfiguration#setHedgingPolicy(HedgingPolicy)
+ */
+@Immutable
+public final class HedgingPolicy {
+
+    /**
+     * Hedges the requests sent with a GET or HEAD method, which are idempotent reads; for instance
+     * Amazon S3 GetObject requests.
+     */
+    public static final HedgingCondition IDEMPOTENT_HTTP_METHODS = new HedgingCondition() {
+        @Override
+        public boolean shouldHedge(AmazonWebServiceRequest originalRequest, Request<?> request) {
+            return request.getHttpMethod() == HttpMethodName.GET
+                    || request.getHttpMethod() == HttpMethodName.HEAD;
+        }
+    };
+
+    /** Default percentile of the latencies of an operation after which a request is hedged. */
+    public static final double DEFAULT_LATENCY_PERCENTILE = 95;
+
+    /** Default shortest delay before a request is hedged, in milliseconds. */
+    public static final long DEFAULT_MIN_DELAY_MILLIS = 5;
+
+    private final HedgingCondition hedgingCondition;
+    private final double latencyPercentile;
+    private final long minDelayMillis;
+
+    /**
+     * Constructs a new hedging policy with the default percentile and minimum delay.
+     *
+     * @param hedgingCondition
+     *            Condition on whether a request may be hedged.
+     */
+    public HedgingPolicy(HedgingCondition hedgingCondition) {
+        this(hedgingCondition, DEFAULT_LATENCY_PERCENTILE, DEFAULT_MIN_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a new hedging policy.
+     *
+     * @param hedgingCondition
+     *            Condition on whether a request may be hedged.
+     * @param latencyPercentile
+     *            Percentile, between 0 and 100, of the latencies of an operation after which a
+     *            request of this operation is hedged.
+     * @param minDelayMillis
+     *            Shortest delay before a request is hedged, in milliseconds.
+     */
+    public HedgingPolicy(HedgingCondition hedgingCondition, double latencyPercentile, long minDelayMillis) {
+        if (hedgingCondition == null) {
+            throw new IllegalArgumentException("Please provide a hedging condition.");
+        }
+        if (!(latencyPercentile > 0 && latencyPercentile < 100)) {
+            throw new IllegalArgumentException("Please provide a latency percentile between 0 and 100.");
+        }
+        if (minDelayMillis < 0) {
+            throw new IllegalArgumentException("Please provide a non-negative value for minDelayMillis.");
+        }
+        this.hedgingCondition = hedgingCondition;
+        this.latencyPercentile = latencyPercentile;
+        this.minDelayMillis = minDelayMillis;
+    }
+
+    /**
+     * Returns a hedging condition accepting the requests of the given types; for instance Amazon
+     * DynamoDB GetItemRequest, which is an idempotent read although it is sent with a POST method.
+     */
+    public static HedgingCondition forRequestTypes(
+            final Class<? extends AmazonWebServiceRequest>... requestTypes) {
+        final Set<Class<?>> types = new HashSet<Class<?>>(Arrays.asList(requestTypes));
+        return new HedgingCondition() {
+            @Override
+            public boolean shouldHedge(AmazonWebServiceRequest originalRequest, Request<?> request) {
+                return originalRequest != null && types.contains(originalRequest.getClass());
+            }
+        };
+    }
+
+    /**
+     * Returns the condition on whether a request may be hedged.
+     */
+    public HedgingCondition getHedgingCondition() {
+        return hedgingCondition;
+    }
+
+    /**
+     * Returns the percentile of the latencies of an operation after which a request is hedged.
+     */
+    public double getLatencyPercentile() {
+        return latencyPercentile;
+    }
+
+    /**
+     * Returns the shortest delay before a request is hedged, in milliseconds.
+     */
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    /**
+     * The hook for choosing which requests may be hedged.
+     */
+    public static interface HedgingCondition {
+
+        /**
+         * Returns whether a request may be sent a second time while the first one is still in
+         * flight. This must only be true for requests without side effects, or whose side effects
+         * are the same when applied twice.
+         *
+         * @param originalRequest
+         *            The original request object being executed. For performance reason, this
+         *            object is not a defensive copy, and caller should not attempt to modify its
+         *            data.
+         * @param request
+         *            The marshalled request about to be sent.
+         *
+         * @return True if the request may be hedged.
+         */
+        public boolean shouldHedge(AmazonWebServiceRequest originalRequest, Request<?> request);
+    }
+}
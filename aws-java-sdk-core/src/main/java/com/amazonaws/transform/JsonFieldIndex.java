@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.amazonaws.annotation.Immutable;
+import com.amazonaws.annotation.SdkProtectedApi;
+
+/**
+ * The positions of the members of a shape, by JSON field name. Generated
+ * unmarshallers switch on the position of the current field, which costs one
+ * hash lookup per field instead of a comparison with every member of the
+ * shape.
+ */
+@Immutable
+@SdkProtectedApi
+public final class JsonFieldIndex {
+
+    private final Map<String, Integer> positions;
+
+    /**
+     * @param fieldNames
+     *            The field names of the members, in the order of their
+     *            positions.
+     */
+    public JsonFieldIndex(String... fieldNames) {
+        positions = new HashMap<String, Integer>(fieldNames.length * 2);
+        for (int i = 0; i < fieldNames.length; i++) {
+            positions.put(fieldNames[i], i);
+        }
+    }
+
+    /**
+     * Returns the position of the field at the current position in the JSON
+     * document, or -1 if it is not one of the fields or not at the given
+     * depth. This matches the field which
+     * {@link JsonUnmarshallerContext#testExpression(String, int)} would
+     * match.
+     *
+     * @param context
+     *            The context of the JSON document being parsed.
+     * @param stackDepth
+     *            The depth in the stack the field must be at.
+     */
+    public int indexOf(JsonUnmarshallerContext context, int stackDepth) {
+        if (context.getCurrentDepth() != stackDepth) {
+            return -1;
+        }
+        Integer position = positions.get(context.getCurrentParentElement());
+        return position == null ? -1 : position.intValue();
+    }
+}
@@ -15,11 +15,15 @@
 package com.amazonaws.transform;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamConstants;
@@ -37,15 +41,39 @@ import javax.xml.stream.events.XMLEvent;
  */
 public class StaxUnmarshallerContext {
 
+    /**
+     * Upper bound on the number of parsed expressions cached. The expressions
+     * tested are the constants of the unmarshallers, so the cache only fills
+     * up if expressions are built at runtime.
+     */
+    private static final int MAX_CACHED_EXPRESSIONS = 10000;
+
+    private static final ConcurrentMap<String, Expression> expressions =
+            new ConcurrentHashMap<String, Expression>();
+
     private XMLEvent currentEvent;
     private final XMLEventReader eventReader;
 
     public final Stack<String> stack = new Stack<String>();
-    private String stackString = "";
+
+    /**
+     * The current position as a pseudo-xpath, such as "/a/b" or "/a/b/@c",
+     * updated in place as elements start and end.
+     */
+    private final StringBuilder stackPath = new StringBuilder();
+
+    /** The length of the path of the current element, without any attribute. */
+    private int elementPathLength;
+
+    /** The length of the path of the parent of each element in the stack. */
+    private int[] parentPathLengths = new int[16];
 
     private Map<String, String> metadata = new HashMap<String, String>();
     private List<MetadataExpression> metadataExpressions = new ArrayList<MetadataExpression>();
 
+    /** The deepest depth at which a metadata expression can match. */
+    private int maxMetadataDepth;
+
     private Iterator<?> attributeIterator;
     private final Map<String, String> headers;
 
@@ -151,7 +179,7 @@ public class StaxUnmarshallerContext {
      */
     public boolean testExpression(String expression) {
         if (expression.equals(".")) return true;
-        return stackString.endsWith(expression);
+        return pathEndsWith(expression);
     }
 
     /**
@@ -171,17 +199,55 @@ public class StaxUnmarshallerContext {
     public boolean testExpression(String expression, int startingStackDepth) {
         if (expression.equals(".")) return true;
 
-        int index = -1;
-        while ((index = expression.indexOf("/", index + 1)) > -1) {
-            // Don't consider attributes a new depth level
-            if (expression.charAt(index + 1) != '@') {
-                startingStackDepth++;
-            }
+        Expression parsed = parseExpression(expression);
+        return (startingStackDepth + parsed.depth == getCurrentDepth()
+                && pathEndsWith(parsed.suffix));
+    }
+
+    /**
+     * Skips the element the parser just started, up to and including its end
+     * element, if it is at the specified depth and its name is not one of the
+     * specified names. The events within a skipped element are not tracked
+     * nor tested against any expression, apart from the registered metadata
+     * expressions which may match within it.
+     *
+     * @param targetDepth
+     *            The depth at which elements are skipped.
+     * @param elementNames
+     *            The names of the elements not to skip, which are the first
+     *            steps of the expressions the caller tests at this depth.
+     * @return True if the element was skipped.
+     */
+    public boolean skipElementUnlessNamed(int targetDepth, Set<String> elementNames)
+            throws XMLStreamException {
+        if (currentEvent == null || !currentEvent.isStartElement()
+                || getCurrentDepth() != targetDepth || elementNames.contains(stack.peek())) {
+            return false;
         }
 
+        attributeIterator = null;
+        if (targetDepth < maxMetadataDepth) {
+            while (getCurrentDepth() >= targetDepth) {
+                nextEvent();
+            }
+            return true;
+        }
 
-        return (startingStackDepth == getCurrentDepth()
-                && stackString.endsWith("/" + expression));
+        int depth = 1;
+        XMLEvent event;
+        do {
+            event = eventReader.nextEvent();
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            } else if (event.isEndDocument()) {
+                throw new XMLStreamException("Unexpected end of document");
+            }
+        } while (depth > 0);
+        currentEvent = event;
+        updateContext(event);
+        return true;
     }
 
     /**
@@ -257,6 +323,7 @@ public class StaxUnmarshallerContext {
      */
     public void registerMetadataExpression(String expression, int targetDepth, String storageKey) {
         metadataExpressions.add(new MetadataExpression(expression, targetDepth, storageKey));
+        maxMetadataDepth = Math.max(maxMetadataDepth, targetDepth + parseExpression(expression).depth);
     }
 
 
@@ -280,25 +347,70 @@ public class StaxUnmarshallerContext {
         }
     }
 
+    /**
+     * A parsed pseudo-xpath expression.
+     */
+    private static class Expression {
+        /** The expression preceded by a slash, to match whole element names. */
+        public final String suffix;
+        /** The number of elements the expression goes down past its first one. */
+        public final int depth;
+
+        public Expression(String expression) {
+            int depth = 0;
+            int index = -1;
+            while ((index = expression.indexOf("/", index + 1)) > -1) {
+                // Don't consider attributes a new depth level
+                if (expression.charAt(index + 1) != '@') {
+                    depth++;
+                }
+            }
+            this.suffix = "/" + expression;
+            this.depth = depth;
+        }
+    }
+
+    private static Expression parseExpression(String expression) {
+        Expression parsed = expressions.get(expression);
+        if (parsed == null) {
+            parsed = new Expression(expression);
+            if (expressions.size() < MAX_CACHED_EXPRESSIONS) {
+                expressions.putIfAbsent(expression, parsed);
+            }
+        }
+        return parsed;
+    }
+
+    private boolean pathEndsWith(String suffix) {
+        int offset = stackPath.length() - suffix.length();
+        if (offset < 0) return false;
+        for (int i = suffix.length() - 1; i >= 0; i--) {
+            if (stackPath.charAt(offset + i) != suffix.charAt(i)) return false;
+        }
+        return true;
+    }
+
     private void updateContext(XMLEvent event) {
         if (event == null) return;
 
         if (event.isEndElement()) {
             stack.pop();
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
+            elementPathLength = parentPathLengths[stack.size()];
+            stackPath.setLength(elementPathLength);
         } else if (event.isStartElement()) {
-            stack.push(event.asStartElement().getName().getLocalPart());
-            stackString += "/" + event.asStartElement().getName().getLocalPart();
+            String name = event.asStartElement().getName().getLocalPart();
+            if (stack.size() == parentPathLengths.length) {
+                parentPathLengths = Arrays.copyOf(parentPathLengths, parentPathLengths.length * 2);
+            }
+            parentPathLengths[stack.size()] = elementPathLength;
+            stack.push(name);
+            stackPath.setLength(elementPathLength);
+            stackPath.append('/').append(name);
+            elementPathLength = stackPath.length();
         } else if (event.isAttribute()) {
             Attribute attribute = (Attribute)event;
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
-            stackString += "/@" + attribute.getName().getLocalPart();
+            stackPath.setLength(elementPathLength);
+            stackPath.append("/@").append(attribute.getName().getLocalPart());
         }
     }
 
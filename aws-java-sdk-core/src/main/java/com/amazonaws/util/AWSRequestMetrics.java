@@ -92,6 +92,16 @@ public class AWSRequestMetrics {
          * Snapshot of currently consumed retry capacity.
          */
         RetryCapacityConsumed,
+        /**
+         * Snapshot of the send rate measured by the rate limiter of the client, in requests per
+         * second.
+         */
+        RateLimiterSendRate,
+        /**
+         * Number of milliseconds a request waited for the rate limiter of the client before being
+         * sent.
+         */
+        RateLimiterDelayTime,
         /**
          * Number of retries of the underlying http client library in sending a
          * request to AWS.
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A pool running its tasks on an executor shared with other pools. At most
+ * the given number of tasks of the pool run at once, the others waiting in
+ * the pool's own queue; so a pool of one runs its tasks in order. Shutting
+ * the pool down only affects its own tasks, and leaves the shared executor
+ * running.
+ * <p>
+ * If the shared executor rejects a task which was waiting in the queue, the
+ * task is never run: a future submitted to the pool completes with the
+ * {@link RejectedExecutionException}, so that nobody waits for it forever.
+ */
+@ThreadSafe
+class BoundedExecutorService extends AbstractExecutorService {
+
+    private static final Log log = LogFactory.getLog(BoundedExecutorService.class);
+
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    // Guarded by this
+    private final Queue<Runnable> pending = new LinkedList<Runnable>();
+    private final Set<Thread> runningThreads = new HashSet<Thread>();
+    private int running;
+    private boolean shutdown;
+    private boolean shutdownNow;
+
+    BoundedExecutorService(Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive");
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        synchronized (this) {
+            if (shutdown) {
+                throw new RejectedExecutionException("The pool has been shut down");
+            }
+            if (running >= maxConcurrency) {
+                pending.add(task);
+                return;
+            }
+            running++;
+        }
+        try {
+            executor.execute(new Worker(task));
+        } catch (RuntimeException e) {
+            // The caller learns the task is dropped; the others still get
+            // their turn
+            onTaskDone(false);
+            throw e;
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new Task<T>(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new Task<T>(callable);
+    }
+
+    /**
+     * Hands the next waiting task, if any, over to the executor. Never
+     * throws, as it runs on the thread of the task which just completed.
+     */
+    private void onTaskDone(boolean interrupted) {
+        if (interrupted) {
+            // The thread belongs to the shared executor; the interrupt of
+            // shutdownNow must not leak to its next task.
+            Thread.interrupted();
+        }
+        while (true) {
+            Runnable next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    running--;
+                    if (isTerminated()) {
+                        notifyAll();
+                    }
+                    return;
+                }
+            }
+            try {
+                executor.execute(new Worker(next));
+                return;
+            } catch (RuntimeException e) {
+                // Keep the slot for the task after it
+                reject(next, e);
+            }
+        }
+    }
+
+    /**
+     * Completes a waiting task which the shared executor rejected, without
+     * running it.
+     */
+    private static void reject(Runnable task, RuntimeException cause) {
+        if (task instanceof Task) {
+            ((Task<?>) task).reject(cause);
+        } else if (task instanceof Future) {
+            ((Future<?>) task).cancel(false);
+        }
+        if (log.isWarnEnabled()) {
+            log.warn("The shared executor rejected a waiting task, which will not run", cause);
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (isTerminated()) {
+            notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        shutdown = true;
+        shutdownNow = true;
+        List<Runnable> tasks = new ArrayList<Runnable>(pending);
+        pending.clear();
+        for (Thread thread : runningThreads) {
+            thread.interrupt();
+        }
+        if (isTerminated()) {
+            notifyAll();
+        }
+        return tasks;
+    }
+
+    @Override
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public synchronized boolean isTerminated() {
+        return shutdown && running == 0;
+    }
+
+    @Override
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * A future which completes exceptionally if its task is rejected.
+     */
+    private static final class Task<T> extends FutureTask<T> {
+
+        Task(Callable<T> callable) {
+            super(callable);
+        }
+
+        Task(Runnable runnable, T result) {
+            super(runnable, result);
+        }
+
+        void reject(Throwable cause) {
+            setException(cause);
+        }
+    }
+
+    private final class Worker implements Runnable {
+
+        private final Runnable task;
+
+        Worker(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            Thread thread = Thread.currentThread();
+            synchronized (BoundedExecutorService.this) {
+                runningThreads.add(thread);
+                if (shutdownNow) {
+                    thread.interrupt();
+                }
+            }
+            boolean interrupted;
+            try {
+                task.run();
+            } finally {
+                synchronized (BoundedExecutorService.this) {
+                    runningThreads.remove(thread);
+                    interrupted = shutdownNow;
+                }
+                onTaskDone(interrupted);
+            }
+        }
+    }
+}
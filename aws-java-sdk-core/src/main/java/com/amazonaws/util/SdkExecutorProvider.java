@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.concurrent.Executor;
+
+import com.amazonaws.SDKGlobalConfiguration;
+
+/**
+ * Supplies the executors backing the thread pools of the SDK, such as the
+ * pools of the asynchronous clients, of the TransferManager or of the progress
+ * listener callbacks. Returning one shared executor for all of them, for
+ * instance a bounded pool or an executor starting a virtual thread per task,
+ * keeps a JVM with many clients from holding hundreds of idle threads.
+ * <p>
+ * The SDK keeps the behavior of each pool on top of the executor: a pool
+ * never runs more tasks at once than the number of threads it would have had,
+ * and shutting a pool down only stops the tasks of that pool. The SDK never
+ * shuts down the executors returned.
+ * <p>
+ * A provider is installed with
+ * {@link SdkExecutors#setExecutorProvider(SdkExecutorProvider)}, or with the
+ * {@value SDKGlobalConfiguration#EXECUTOR_PROVIDER_SYSTEM_PROPERTY} system
+ * property.
+ *
+ * @see SdkExecutors
+ */
+public interface SdkExecutorProvider {
+
+    /**
+     * Returns the executor to run the tasks of a pool of the SDK with, or null
+     * to let the pool create its own threads.
+     *
+     * @param poolName
+     *            The name of the pool, such as "s3-transfer-manager-worker".
+     * @param maxThreads
+     *            The number of threads the pool would have had, which is the
+     *            most tasks of the pool run at once; Integer.MAX_VALUE for
+     *            pools creating threads as needed.
+     */
+    public Executor getExecutor(String poolName, int maxThreads);
+}
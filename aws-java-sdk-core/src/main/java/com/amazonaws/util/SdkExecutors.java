@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static com.amazonaws.SDKGlobalConfiguration.EXECUTOR_PROVIDER_SYSTEM_PROPERTY;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Creates the thread pools of the SDK, on top of the executor supplied by the
+ * installed {@link SdkExecutorProvider} if any.
+ */
+@ThreadSafe
+public final class SdkExecutors {
+
+    private static final Log log = LogFactory.getLog(SdkExecutors.class);
+
+    private static volatile SdkExecutorProvider executorProvider = loadExecutorProvider();
+
+    private SdkExecutors() {
+    }
+
+    /**
+     * Installs the provider of the executors backing the thread pools created
+     * from now on, or null to let each pool create its own threads. Pools
+     * already created are not affected.
+     */
+    public static void setExecutorProvider(SdkExecutorProvider provider) {
+        executorProvider = provider;
+    }
+
+    /**
+     * Returns the installed provider of the executors backing the thread
+     * pools, or null if there is none.
+     */
+    public static SdkExecutorProvider getExecutorProvider() {
+        return executorProvider;
+    }
+
+    /**
+     * Returns a provider supplying the given executor to every pool.
+     */
+    public static SdkExecutorProvider sharedExecutorProvider(final Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Please provide an executor.");
+        }
+        return new SdkExecutorProvider() {
+            @Override
+            public Executor getExecutor(String poolName, int maxThreads) {
+                return executor;
+            }
+        };
+    }
+
+    /**
+     * Returns a provider supplying to every pool an executor which starts a
+     * new virtual thread for each task.
+     *
+     * @throws UnsupportedOperationException
+     *             If the JVM does not support virtual threads, which came with
+     *             Java 21.
+     */
+    public static SdkExecutorProvider virtualThreadExecutorProvider() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return sharedExecutorProvider((Executor) method.invoke(null));
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this JVM", e);
+        } catch (Exception e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create a virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Returns a pool running at most the given number of tasks at once,
+     * which is a fixed thread pool unless an executor provider is installed.
+     *
+     * @see Executors#newFixedThreadPool(int)
+     */
+    public static ExecutorService newFixedThreadPool(String poolName, int nThreads) {
+        ExecutorService pool = newSharedPool(poolName, nThreads);
+        return pool != null ? pool : Executors.newFixedThreadPool(nThreads);
+    }
+
+    /**
+     * Returns a pool running at most the given number of tasks at once,
+     * which is a fixed thread pool with the given thread factory unless an
+     * executor provider is installed.
+     *
+     * @see Executors#newFixedThreadPool(int, ThreadFactory)
+     */
+    public static ExecutorService newFixedThreadPool(String poolName, int nThreads,
+                                                     ThreadFactory threadFactory) {
+        ExecutorService pool = newSharedPool(poolName, nThreads);
+        return pool != null ? pool : Executors.newFixedThreadPool(nThreads, threadFactory);
+    }
+
+    /**
+     * Returns a pool running its tasks in order, which is a single thread
+     * executor with the given thread factory unless an executor provider is
+     * installed.
+     *
+     * @see Executors#newSingleThreadExecutor(ThreadFactory)
+     */
+    public static ExecutorService newSingleThreadExecutor(String poolName,
+                                                          ThreadFactory threadFactory) {
+        ExecutorService pool = newSharedPool(poolName, 1);
+        return pool != null ? pool : Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    /**
+     * Returns a pool running any number of tasks at once, which is a cached
+     * thread pool with the given thread factory unless an executor provider
+     * is installed.
+     *
+     * @see Executors#newCachedThreadPool(ThreadFactory)
+     */
+    public static ExecutorService newCachedThreadPool(String poolName,
+                                                      ThreadFactory threadFactory) {
+        ExecutorService pool = newSharedPool(poolName, Integer.MAX_VALUE);
+        return pool != null ? pool : Executors.newCachedThreadPool(threadFactory);
+    }
+
+    private static ExecutorService newSharedPool(String poolName, int maxThreads) {
+        SdkExecutorProvider provider = executorProvider;
+        if (provider == null) {
+            return null;
+        }
+        Executor executor = provider.getExecutor(poolName, maxThreads);
+        return executor == null ? null : new BoundedExecutorService(executor, maxThreads);
+    }
+
+    private static SdkExecutorProvider loadExecutorProvider() {
+        String className = System.getProperty(EXECUTOR_PROVIDER_SYSTEM_PROPERTY);
+        if (className == null) {
+            return null;
+        }
+        try {
+            return (SdkExecutorProvider) Class.forName(className).newInstance();
+        } catch (Exception e) {
+            log.warn("Unable to create the executor provider " + className
+                    + "; SDK thread pools will create their own threads", e);
+            return null;
+        }
+    }
+}
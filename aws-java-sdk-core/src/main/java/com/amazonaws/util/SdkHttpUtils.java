@@ -67,6 +67,10 @@ public class SdkHttpUtils {
         if (value == null) {
             return "";
         }
+        if (isUnreserved(value, path)) {
+            // Nothing to encode; avoid the round trip through URLEncoder.
+            return value;
+        }
 
         try {
             String encoded = URLEncoder.encode(value, DEFAULT_ENCODING);
@@ -98,6 +102,25 @@ public class SdkHttpUtils {
         }
     }
 
+    /**
+     * Returns true if every character of the given value is one that
+     * {@link #urlEncode(String, boolean)} would leave as is; ie an RFC 3986
+     * unreserved character, or a '/' when encoding a path.
+     */
+    private static boolean isUnreserved(final String value, final boolean path) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')
+                    || (ch >= '0' && ch <= '9')
+                    || ch == '-' || ch == '_' || ch == '.' || ch == '~'
+                    || (path && ch == '/')) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Decode a string for use in the path of a URL; uses URLDecoder.decode,
      * which decodes a string for use in the query portion of a URL.
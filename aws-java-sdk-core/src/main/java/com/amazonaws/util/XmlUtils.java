@@ -17,6 +17,8 @@ package com.amazonaws.util;
 import java.io.IOException;
 import java.io.InputStream;
 
+import javax.xml.stream.XMLInputFactory;
+
 import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -25,6 +27,19 @@ import org.xml.sax.helpers.XMLReaderFactory;
 
 public class XmlUtils {
 
+    /**
+     * Shared factory for creating XML event readers. XMLInputFactory is not
+     * thread safe, so each thread has its own, rather than contending for a
+     * single one on every response.
+     */
+    private static final ThreadLocal<XMLInputFactory> xmlInputFactory =
+            new ThreadLocal<XMLInputFactory>() {
+                @Override
+                protected XMLInputFactory initialValue() {
+                    return XMLInputFactory.newInstance();
+                }
+            };
+
     public static XMLReader parse(InputStream in, ContentHandler handler)
             throws SAXException, IOException {
 
@@ -35,4 +50,12 @@ public class XmlUtils {
         return reader;
     }
 
+    /**
+     * Returns the XML input factory of the current thread, which must not be
+     * shared with other threads.
+     */
+    public static XMLInputFactory getXmlInputFactory() {
+        return xmlInputFactory.get();
+    }
+
 }
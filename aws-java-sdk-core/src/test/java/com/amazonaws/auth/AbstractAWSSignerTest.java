@@ -15,10 +15,18 @@
 
 package com.amazonaws.auth;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+
 import org.junit.Test;
 
+import com.amazonaws.SignableRequest;
+import com.amazonaws.util.StringUtils;
+
 public class AbstractAWSSignerTest {
 
     @Test
@@ -28,4 +36,59 @@ public class AbstractAWSSignerTest {
             AbstractAWSSigner.EMPTY_STRING_SHA256_HEX);
     }
 
+    @Test
+    public void hashOfStringMatchesHashOfUtf8Bytes() throws Exception {
+        AbstractAWSSigner signer = newSigner();
+
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            longText.append("header-").append(i).append(":value\n");
+        }
+        String[] texts = {
+            "", "GET\n/\n\nhost:example.com\n", longText.toString(),
+            longText + "\u00e9\u4e2d\ud83d\ude00", "\u00e9t\u00e9"
+        };
+        for (String text : texts) {
+            byte[] expected = MessageDigest.getInstance("SHA-256").digest(
+                    text.getBytes(StringUtils.UTF8));
+            assertArrayEquals(expected, signer.hash(text));
+            assertArrayEquals(expected,
+                    signer.hash(text.getBytes(StringUtils.UTF8)));
+        }
+    }
+
+    @Test
+    public void hashOfStreamIsUnaffectedByHashingWhileReading() throws Exception {
+        final AbstractAWSSigner signer = newSigner();
+        final byte[] content = new byte[20000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        // Hashes other data on the same thread for every read, as signing
+        // chunked content does
+        InputStream input = new ByteArrayInputStream(content) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                signer.hash("chunk-" + pos);
+                signer.hash(new byte[] { 1, 2, 3 });
+                return super.read(b, off, len);
+            }
+        };
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(content),
+                signer.hash(input));
+    }
+
+    private static AbstractAWSSigner newSigner() {
+        return new AbstractAWSSigner() {
+            @Override
+            public void sign(SignableRequest<?> request, AWSCredentials credentials) {
+            }
+
+            @Override
+            protected void addSessionCredentials(SignableRequest<?> request,
+                    AWSSessionCredentials credentials) {
+            }
+        };
+    }
+
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class SigningKeyCacheTest {
+
+    private static final long TODAY = 17000L;
+    private static final SignerKey KEY = new SignerKey(TODAY, new byte[] {1, 2, 3});
+
+    @Test
+    public void returnsCachedKeyForSameSecretRegionServiceAndDay() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-east-1", "dynamodb", KEY);
+
+        SignerKey cached = cache.get("secret", "us-east-1", "dynamodb", TODAY);
+        assertSame(KEY, cached);
+        assertArrayEquals(new byte[] {1, 2, 3}, cached.getSigningKey());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void missesOnDifferentDayOrKeyParts() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-east-1", "dynamodb", KEY);
+
+        assertNull(cache.get("secret", "us-east-1", "dynamodb", TODAY + 1));
+        assertNull(cache.get("other", "us-east-1", "dynamodb", TODAY));
+        assertNull(cache.get("secret", "us-west-2", "dynamodb", TODAY));
+        assertNull(cache.get("secret", "us-east-1", "sqs", TODAY));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void sizeIsBoundedByMaxSize() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        assertEquals(3, cache.getMaxSize());
+        for (int i = 0; i < 100; i++) {
+            cache.put("secret" + i, "us-east-1", "dynamodb", KEY);
+        }
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedKey() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put("k1", "us-east-1", "s3", KEY);
+        cache.put("k2", "us-east-1", "s3", KEY);
+        assertSame(KEY, cache.get("k1", "us-east-1", "s3", TODAY));
+        cache.put("k3", "us-east-1", "s3", KEY);
+
+        assertSame(KEY, cache.get("k1", "us-east-1", "s3", TODAY));
+        assertNull(cache.get("k2", "us-east-1", "s3", TODAY));
+        assertSame(KEY, cache.get("k3", "us-east-1", "s3", TODAY));
+    }
+
+    @Test
+    public void alternatingKeysKeepHitting() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        for (int i = 0; i < 100; i++) {
+            cache.put("secret" + i, "us-east-1", "dynamodb", KEY);
+        }
+        cache.put("a", "us-east-1", "dynamodb", KEY);
+        cache.put("b", "eu-west-1", "sqs", KEY);
+        for (int i = 0; i < 50; i++) {
+            assertSame(KEY, cache.get("a", "us-east-1", "dynamodb", TODAY));
+            assertSame(KEY, cache.get("b", "eu-west-1", "sqs", TODAY));
+        }
+        assertEquals(100, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void singleEntryCacheReplacesPreviousEntry() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.put("k1", "us-east-1", "s3", KEY);
+        cache.put("k2", "us-east-1", "s3", KEY);
+        assertEquals(1, cache.size());
+        assertNull(cache.get("k1", "us-east-1", "s3", TODAY));
+        assertSame(KEY, cache.get("k2", "us-east-1", "s3", TODAY));
+    }
+
+    @Test
+    public void nullRegionIsSupported() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", null, "s3", KEY);
+        assertSame(KEY, cache.get("secret", null, "s3", TODAY));
+        assertNull(cache.get("secret", "us-east-1", "s3", TODAY));
+    }
+
+    @Test
+    public void concurrentLookupsFindTheirOwnKeys() throws InterruptedException {
+        final SigningKeyCache cache = new SigningKeyCache(4);
+        final AtomicInteger wrongKeys = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final String secret = "secret" + t;
+            final SignerKey key = new SignerKey(TODAY, new byte[] {(byte) t});
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        SignerKey cached = cache.get(secret, "us-east-1", "s3", TODAY);
+                        if (cached == null) {
+                            cache.put(secret, "us-east-1", "s3", key);
+                        } else if (cached != key) {
+                            wrongKeys.incrementAndGet();
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, wrongKeys.get());
+        assertTrue(cache.size() <= 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSizeIsRejected() {
+        new SigningKeyCache(0);
+    }
+}
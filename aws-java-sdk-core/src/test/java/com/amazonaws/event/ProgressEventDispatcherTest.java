@@ -0,0 +1,185 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProgressEventDispatcherTest {
+
+    private ProgressEventDispatcher dispatcher;
+
+    @Before
+    public void setup() {
+        dispatcher = new ProgressEventDispatcher(2);
+    }
+
+    @After
+    public void tearDown() {
+        dispatcher.shutdown(true);
+    }
+
+    @Test
+    public void coalescesByteTransferEventsWaitingForBusyListener() throws Exception {
+        BlockingListener listener = new BlockingListener();
+        dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.TRANSFER_STARTED_EVENT));
+        assertTrue(listener.started.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.REQUEST_BYTE_TRANSFER_EVENT, 10));
+        }
+        dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.TRANSFER_COMPLETED_EVENT));
+        assertEquals(2, dispatcher.getQueuedEventCount());
+        Thread.sleep(10);
+        assertTrue(dispatcher.getDeliveryLag(TimeUnit.NANOSECONDS) > 0);
+
+        listener.release.countDown();
+        dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.TRANSFER_PART_COMPLETED_EVENT)).get();
+
+        assertEquals(4, listener.events.size());
+        assertEquals(ProgressEventType.REQUEST_BYTE_TRANSFER_EVENT, listener.events.get(1).getEventType());
+        assertEquals(1000, listener.events.get(1).getBytes());
+        assertEquals(ProgressEventType.TRANSFER_COMPLETED_EVENT, listener.events.get(2).getEventType());
+        assertEquals(0, dispatcher.getQueuedEventCount());
+        assertEquals(0, dispatcher.getDeliveryLag(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void deliversEventsAndCallbacksOfListenerInOrder() throws Exception {
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        ProgressListener listener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                order.add((int) progressEvent.getBytes());
+            }
+        };
+        dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.REQUEST_CONTENT_LENGTH_EVENT, 1));
+        dispatcher.deliver(listener, new Runnable() {
+            @Override
+            public void run() {
+                order.add(2);
+            }
+        });
+        dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.RESPONSE_CONTENT_LENGTH_EVENT, 3)).get();
+
+        assertEquals(Arrays.asList(1, 2, 3), order);
+    }
+
+    @Test
+    public void failingListenerDoesNotStopDelivery() throws Exception {
+        final List<ProgressEvent> events = Collections.synchronizedList(new ArrayList<ProgressEvent>());
+        ProgressListener listener = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                events.add(progressEvent);
+                throw new RuntimeException();
+            }
+        };
+        dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.TRANSFER_STARTED_EVENT));
+        dispatcher.deliver(listener, new ProgressEvent(ProgressEventType.TRANSFER_COMPLETED_EVENT)).get();
+
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    public void listenerSharedBySeveralChainsIsCalledByOneThreadAtATime() throws Exception {
+        final AtomicInteger calling = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final AtomicInteger delivered = new AtomicInteger();
+        ProgressListener shared = new ProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                if (calling.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered.incrementAndGet();
+                calling.decrementAndGet();
+            }
+        };
+        // Chains of different transfers, which would be spread over the stripes
+        List<ProgressListenerChain> chains = new ArrayList<ProgressListenerChain>();
+        for (int i = 0; i < 8; i++) {
+            chains.add(new ProgressListenerChain(shared));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            for (ProgressListenerChain chain : chains) {
+                dispatcher.deliver(chain, new ProgressEvent(ProgressEventType.TRANSFER_PART_COMPLETED_EVENT));
+            }
+        }
+        dispatcher.waitTillCompletion();
+
+        assertEquals(80, delivered.get());
+        assertEquals(0, overlaps.get());
+    }
+
+    @Test
+    public void waitTillCompletionWaitsForEveryStripe() throws Exception {
+        final AtomicInteger delivered = new AtomicInteger();
+        // Spread over the stripes
+        for (int i = 0; i < 16; i++) {
+            dispatcher.deliver(new Object(), new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    delivered.incrementAndGet();
+                }
+            });
+        }
+
+        dispatcher.waitTillCompletion();
+
+        assertEquals(16, delivered.get());
+    }
+
+    private static class BlockingListener implements ProgressListener {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<ProgressEvent> events = Collections.synchronizedList(new ArrayList<ProgressEvent>());
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            events.add(progressEvent);
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
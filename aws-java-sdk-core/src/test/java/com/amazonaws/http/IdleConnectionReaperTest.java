@@ -37,6 +37,8 @@ import org.apache.http.conn.scheme.SchemeRegistry;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.amazonaws.http.conn.ConnectionPoolWarmer;
+
 public class IdleConnectionReaperTest {
     @Before
     public void init() {
@@ -77,6 +79,19 @@ public class IdleConnectionReaperTest {
         }
     }
 
+    @Test
+    public void warmerIsOnlyRegisteredForRegisteredConnectionManager() throws Exception {
+        HttpClientConnectionManager m = new TestClientConnectionManager();
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(m, null, 1, 100, 0);
+        assertFalse(IdleConnectionReaper.registerConnectionPoolWarmer(m, warmer));
+        assertTrue(IdleConnectionReaper.registerConnectionManager(m));
+        assertTrue(IdleConnectionReaper.registerConnectionPoolWarmer(m, warmer));
+        assertTrue(IdleConnectionReaper.removeConnectionManager(m));
+        assertTrue(IdleConnectionReaper.registerConnectionManager(m));
+        assertEquals(1, IdleConnectionReaper.size());
+        assertTrue(IdleConnectionReaper.shutdown());
+    }
+
     private static class TestClientConnectionManager implements HttpClientConnectionManager {
         @Override
         public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.internal.ResettableInputStream;
+
+public class RepeatableInputStreamRequestEntityTest {
+
+    @Test
+    public void writesContentLargerThanBuffer() throws IOException {
+        byte[] data = randomFileContent(3 * RepeatableInputStreamRequestEntity.MAX_BUFFER_SIZE + 17);
+        File file = writeTempFile(data);
+        Request<?> request = newRequest(file, data.length);
+
+        RepeatableInputStreamRequestEntity entity = new RepeatableInputStreamRequestEntity(request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        assertArrayEquals(data, out.toByteArray());
+    }
+
+    @Test
+    public void writesNoMoreThanContentLength() throws IOException {
+        byte[] data = randomFileContent(1000);
+        File file = writeTempFile(data);
+        Request<?> request = newRequest(file, 600);
+
+        RepeatableInputStreamRequestEntity entity = new RepeatableInputStreamRequestEntity(request);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        assertEquals(600, out.size());
+    }
+
+    @Test
+    public void rewritesContentOnRetry() throws IOException {
+        byte[] data = randomFileContent(RepeatableInputStreamRequestEntity.MAX_BUFFER_SIZE + 1);
+        File file = writeTempFile(data);
+        Request<?> request = newRequest(file, data.length);
+        // The content is reset rather than closed between attempts
+        ((ResettableInputStream) request.getContent()).disableClose();
+
+        RepeatableInputStreamRequestEntity entity = new RepeatableInputStreamRequestEntity(request);
+        entity.writeTo(new ByteArrayOutputStream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        assertArrayEquals(data, out.toByteArray());
+        ((ResettableInputStream) request.getContent()).release();
+    }
+
+    @Test
+    public void bufferIsSizedAfterContent() {
+        assertEquals(4096, RepeatableInputStreamRequestEntity.bufferSize(-1));
+        assertEquals(1, RepeatableInputStreamRequestEntity.bufferSize(0));
+        assertEquals(100, RepeatableInputStreamRequestEntity.bufferSize(100));
+        assertEquals(RepeatableInputStreamRequestEntity.MAX_BUFFER_SIZE,
+                RepeatableInputStreamRequestEntity.bufferSize(Long.MAX_VALUE));
+    }
+
+    private static Request<?> newRequest(File file, long contentLength) throws IOException {
+        Request<?> request = new DefaultRequest<Void>(AmazonWebServiceRequest.NOOP, "test");
+        request.setHttpMethod(HttpMethodName.PUT);
+        request.addHeader("Content-Length", String.valueOf(contentLength));
+        request.setContent(new ResettableInputStream(file));
+        return request;
+    }
+
+    private static byte[] randomFileContent(int length) {
+        byte[] data = new byte[length];
+        new Random(length).nextBytes(data);
+        return data;
+    }
+
+    private static File writeTempFile(byte[] data) throws IOException {
+        File file = File.createTempFile("RepeatableInputStreamRequestEntityTest", ".dat");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(data);
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.AmazonHttpClient;
+
+public class ConnectionPoolWarmerTest {
+
+    private ServerSocket serverSocket;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private HttpRoute route;
+
+    @Before
+    public void setup() throws Exception {
+        // Connections are established by the backlog of the socket, without being accepted
+        serverSocket = new ServerSocket(0, 50);
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setDefaultMaxPerRoute(10);
+        route = new HttpRoute(new HttpHost("localhost", serverSocket.getLocalPort(), "http"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connectionManager.shutdown();
+        serverSocket.close();
+    }
+
+    @Test
+    public void opensConnectionsUntilPoolHoldsTarget() {
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(connectionManager, route, 3, 1000, 0);
+
+        assertEquals(3, warmer.warmUp());
+        assertEquals(3, connectionManager.getStats(route).getAvailable());
+        assertEquals(0, connectionManager.getStats(route).getLeased());
+
+        assertEquals(0, warmer.warmUp());
+        assertEquals(3, connectionManager.getStats(route).getAvailable());
+    }
+
+    @Test
+    public void reopensClosedConnections() {
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(connectionManager, route, 3, 1000, 0);
+        warmer.warmUp();
+
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        assertEquals(0, connectionManager.getStats(route).getAvailable());
+
+        assertEquals(3, warmer.warmUp());
+        assertEquals(3, connectionManager.getStats(route).getAvailable());
+    }
+
+    @Test
+    public void stopsWhenConnectionsCannotBeOpened() throws Exception {
+        serverSocket.close();
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(connectionManager, route, 3, 1000, 0);
+
+        assertEquals(0, warmer.warmUp());
+        assertEquals(0, connectionManager.getStats(route).getAvailable());
+        assertEquals(0, connectionManager.getStats(route).getLeased());
+    }
+
+    @Test
+    public void opensNoConnectionsWithoutTime() {
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(connectionManager, route, 3, 1000, 0);
+
+        assertEquals(0, warmer.warmUp(0, TimeUnit.MILLISECONDS));
+        assertEquals(0, connectionManager.getStats(route).getAvailable());
+        assertEquals(0, connectionManager.getStats(route).getLeased());
+    }
+
+    @Test
+    public void stopsOpeningConnectionsWhenOutOfTime() throws Exception {
+        HttpClientConnectionManager slowConnectionManager = mock(HttpClientConnectionManager.class);
+        ConnectionRequest request = mock(ConnectionRequest.class);
+        when(slowConnectionManager.requestConnection(any(HttpRoute.class), any()))
+                .thenReturn(request);
+        when(request.get(anyLong(), any(TimeUnit.class)))
+                .thenReturn(mock(HttpClientConnection.class));
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                Thread.sleep(100);
+                return null;
+            }
+        }).when(slowConnectionManager).connect(any(HttpClientConnection.class), any(HttpRoute.class),
+                anyInt(), any(HttpContext.class));
+        ConnectionPoolWarmer warmer = new ConnectionPoolWarmer(slowConnectionManager, route, 50, 1000, 0);
+
+        long start = System.nanoTime();
+        int opened = warmer.warmUp(250, TimeUnit.MILLISECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue("opened " + opened, opened >= 1 && opened <= 3);
+        assertTrue("took " + elapsedMillis + "ms", elapsedMillis < 1000);
+        // The connect timeout is shortened to the time left
+        verify(slowConnectionManager, never()).connect(any(HttpClientConnection.class), any(HttpRoute.class),
+                eq(1000), any(HttpContext.class));
+    }
+
+    @Test
+    public void clientOpensConnectionsToEndpoint() {
+        AmazonHttpClient client = new AmazonHttpClient(new ClientConfiguration().withMaxConnections(2));
+        try {
+            URI endpoint = URI.create("http://localhost:" + serverSocket.getLocalPort());
+            assertEquals(2, client.warmUpConnections(endpoint, 5, false));
+            assertEquals(0, client.warmUpConnections(endpoint, 5, false));
+        } finally {
+            client.shutdown();
+        }
+    }
+}
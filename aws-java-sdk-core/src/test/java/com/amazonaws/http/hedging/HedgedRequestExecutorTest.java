@@ -0,0 +1,259 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.hedging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.hedging.HedgedRequestExecutor.HedgedResult;
+import com.amazonaws.http.timers.HashedWheelTimer;
+import com.amazonaws.http.timers.request.HttpRequestAbortTaskImpl;
+import com.amazonaws.http.timers.request.HttpRequestAbortTaskTracker;
+import com.amazonaws.http.timers.request.HttpRequestAbortTaskTrackerImpl;
+import com.amazonaws.retry.HedgingPolicy;
+
+public class HedgedRequestExecutorTest {
+
+    private static final long DELAY = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private static final HttpContext NO_CONTEXT = null;
+
+    private HedgedRequestExecutor executor;
+    private HttpClient httpClient;
+    private Request<?> request;
+    private HttpRequestBase first;
+    private HttpRequestBase hedge;
+    private HttpRequestAbortTaskTracker requestAbortTaskTracker;
+
+    @Before
+    public void setup() {
+        executor = new HedgedRequestExecutor(new HedgingPolicy(HedgingPolicy.IDEMPOTENT_HTTP_METHODS));
+        httpClient = mock(HttpClient.class);
+        request = new DefaultRequest<Void>(AmazonWebServiceRequest.NOOP, "test");
+        request.setHttpMethod(HttpMethodName.GET);
+        first = new HttpGet("http://localhost/first");
+        hedge = new HttpGet("http://localhost/hedge");
+        requestAbortTaskTracker = mock(HttpRequestAbortTaskTracker.class);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void doesNotHedgeBeforeLatenciesAreObserved() throws Exception {
+        when(httpClient.execute(any(HttpUriRequest.class), any(HttpContext.class)))
+                .thenAnswer(respond(200));
+        assertEquals(-1, executor.getHedgeDelay(request));
+        for (int i = 0; i < LatencyTracker.UPDATE_INTERVAL; i++) {
+            executor.execute(httpClient, request, new HttpGet("http://localhost/"), null, null, null,
+                    requestAbortTaskTracker, -1);
+        }
+        assertTrue(executor.getHedgeDelay(request) >= TimeUnit.MILLISECONDS.toNanos(
+                HedgingPolicy.DEFAULT_MIN_DELAY_MILLIS));
+    }
+
+    @Test
+    public void fastRequestIsNotHedged() throws Exception {
+        when(httpClient.execute(any(HttpUriRequest.class), any(HttpContext.class)))
+                .thenAnswer(respond(200));
+
+        HedgedResult result = executor.execute(httpClient, request, first, null, hedge, null,
+                requestAbortTaskTracker, TimeUnit.SECONDS.toNanos(10));
+
+        assertSame(first, result.getRequest());
+        assertEquals(200, result.getResponse().getStatusLine().getStatusCode());
+        assertTrue(hedge.isAborted());
+        verify(httpClient, never()).execute(hedge, NO_CONTEXT);
+        verify(requestAbortTaskTracker, never()).setCurrentHttpRequest(any(HttpRequestBase.class));
+    }
+
+    @Test
+    public void hedgeWinsOverSlowRequest() throws Exception {
+        when(httpClient.execute(first, NO_CONTEXT)).thenAnswer(waitUntilAborted());
+        when(httpClient.execute(hedge, NO_CONTEXT)).thenAnswer(respond(200));
+
+        HedgedResult result = executor.execute(httpClient, request, first, null, hedge, null,
+                requestAbortTaskTracker, DELAY);
+
+        assertSame(hedge, result.getRequest());
+        assertTrue(first.isAborted());
+        assertFalse(hedge.isAborted());
+        verify(requestAbortTaskTracker).setCurrentHttpRequest(hedge);
+    }
+
+    @Test
+    public void requestTimeoutAbortsWinningHedge() throws Exception {
+        when(httpClient.execute(first, NO_CONTEXT)).thenAnswer(waitUntilAborted());
+        when(httpClient.execute(hedge, NO_CONTEXT)).thenAnswer(respond(200));
+        HttpRequestAbortTaskImpl timeoutTask = new HttpRequestAbortTaskImpl(first);
+        HashedWheelTimer timer = new HashedWheelTimer();
+        try {
+            requestAbortTaskTracker = new HttpRequestAbortTaskTrackerImpl(timeoutTask,
+                    timer.schedule(timeoutTask, 1, TimeUnit.HOURS));
+
+            executor.execute(httpClient, request, first, null, hedge, null,
+                    requestAbortTaskTracker, DELAY);
+            // The request times out while the response of the hedge is read
+            timeoutTask.run();
+        } finally {
+            timer.shutdown();
+        }
+
+        assertTrue(hedge.isAborted());
+        assertTrue(requestAbortTaskTracker.httpRequestAborted());
+    }
+
+    @Test
+    public void hedgeWinsOverFailedRequest() throws Exception {
+        // The first request fails only once the hedge is sent, however late the delay fires
+        final CountDownLatch hedgeSent = new CountDownLatch(1);
+        when(httpClient.execute(first, NO_CONTEXT)).thenAnswer(new Answer<HttpResponse>() {
+            @Override
+            public HttpResponse answer(InvocationOnMock invocation) throws Throwable {
+                hedgeSent.await(10, TimeUnit.SECONDS);
+                return new BasicHttpResponse(HttpVersion.HTTP_1_1, 500, null);
+            }
+        });
+        when(httpClient.execute(hedge, NO_CONTEXT)).thenAnswer(new Answer<HttpResponse>() {
+            @Override
+            public HttpResponse answer(InvocationOnMock invocation) throws Throwable {
+                hedgeSent.countDown();
+                Thread.sleep(50);
+                return new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, null);
+            }
+        });
+
+        HedgedResult result = executor.execute(httpClient, request, first, null, hedge, null,
+                requestAbortTaskTracker, DELAY);
+
+        assertSame(hedge, result.getRequest());
+        assertEquals(200, result.getResponse().getStatusLine().getStatusCode());
+    }
+
+    @Test
+    public void firstFailureIsKeptWhenBothFail() throws Exception {
+        when(httpClient.execute(first, NO_CONTEXT)).thenAnswer(respondAfter(503, 100));
+        when(httpClient.execute(hedge, NO_CONTEXT)).thenAnswer(respondAfter(500, 50));
+
+        HedgedResult result = executor.execute(httpClient, request, first, null, hedge, null,
+                requestAbortTaskTracker, DELAY);
+
+        assertSame(first, result.getRequest());
+        assertEquals(503, result.getResponse().getStatusLine().getStatusCode());
+    }
+
+    @Test
+    public void onlyRequestsAcceptedByConditionAreHedgeable() {
+        assertTrue(executor.isHedgeable(request, first));
+        request.setHttpMethod(HttpMethodName.POST);
+        assertFalse(executor.isHedgeable(request, new HttpPost("http://localhost/")));
+    }
+
+    @Test
+    public void hedgeSharesContentOfRequest() throws Exception {
+        HttpPost post = new HttpPost("http://localhost/first");
+        post.setEntity(new StringEntity("{\"Key\":1}"));
+        HttpPost hedgePost = new HttpPost("http://localhost/hedge");
+
+        executor.shareContent(post, hedgePost);
+
+        assertEquals("{\"Key\":1}", EntityUtils.toString(post.getEntity()));
+        assertEquals("{\"Key\":1}", EntityUtils.toString(hedgePost.getEntity()));
+    }
+
+    @Test
+    public void sharedContentIsNotReadUntilSent() throws Exception {
+        final AtomicInteger writes = new AtomicInteger();
+        HttpPost post = new HttpPost("http://localhost/first");
+        post.setEntity(new StringEntity("{\"Key\":1}") {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                writes.incrementAndGet();
+                super.writeTo(out);
+            }
+        });
+
+        executor.shareContent(post, new HttpPost("http://localhost/hedge"));
+        assertEquals(0, writes.get());
+
+        post.getEntity().writeTo(new ByteArrayOutputStream());
+        assertEquals(1, writes.get());
+    }
+
+    private static Answer<HttpResponse> respond(int statusCode) {
+        return respondAfter(statusCode, 0);
+    }
+
+    private static Answer<HttpResponse> respondAfter(final int statusCode, final long delayMillis) {
+        return new Answer<HttpResponse>() {
+            @Override
+            public HttpResponse answer(InvocationOnMock invocation) throws Throwable {
+                Thread.sleep(delayMillis);
+                return new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, null);
+            }
+        };
+    }
+
+    private static Answer<HttpResponse> waitUntilAborted() {
+        return new Answer<HttpResponse>() {
+            @Override
+            public HttpResponse answer(InvocationOnMock invocation) throws Throwable {
+                HttpRequestBase request = (HttpRequestBase) invocation.getArguments()[0];
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (!request.isAborted() && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+                throw new IOException("Request aborted");
+            }
+        };
+    }
+}
@@ -19,6 +19,7 @@
 package com.amazonaws.http.timers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -28,7 +29,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
@@ -64,7 +64,7 @@ import com.amazonaws.http.timers.request.HttpRequestTimer;
 public class ClientExecutionAndRequestTimerTestUtils {
 
     /**
-     * Can take a little bit for ScheduledThreadPoolExecutor to update it's internal state
+     * Can take a little bit for HashedWheelTimer to update it's internal state
      */
     private static final int WAIT_BEFORE_ASSERT_ON_EXECUTOR = 500;
 
@@ -74,7 +74,7 @@ public class ClientExecutionAndRequestTimerTestUtils {
      * @param requestTimer
      */
     public static void assertRequestTimerExecutorNotCreated(HttpRequestTimer requestTimer) {
-        assertNull(requestTimer.getExecutor());
+        assertNull(requestTimer.getTimer());
     }
 
     /**
@@ -83,7 +83,7 @@ public class ClientExecutionAndRequestTimerTestUtils {
      * @param clientExecutionTimer
      */
     public static void assertClientExecutionTimerExecutorNotCreated(ClientExecutionTimer clientExecutionTimer) {
-        assertNull(clientExecutionTimer.getExecutor());
+        assertNull(clientExecutionTimer.getTimer());
     }
 
     /**
@@ -109,56 +109,57 @@ public class ClientExecutionAndRequestTimerTestUtils {
     }
 
     /**
-     * Waits until a little after the thread pools keep alive time and then asserts that all thre
+     * Waits until a little after the timers idle timeout and then asserts that its worker thread
+     * has stopped
      * 
-     * @param timerExecutor
-     *            Executor used by timer implementation
+     * @param timer
+     *            Timer used by timer implementation
      * @throws InterruptedException
      */
-    public static void assertCoreThreadsShutDownAfterBeingIdle(ScheduledThreadPoolExecutor timerExecutor) {
+    public static void assertWorkerThreadShutDownAfterBeingIdle(HashedWheelTimer timer) {
         try {
-            Thread.sleep(timerExecutor.getKeepAliveTime(TimeUnit.MILLISECONDS) + 1000);
+            Thread.sleep(timer.getIdleTimeout(TimeUnit.MILLISECONDS) + 1000);
         } catch (InterruptedException ignored) {
         }
-        assertEquals(0, timerExecutor.getPoolSize());
+        assertFalse(timer.isWorkerRunning());
     }
 
     /**
      * If the request completes successfully then the timer task should be canceled and should be
-     * removed from the thread pool to prevent build up of canceled tasks
+     * removed from the timer to prevent build up of canceled tasks
      * 
-     * @param timerExecutor
-     *            Executor used by timer implementation
+     * @param timer
+     *            Timer used by timer implementation
      */
-    public static void assertCanceledTasksRemoved(ScheduledThreadPoolExecutor timerExecutor) {
+    public static void assertCanceledTasksRemoved(HashedWheelTimer timer) {
         waitBeforeAssertOnExecutor();
-        assertEquals(0, timerExecutor.getQueue().size());
+        assertEquals(0, timer.getPendingTimeouts());
     }
 
     /**
      * Asserts the timer never went off (I.E. no timeout was exceeded and no timer task was
      * executed)
      * 
-     * @param timerExecutor
-     *            Executor used by timer implementation
+     * @param timer
+     *            Timer used by timer implementation
      */
-    public static void assertTimerNeverTriggered(ScheduledThreadPoolExecutor timerExecutor) {
-        assertNumberOfTasksTriggered(timerExecutor, 0);
+    public static void assertTimerNeverTriggered(HashedWheelTimer timer) {
+        assertNumberOfTasksTriggered(timer, 0);
     }
 
     public static void assertNumberOfTasksTriggered(ClientExecutionTimer clientExecutionTimer,
                                                     int expectedNumberOfTasks) {
-        assertNumberOfTasksTriggered(clientExecutionTimer.getExecutor(), expectedNumberOfTasks);
+        assertNumberOfTasksTriggered(clientExecutionTimer.getTimer(), expectedNumberOfTasks);
     }
 
     public static void assertNumberOfTasksTriggered(HttpRequestTimer requestTimer, int expectedNumberOfTasks) {
-        assertNumberOfTasksTriggered(requestTimer.getExecutor(), expectedNumberOfTasks);
+        assertNumberOfTasksTriggered(requestTimer.getTimer(), expectedNumberOfTasks);
     }
 
-    private static void assertNumberOfTasksTriggered(ScheduledThreadPoolExecutor timerExecutor,
+    private static void assertNumberOfTasksTriggered(HashedWheelTimer timer,
                                                      int expectedNumberOfTasks) {
         waitBeforeAssertOnExecutor();
-        assertEquals(expectedNumberOfTasks, timerExecutor.getCompletedTaskCount());
+        assertEquals(expectedNumberOfTasks, timer.getCompletedTaskCount());
     }
 
     /**
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+
+    @After
+    public void tearDown() {
+        if (timer != null) {
+            timer.shutdown();
+        }
+    }
+
+    @Test
+    public void testTaskRunsOnceDelayHasElapsed() throws Exception {
+        timer = new HashedWheelTimer(5, 8, 1000, TimeUnit.MILLISECONDS);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        // Longer than a full turn of the wheel
+        HashedWheelTimer.Timeout timeout = timer.schedule(countDown(latch), 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(1, awaitCompletedTaskCount(1));
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void testCanceledTaskNeverRuns() throws Exception {
+        timer = new HashedWheelTimer(5, 8, 1000, TimeUnit.MILLISECONDS);
+        final AtomicInteger runs = new AtomicInteger();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        }, 50, TimeUnit.MILLISECONDS);
+        assertEquals(1, timer.getPendingTimeouts());
+        assertTrue(timeout.cancel());
+
+        Thread.sleep(200);
+        assertTrue(timeout.isCanceled());
+        assertEquals(0, runs.get());
+        assertEquals(0, timer.getCompletedTaskCount());
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void testManyTimeoutsExpireInAnyBucket() throws Exception {
+        timer = new HashedWheelTimer(1, 16, 1000, TimeUnit.MILLISECONDS);
+        final CountDownLatch latch = new CountDownLatch(100);
+
+        for (int i = 0; i < 200; i++) {
+            HashedWheelTimer.Timeout timeout = timer.schedule(countDown(latch), i, TimeUnit.MILLISECONDS);
+            if (i % 2 == 1) {
+                timeout.cancel();
+            }
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(100, awaitCompletedTaskCount(100));
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void testWorkerStopsWhenIdleAndRestartsOnDemand() throws Exception {
+        timer = new HashedWheelTimer(5, 8, 100, TimeUnit.MILLISECONDS);
+        assertFalse(timer.isWorkerRunning());
+
+        CountDownLatch first = new CountDownLatch(1);
+        timer.schedule(countDown(first), 10, TimeUnit.MILLISECONDS);
+        assertTrue(timer.isWorkerRunning());
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(500);
+        assertFalse(timer.isWorkerRunning());
+
+        CountDownLatch second = new CountDownLatch(1);
+        timer.schedule(countDown(second), 10, TimeUnit.MILLISECONDS);
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+        assertEquals(2, awaitCompletedTaskCount(2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRejectsTimeoutsAfterShutdown() {
+        timer = new HashedWheelTimer();
+        timer.shutdown();
+        timer.schedule(countDown(new CountDownLatch(1)), 10, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Tasks are counted once they return, which is after they count their latch down.
+     */
+    private long awaitCompletedTaskCount(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (timer.getCompletedTaskCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return timer.getCompletedTaskCount();
+    }
+
+    private static Runnable countDown(final CountDownLatch latch) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        };
+    }
+}
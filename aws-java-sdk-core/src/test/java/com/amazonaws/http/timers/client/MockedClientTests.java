@@ -15,7 +15,7 @@
 package com.amazonaws.http.timers.client;
 
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertCanceledTasksRemoved;
-import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertCoreThreadsShutDownAfterBeingIdle;
+import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertWorkerThreadShutDownAfterBeingIdle;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertResponseIsBuffered;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertResponseWasNotBuffered;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertTimerNeverTriggered;
@@ -24,12 +24,11 @@ import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.createRawHttpClientSpy;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.execute;
 import static com.amazonaws.http.timers.TimeoutTestConstants.CLIENT_EXECUTION_TIMEOUT;
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
 import org.apache.http.client.methods.HttpRequestBase;
@@ -45,6 +44,7 @@ import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.response.HttpResponseProxy;
 import com.amazonaws.http.response.NullErrorResponseHandler;
 import com.amazonaws.http.response.NullResponseHandler;
+import com.amazonaws.http.timers.HashedWheelTimer;
 
 /**
  * These tests don't actually start up a mock server. They use a partially mocked Apache HTTP client
@@ -79,13 +79,12 @@ public class MockedClientTests {
         }
 
         assertResponseIsBuffered(responseProxy);
-        ScheduledThreadPoolExecutor requestTimerExecutor = httpClient.getClientExecutionTimer().getExecutor();
-        assertTimerNeverTriggered(requestTimerExecutor);
-        assertCanceledTasksRemoved(requestTimerExecutor);
-        // Core threads should be spun up on demand. Since only one task was submitted only one
-        // thread should exist
-        assertEquals(1, requestTimerExecutor.getPoolSize());
-        assertCoreThreadsShutDownAfterBeingIdle(requestTimerExecutor);
+        HashedWheelTimer requestTimer = httpClient.getClientExecutionTimer().getTimer();
+        assertTimerNeverTriggered(requestTimer);
+        assertCanceledTasksRemoved(requestTimer);
+        // The worker thread should be spun up on demand, and still be waiting for more tasks
+        assertTrue(requestTimer.isWorkerRunning());
+        assertWorkerThreadShutDownAfterBeingIdle(requestTimer);
     }
 
     @Test
@@ -29,11 +29,14 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.channels.ClosedChannelException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.amazonaws.AbortedException;
+
 public class ResettableInputStreamTest {
 
     private static File file;
@@ -140,6 +143,51 @@ public class ResettableInputStreamTest {
         is.release();
     }
 
+    @Test
+    public void testInterruptedReadsDoNotCloseFile() throws Exception {
+        File bigFile = generateRandomAsciiFile(1024 * 1024);
+        ResettableInputStream is = new ResettableInputStream(bigFile);
+        final String content = IOUtils.toString(is);
+        is.reset();
+
+        final Thread reader = Thread.currentThread();
+        final AtomicBoolean stop = new AtomicBoolean();
+        Thread interrupter = new Thread() {
+            @Override
+            public void run() {
+                while (!stop.get()) {
+                    reader.interrupt();
+                    Thread.yield();
+                }
+            }
+        };
+        interrupter.start();
+        byte[] buffer = new byte[64 * 1024];
+        try {
+            for (int i = 0; i < 200; i++) {
+                try {
+                    while (is.read(buffer) != -1) {
+                    }
+                } catch (AbortedException expected) {
+                }
+                try {
+                    is.reset();
+                } catch (AbortedException expected) {
+                }
+            }
+        } finally {
+            stop.set(true);
+            while (interrupter.isAlive()) {
+                Thread.yield();
+            }
+            Thread.interrupted();
+        }
+
+        is.reset();
+        assertEquals(content, IOUtils.toString(is));
+        is.close();
+    }
+
     @Test(expected=ClosedChannelException.class)
     public void testMarkAndResetClosedFileInputStream() throws IOException {
         ResettableInputStream is = new ResettableInputStream(new FileInputStream(file));
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsCoverLatenciesWithBoundedError() {
+        for (long micros = 0; micros < (1L << 30); micros = micros * 5 / 4 + 1) {
+            long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(micros));
+            assertTrue(upperBound >= micros);
+            assertTrue(upperBound - micros <= micros / 16);
+        }
+    }
+
+    @Test
+    public void percentilesOfRecordedLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        assertEquals(-1, histogram.getPercentileMillis(50), 0);
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500, histogram.getPercentileMillis(50), 500 / 16.0);
+        assertEquals(990, histogram.getPercentileMillis(99), 990 / 16.0);
+        assertEquals(1000, histogram.getPercentileMillis(100), 1000 / 16.0);
+        assertEquals(1, histogram.getPercentileMillis(0), 1 / 16.0);
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void recordsLatencyPerOperationWhenEnabled() {
+        AwsSdkMetrics.recordLatency("Test", new GetThingRequest(), 1000);
+        assertEquals(0, AwsSdkMetrics.getLatencyHistograms().size());
+
+        AwsSdkMetrics.setLatencyHistogramsEnabled(true);
+        try {
+            AwsSdkMetrics.recordLatency("Test", new GetThingRequest(), 1000);
+            AwsSdkMetrics.recordLatency("Test", new GetThingRequest(), 2000);
+            LatencyHistogram histogram = AwsSdkMetrics.getLatencyHistograms().iterator().next();
+            assertEquals("Test.GetThing", histogram.getName());
+            assertEquals(2, histogram.getCount());
+        } finally {
+            AwsSdkMetrics.setLatencyHistogramsEnabled(false);
+            AwsSdkMetrics.resetLatencyHistograms();
+        }
+    }
+
+    private static class GetThingRequest extends AmazonWebServiceRequest {
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests the behavior of the {@link AdaptiveRateLimiter}
+ */
+public class AdaptiveRateLimiterTest {
+
+    private static final double DELTA = 0.01;
+
+    /**
+     * Tests that requests are not limited until one is throttled.
+     */
+    @Test
+    public void doesNotLimitBeforeThrottled() throws InterruptedException {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.acquire());
+        }
+        limiter.onSuccess();
+        assertEquals(Double.POSITIVE_INFINITY, limiter.getAllowedSendRate(), 0);
+        assertEquals(0, limiter.getTotalDelay(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Tests that the first throttled request limits the rate under the rate requests were sent at.
+     */
+    @Test
+    public void throttleCutsSendRate() throws InterruptedException {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(1, 5, 0.5);
+        // 10 requests within the first half second measure as 20 per second
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        limiter.onThrottle(System.nanoTime());
+        assertEquals(10, limiter.getAllowedSendRate(), DELTA);
+        assertEquals(1, limiter.getThrottledRequestCount());
+    }
+
+    /**
+     * Tests that the requests throttled together, having been sent before the rate was cut, cut
+     * it only once.
+     */
+    @Test
+    public void requestsSentBeforeCutDoNotCutAgain() throws InterruptedException {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(1, 5, 0.5);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        long sendTime = System.nanoTime();
+        limiter.onThrottle(sendTime);
+        double rate = limiter.getAllowedSendRate();
+        limiter.onThrottle(sendTime);
+        limiter.onThrottle(sendTime);
+        assertEquals(rate, limiter.getAllowedSendRate(), DELTA);
+        assertEquals(3, limiter.getThrottledRequestCount());
+
+        limiter.onThrottle(System.nanoTime());
+        assertTrue(limiter.getAllowedSendRate() < rate);
+    }
+
+    /**
+     * Tests that the rate never goes under the minimum.
+     */
+    @Test
+    public void sendRateStaysAboveMinimum() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(2, 5, 0.5);
+        for (int i = 0; i < 10; i++) {
+            limiter.onThrottle(System.nanoTime());
+        }
+        assertEquals(2, limiter.getAllowedSendRate(), DELTA);
+    }
+
+    /**
+     * Tests that successful requests raise the rate, up to twice the rate requests are sent at.
+     */
+    @Test
+    public void successRaisesSendRate() throws InterruptedException {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(1, 5, 0.5);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        limiter.onThrottle(System.nanoTime());
+        limiter.onSuccess();
+        assertEquals(10.5, limiter.getAllowedSendRate(), DELTA);
+        for (int i = 0; i < 1000; i++) {
+            limiter.onSuccess();
+        }
+        assertTrue(limiter.getAllowedSendRate() <= 2 * limiter.getMeasuredSendRate() + DELTA);
+    }
+
+    /**
+     * Tests that requests wait for their turn once the rate is limited.
+     */
+    @Test
+    public void pacesRequests() throws InterruptedException {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 5, 0.5);
+        limiter.onThrottle(System.nanoTime());
+        assertEquals(10, limiter.getAllowedSendRate(), DELTA);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 250);
+        assertTrue(limiter.getTotalDelay(TimeUnit.MILLISECONDS) >= 250);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDecreaseFactorNotBelowOne() {
+        new AdaptiveRateLimiter(1, 5, 1);
+    }
+}
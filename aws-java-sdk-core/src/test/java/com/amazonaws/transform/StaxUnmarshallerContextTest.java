@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.events.XMLEvent;
+
+import org.junit.Test;
+
+public class StaxUnmarshallerContextTest {
+
+    private static final String RESPONSE = "<DescribeResponse>"
+            + "<unknown><a><b>1</b></a><a/></unknown>"
+            + "<items><item id=\"i-1\"><name>first</name></item></items>"
+            + "<requestId>request-id</requestId>"
+            + "</DescribeResponse>";
+
+    private static final Set<String> MEMBER_ELEMENTS = new HashSet<String>(Arrays.asList("items"));
+
+    @Test
+    public void testExpressionMatchesPathAtDepth() throws Exception {
+        StaxUnmarshallerContext context = createContext(RESPONSE);
+        boolean matchedItem = false;
+        boolean matchedId = false;
+        while (true) {
+            XMLEvent event = context.nextEvent();
+            if (event.isEndDocument()) break;
+            if (event.isStartElement() && context.testExpression("items/item", 2)) {
+                assertEquals(3, context.getCurrentDepth());
+                matchedItem = true;
+            }
+            if (context.testExpression("items/item/@id", 2)) {
+                assertTrue(event.isAttribute());
+                matchedId = true;
+            }
+            assertFalse(context.testExpression("item", 2));
+            if (context.testExpression("item/name", 3)) {
+                assertEquals("first", context.readText());
+            }
+        }
+        assertTrue(matchedItem);
+        assertTrue(matchedId);
+    }
+
+    @Test
+    public void elementAfterAttributeIsNotPartOfAttributePath() throws Exception {
+        StaxUnmarshallerContext context = createContext(RESPONSE);
+        while (!context.testExpression("item/name", 3)) {
+            context.nextEvent();
+        }
+        assertTrue(context.testExpression("DescribeResponse/items/item/name"));
+    }
+
+    @Test
+    public void skipsUnknownElementsAndKeepsMetadata() throws Exception {
+        StaxUnmarshallerContext context = createContext(RESPONSE);
+        context.registerMetadataExpression("requestId", 2, "RequestId");
+        int skipped = 0;
+        String name = null;
+        while (true) {
+            XMLEvent event = context.nextEvent();
+            if (event.isEndDocument()) break;
+            assertFalse(context.testExpression("unknown/a", 2));
+            if (context.testExpression("items/item/name", 2)) {
+                name = context.readText();
+            }
+            if (context.skipElementUnlessNamed(2, MEMBER_ELEMENTS)) {
+                assertEquals(1, context.getCurrentDepth());
+                skipped++;
+            }
+        }
+        assertEquals("first", name);
+        assertEquals(2, skipped);
+        assertEquals("request-id", context.getMetadata().get("RequestId"));
+    }
+
+    @Test
+    public void tracksElementsSkippedAboveMetadataDepth() throws Exception {
+        StaxUnmarshallerContext context = createContext(RESPONSE);
+        context.registerMetadataExpression("unknown/a/b", 2, "B");
+        while (!context.testExpression("unknown/a", 2)) {
+            context.nextEvent();
+        }
+        assertTrue(context.skipElementUnlessNamed(3, MEMBER_ELEMENTS));
+        assertEquals("1", context.getMetadata().get("B"));
+        assertTrue(context.nextEvent().isStartElement());
+        assertTrue(context.testExpression("unknown/a", 2));
+        assertFalse(context.skipElementUnlessNamed(2, MEMBER_ELEMENTS));
+    }
+
+    private static StaxUnmarshallerContext createContext(String xml) throws Exception {
+        return new StaxUnmarshallerContext(XMLInputFactory.newInstance()
+                .createXMLEventReader(new StringReader(xml)));
+    }
+}
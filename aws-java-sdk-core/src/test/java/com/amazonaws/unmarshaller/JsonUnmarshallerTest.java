@@ -32,6 +32,7 @@ import com.fasterxml.jackson.core.JsonParser;
 
 import org.junit.Test;
 
+import com.amazonaws.transform.JsonFieldIndex;
 import com.amazonaws.transform.JsonUnmarshallerContext;
 import com.amazonaws.transform.JsonUnmarshallerContextImpl;
 import com.amazonaws.transform.ListUnmarshaller;
@@ -42,6 +43,7 @@ import com.amazonaws.transform.SimpleTypeJsonUnmarshallers;
 public class JsonUnmarshallerTest {
     public static final String SIMPLE_MAP = "{\"key1\" : \"value1\", \"key2\" : \"value2\"}";
     public static final String MAP_TO_LIST = "{\"key1\" : [ null, \"value1\"], \"key2\" : [\"value2\"]}";
+    public static final String NESTED_OBJECT = "{\"a\" : {\"b\" : 1, \"a\" : [2]}, \"d\" : {\"c\" : {}}, \"c\" : \"3\"}";
     private static JsonFactory jsonFactory = new JsonFactory();
 
     @Test
@@ -69,6 +71,27 @@ public class JsonUnmarshallerTest {
         assertEquals(Arrays.asList("value2"), map.get("key2"));
     }
 
+    @Test
+    public void testFieldIndexMatchesSameFieldsAsTestExpression() throws Exception {
+        String[] fieldNames = { "a", "b", "c" };
+        JsonFieldIndex fieldIndex = new JsonFieldIndex(fieldNames);
+        JsonUnmarshallerContext unmarshallerContext = setupUnmarshaller(NESTED_OBJECT);
+        int tokens = 0;
+        while (unmarshallerContext.nextToken() != null) {
+            tokens++;
+            for (int depth = 1; depth <= 3; depth++) {
+                int expected = -1;
+                for (int i = 0; i < fieldNames.length; i++) {
+                    if (unmarshallerContext.testExpression(fieldNames[i], depth)) {
+                        expected = i;
+                    }
+                }
+                assertEquals(expected, fieldIndex.indexOf(unmarshallerContext, depth));
+            }
+        }
+        assertTrue(tokens > 0);
+    }
+
     private JsonUnmarshallerContext setupUnmarshaller(String snippet) throws Exception {
         JsonParser jsonParser = jsonFactory
                 .createJsonParser(new ByteArrayInputStream(snippet.getBytes()));
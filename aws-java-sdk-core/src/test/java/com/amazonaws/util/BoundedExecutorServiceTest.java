@@ -0,0 +1,266 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BoundedExecutorServiceTest {
+
+    private ExecutorService sharedExecutor;
+
+    @Before
+    public void setup() {
+        sharedExecutor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        SdkExecutors.setExecutorProvider(null);
+        sharedExecutor.shutdownNow();
+    }
+
+    @Test
+    public void runsAtMostMaxConcurrencyTasksAtOnce() throws Exception {
+        ExecutorService pool = new BoundedExecutorService(sharedExecutor, 3);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 30; i++) {
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    int now = running.incrementAndGet();
+                    synchronized (maxRunning) {
+                        maxRunning.set(Math.max(maxRunning.get(), now));
+                    }
+                    sleep(5);
+                    running.decrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(3, maxRunning.get());
+    }
+
+    @Test
+    public void poolOfOneRunsTasksInOrder() throws Exception {
+        ExecutorService pool = new BoundedExecutorService(sharedExecutor, 1);
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            final int task = i;
+            expected.add(i);
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    order.add(task);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(expected, order);
+    }
+
+    @Test
+    public void shutdownLeavesSharedExecutorRunning() throws Exception {
+        ExecutorService pool = new BoundedExecutorService(sharedExecutor, 2);
+        pool.shutdown();
+        assertTrue(pool.isTerminated());
+        assertFalse(sharedExecutor.isShutdown());
+        try {
+            pool.execute(new CountDownLatchTask(new CountDownLatch(1)));
+            throw new AssertionError("Expected the task to be rejected");
+        } catch (RejectedExecutionException expected) {
+        }
+    }
+
+    @Test
+    public void shutdownNowReturnsWaitingTasksAndInterruptsRunningOnes() throws Exception {
+        ExecutorService pool = new BoundedExecutorService(sharedExecutor, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        pool.execute(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+        });
+        pool.execute(new CountDownLatchTask(new CountDownLatch(1)));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        assertEquals(1, pool.shutdownNow().size());
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void waitingTasksRejectedBySharedExecutorCompleteExceptionally() throws Exception {
+        final AtomicBoolean rejecting = new AtomicBoolean();
+        final List<Throwable> escaped = new CopyOnWriteArrayList<Throwable>();
+        ExecutorService pool = new BoundedExecutorService(new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                if (rejecting.get()) {
+                    throw new RejectedExecutionException("shared executor is full");
+                }
+                sharedExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            command.run();
+                        } catch (Throwable t) {
+                            escaped.add(t);
+                        }
+                    }
+                });
+            }
+        }, 1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+        Future<?> first = pool.submit(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Future<?> second = pool.submit(new CountDownLatchTask(new CountDownLatch(1)));
+        Future<?> third = pool.submit(new CountDownLatchTask(new CountDownLatch(1)));
+
+        rejecting.set(true);
+        release.countDown();
+
+        first.get(10, TimeUnit.SECONDS);
+        for (Future<?> rejected : new Future<?>[] {second, third}) {
+            try {
+                rejected.get(10, TimeUnit.SECONDS);
+                fail("Expected ExecutionException");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(Collections.emptyList(), escaped);
+    }
+
+    @Test
+    public void taskRejectedBySharedExecutorIsRejectedToCaller() throws Exception {
+        ExecutorService pool = new BoundedExecutorService(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("shared executor is shut down");
+            }
+        }, 1);
+        try {
+            pool.submit(new CountDownLatchTask(new CountDownLatch(1)));
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException expected) {
+        }
+        pool.shutdown();
+        assertTrue(pool.isTerminated());
+    }
+
+    @Test
+    public void poolsRunOnExecutorOfProvider() throws Exception {
+        final AtomicInteger executed = new AtomicInteger();
+        SdkExecutors.setExecutorProvider(SdkExecutors.sharedExecutorProvider(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                executed.incrementAndGet();
+                sharedExecutor.execute(command);
+            }
+        }));
+        ExecutorService pool = SdkExecutors.newFixedThreadPool("test", 2);
+        CountDownLatch latch = new CountDownLatch(1);
+        pool.execute(new CountDownLatchTask(latch));
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, executed.get());
+        pool.shutdown();
+    }
+
+    @Test
+    public void poolsCreateOwnThreadsWithoutProvider() throws Exception {
+        final AtomicInteger threads = new AtomicInteger();
+        ExecutorService pool = SdkExecutors.newCachedThreadPool("test", new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                threads.incrementAndGet();
+                return new Thread(r);
+            }
+        });
+        CountDownLatch latch = new CountDownLatch(1);
+        pool.execute(new CountDownLatchTask(latch));
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(1, threads.get());
+        pool.shutdown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class CountDownLatchTask implements Runnable {
+
+        private final CountDownLatch latch;
+
+        CountDownLatchTask(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.xml.stream.XMLInputFactory;
+
+import org.junit.Test;
+
+public class XmlUtilsTest {
+
+    @Test
+    public void xmlInputFactoryIsReusedWithinThread() {
+        assertSame(XmlUtils.getXmlInputFactory(), XmlUtils.getXmlInputFactory());
+    }
+
+    @Test
+    public void xmlInputFactoryIsNotSharedAcrossThreads() throws Exception {
+        final AtomicReference<XMLInputFactory> otherFactory = new AtomicReference<XMLInputFactory>();
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                otherFactory.set(XmlUtils.getXmlInputFactory());
+            }
+        };
+        thread.start();
+        thread.join();
+
+        assertNotNull(otherFactory.get());
+        assertNotSame(XmlUtils.getXmlInputFactory(), otherFactory.get());
+    }
+}
@@ -111,8 +111,8 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
     public DataPipelineAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("DataPipelineAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -131,8 +131,8 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
      */
     public DataPipelineAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("DataPipelineAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -194,8 +194,8 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
      */
     public DataPipelineAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("DataPipelineAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -222,8 +222,8 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("DataPipelineAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -90,8 +90,8 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
     public AWSDeviceFarmAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSDeviceFarmAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -110,8 +110,8 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
      */
     public AWSDeviceFarmAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSDeviceFarmAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -173,8 +173,8 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
      */
     public AWSDeviceFarmAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSDeviceFarmAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -201,8 +201,8 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSDeviceFarmAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
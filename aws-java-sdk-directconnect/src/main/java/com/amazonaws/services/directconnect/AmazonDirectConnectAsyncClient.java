@@ -99,8 +99,8 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
     public AmazonDirectConnectAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonDirectConnectAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -119,8 +119,8 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public AmazonDirectConnectAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonDirectConnectAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -182,8 +182,8 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
      */
     public AmazonDirectConnectAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonDirectConnectAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -210,8 +210,8 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonDirectConnectAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
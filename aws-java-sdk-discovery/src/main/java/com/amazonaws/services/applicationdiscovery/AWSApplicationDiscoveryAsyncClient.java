@@ -489,8 +489,8 @@ public class AWSApplicationDiscoveryAsyncClient extends
     public AWSApplicationDiscoveryAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSApplicationDiscoveryAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -510,8 +510,8 @@ public class AWSApplicationDiscoveryAsyncClient extends
      */
     public AWSApplicationDiscoveryAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSApplicationDiscoveryAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -573,8 +573,8 @@ public class AWSApplicationDiscoveryAsyncClient extends
      */
     public AWSApplicationDiscoveryAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSApplicationDiscoveryAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -601,8 +601,8 @@ public class AWSApplicationDiscoveryAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSApplicationDiscoveryAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -276,8 +276,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
     public AmazonDynamoDBAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonDynamoDBAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -296,8 +296,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
      */
     public AmazonDynamoDBAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonDynamoDBAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -359,8 +359,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
      */
     public AmazonDynamoDBAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonDynamoDBAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -387,8 +387,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonDynamoDBAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
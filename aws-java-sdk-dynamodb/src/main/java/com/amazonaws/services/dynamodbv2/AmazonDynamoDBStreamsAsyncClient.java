@@ -123,8 +123,8 @@ public class AmazonDynamoDBStreamsAsyncClient extends
     public AmazonDynamoDBStreamsAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonDynamoDBStreamsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -143,8 +143,8 @@ public class AmazonDynamoDBStreamsAsyncClient extends
      */
     public AmazonDynamoDBStreamsAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonDynamoDBStreamsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +206,8 @@ public class AmazonDynamoDBStreamsAsyncClient extends
      */
     public AmazonDynamoDBStreamsAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonDynamoDBStreamsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -234,8 +234,8 @@ public class AmazonDynamoDBStreamsAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonDynamoDBStreamsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
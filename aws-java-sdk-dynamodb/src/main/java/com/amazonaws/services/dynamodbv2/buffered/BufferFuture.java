@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+
+/**
+ * Delivers the result of a single request which a buffer sent as part of a
+ * batch. The async handler given with the request, if any, is called on the
+ * buffer's executor, never on the thread completing the batch. Not
+ * cancellable.
+ */
+class BufferFuture<Req extends AmazonWebServiceRequest, Res> implements Future<Res> {
+
+    private final Req request;
+    private final AsyncHandler<Req, Res> handler;
+    private final Executor executor;
+
+    private Res result;
+    private Exception exception;
+    private boolean done;
+
+    BufferFuture(Req request, AsyncHandler<Req, Res> handler, Executor executor) {
+        this.request = request;
+        this.handler = handler;
+        this.executor = executor;
+    }
+
+    Req getRequest() {
+        return request;
+    }
+
+    /**
+     * Reports that the request succeeded. Does nothing if the future is
+     * already done.
+     */
+    void setSuccess(final Res paramResult) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            result = paramResult;
+            done = true;
+            notifyAll();
+        }
+
+        if (handler != null) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    handler.onSuccess(request, paramResult);
+                }
+            });
+        }
+    }
+
+    /**
+     * Reports that the request failed. Does nothing if the future is already
+     * done.
+     */
+    void setFailure(final Exception paramException) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            exception = paramException;
+            done = true;
+            notifyAll();
+        }
+
+        if (handler != null) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    handler.onError(paramException);
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        // not cancellable
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        // not cancellable
+        return false;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public synchronized Res get() throws InterruptedException, ExecutionException {
+        while (!done) {
+            wait();
+        }
+        return getResult();
+    }
+
+    @Override
+    public synchronized Res get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+
+        long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new TimeoutException("Timed out waiting for results after " + timeout + " " + unit);
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+        }
+        return getResult();
+    }
+
+    private Res getResult() throws ExecutionException {
+        if (exception != null) {
+            throw new ExecutionException(exception);
+        }
+        return result;
+    }
+}
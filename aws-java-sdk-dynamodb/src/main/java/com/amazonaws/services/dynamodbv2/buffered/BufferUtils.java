@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.util.SdkExecutors;
+
+/**
+ * State and helpers shared by the read and write buffers.
+ */
+final class BufferUtils {
+
+    /** The back-off before the first retry; doubled for each next one, then jittered. */
+    private static final long BASE_BACKOFF_IN_MILLISECONDS = 50;
+
+    /** The longest back-off before a retry. */
+    private static final long MAX_BACKOFF_IN_MILLISECONDS = 1000 * 3;
+
+    private static final Random random = new Random();
+
+    /**
+     * The executor shared among all buffers, which sends the batches and calls the async handlers.
+     * Its daemon threads do not keep the JVM from exiting, and are released when idle.
+     */
+    static final ExecutorService executor = SdkExecutors.newCachedThreadPool(
+            "dynamodb-buffer", new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r);
+                    t.setName("dynamodb-buffer-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    private BufferUtils() {
+    }
+
+    /**
+     * Returns a random delay before the given retry, up to an exponentially growing maximum, so
+     * that batches throttled together do not retry together.
+     *
+     * @param retries
+     *            The number of the retry, starting at 1.
+     */
+    static long getDelayBeforeRetry(int retries) {
+        long maxDelay = Math.min(MAX_BACKOFF_IN_MILLISECONDS,
+                BASE_BACKOFF_IN_MILLISECONDS << Math.min(retries - 1, 16));
+        return (long) (random.nextDouble() * maxDelay);
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.util.VersionInfoUtils;
+
+/**
+ * A long-lived buffer which coalesces individual {@code GetItem} calls, made from any number of
+ * threads, into {@code BatchGetItem} requests.
+ * <p>
+ * When a read arrives, the buffer adds its key to the open batch of its table and read
+ * consistency, creating one if there currently isn't one. Reads of a key already in the batch
+ * share its result rather than being read twice. When the batch holds
+ * {@link ReadBufferConfig#getMaxBatchSize()} distinct keys, or when
+ * {@link ReadBufferConfig#getMaxBatchOpenMs()} expires, the batch is sent to DynamoDB on a thread
+ * shared by all buffers. Keys which DynamoDB returns as unprocessed, or which are throttled, are
+ * read again with a jittered exponential back-off, up to {@link ReadBufferConfig#getMaxRetries()}
+ * times. Each read gets its own future, whose result has no item if the key was not found.
+ * <p>
+ * Reads which select attributes or ask for the consumed capacity are sent on their own with
+ * {@code GetItem}, along with the batch they were added to, as {@code BatchGetItem} could only
+ * apply those options to every key of the table. A batch that DynamoDB rejects as invalid as a
+ * whole is also retried one read at a time, so that only the invalid reads fail.
+ * <p>
+ * Instances of {@code DynamoDBReadBuffer} are thread-safe.
+ */
+public class DynamoDBReadBuffer {
+
+    public static final String USER_AGENT = DynamoDBReadBuffer.class.getSimpleName() + "/"
+            + VersionInfoUtils.getVersion();
+
+    private static final Log log = LogFactory.getLog(DynamoDBReadBuffer.class);
+
+    private final AmazonDynamoDB dynamo;
+    private final ReadBufferConfig config;
+    private final ConcurrentMap<String, TableBuffer> tableBuffers = new ConcurrentHashMap<String, TableBuffer>();
+
+    private volatile boolean shutdown;
+
+    public DynamoDBReadBuffer(AmazonDynamoDB dynamo) {
+        this(dynamo, new ReadBufferConfig());
+    }
+
+    public DynamoDBReadBuffer(AmazonDynamoDB dynamo, ReadBufferConfig config) {
+        this.dynamo = dynamo;
+        this.config = new ReadBufferConfig(config);
+    }
+
+    public ReadBufferConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Asynchronously gets an item, in a batch with other reads from the same table.
+     *
+     * @return A future completed once the item has been read; never null.
+     * @throws AmazonClientException
+     *             If the buffer has been shut down, or the calling thread was interrupted while
+     *             waiting for a batch to be sent.
+     */
+    public Future<GetItemResult> getItem(GetItemRequest request) {
+        return getItem(request, null);
+    }
+
+    /**
+     * Asynchronously gets an item, in a batch with other reads from the same table, and calls the
+     * given handler once it has been read.
+     *
+     * @see #getItem(GetItemRequest)
+     */
+    public Future<GetItemResult> getItem(GetItemRequest request,
+                                         AsyncHandler<GetItemRequest, GetItemResult> asyncHandler) {
+        if (shutdown) {
+            throw new AmazonClientException("The read buffer has been shut down.");
+        }
+        if (request.getTableName() == null) {
+            throw new IllegalArgumentException("The table name of the request must be set.");
+        }
+
+        BufferFuture<GetItemRequest, GetItemResult> future =
+                new BufferFuture<GetItemRequest, GetItemResult>(request, asyncHandler, BufferUtils.executor);
+
+        boolean consistentRead = Boolean.TRUE.equals(request.getConsistentRead());
+        // '#' cannot appear in table names.
+        String bufferName = consistentRead ? request.getTableName() + "#consistent" : request.getTableName();
+        TableBuffer tableBuffer = tableBuffers.get(bufferName);
+        if (tableBuffer == null) {
+            tableBuffers.putIfAbsent(bufferName, new TableBuffer(request.getTableName(), consistentRead));
+            tableBuffer = tableBuffers.get(bufferName);
+        }
+        tableBuffer.submit(future);
+        return future;
+    }
+
+    /**
+     * Sends the open batches without waiting for them to fill up, and returns when every read
+     * submitted before the call has been processed.
+     */
+    public void flush() {
+        for (TableBuffer tableBuffer : tableBuffers.values()) {
+            tableBuffer.flush();
+        }
+    }
+
+    /**
+     * Flushes the buffer and stops accepting reads. The underlying client is not shut down.
+     */
+    public void shutdown() {
+        shutdown = true;
+        flush();
+    }
+
+    /**
+     * The open batch and the in-flight batches of one table, for one read consistency.
+     */
+    private class TableBuffer {
+
+        private final String tableName;
+        private final boolean consistentRead;
+
+        /**
+         * Permits controlling the number of in flight batches.
+         */
+        private final Semaphore inflightBatches;
+
+        /**
+         * The batch currently accepting reads. Synchronized by {@code this}.
+         */
+        private ReadBatchTask openBatch;
+
+        TableBuffer(String tableName, boolean consistentRead) {
+            this.tableName = tableName;
+            this.consistentRead = consistentRead;
+            this.inflightBatches = new Semaphore(config.getMaxInflightBatches());
+        }
+
+        void submit(BufferFuture<GetItemRequest, GetItemResult> read) {
+            synchronized (this) {
+                if (openBatch != null && openBatch.add(read)) {
+                    return;
+                }
+            }
+
+            // Wait for a free slot without holding the lock, so that flush() can close the open
+            // batch meanwhile.
+            try {
+                inflightBatches.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while waiting for a batch to be sent.", e);
+            }
+
+            synchronized (this) {
+                if (openBatch != null && openBatch.add(read)) {
+                    // Another reader opened a batch while this one was waiting.
+                    inflightBatches.release();
+                    return;
+                }
+
+                if (log.isTraceEnabled()) {
+                    log.trace("Table " + tableName + " created new batch, "
+                            + inflightBatches.availablePermits() + " free slots remain");
+                }
+
+                openBatch = new ReadBatchTask(tableName, consistentRead, inflightBatches);
+                openBatch.add(read);
+                BufferUtils.executor.execute(openBatch);
+            }
+        }
+
+        void flush() {
+            synchronized (this) {
+                if (openBatch != null) {
+                    openBatch.close();
+                }
+            }
+            try {
+                inflightBatches.acquire(config.getMaxInflightBatches());
+                inflightBatches.release(config.getMaxInflightBatches());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Task reading a batch of keys from one table.
+     * <p>
+     * The task is constructed open and accepts reads until it holds {@code maxBatchSize} distinct
+     * keys, or until {@code maxBatchOpenMs} elapses. At that point the batch closes and its keys are
+     * read.
+     */
+    private class ReadBatchTask implements Runnable {
+
+        private final String tableName;
+        private final boolean consistentRead;
+        private final Semaphore inflightBatches;
+
+        /** The reads to batch, by key. */
+        private final Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> reads =
+                new LinkedHashMap<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>>();
+
+        /** The reads to send on their own. */
+        private final List<BufferFuture<GetItemRequest, GetItemResult>> unbatchableReads =
+                new ArrayList<BufferFuture<GetItemRequest, GetItemResult>>();
+
+        private boolean closed;
+
+        ReadBatchTask(String tableName, boolean consistentRead, Semaphore inflightBatches) {
+            this.tableName = tableName;
+            this.consistentRead = consistentRead;
+            this.inflightBatches = inflightBatches;
+        }
+
+        /**
+         * Adds a read to the batch if it is still open and has capacity.
+         *
+         * @return whether the read was added.
+         */
+        synchronized boolean add(BufferFuture<GetItemRequest, GetItemResult> read) {
+            if (closed) {
+                return false;
+            }
+
+            if (isBatchable(read.getRequest())) {
+                ItemKey key = new ItemKey(read.getRequest().getKey());
+                List<BufferFuture<GetItemRequest, GetItemResult>> readsOfKey = reads.get(key);
+                if (readsOfKey == null) {
+                    readsOfKey = new ArrayList<BufferFuture<GetItemRequest, GetItemResult>>(1);
+                    reads.put(key, readsOfKey);
+                }
+                readsOfKey.add(read);
+            } else {
+                unbatchableReads.add(read);
+            }
+
+            if (reads.size() + unbatchableReads.size() >= config.getMaxBatchSize()) {
+                close();
+            }
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+            notify();
+        }
+
+        @Override
+        public void run() {
+            Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> batch =
+                    Collections.emptyMap();
+            List<BufferFuture<GetItemRequest, GetItemResult>> unbatchable = Collections.emptyList();
+            try {
+                long deadlineNanos = System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(config.getMaxBatchOpenMs());
+
+                synchronized (this) {
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    while (!closed && remainingNanos > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                        remainingNanos = deadlineNanos - System.nanoTime();
+                    }
+                    closed = true;
+                    batch = new LinkedHashMap<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>>(reads);
+                    unbatchable = new ArrayList<BufferFuture<GetItemRequest, GetItemResult>>(unbatchableReads);
+                }
+
+                for (BufferFuture<GetItemRequest, GetItemResult> read : unbatchable) {
+                    readAlone(read);
+                }
+                process(tableName, consistentRead, batch);
+
+            } catch (InterruptedException e) {
+                failAll(batch, unbatchable, new AmazonClientException("Interrupted while sending a batch.", e));
+            } catch (AmazonClientException e) {
+                failAll(batch, unbatchable, e);
+            } catch (RuntimeException e) {
+                failAll(batch, unbatchable, e);
+                throw e;
+            } catch (Error e) {
+                failAll(batch, unbatchable, new AmazonClientException("Error encountered", e));
+                throw e;
+            } finally {
+                inflightBatches.release();
+            }
+        }
+    }
+
+    private void process(String tableName,
+                         boolean consistentRead,
+                         Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> pending)
+            throws InterruptedException {
+
+        for (int retries = 0; !pending.isEmpty(); retries++) {
+            if (retries > 0) {
+                Thread.sleep(BufferUtils.getDelayBeforeRetry(retries));
+            }
+
+            List<Map<String, AttributeValue>> keys = new ArrayList<Map<String, AttributeValue>>(pending.size());
+            for (ItemKey key : pending.keySet()) {
+                keys.add(key.getAttributes());
+            }
+            KeysAndAttributes keysAndAttributes = new KeysAndAttributes()
+                    .withKeys(keys);
+            if (consistentRead) {
+                keysAndAttributes.setConsistentRead(true);
+            }
+            BatchGetItemRequest batchRequest = new BatchGetItemRequest().withRequestItems(
+                    Collections.singletonMap(tableName, keysAndAttributes));
+            batchRequest.getRequestClientOptions().appendUserAgent(USER_AGENT);
+
+            Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> unprocessed;
+            try {
+                BatchGetItemResult batchResult = dynamo.batchGetItem(batchRequest);
+                unprocessed = completeProcessed(pending, batchResult, tableName);
+            } catch (AmazonServiceException ase) {
+                if (RetryUtils.isThrottlingException(ase)) {
+                    unprocessed = pending;
+                } else if ("ValidationException".equals(ase.getErrorCode()) && pending.size() > 1) {
+                    // Find out which keys made the batch invalid.
+                    for (List<BufferFuture<GetItemRequest, GetItemResult>> reads : pending.values()) {
+                        for (BufferFuture<GetItemRequest, GetItemResult> read : reads) {
+                            readAlone(read);
+                        }
+                    }
+                    return;
+                } else {
+                    throw ase;
+                }
+            }
+
+            if (!unprocessed.isEmpty() && retries >= config.getMaxRetries()) {
+                failAll(unprocessed.values(), new AmazonClientException(unprocessed.size() + " keys of "
+                        + tableName + " were still unprocessed after " + retries + " retries."));
+                return;
+            }
+            pending = unprocessed;
+        }
+    }
+
+    /**
+     * Completes the futures of the keys which are not in the unprocessed keys, with the item
+     * returned for the key if any.
+     *
+     * @return The reads of the unprocessed keys.
+     */
+    private static Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> completeProcessed(
+            Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> pending,
+            BatchGetItemResult batchResult,
+            String tableName) {
+
+        Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> remaining =
+                new LinkedHashMap<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>>(pending);
+
+        // The items do not say which attributes are their key, so look
+        // them up by the attributes of the keys that were asked for.
+        Set<Set<String>> keyAttributeNames = new HashSet<Set<String>>();
+        for (ItemKey key : pending.keySet()) {
+            keyAttributeNames.add(key.getAttributes().keySet());
+        }
+
+        List<Map<String, AttributeValue>> items = batchResult.getResponses() == null
+                ? null : batchResult.getResponses().get(tableName);
+        if (items != null) {
+            for (Map<String, AttributeValue> item : items) {
+                for (Set<String> attributeNames : keyAttributeNames) {
+                    List<BufferFuture<GetItemRequest, GetItemResult>> reads =
+                            remaining.remove(keyOf(item, attributeNames));
+                    if (reads != null) {
+                        for (BufferFuture<GetItemRequest, GetItemResult> read : reads) {
+                            read.setSuccess(new GetItemResult().withItem(item));
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        KeysAndAttributes unprocessedKeys = batchResult.getUnprocessedKeys() == null
+                ? null : batchResult.getUnprocessedKeys().get(tableName);
+        Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> unprocessed =
+                new LinkedHashMap<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>>();
+        if (unprocessedKeys != null && unprocessedKeys.getKeys() != null) {
+            for (Map<String, AttributeValue> key : unprocessedKeys.getKeys()) {
+                ItemKey itemKey = new ItemKey(key);
+                List<BufferFuture<GetItemRequest, GetItemResult>> reads = remaining.remove(itemKey);
+                if (reads != null) {
+                    unprocessed.put(itemKey, reads);
+                }
+            }
+        }
+
+        // Whatever is left was processed, but not found.
+        for (List<BufferFuture<GetItemRequest, GetItemResult>> reads : remaining.values()) {
+            for (BufferFuture<GetItemRequest, GetItemResult> read : reads) {
+                read.setSuccess(new GetItemResult());
+            }
+        }
+        return unprocessed;
+    }
+
+    private static ItemKey keyOf(Map<String, AttributeValue> item, Set<String> attributeNames) {
+        Map<String, AttributeValue> key = new HashMap<String, AttributeValue>(attributeNames.size() * 2);
+        for (String attributeName : attributeNames) {
+            AttributeValue value = item.get(attributeName);
+            if (value == null) {
+                return null;
+            }
+            key.put(attributeName, value);
+        }
+        return new ItemKey(key);
+    }
+
+    private void readAlone(BufferFuture<GetItemRequest, GetItemResult> read) {
+        try {
+            read.setSuccess(dynamo.getItem(read.getRequest()));
+        } catch (RuntimeException e) {
+            read.setFailure(e);
+        }
+    }
+
+    private static boolean isBatchable(GetItemRequest request) {
+        return request.getAttributesToGet() == null
+                && request.getProjectionExpression() == null
+                && request.getExpressionAttributeNames() == null
+                && request.getReturnConsumedCapacity() == null;
+    }
+
+    private static void failAll(Map<ItemKey, List<BufferFuture<GetItemRequest, GetItemResult>>> batch,
+                                List<BufferFuture<GetItemRequest, GetItemResult>> unbatchable,
+                                Exception e) {
+        failAll(batch.values(), e);
+        for (BufferFuture<GetItemRequest, GetItemResult> read : unbatchable) {
+            read.setFailure(e);
+        }
+    }
+
+    private static void failAll(Iterable<List<BufferFuture<GetItemRequest, GetItemResult>>> reads, Exception e) {
+        for (List<BufferFuture<GetItemRequest, GetItemResult>> readsOfKey : reads) {
+            for (BufferFuture<GetItemRequest, GetItemResult> read : readsOfKey) {
+                read.setFailure(e);
+            }
+        }
+    }
+}
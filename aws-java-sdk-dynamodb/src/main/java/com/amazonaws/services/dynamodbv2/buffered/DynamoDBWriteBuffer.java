@@ -0,0 +1,578 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DeleteRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.ReturnValue;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.amazonaws.util.VersionInfoUtils;
+
+/**
+ * A long-lived buffer which coalesces individual {@code PutItem} and {@code DeleteItem} calls,
+ * made from any number of threads, into {@code BatchWriteItem} requests.
+ * <p>
+ * When a write arrives, the buffer adds it to the open batch of its table, creating one if there
+ * currently isn't one. When the batch is full, or when {@link WriteBufferConfig#getMaxBatchOpenMs()}
+ * expires, the batch is sent to DynamoDB on a thread shared by all buffers. Writes which DynamoDB
+ * returns as unprocessed, or which are throttled, are sent again with a jittered exponential
+ * back-off, up to {@link WriteBufferConfig#getMaxRetries()} times. Each write gets its own future,
+ * which completes when that write has been processed.
+ * <p>
+ * {@code BatchWriteItem} does not support conditions nor return values, so writes using them are
+ * sent on their own with {@code PutItem} or {@code DeleteItem}, along with the batch they were
+ * added to. A batch that DynamoDB rejects as invalid as a whole, as it does when it contains two
+ * writes to the same item, is also retried one write at a time, so that only the invalid writes
+ * fail. Writes in flight at the same time may be applied in any order; callers which need a write
+ * to follow another should wait for the future of the first.
+ * <p>
+ * Instances of {@code DynamoDBWriteBuffer} are thread-safe.
+ */
+public class DynamoDBWriteBuffer {
+
+    public static final String USER_AGENT = DynamoDBWriteBuffer.class.getSimpleName() + "/"
+            + VersionInfoUtils.getVersion();
+
+    private static final Log log = LogFactory.getLog(DynamoDBWriteBuffer.class);
+
+    private final AmazonDynamoDB dynamo;
+    private final WriteBufferConfig config;
+    private final ConcurrentMap<String, TableBuffer> tableBuffers = new ConcurrentHashMap<String, TableBuffer>();
+
+    private volatile boolean shutdown;
+
+    public DynamoDBWriteBuffer(AmazonDynamoDB dynamo) {
+        this(dynamo, new WriteBufferConfig());
+    }
+
+    public DynamoDBWriteBuffer(AmazonDynamoDB dynamo, WriteBufferConfig config) {
+        this.dynamo = dynamo;
+        this.config = new WriteBufferConfig(config);
+    }
+
+    public WriteBufferConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Asynchronously puts an item, in a batch with other writes to the same table.
+     *
+     * @return A future completed once the item has been written; never null.
+     * @throws AmazonClientException
+     *             If the buffer has been shut down, or the calling thread was interrupted while
+     *             waiting for a batch to be sent.
+     */
+    public Future<PutItemResult> putItem(PutItemRequest request) {
+        return putItem(request, null);
+    }
+
+    /**
+     * Asynchronously puts an item, in a batch with other writes to the same table, and calls the
+     * given handler once it has been written.
+     *
+     * @see #putItem(PutItemRequest)
+     */
+    public Future<PutItemResult> putItem(PutItemRequest request,
+                                         AsyncHandler<PutItemRequest, PutItemResult> asyncHandler) {
+        PutWrite write = new PutWrite(new BufferFuture<PutItemRequest, PutItemResult>(
+                request, asyncHandler, BufferUtils.executor));
+        submit(request.getTableName(), write);
+        return write.future;
+    }
+
+    /**
+     * Asynchronously deletes an item, in a batch with other writes to the same table.
+     *
+     * @return A future completed once the item has been deleted; never null.
+     * @throws AmazonClientException
+     *             If the buffer has been shut down, or the calling thread was interrupted while
+     *             waiting for a batch to be sent.
+     */
+    public Future<DeleteItemResult> deleteItem(DeleteItemRequest request) {
+        return deleteItem(request, null);
+    }
+
+    /**
+     * Asynchronously deletes an item, in a batch with other writes to the same table, and calls
+     * the given handler once it has been deleted.
+     *
+     * @see #deleteItem(DeleteItemRequest)
+     */
+    public Future<DeleteItemResult> deleteItem(DeleteItemRequest request,
+                                               AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler) {
+        DeleteWrite write = new DeleteWrite(new BufferFuture<DeleteItemRequest, DeleteItemResult>(
+                request, asyncHandler, BufferUtils.executor));
+        submit(request.getTableName(), write);
+        return write.future;
+    }
+
+    /**
+     * Sends the open batches without waiting for them to fill up, and returns when every write
+     * submitted before the call has been processed.
+     */
+    public void flush() {
+        for (TableBuffer tableBuffer : tableBuffers.values()) {
+            tableBuffer.flush();
+        }
+    }
+
+    /**
+     * Flushes the buffer and stops accepting writes. The underlying client is not shut down.
+     */
+    public void shutdown() {
+        shutdown = true;
+        flush();
+    }
+
+    private void submit(String tableName, Write write) {
+        if (shutdown) {
+            throw new AmazonClientException("The write buffer has been shut down.");
+        }
+        if (tableName == null) {
+            throw new IllegalArgumentException("The table name of the request must be set.");
+        }
+
+        TableBuffer tableBuffer = tableBuffers.get(tableName);
+        if (tableBuffer == null) {
+            tableBuffers.putIfAbsent(tableName, new TableBuffer(tableName));
+            tableBuffer = tableBuffers.get(tableName);
+        }
+        tableBuffer.submit(write);
+    }
+
+    /**
+     * The open batch and the in-flight batches of one table.
+     */
+    private class TableBuffer {
+
+        private final String tableName;
+
+        /**
+         * Permits controlling the number of in flight batches.
+         */
+        private final Semaphore inflightBatches;
+
+        /**
+         * The batch currently accepting writes. Synchronized by {@code this}.
+         */
+        private WriteBatchTask openBatch;
+
+        TableBuffer(String tableName) {
+            this.tableName = tableName;
+            this.inflightBatches = new Semaphore(config.getMaxInflightBatches());
+        }
+
+        void submit(Write write) {
+            synchronized (this) {
+                if (openBatch != null && openBatch.add(write)) {
+                    return;
+                }
+            }
+
+            // Wait for a free slot without holding the lock, so that flushes
+            // and other writers are not held up by a full buffer.
+            try {
+                inflightBatches.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while waiting for a batch to be sent.", e);
+            }
+
+            synchronized (this) {
+                // Another writer may have opened a batch in the meantime.
+                if (openBatch != null && openBatch.add(write)) {
+                    inflightBatches.release();
+                    return;
+                }
+
+                if (log.isTraceEnabled()) {
+                    log.trace("Table " + tableName + " created new batch, "
+                            + inflightBatches.availablePermits() + " free slots remain");
+                }
+
+                openBatch = new WriteBatchTask(tableName, inflightBatches);
+                openBatch.add(write);
+                BufferUtils.executor.execute(openBatch);
+            }
+        }
+
+        void flush() {
+            synchronized (this) {
+                if (openBatch != null) {
+                    openBatch.close();
+                }
+            }
+            try {
+                inflightBatches.acquire(config.getMaxInflightBatches());
+                inflightBatches.release(config.getMaxInflightBatches());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Task sending a batch of writes to one table.
+     * <p>
+     * The task is constructed open and accepts writes until full, or until {@code maxBatchOpenMs}
+     * elapses. At that point the batch closes and its writes are sent.
+     */
+    private class WriteBatchTask implements Runnable {
+
+        private final String tableName;
+        private final Semaphore inflightBatches;
+        private final List<Write> writes = new ArrayList<Write>(config.getMaxBatchSize());
+
+        private boolean closed;
+
+        WriteBatchTask(String tableName, Semaphore inflightBatches) {
+            this.tableName = tableName;
+            this.inflightBatches = inflightBatches;
+        }
+
+        /**
+         * Adds a write to the batch if it is still open and has capacity.
+         *
+         * @return whether the write was added.
+         */
+        synchronized boolean add(Write write) {
+            if (closed) {
+                return false;
+            }
+            writes.add(write);
+            if (writes.size() >= config.getMaxBatchSize()) {
+                close();
+            }
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+            notify();
+        }
+
+        @Override
+        public void run() {
+            List<Write> batch = Collections.emptyList();
+            try {
+                long deadlineNanos = System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(config.getMaxBatchOpenMs());
+
+                synchronized (this) {
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    while (!closed && remainingNanos > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                        remainingNanos = deadlineNanos - System.nanoTime();
+                    }
+                    closed = true;
+                    batch = new ArrayList<Write>(writes);
+                }
+
+                process(tableName, batch);
+
+            } catch (InterruptedException e) {
+                failAll(batch, new AmazonClientException("Interrupted while sending a batch.", e));
+            } catch (AmazonClientException e) {
+                failAll(batch, e);
+            } catch (RuntimeException e) {
+                failAll(batch, e);
+                throw e;
+            } catch (Error e) {
+                failAll(batch, new AmazonClientException("Error encountered", e));
+                throw e;
+            } finally {
+                inflightBatches.release();
+            }
+        }
+    }
+
+    private void process(String tableName, List<Write> writes) throws InterruptedException {
+        List<Write> batchable = new ArrayList<Write>(writes.size());
+        for (Write write : writes) {
+            if (write.isBatchable()) {
+                batchable.add(write);
+            } else {
+                writeAlone(write);
+            }
+        }
+
+        List<Write> pending = batchable;
+        for (int retries = 0; !pending.isEmpty(); retries++) {
+            if (retries > 0) {
+                Thread.sleep(BufferUtils.getDelayBeforeRetry(retries));
+            }
+
+            List<WriteRequest> writeRequests = new ArrayList<WriteRequest>(pending.size());
+            for (Write write : pending) {
+                writeRequests.add(write.writeRequest);
+            }
+            BatchWriteItemRequest batchRequest = new BatchWriteItemRequest().withRequestItems(
+                    Collections.singletonMap(tableName, writeRequests));
+            batchRequest.getRequestClientOptions().appendUserAgent(USER_AGENT);
+
+            List<Write> unprocessed;
+            try {
+                BatchWriteItemResult batchResult = dynamo.batchWriteItem(batchRequest);
+                unprocessed = completeProcessed(pending, batchResult.getUnprocessedItems(), tableName);
+            } catch (AmazonServiceException ase) {
+                if (RetryUtils.isThrottlingException(ase)) {
+                    unprocessed = pending;
+                } else if ("ValidationException".equals(ase.getErrorCode()) && pending.size() > 1) {
+                    // Find out which writes made the batch invalid.
+                    for (Write write : pending) {
+                        writeAlone(write);
+                    }
+                    return;
+                } else {
+                    throw ase;
+                }
+            }
+
+            if (!unprocessed.isEmpty() && retries >= config.getMaxRetries()) {
+                failAll(unprocessed, new AmazonClientException(unprocessed.size() + " writes to "
+                        + tableName + " were still unprocessed after " + retries + " retries."));
+                return;
+            }
+            pending = unprocessed;
+        }
+    }
+
+    /**
+     * Completes the futures of the writes which are not in the unprocessed items.
+     *
+     * @return The unprocessed writes.
+     */
+    private static List<Write> completeProcessed(List<Write> pending,
+                                                 Map<String, List<WriteRequest>> unprocessedItems,
+                                                 String tableName) {
+
+        List<WriteRequest> unprocessedRequests = unprocessedItems == null ? null : unprocessedItems.get(tableName);
+        if (unprocessedRequests == null || unprocessedRequests.isEmpty()) {
+            for (Write write : pending) {
+                write.complete();
+            }
+            return Collections.emptyList();
+        }
+
+        List<Write> processed = new ArrayList<Write>(pending);
+        List<Write> unprocessed = new ArrayList<Write>(unprocessedRequests.size());
+        boolean unmatched = false;
+        for (WriteRequest unprocessedRequest : unprocessedRequests) {
+            Write write = removeMatching(processed, unprocessedRequest);
+            if (write == null) {
+                unmatched = true;
+            } else {
+                unprocessed.add(write);
+            }
+        }
+        if (unmatched) {
+            // Some unprocessed item matches none of the writes, so none of them
+            // can be reported as written. Batched writes are unconditional, so
+            // sending one again is harmless.
+            log.warn("Unprocessed items of " + tableName
+                    + " match no buffered write; retrying the whole batch.");
+            unprocessed.addAll(processed);
+            return unprocessed;
+        }
+        for (Write write : processed) {
+            write.complete();
+        }
+        return unprocessed;
+    }
+
+    /**
+     * Removes and returns the write of the given unprocessed item; or null if none of the writes
+     * is of that item.
+     */
+    private static Write removeMatching(List<Write> writes, WriteRequest unprocessedRequest) {
+        ItemKey key = keyOf(unprocessedRequest);
+        boolean isPut = unprocessedRequest.getPutRequest() != null;
+        for (int i = 0; i < writes.size(); i++) {
+            Write write = writes.get(i);
+            if (write.isPut() == isPut && write.key.equals(key)) {
+                return writes.remove(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the whole item of a put, which holds its key, or the key of a delete.
+     */
+    private static ItemKey keyOf(WriteRequest writeRequest) {
+        if (writeRequest.getPutRequest() != null) {
+            Map<String, AttributeValue> item = writeRequest.getPutRequest().getItem();
+            return new ItemKey(item == null ? Collections.<String, AttributeValue>emptyMap() : item);
+        }
+        Map<String, AttributeValue> key = writeRequest.getDeleteRequest() == null
+                ? null : writeRequest.getDeleteRequest().getKey();
+        return new ItemKey(key == null ? Collections.<String, AttributeValue>emptyMap() : key);
+    }
+
+    private void writeAlone(Write write) {
+        try {
+            write.sendAlone();
+        } catch (RuntimeException e) {
+            write.fail(e);
+        }
+    }
+
+    private static void failAll(List<Write> writes, Exception e) {
+        for (Write write : writes) {
+            write.fail(e);
+        }
+    }
+
+    /**
+     * A buffered write, and the future of its caller.
+     */
+    private abstract class Write {
+
+        protected final WriteRequest writeRequest;
+
+        /**
+         * The item or key written, taken before the request is marshalled, which may consume
+         * its binary values.
+         */
+        protected final ItemKey key;
+
+        Write(WriteRequest writeRequest) {
+            this.writeRequest = writeRequest;
+            this.key = keyOf(writeRequest);
+        }
+
+        boolean isPut() {
+            return writeRequest.getPutRequest() != null;
+        }
+
+        /**
+         * Whether the write can be sent as part of a {@code BatchWriteItem} request.
+         */
+        abstract boolean isBatchable();
+
+        /**
+         * Completes the future after the write was processed in a batch.
+         */
+        abstract void complete();
+
+        /**
+         * Sends the write in a request of its own, and completes the future with its result.
+         */
+        abstract void sendAlone();
+
+        abstract void fail(Exception e);
+    }
+
+    private class PutWrite extends Write {
+
+        private final BufferFuture<PutItemRequest, PutItemResult> future;
+
+        PutWrite(BufferFuture<PutItemRequest, PutItemResult> future) {
+            super(new WriteRequest().withPutRequest(
+                    new PutRequest().withItem(future.getRequest().getItem())));
+            this.future = future;
+        }
+
+        @Override
+        boolean isBatchable() {
+            PutItemRequest request = future.getRequest();
+            return request.getConditionExpression() == null
+                    && request.getExpected() == null
+                    && isNone(request.getReturnValues())
+                    && request.getReturnConsumedCapacity() == null
+                    && request.getReturnItemCollectionMetrics() == null;
+        }
+
+        @Override
+        void complete() {
+            future.setSuccess(new PutItemResult());
+        }
+
+        @Override
+        void sendAlone() {
+            future.setSuccess(dynamo.putItem(future.getRequest()));
+        }
+
+        @Override
+        void fail(Exception e) {
+            future.setFailure(e);
+        }
+    }
+
+    private class DeleteWrite extends Write {
+
+        private final BufferFuture<DeleteItemRequest, DeleteItemResult> future;
+
+        DeleteWrite(BufferFuture<DeleteItemRequest, DeleteItemResult> future) {
+            super(new WriteRequest().withDeleteRequest(
+                    new DeleteRequest().withKey(future.getRequest().getKey())));
+            this.future = future;
+        }
+
+        @Override
+        boolean isBatchable() {
+            DeleteItemRequest request = future.getRequest();
+            return request.getConditionExpression() == null
+                    && request.getExpected() == null
+                    && isNone(request.getReturnValues())
+                    && request.getReturnConsumedCapacity() == null
+                    && request.getReturnItemCollectionMetrics() == null;
+        }
+
+        @Override
+        void complete() {
+            future.setSuccess(new DeleteItemResult());
+        }
+
+        @Override
+        void sendAlone() {
+            future.setSuccess(dynamo.deleteItem(future.getRequest()));
+        }
+
+        @Override
+        void fail(Exception e) {
+            future.setFailure(e);
+        }
+    }
+
+    private static boolean isNone(String returnValues) {
+        return returnValues == null || ReturnValue.NONE.toString().equals(returnValues);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.util.BinaryUtils;
+
+/**
+ * The key of an item, or a whole item, which equals another whose attributes have the same
+ * values as DynamoDB compares them: numbers by numeric value, binary values by content and sets
+ * regardless of order. DynamoDB returns numbers in canonical form, so a key of
+ * {@code {"N": "1.0"}} must match the item with {@code {"N": "1"}}.
+ */
+final class ItemKey {
+
+    /** The attributes as they were given. */
+    private final Map<String, AttributeValue> attributes;
+
+    private final Map<String, Object> values;
+
+    ItemKey(Map<String, AttributeValue> attributes) {
+        this.attributes = attributes;
+        this.values = normalize(attributes);
+    }
+
+    /**
+     * Returns the attributes as they were given.
+     */
+    Map<String, AttributeValue> getAttributes() {
+        return attributes;
+    }
+
+    private static Map<String, Object> normalize(Map<String, AttributeValue> attributes) {
+        Map<String, Object> values = new HashMap<String, Object>(attributes.size() * 2);
+        for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+            values.put(attribute.getKey(), normalize(attribute.getValue()));
+        }
+        return values;
+    }
+
+    private static Object normalize(AttributeValue value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.getN() != null) {
+            return normalizeNumber(value.getN());
+        }
+        if (value.getB() != null) {
+            return ByteBuffer.wrap(BinaryUtils.copyBytesFrom(value.getB()));
+        }
+        if (value.getNS() != null) {
+            Set<Object> numbers = new HashSet<Object>();
+            for (String number : value.getNS()) {
+                numbers.add(normalizeNumber(number));
+            }
+            return numbers;
+        }
+        if (value.getBS() != null) {
+            Set<Object> binaries = new HashSet<Object>();
+            for (ByteBuffer binary : value.getBS()) {
+                binaries.add(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(binary)));
+            }
+            return binaries;
+        }
+        if (value.getSS() != null) {
+            return new HashSet<String>(value.getSS());
+        }
+        if (value.getM() != null) {
+            return normalize(value.getM());
+        }
+        if (value.getL() != null) {
+            List<Object> elements = new ArrayList<Object>(value.getL().size());
+            for (AttributeValue element : value.getL()) {
+                elements.add(normalize(element));
+            }
+            return elements;
+        }
+        return value;
+    }
+
+    private static Object normalizeNumber(String number) {
+        try {
+            BigDecimal decimal = new BigDecimal(number.trim());
+            // stripTrailingZeros() leaves zero as it is before Java 8.
+            return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+        } catch (NumberFormatException e) {
+            // Let DynamoDB reject it.
+            return number;
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ItemKey && values.equals(((ItemKey) obj).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+}
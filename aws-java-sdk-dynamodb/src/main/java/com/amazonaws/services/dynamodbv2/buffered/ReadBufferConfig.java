@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+/**
+ * Configuration of a {@link DynamoDBReadBuffer}.
+ */
+public class ReadBufferConfig {
+
+    /** The most keys DynamoDB accepts in one BatchGetItem call. */
+    public static final int SERVICE_MAX_BATCH_SIZE = 100;
+
+    /**
+     * The maximum number of distinct keys read in one BatchGetItem request.
+     */
+    private int maxBatchSize;
+
+    /** 100 keys */
+    public static final int MAX_BATCH_SIZE_DEFAULT = SERVICE_MAX_BATCH_SIZE;
+
+    /**
+     * The maximum time (milliseconds) a batch is held open for more reads from the same table. The
+     * longer this time, the fewer requests are made, but the longer each read waits before it is
+     * sent.
+     */
+    private long maxBatchOpenMs;
+
+    /** 5 milliseconds */
+    public static final long MAX_BATCH_OPEN_MS_DEFAULT = 5;
+
+    /**
+     * The maximum number of batches in flight for each table. Reads wait for a free slot once this
+     * many batches are being sent, which bounds the threads and connections used by the buffer.
+     */
+    private int maxInflightBatches;
+
+    /** 10 batches */
+    public static final int MAX_INFLIGHT_BATCHES_DEFAULT = 10;
+
+    /**
+     * The maximum number of times keys which DynamoDB returned as unprocessed, or which were
+     * throttled, are read again before their futures fail.
+     */
+    private int maxRetries;
+
+    /** 10 retries */
+    public static final int MAX_RETRIES_DEFAULT = 10;
+
+    public ReadBufferConfig() {
+        this(MAX_BATCH_SIZE_DEFAULT, MAX_BATCH_OPEN_MS_DEFAULT, MAX_INFLIGHT_BATCHES_DEFAULT,
+                MAX_RETRIES_DEFAULT);
+    }
+
+    public ReadBufferConfig(int maxBatchSize, long maxBatchOpenMs, int maxInflightBatches, int maxRetries) {
+        setMaxBatchSize(maxBatchSize);
+        setMaxBatchOpenMs(maxBatchOpenMs);
+        setMaxInflightBatches(maxInflightBatches);
+        setMaxRetries(maxRetries);
+    }
+
+    public ReadBufferConfig(ReadBufferConfig other) {
+        this(other.maxBatchSize, other.maxBatchOpenMs, other.maxInflightBatches, other.maxRetries);
+    }
+
+    @Override
+    public String toString() {
+        return "ReadBufferConfig [maxBatchSize=" + maxBatchSize + ", maxBatchOpenMs=" + maxBatchOpenMs
+                + ", maxInflightBatches=" + maxInflightBatches + ", maxRetries=" + maxRetries + "]";
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *             If the size is not between 1 and {@link #SERVICE_MAX_BATCH_SIZE}.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1 || maxBatchSize > SERVICE_MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Maximum batch size must be between 1 and "
+                    + SERVICE_MAX_BATCH_SIZE + ", was " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public ReadBufferConfig withMaxBatchSize(int maxBatchSize) {
+        setMaxBatchSize(maxBatchSize);
+        return this;
+    }
+
+    public long getMaxBatchOpenMs() {
+        return maxBatchOpenMs;
+    }
+
+    public void setMaxBatchOpenMs(long maxBatchOpenMs) {
+        if (maxBatchOpenMs < 0) {
+            throw new IllegalArgumentException("Maximum batch open time may not be negative");
+        }
+        this.maxBatchOpenMs = maxBatchOpenMs;
+    }
+
+    public ReadBufferConfig withMaxBatchOpenMs(long maxBatchOpenMs) {
+        setMaxBatchOpenMs(maxBatchOpenMs);
+        return this;
+    }
+
+    public int getMaxInflightBatches() {
+        return maxInflightBatches;
+    }
+
+    public void setMaxInflightBatches(int maxInflightBatches) {
+        // must allow at least one batch.
+        this.maxInflightBatches = maxInflightBatches > 0 ? maxInflightBatches : 1;
+    }
+
+    public ReadBufferConfig withMaxInflightBatches(int maxInflightBatches) {
+        setMaxInflightBatches(maxInflightBatches);
+        return this;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+    }
+
+    public ReadBufferConfig withMaxRetries(int maxRetries) {
+        setMaxRetries(maxRetries);
+        return this;
+    }
+}
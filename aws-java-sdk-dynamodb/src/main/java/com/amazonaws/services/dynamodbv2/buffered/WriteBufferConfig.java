@@ -0,0 +1,146 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+/**
+ * Configuration of a {@link DynamoDBWriteBuffer}.
+ */
+public class WriteBufferConfig {
+
+    /** The most write requests DynamoDB accepts in one BatchWriteItem call. */
+    public static final int SERVICE_MAX_BATCH_SIZE = 25;
+
+    /**
+     * The maximum number of writes sent in one BatchWriteItem request.
+     */
+    private int maxBatchSize;
+
+    /** 25 writes */
+    public static final int MAX_BATCH_SIZE_DEFAULT = SERVICE_MAX_BATCH_SIZE;
+
+    /**
+     * The maximum time (milliseconds) a batch is held open for more writes to the same table. The
+     * longer this time, the fewer requests are made, but the longer each write waits before it is
+     * sent.
+     */
+    private long maxBatchOpenMs;
+
+    /** 50 milliseconds */
+    public static final long MAX_BATCH_OPEN_MS_DEFAULT = 50;
+
+    /**
+     * The maximum number of batches in flight for each table. Writes wait for a free slot once this
+     * many batches are being sent, which bounds the threads and connections used by the buffer.
+     */
+    private int maxInflightBatches;
+
+    /** 5 batches */
+    public static final int MAX_INFLIGHT_BATCHES_DEFAULT = 5;
+
+    /**
+     * The maximum number of times writes which DynamoDB returned as unprocessed, or which were
+     * throttled, are sent again before their futures fail.
+     */
+    private int maxRetries;
+
+    /** 10 retries */
+    public static final int MAX_RETRIES_DEFAULT = 10;
+
+    public WriteBufferConfig() {
+        this(MAX_BATCH_SIZE_DEFAULT, MAX_BATCH_OPEN_MS_DEFAULT, MAX_INFLIGHT_BATCHES_DEFAULT,
+                MAX_RETRIES_DEFAULT);
+    }
+
+    public WriteBufferConfig(int maxBatchSize, long maxBatchOpenMs, int maxInflightBatches, int maxRetries) {
+        setMaxBatchSize(maxBatchSize);
+        setMaxBatchOpenMs(maxBatchOpenMs);
+        setMaxInflightBatches(maxInflightBatches);
+        setMaxRetries(maxRetries);
+    }
+
+    public WriteBufferConfig(WriteBufferConfig other) {
+        this(other.maxBatchSize, other.maxBatchOpenMs, other.maxInflightBatches, other.maxRetries);
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBufferConfig [maxBatchSize=" + maxBatchSize + ", maxBatchOpenMs=" + maxBatchOpenMs
+                + ", maxInflightBatches=" + maxInflightBatches + ", maxRetries=" + maxRetries + "]";
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *             If the size is not between 1 and {@link #SERVICE_MAX_BATCH_SIZE}.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1 || maxBatchSize > SERVICE_MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Maximum batch size must be between 1 and "
+                    + SERVICE_MAX_BATCH_SIZE + ", was " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public WriteBufferConfig withMaxBatchSize(int maxBatchSize) {
+        setMaxBatchSize(maxBatchSize);
+        return this;
+    }
+
+    public long getMaxBatchOpenMs() {
+        return maxBatchOpenMs;
+    }
+
+    public void setMaxBatchOpenMs(long maxBatchOpenMs) {
+        if (maxBatchOpenMs < 0) {
+            throw new IllegalArgumentException("Maximum batch open time may not be negative");
+        }
+        this.maxBatchOpenMs = maxBatchOpenMs;
+    }
+
+    public WriteBufferConfig withMaxBatchOpenMs(long maxBatchOpenMs) {
+        setMaxBatchOpenMs(maxBatchOpenMs);
+        return this;
+    }
+
+    public int getMaxInflightBatches() {
+        return maxInflightBatches;
+    }
+
+    public void setMaxInflightBatches(int maxInflightBatches) {
+        // must allow at least one batch.
+        this.maxInflightBatches = maxInflightBatches > 0 ? maxInflightBatches : 1;
+    }
+
+    public WriteBufferConfig withMaxInflightBatches(int maxInflightBatches) {
+        setMaxInflightBatches(maxInflightBatches);
+        return this;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+    }
+
+    public WriteBufferConfig withMaxRetries(int maxRetries) {
+        setMaxRetries(maxRetries);
+        return this;
+    }
+}
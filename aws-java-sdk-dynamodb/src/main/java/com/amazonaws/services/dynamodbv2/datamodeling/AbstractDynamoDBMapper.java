@@ -193,6 +193,21 @@ public class AbstractDynamoDBMapper implements IDynamoDBMapper {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                            DynamoDBScanExpression scanExpression,
+                                                            int totalSegments) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                            DynamoDBScanExpression scanExpression,
+                                                            int totalSegments,
+                                                            DynamoDBMapperConfig config) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public <T> ScanResultPage<T> scanPage(Class<T> clazz,
                                           DynamoDBScanExpression scanExpression,
@@ -102,6 +102,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Pre-defined strategies for mapping between Java types and DynamoDB types.
@@ -267,6 +269,17 @@ public final class ConversionSchemas {
         private final DynamoDBMappingsRegistry registry;
         private final S3ClientCache s3cc;
 
+        /**
+         * The fully augmented marshallers, by getter, and unmarshallers, by
+         * setter. Augmenting walks the generic type of the property and
+         * allocates new wrapping (un)marshallers, so it is only done once per
+         * property rather than once per attribute of every item.
+         */
+        private final ConcurrentMap<Method, ArgumentMarshaller> marshallers =
+                new ConcurrentHashMap<Method, ArgumentMarshaller>();
+        private final ConcurrentMap<Method, ArgumentUnmarshaller> unmarshallers =
+                new ConcurrentHashMap<Method, ArgumentUnmarshaller>();
+
         public StandardItemConverter(
                 MarshallerSet marshallerSet,
                 UnmarshallerSet unmarshallerSet,
@@ -329,11 +342,11 @@ public final class ConversionSchemas {
             }
 
             Class<?> clazz = object.getClass();
-            Map<String, AttributeValue> result =
-                    new HashMap<String, AttributeValue>();
-
             final DynamoDBMappingsRegistry.Mappings mappings = registry.mappingsOf(clazz);
 
+            Map<String, AttributeValue> result = new HashMap<String, AttributeValue>(
+                    mappings.getMappings().size() * 4 / 3 + 1);
+
             for (final DynamoDBMappingsRegistry.Mapping mapping : mappings.getMappings()) {
                 Object getterResult = mapping.bean().get(object);
                 if (getterResult != null) {
@@ -348,11 +361,16 @@ public final class ConversionSchemas {
         }
 
         private ArgumentMarshaller getMarshaller(Method getter) {
-            ArgumentMarshaller marshaller =
-                    marshallerSet.getMarshaller(getter);
+            ArgumentMarshaller marshaller = marshallers.get(getter);
+            if (marshaller != null) {
+                return marshaller;
+            }
+
+            marshaller = marshallerSet.getMarshaller(getter);
 
             marshaller = augment(getter.getGenericReturnType(), marshaller);
 
+            marshallers.putIfAbsent(getter, marshaller);
             return marshaller;
         }
 
@@ -483,8 +501,9 @@ public final class ConversionSchemas {
                 String attributeName = mapping.getAttributeName();
                 AttributeValue av = value.get(attributeName);
                 if (av != null) {
-                    ArgumentUnmarshaller unmarshaller = getUnmarshaller(mapping.bean().getter(), mapping.bean().setter());
-                    Object unmarshalled = unmarshall(unmarshaller, mapping.bean().setter(), av);
+                    final Method setter = mapping.bean().setter();
+                    ArgumentUnmarshaller unmarshaller = getUnmarshaller(mapping.bean().getter(), setter);
+                    Object unmarshalled = unmarshall(unmarshaller, setter, av);
                     mapping.bean().set(result, unmarshalled);
                 }
             }
@@ -496,13 +515,20 @@ public final class ConversionSchemas {
                 Method getter,
                 Method setter) {
 
-            ArgumentUnmarshaller unmarshaller =
-                    unmarshallerSet.getUnmarshaller(getter, setter);
+            ArgumentUnmarshaller unmarshaller = unmarshallers.get(setter);
+            if (unmarshaller != null) {
+                return unmarshaller;
+            }
+
+            unmarshaller = unmarshallerSet.getUnmarshaller(getter, setter);
 
             unmarshaller = augment(
                     setter.getGenericParameterTypes()[0], unmarshaller);
 
-            return new NullableUnmarshaller(unmarshaller);
+            unmarshaller = new NullableUnmarshaller(unmarshaller);
+
+            unmarshallers.putIfAbsent(setter, unmarshaller);
+            return unmarshaller;
         }
 
         private ArgumentUnmarshaller getMemberUnmarshaller(Type type) {
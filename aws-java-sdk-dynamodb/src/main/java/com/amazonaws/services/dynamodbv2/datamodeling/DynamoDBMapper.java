@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -192,6 +194,14 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
 
     private final AttributeTransformer transformer;
 
+    /**
+     * The converters of the built-in conversion schemas, which cache the
+     * marshallers of every property they have seen and so are reused across
+     * operations.
+     */
+    private final ConcurrentMap<ConversionSchema, ItemConverter> converters =
+            new ConcurrentHashMap<ConversionSchema, ItemConverter>();
+
     /**
      * The max back off time for batch get. The configuration for batch write
      * has been moved to DynamoDBMapperConfig
@@ -1737,6 +1747,25 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         return new PaginatedParallelScanList<T>(this, clazz, db, parallelScanTask, config.getPaginationLoadingStrategy(), config);
     }
 
+    @Override
+    public <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                            DynamoDBScanExpression scanExpression,
+                                                            int totalSegments) {
+        return parallelScanIterator(clazz, scanExpression, totalSegments, config);
+    }
+
+    @Override
+    public <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                            DynamoDBScanExpression scanExpression,
+                                                            int totalSegments,
+                                                            DynamoDBMapperConfig config) {
+        config = mergeConfig(config);
+
+        List<ScanRequest> parallelScanRequests = createParallelScanRequestsFromExpression(clazz, scanExpression, totalSegments, config);
+
+        return new ParallelScanIterator<T>(this, clazz, db, parallelScanRequests, config);
+    }
+
     @Override
     public <T> ScanResultPage<T> scanPage(Class<T> clazz,
                                           DynamoDBScanExpression scanExpression,
@@ -2440,10 +2469,22 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
     private ItemConverter getConverter(DynamoDBMapperConfig config) {
         ConversionSchema schema = config.getConversionSchema();
 
+        ItemConverter converter = converters.get(schema);
+        if (converter != null) {
+            return converter;
+        }
+
         ConversionSchema.Dependencies params = new ConversionSchema.Dependencies()
                 .with(S3ClientCache.class, s3cc);
 
-        return schema.getConverter(params);
+        converter = schema.getConverter(params);
+
+        // Custom schemas may expect to be asked for a new converter each
+        // time, so only the stateless built-in ones are cached.
+        if (schema instanceof ConversionSchemas.StandardConversionSchema) {
+            converters.putIfAbsent(schema, converter);
+        }
+        return converter;
     }
 
     private void pause(long delay) {
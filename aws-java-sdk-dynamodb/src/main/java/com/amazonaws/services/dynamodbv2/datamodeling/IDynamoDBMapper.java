@@ -428,10 +428,10 @@ public interface IDynamoDBMapper {
                                                   int totalSegments);
 
     /**
-     * Scans through an Amazon DynamoDB table on logically partitioned segments in parallel. This
-     * method will create a thread pool of the specified size, and each thread will issue scan
-     * requests for its assigned segment, following the returned continuation token, until the end
-     * of its segment. Callers should be responsible for setting the appropriate number of total
+     * Scans through an Amazon DynamoDB table on logically partitioned segments in parallel. Each
+     * segment is scanned on a thread from a pool shared by all parallel scans, which will issue
+     * scan requests for its assigned segment, following the returned continuation token, until the
+     * end of its segment. Callers should be responsible for setting the appropriate number of total
      * segments. More scan segments would result in better performance but more consumed capacity of
      * the table. The results are returned in one unmodifiable list of instantiated objects. The
      * table to scan is determined by looking at the annotations on the specified class, which
@@ -466,6 +466,47 @@ public interface IDynamoDBMapper {
                                                   int totalSegments,
                                                   DynamoDBMapperConfig config);
 
+    /**
+     * Scans through an Amazon DynamoDB table on logically partitioned segments in parallel and
+     * returns an iterator over the matching objects, using the default configuration.
+     *
+     * @see DynamoDBMapper#parallelScanIterator(Class, DynamoDBScanExpression, int, DynamoDBMapperConfig)
+     */
+    <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                     DynamoDBScanExpression scanExpression,
+                                                     int totalSegments);
+
+    /**
+     * Scans through an Amazon DynamoDB table on logically partitioned segments in parallel and
+     * returns an iterator over the matching objects, which can be consumed while the segments are
+     * still being scanned. Unlike {@link #parallelScan(Class, DynamoDBScanExpression, int,
+     * DynamoDBMapperConfig)}, the results are never all held in memory, and the number of segments
+     * scanned at the same time is lowered when the scan is throttled and raised back when it is
+     * not. The scan runs on threads shared with the other parallel scans.
+     * <p>
+     * Callers that stop iterating before the end of the results should close the iterator.
+     *
+     * @param <T>
+     *            The type of the objects being returned.
+     * @param clazz
+     *            The class annotated with DynamoDB annotations describing how to store the object
+     *            data in Amazon DynamoDB.
+     * @param scanExpression
+     *            Details on how to run the scan, including any filters to apply to limit results.
+     * @param totalSegments
+     *            Number of total parallel scan segments, which is also the most segments scanned
+     *            at the same time. <b>Range: </b>1 - 4096
+     * @param config
+     *            The configuration to use for this scan, which overrides the default provided at
+     *            object construction. The pagination loading strategy is ignored.
+     * @return An iterator over the objects constructed from the results of the scan operation.
+     * @see ParallelScanIterator
+     */
+    <T> ParallelScanIterator<T> parallelScanIterator(Class<T> clazz,
+                                                     DynamoDBScanExpression scanExpression,
+                                                     int totalSegments,
+                                                     DynamoDBMapperConfig config);
+
     /**
      * Scans through an Amazon DynamoDB table and returns a single page of matching results. The
      * table to scan is determined by looking at the annotations on the specified class, which
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+/**
+ * An iterator over the results of a parallel scan in Amazon DynamoDB, which
+ * returns objects while the segments are still being scanned.
+ * <p>
+ * Pages are scanned on the threads shared by all parallel scans and are
+ * handed over to the caller through a bounded buffer: a segment is not
+ * scanned any further while there are as many pages waiting to be consumed
+ * as there are segments, so a slow caller holds back the scan rather than
+ * running out of memory.
+ * <p>
+ * The number of segments scanned at the same time starts at the total
+ * number of segments. It is halved whenever a page is throttled because the
+ * scan consumes more capacity than the table provides, and grows back by one
+ * after each round of pages that were not throttled. Throttled pages are
+ * scanned again after a back-off, so a scan settles at the rate the table can
+ * sustain instead of failing; the scan only fails with the throttling
+ * exception once the same page has been throttled
+ * {@value #MAX_THROTTLE_RETRIES} times in a row. No thread is held during a
+ * back-off.
+ * <p>
+ * Callers that stop iterating before the end of the results should call
+ * {@link #close()}, so that no further pages are scanned. The iterator is not
+ * thread safe and does not support {@link #remove()}.
+ *
+ * @param <T>
+ *            The type of objects being returned.
+ * @see DynamoDBMapper#parallelScanIterator(Class, DynamoDBScanExpression, int,
+ *      DynamoDBMapperConfig)
+ */
+public class ParallelScanIterator<T> implements Iterator<T>, Closeable {
+
+    private static final Log log = LogFactory.getLog(ParallelScanIterator.class);
+
+    /** The back-off after the first throttled page; doubled for each next one. */
+    private static final long BASE_BACKOFF_IN_MILLISECONDS = 50;
+
+    /** The longest back-off after a throttled page. */
+    private static final long MAX_BACKOFF_IN_MILLISECONDS = 1000 * 3;
+
+    /** The number of times a throttled page is scanned again before the scan fails. */
+    static final int MAX_THROTTLE_RETRIES = 10;
+
+    /**
+     * The daemon thread shared by all parallel scans which puts throttled
+     * segments back in line once their back-off has elapsed.
+     */
+    private static final ScheduledExecutorService RETRY_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r);
+                    t.setName("dynamodb-mapper-parallel-scan-retry");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    private final DynamoDBMapper mapper;
+    private final Class<T> clazz;
+    private final AmazonDynamoDB dynamo;
+    private final DynamoDBMapperConfig config;
+    private final ExecutorService executorService;
+    private final int totalSegments;
+
+    /**
+     * The scanned pages, in the order they were scanned, followed by
+     * {@link #endOfResults}. Its size is bounded by {@link #scheduleSegments()}
+     * rather than by the queue itself, so that adding to it never blocks.
+     */
+    private final BlockingQueue<List<T>> pages = new LinkedBlockingQueue<List<T>>();
+
+    /** The marker added to {@link #pages} once there are no more pages. */
+    private final List<T> endOfResults = new ArrayList<T>(0);
+
+    /**
+     * The monitor guarding the state of the scan below, which is updated by
+     * the scanning threads and by the caller.
+     */
+    private final Object lock = new Object();
+
+    /** The requests for the segments with more pages to scan, next page first. */
+    private final LinkedList<ScanRequest> waitingSegments;
+
+    /** The number of segments which may be scanned at the same time. */
+    private int concurrency;
+
+    /** The number of segments being scanned. */
+    private int scanning;
+
+    /** The number of pages scanned since the concurrency last changed. */
+    private int pagesSinceLastIncrease;
+
+    /** The number of throttled pages since the last page was scanned. */
+    private int consecutiveThrottles;
+
+    /** The number of times the next page of each segment has been throttled. */
+    private final Map<Integer, Integer> throttlesBySegment = new HashMap<Integer, Integer>();
+
+    /** The longest back-off after a throttled page. */
+    private long maxBackoffInMilliseconds = MAX_BACKOFF_IN_MILLISECONDS;
+
+    /** The number of segments which have not been scanned to the end. */
+    private int unfinishedSegments;
+
+    /** Whether the scan was closed or failed, so no more pages are scanned. */
+    private boolean stopped;
+
+    /** The exception which failed the scan, if any. */
+    private AmazonClientException failure;
+
+    /** The page being iterated over by the caller. */
+    private Iterator<T> currentPage = Collections.<T>emptyList().iterator();
+
+    /** Whether the caller has reached {@link #endOfResults}. */
+    private boolean endOfResultsReached;
+
+    ParallelScanIterator(
+            DynamoDBMapper mapper,
+            Class<T> clazz,
+            AmazonDynamoDB dynamo,
+            List<ScanRequest> parallelScanRequests,
+            DynamoDBMapperConfig config) {
+
+        this.mapper = mapper;
+        this.clazz = clazz;
+        this.dynamo = dynamo;
+        this.config = config;
+        this.executorService = ParallelScanTask.SHARED_EXECUTOR;
+        this.totalSegments = parallelScanRequests.size();
+        this.waitingSegments = new LinkedList<ScanRequest>(parallelScanRequests);
+        this.concurrency = totalSegments;
+        this.unfinishedSegments = totalSegments;
+
+        synchronized (lock) {
+            scheduleSegments();
+        }
+    }
+
+    /**
+     * Returns whether there are more objects, waiting for the next page to be
+     * scanned if necessary.
+     *
+     * @throws AmazonClientException
+     *             If the scan of a segment failed, or the calling thread was
+     *             interrupted while waiting.
+     */
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext()) {
+            if (endOfResultsReached) {
+                return false;
+            }
+
+            List<T> page;
+            try {
+                page = pages.take();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Parallel scan interrupted by other thread.", ie);
+            }
+
+            if (page == endOfResults) {
+                endOfResultsReached = true;
+                synchronized (lock) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                }
+                return false;
+            }
+
+            currentPage = page.iterator();
+
+            // The page has left the buffer, so another one can be scanned.
+            synchronized (lock) {
+                scheduleSegments();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("The results of a parallel scan cannot be removed.");
+    }
+
+    /**
+     * Stops scanning the table. Pages being scanned are discarded, and the
+     * iterator returns no more objects.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            stop();
+        }
+        currentPage = Collections.<T>emptyList().iterator();
+    }
+
+    /**
+     * Returns the number of segments currently allowed to be scanned at the
+     * same time.
+     */
+    int getConcurrency() {
+        synchronized (lock) {
+            return concurrency;
+        }
+    }
+
+    /**
+     * Sets the longest back-off after a throttled page; for testing.
+     */
+    void setMaxBackoffInMilliseconds(long maxBackoffInMilliseconds) {
+        synchronized (lock) {
+            this.maxBackoffInMilliseconds = maxBackoffInMilliseconds;
+        }
+    }
+
+    /**
+     * Starts scanning the next page of as many waiting segments as the
+     * concurrency and the free space in the buffer allow. Must be called
+     * holding {@link #lock}.
+     */
+    private void scheduleSegments() {
+        while (!stopped
+                && !waitingSegments.isEmpty()
+                && scanning < concurrency
+                && scanning + pages.size() < totalSegments) {
+            scanning++;
+            scanNextPage(waitingSegments.removeFirst());
+        }
+    }
+
+    private void scanNextPage(final ScanRequest segmentScanRequest) {
+        executorService.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    ScanResult scanResult;
+                    try {
+                        scanResult = dynamo.scan(DynamoDBMapper.applyUserAgent(segmentScanRequest));
+                    } catch (AmazonServiceException ase) {
+                        if (!RetryUtils.isThrottlingException(ase)) {
+                            throw ase;
+                        }
+                        onPageThrottled(segmentScanRequest, ase);
+                        return;
+                    }
+
+                    List<T> objects = mapper.marshallIntoObjects(mapper.toParameters(
+                            scanResult.getItems(),
+                            clazz,
+                            segmentScanRequest.getTableName(),
+                            config));
+
+                    segmentScanRequest.setExclusiveStartKey(scanResult.getLastEvaluatedKey());
+                    onPageScanned(segmentScanRequest, objects, scanResult.getLastEvaluatedKey() == null);
+                } catch (Throwable t) {
+                    onScanFailed(segmentScanRequest, t);
+                }
+            }
+        });
+    }
+
+    private void onPageScanned(ScanRequest segmentScanRequest, List<T> objects, boolean segmentFinished) {
+        synchronized (lock) {
+            scanning--;
+            if (stopped) {
+                return;
+            }
+
+            consecutiveThrottles = 0;
+            throttlesBySegment.remove(segmentScanRequest.getSegment());
+            if (concurrency < totalSegments && ++pagesSinceLastIncrease >= concurrency) {
+                concurrency++;
+                pagesSinceLastIncrease = 0;
+            }
+
+            if (!objects.isEmpty()) {
+                pages.add(objects);
+            }
+            if (!segmentFinished) {
+                waitingSegments.addLast(segmentScanRequest);
+            } else if (--unfinishedSegments == 0) {
+                pages.add(endOfResults);
+            }
+
+            scheduleSegments();
+        }
+    }
+
+    private void onPageThrottled(final ScanRequest segmentScanRequest, AmazonServiceException ase) {
+        long delay;
+        synchronized (lock) {
+            Integer throttles = throttlesBySegment.get(segmentScanRequest.getSegment());
+            throttles = throttles == null ? 1 : throttles + 1;
+            if (throttles > MAX_THROTTLE_RETRIES) {
+                onScanFailed(segmentScanRequest, ase);
+                return;
+            }
+            throttlesBySegment.put(segmentScanRequest.getSegment(), throttles);
+            // Only the pages started since the concurrency was last lowered
+            // count, or a whole round of throttled pages would bring it down
+            // to one segment at a time.
+            if (scanning <= concurrency) {
+                concurrency = Math.max(1, concurrency / 2);
+                pagesSinceLastIncrease = 0;
+            }
+            delay = Math.min(maxBackoffInMilliseconds,
+                    BASE_BACKOFF_IN_MILLISECONDS << Math.min(consecutiveThrottles, 16));
+            consecutiveThrottles++;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Scan of segment " + segmentScanRequest.getSegment() + " of "
+                    + segmentScanRequest.getTableName() + " was throttled, retrying in "
+                    + delay + " ms with at most " + getConcurrency() + " segments at a time: "
+                    + ase.getMessage());
+        }
+        RETRY_SCHEDULER.schedule(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (lock) {
+                    scanning--;
+                    if (stopped) {
+                        return;
+                    }
+                    waitingSegments.addFirst(segmentScanRequest);
+                    scheduleSegments();
+                }
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void onScanFailed(ScanRequest segmentScanRequest, Throwable t) {
+        synchronized (lock) {
+            scanning--;
+            if (stopped) {
+                return;
+            }
+            if (t instanceof AmazonClientException) {
+                failure = (AmazonClientException) t;
+            } else {
+                failure = new AmazonClientException("Error during the scan on segment #"
+                        + segmentScanRequest.getSegment() + ".", t);
+            }
+            stop();
+        }
+    }
+
+    /**
+     * Discards the waiting segments and the buffered pages, and marks the end
+     * of the results. Must be called holding {@link #lock}.
+     */
+    private void stop() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        waitingSegments.clear();
+        pages.clear();
+        pages.add(endOfResults);
+    }
+}
@@ -21,16 +21,25 @@ import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.model.ScanRequest;
 import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.util.SdkExecutors;
 
 public class ParallelScanTask {
 
+    /**
+     * The daemon threads shared by all parallel scans, so that each scan
+     * does not start (and, when the caller stops iterating early, leak) a
+     * thread pool of its own. Idle threads are released after a minute.
+     */
+    static final ExecutorService SHARED_EXECUTOR = createSharedExecutor();
+
     /**
      * The list of hard copies of ScanRequest with different segment number.
      */
@@ -55,7 +64,7 @@ public class ParallelScanTask {
      */
     private final List<SegmentScanState> segmentScanStates;
 
-    private ExecutorService executorService;
+    private final ExecutorService executorService;
 
     private final AmazonDynamoDB dynamo;
 
@@ -68,7 +77,7 @@ public class ParallelScanTask {
         this.dynamo = dynamo;
         this.parallelScanRequests = parallelScanRequests;
         this.totalSegments = parallelScanRequests.size();
-        executorService = Executors.newCachedThreadPool();
+        executorService = SHARED_EXECUTOR;
 
         // Create synchronized views of the list to guarantee any changes are visible across all threads.
         segmentScanFutureTasks = Collections.synchronizedList(new ArrayList<Future<ScanResult>>(totalSegments));
@@ -88,8 +97,6 @@ public class ParallelScanTask {
                 if (segmentScanStates.get(segment) != SegmentScanState.SegmentScanCompleted)
                     return false;
             }
-            // Shut down if all data have been scanned and loaded.
-            executorService.shutdown();
             return true;
         }
     }
@@ -241,6 +248,18 @@ public class ParallelScanTask {
         return scanResult;
     }
 
+    private static ExecutorService createSharedExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return SdkExecutors.newCachedThreadPool("dynamodb-mapper-parallel-scan", new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r);
+                t.setName("dynamodb-mapper-parallel-scan-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
     private void initSegmentScanStates() {
         for (int segment = 0; segment < totalSegments; segment++) {
             segmentScanFutureTasks.add(null);
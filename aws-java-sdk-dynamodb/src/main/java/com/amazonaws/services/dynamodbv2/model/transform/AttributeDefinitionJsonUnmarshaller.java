@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class AttributeDefinitionJsonUnmarshaller implements
         Unmarshaller<AttributeDefinition, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "AttributeName", "AttributeType");
+
     public AttributeDefinition unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         AttributeDefinition attributeDefinition = new AttributeDefinition();
@@ -53,15 +56,17 @@ public class AttributeDefinitionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     attributeDefinition.setAttributeName(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeType", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     attributeDefinition.setAttributeType(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
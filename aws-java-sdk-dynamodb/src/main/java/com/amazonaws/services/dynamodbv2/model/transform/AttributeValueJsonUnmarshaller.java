@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class AttributeValueJsonUnmarshaller implements
         Unmarshaller<AttributeValue, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex("S",
+            "N", "B", "SS", "NS", "BS", "M", "L", "NULL", "BOOL");
+
     public AttributeValue unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         AttributeValue attributeValue = new AttributeValue();
@@ -53,65 +56,67 @@ public class AttributeValueJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("S", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     attributeValue.setS(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("N", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     attributeValue.setN(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("B", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     attributeValue.setB(context.getUnmarshaller(
                             java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("SS", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     attributeValue
                             .setSS(new ListUnmarshaller<String>(context
                                     .getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("NS", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     attributeValue
                             .setNS(new ListUnmarshaller<String>(context
                                     .getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("BS", targetDepth)) {
+                    break;
+                case 5:
                     context.nextToken();
                     attributeValue
                             .setBS(new ListUnmarshaller<java.nio.ByteBuffer>(
                                     context.getUnmarshaller(java.nio.ByteBuffer.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("M", targetDepth)) {
+                    break;
+                case 6:
                     context.nextToken();
                     attributeValue
                             .setM(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("L", targetDepth)) {
+                    break;
+                case 7:
                     context.nextToken();
                     attributeValue.setL(new ListUnmarshaller<AttributeValue>(
                             AttributeValueJsonUnmarshaller.getInstance())
                             .unmarshall(context));
-                }
-                if (context.testExpression("NULL", targetDepth)) {
+                    break;
+                case 8:
                     context.nextToken();
                     attributeValue.setNULL(context.getUnmarshaller(
                             Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("BOOL", targetDepth)) {
+                    break;
+                case 9:
                     context.nextToken();
                     attributeValue.setBOOL(context.getUnmarshaller(
                             Boolean.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
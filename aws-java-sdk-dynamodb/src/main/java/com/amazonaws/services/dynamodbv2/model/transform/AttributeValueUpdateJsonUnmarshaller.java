@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class AttributeValueUpdateJsonUnmarshaller implements
         Unmarshaller<AttributeValueUpdate, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Value", "Action");
+
     public AttributeValueUpdate unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         AttributeValueUpdate attributeValueUpdate = new AttributeValueUpdate();
@@ -53,16 +56,18 @@ public class AttributeValueUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     attributeValueUpdate
                             .setValue(AttributeValueJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     attributeValueUpdate.setAction(context.getUnmarshaller(
                             String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
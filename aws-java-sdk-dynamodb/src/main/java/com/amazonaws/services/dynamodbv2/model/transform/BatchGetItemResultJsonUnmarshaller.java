@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class BatchGetItemResultJsonUnmarshaller implements
         Unmarshaller<BatchGetItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Responses", "UnprocessedKeys", "ConsumedCapacity");
+
     public BatchGetItemResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         BatchGetItemResult batchGetItemResult = new BatchGetItemResult();
@@ -53,7 +56,8 @@ public class BatchGetItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Responses", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     batchGetItemResult
                             .setResponses(new MapUnmarshaller<String, java.util.List<java.util.Map<String, AttributeValue>>>(
@@ -64,21 +68,22 @@ public class BatchGetItemResultJsonUnmarshaller implements
                                                     AttributeValueJsonUnmarshaller
                                                             .getInstance())))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("UnprocessedKeys", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     batchGetItemResult
                             .setUnprocessedKeys(new MapUnmarshaller<String, KeysAndAttributes>(
                                     context.getUnmarshaller(String.class),
                                     KeysAndAttributesJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     batchGetItemResult
                             .setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(
                                     ConsumedCapacityJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class BatchWriteItemResultJsonUnmarshaller implements
         Unmarshaller<BatchWriteItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "UnprocessedItems", "ItemCollectionMetrics", "ConsumedCapacity");
+
     public BatchWriteItemResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         BatchWriteItemResult batchWriteItemResult = new BatchWriteItemResult();
@@ -53,7 +56,8 @@ public class BatchWriteItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UnprocessedItems", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     batchWriteItemResult
                             .setUnprocessedItems(new MapUnmarshaller<String, java.util.List<WriteRequest>>(
@@ -62,9 +66,8 @@ public class BatchWriteItemResultJsonUnmarshaller implements
                                             WriteRequestJsonUnmarshaller
                                                     .getInstance()))
                                     .unmarshall(context));
-                }
-                if (context
-                        .testExpression("ItemCollectionMetrics", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     batchWriteItemResult
                             .setItemCollectionMetrics(new MapUnmarshaller<String, java.util.List<ItemCollectionMetrics>>(
@@ -73,13 +76,14 @@ public class BatchWriteItemResultJsonUnmarshaller implements
                                             ItemCollectionMetricsJsonUnmarshaller
                                                     .getInstance()))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     batchWriteItemResult
                             .setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(
                                     ConsumedCapacityJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class CapacityJsonUnmarshaller implements
         Unmarshaller<Capacity, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "CapacityUnits");
+
     public Capacity unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         Capacity capacity = new Capacity();
@@ -53,10 +56,12 @@ public class CapacityJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CapacityUnits", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     capacity.setCapacityUnits(context.getUnmarshaller(
                             Double.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
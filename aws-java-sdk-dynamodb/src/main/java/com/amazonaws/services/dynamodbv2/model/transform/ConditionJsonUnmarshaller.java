@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ConditionJsonUnmarshaller implements
         Unmarshaller<Condition, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "AttributeValueList", "ComparisonOperator");
+
     public Condition unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         Condition condition = new Condition();
@@ -53,17 +56,19 @@ public class ConditionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeValueList", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     condition
                             .setAttributeValueList(new ListUnmarshaller<AttributeValue>(
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     condition.setComparisonOperator(context.getUnmarshaller(
                             String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ConsumedCapacityJsonUnmarshaller implements
         Unmarshaller<ConsumedCapacity, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "TableName", "CapacityUnits", "Table", "LocalSecondaryIndexes",
+            "GlobalSecondaryIndexes");
+
     public ConsumedCapacity unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         ConsumedCapacity consumedCapacity = new ConsumedCapacity();
@@ -53,38 +57,38 @@ public class ConsumedCapacityJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     consumedCapacity.setTableName(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("CapacityUnits", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     consumedCapacity.setCapacityUnits(context.getUnmarshaller(
                             Double.class).unmarshall(context));
-                }
-                if (context.testExpression("Table", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     consumedCapacity.setTable(CapacityJsonUnmarshaller
                             .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("LocalSecondaryIndexes", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     consumedCapacity
                             .setLocalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(
                                     context.getUnmarshaller(String.class),
                                     CapacityJsonUnmarshaller.getInstance())
                                     .unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes",
-                        targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     consumedCapacity
                             .setGlobalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(
                                     context.getUnmarshaller(String.class),
                                     CapacityJsonUnmarshaller.getInstance())
                                     .unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
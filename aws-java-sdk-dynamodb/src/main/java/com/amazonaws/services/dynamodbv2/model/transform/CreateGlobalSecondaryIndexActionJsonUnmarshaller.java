@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class CreateGlobalSecondaryIndexActionJsonUnmarshaller implements
         Unmarshaller<CreateGlobalSecondaryIndexAction, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "IndexName", "KeySchema", "Projection", "ProvisionedThroughput");
+
     public CreateGlobalSecondaryIndexAction unmarshall(
             JsonUnmarshallerContext context) throws Exception {
         CreateGlobalSecondaryIndexAction createGlobalSecondaryIndexAction = new CreateGlobalSecondaryIndexAction();
@@ -53,30 +56,31 @@ public class CreateGlobalSecondaryIndexActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     createGlobalSecondaryIndexAction.setIndexName(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     createGlobalSecondaryIndexAction
                             .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
                                     KeySchemaElementJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     createGlobalSecondaryIndexAction
                             .setProjection(ProjectionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     createGlobalSecondaryIndexAction
                             .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class CreateTableResultJsonUnmarshaller implements
         Unmarshaller<CreateTableResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "TableDescription");
+
     public CreateTableResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         CreateTableResult createTableResult = new CreateTableResult();
@@ -53,11 +56,13 @@ public class CreateTableResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableDescription", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     createTableResult
                             .setTableDescription(TableDescriptionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class DeleteGlobalSecondaryIndexActionJsonUnmarshaller implements
         Unmarshaller<DeleteGlobalSecondaryIndexAction, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "IndexName");
+
     public DeleteGlobalSecondaryIndexAction unmarshall(
             JsonUnmarshallerContext context) throws Exception {
         DeleteGlobalSecondaryIndexAction deleteGlobalSecondaryIndexAction = new DeleteGlobalSecondaryIndexAction();
@@ -53,10 +56,12 @@ public class DeleteGlobalSecondaryIndexActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     deleteGlobalSecondaryIndexAction.setIndexName(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class DeleteItemResultJsonUnmarshaller implements
         Unmarshaller<DeleteItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Attributes", "ConsumedCapacity", "ItemCollectionMetrics");
+
     public DeleteItemResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         DeleteItemResult deleteItemResult = new DeleteItemResult();
@@ -53,26 +56,27 @@ public class DeleteItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     deleteItemResult
                             .setAttributes(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     deleteItemResult
                             .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ItemCollectionMetrics", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     deleteItemResult
                             .setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class DeleteRequestJsonUnmarshaller implements
         Unmarshaller<DeleteRequest, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex("Key");
+
     public DeleteRequest unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         DeleteRequest deleteRequest = new DeleteRequest();
@@ -53,13 +55,15 @@ public class DeleteRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     deleteRequest
                             .setKey(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
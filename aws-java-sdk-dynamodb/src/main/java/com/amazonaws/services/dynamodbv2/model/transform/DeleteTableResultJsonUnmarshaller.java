@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class DeleteTableResultJsonUnmarshaller implements
         Unmarshaller<DeleteTableResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "TableDescription");
+
     public DeleteTableResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         DeleteTableResult deleteTableResult = new DeleteTableResult();
@@ -53,11 +56,13 @@ public class DeleteTableResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableDescription", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     deleteTableResult
                             .setTableDescription(TableDescriptionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class DescribeLimitsResultJsonUnmarshaller implements
         Unmarshaller<DescribeLimitsResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "AccountMaxReadCapacityUnits", "AccountMaxWriteCapacityUnits",
+            "TableMaxReadCapacityUnits", "TableMaxWriteCapacityUnits");
+
     public DescribeLimitsResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         DescribeLimitsResult describeLimitsResult = new DescribeLimitsResult();
@@ -53,31 +57,29 @@ public class DescribeLimitsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountMaxReadCapacityUnits",
-                        targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     describeLimitsResult.setAccountMaxReadCapacityUnits(context
                             .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("AccountMaxWriteCapacityUnits",
-                        targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     describeLimitsResult
                             .setAccountMaxWriteCapacityUnits(context
                                     .getUnmarshaller(Long.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("TableMaxReadCapacityUnits",
-                        targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     describeLimitsResult.setTableMaxReadCapacityUnits(context
                             .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TableMaxWriteCapacityUnits",
-                        targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     describeLimitsResult.setTableMaxWriteCapacityUnits(context
                             .getUnmarshaller(Long.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
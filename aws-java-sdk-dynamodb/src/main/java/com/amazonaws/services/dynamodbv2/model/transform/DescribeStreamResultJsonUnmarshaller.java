@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class DescribeStreamResultJsonUnmarshaller implements
         Unmarshaller<DescribeStreamResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "StreamDescription");
+
     public DescribeStreamResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         DescribeStreamResult describeStreamResult = new DescribeStreamResult();
@@ -53,11 +56,13 @@ public class DescribeStreamResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamDescription", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     describeStreamResult
                             .setStreamDescription(StreamDescriptionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
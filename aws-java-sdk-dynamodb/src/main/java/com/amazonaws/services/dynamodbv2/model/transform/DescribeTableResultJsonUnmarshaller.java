@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class DescribeTableResultJsonUnmarshaller implements
         Unmarshaller<DescribeTableResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Table");
+
     public DescribeTableResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         DescribeTableResult describeTableResult = new DescribeTableResult();
@@ -53,11 +56,13 @@ public class DescribeTableResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Table", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     describeTableResult
                             .setTable(TableDescriptionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
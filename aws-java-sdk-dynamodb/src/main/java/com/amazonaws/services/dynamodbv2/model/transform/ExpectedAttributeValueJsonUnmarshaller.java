@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ExpectedAttributeValueJsonUnmarshaller implements
         Unmarshaller<ExpectedAttributeValue, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Value", "Exists", "ComparisonOperator", "AttributeValueList");
+
     public ExpectedAttributeValue unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         ExpectedAttributeValue expectedAttributeValue = new ExpectedAttributeValue();
@@ -53,28 +56,30 @@ public class ExpectedAttributeValueJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     expectedAttributeValue
                             .setValue(AttributeValueJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Exists", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     expectedAttributeValue.setExists(context.getUnmarshaller(
                             Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     expectedAttributeValue.setComparisonOperator(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeValueList", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     expectedAttributeValue
                             .setAttributeValueList(new ListUnmarshaller<AttributeValue>(
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
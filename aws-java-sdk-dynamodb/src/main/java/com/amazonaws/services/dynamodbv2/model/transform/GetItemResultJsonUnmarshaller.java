@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class GetItemResultJsonUnmarshaller implements
         Unmarshaller<GetItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Item", "ConsumedCapacity");
+
     public GetItemResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         GetItemResult getItemResult = new GetItemResult();
@@ -53,19 +56,21 @@ public class GetItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Item", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     getItemResult
                             .setItem(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     getItemResult
                             .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class GetRecordsResultJsonUnmarshaller implements
         Unmarshaller<GetRecordsResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Records", "NextShardIterator");
+
     public GetRecordsResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         GetRecordsResult getRecordsResult = new GetRecordsResult();
@@ -53,16 +56,18 @@ public class GetRecordsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Records", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     getRecordsResult.setRecords(new ListUnmarshaller<Record>(
                             RecordJsonUnmarshaller.getInstance())
                             .unmarshall(context));
-                }
-                if (context.testExpression("NextShardIterator", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     getRecordsResult.setNextShardIterator(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class GetShardIteratorResultJsonUnmarshaller implements
         Unmarshaller<GetShardIteratorResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "ShardIterator");
+
     public GetShardIteratorResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         GetShardIteratorResult getShardIteratorResult = new GetShardIteratorResult();
@@ -53,10 +56,12 @@ public class GetShardIteratorResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardIterator", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     getShardIteratorResult.setShardIterator(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
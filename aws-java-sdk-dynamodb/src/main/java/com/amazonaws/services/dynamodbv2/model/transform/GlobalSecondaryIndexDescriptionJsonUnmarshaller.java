@@ -34,6 +34,11 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class GlobalSecondaryIndexDescriptionJsonUnmarshaller implements
         Unmarshaller<GlobalSecondaryIndexDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "IndexName", "KeySchema", "Projection", "IndexStatus",
+            "Backfilling", "ProvisionedThroughput", "IndexSizeBytes",
+            "ItemCount", "IndexArn");
+
     public GlobalSecondaryIndexDescription unmarshall(
             JsonUnmarshallerContext context) throws Exception {
         GlobalSecondaryIndexDescription globalSecondaryIndexDescription = new GlobalSecondaryIndexDescription();
@@ -53,56 +58,57 @@ public class GlobalSecondaryIndexDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     globalSecondaryIndexDescription.setIndexName(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     globalSecondaryIndexDescription
                             .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
                                     KeySchemaElementJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     globalSecondaryIndexDescription
                             .setProjection(ProjectionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexStatus", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     globalSecondaryIndexDescription.setIndexStatus(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Backfilling", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     globalSecondaryIndexDescription
                             .setBackfilling(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
+                    break;
+                case 5:
                     context.nextToken();
                     globalSecondaryIndexDescription
                             .setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
+                    break;
+                case 6:
                     context.nextToken();
                     globalSecondaryIndexDescription.setIndexSizeBytes(context
                             .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
+                    break;
+                case 7:
                     context.nextToken();
                     globalSecondaryIndexDescription.setItemCount(context
                             .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexArn", targetDepth)) {
+                    break;
+                case 8:
                     context.nextToken();
                     globalSecondaryIndexDescription.setIndexArn(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
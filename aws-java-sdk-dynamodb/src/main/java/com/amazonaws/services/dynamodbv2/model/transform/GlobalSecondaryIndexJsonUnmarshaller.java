@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class GlobalSecondaryIndexJsonUnmarshaller implements
         Unmarshaller<GlobalSecondaryIndex, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "IndexName", "KeySchema", "Projection", "ProvisionedThroughput");
+
     public GlobalSecondaryIndex unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         GlobalSecondaryIndex globalSecondaryIndex = new GlobalSecondaryIndex();
@@ -53,30 +56,31 @@ public class GlobalSecondaryIndexJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     globalSecondaryIndex.setIndexName(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     globalSecondaryIndex
                             .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
                                     KeySchemaElementJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     globalSecondaryIndex
                             .setProjection(ProjectionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     globalSecondaryIndex
                             .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class GlobalSecondaryIndexUpdateJsonUnmarshaller implements
         Unmarshaller<GlobalSecondaryIndexUpdate, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Update", "Create", "Delete");
+
     public GlobalSecondaryIndexUpdate unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         GlobalSecondaryIndexUpdate globalSecondaryIndexUpdate = new GlobalSecondaryIndexUpdate();
@@ -53,23 +56,25 @@ public class GlobalSecondaryIndexUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Update", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     globalSecondaryIndexUpdate
                             .setUpdate(UpdateGlobalSecondaryIndexActionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Create", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     globalSecondaryIndexUpdate
                             .setCreate(CreateGlobalSecondaryIndexActionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Delete", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     globalSecondaryIndexUpdate
                             .setDelete(DeleteGlobalSecondaryIndexActionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ItemCollectionMetricsJsonUnmarshaller implements
         Unmarshaller<ItemCollectionMetrics, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "ItemCollectionKey", "SizeEstimateRangeGB");
+
     public ItemCollectionMetrics unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         ItemCollectionMetrics itemCollectionMetrics = new ItemCollectionMetrics();
@@ -53,20 +56,22 @@ public class ItemCollectionMetricsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ItemCollectionKey", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     itemCollectionMetrics
                             .setItemCollectionKey(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SizeEstimateRangeGB", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     itemCollectionMetrics
                             .setSizeEstimateRangeGB(new ListUnmarshaller<Double>(
                                     context.getUnmarshaller(Double.class))
                                     .unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
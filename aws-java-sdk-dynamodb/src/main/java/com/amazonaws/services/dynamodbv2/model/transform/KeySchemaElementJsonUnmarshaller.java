@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class KeySchemaElementJsonUnmarshaller implements
         Unmarshaller<KeySchemaElement, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "AttributeName", "KeyType");
+
     public KeySchemaElement unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         KeySchemaElement keySchemaElement = new KeySchemaElement();
@@ -53,15 +56,17 @@ public class KeySchemaElementJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     keySchemaElement.setAttributeName(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyType", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     keySchemaElement.setKeyType(context.getUnmarshaller(
                             String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
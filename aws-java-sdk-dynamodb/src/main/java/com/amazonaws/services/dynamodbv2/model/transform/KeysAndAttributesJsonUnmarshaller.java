@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class KeysAndAttributesJsonUnmarshaller implements
         Unmarshaller<KeysAndAttributes, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Keys", "AttributesToGet", "ConsistentRead",
+            "ProjectionExpression", "ExpressionAttributeNames");
+
     public KeysAndAttributes unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         KeysAndAttributes keysAndAttributes = new KeysAndAttributes();
@@ -53,7 +57,8 @@ public class KeysAndAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Keys", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     keysAndAttributes
                             .setKeys(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
@@ -62,33 +67,33 @@ public class KeysAndAttributesJsonUnmarshaller implements
                                             AttributeValueJsonUnmarshaller
                                                     .getInstance()))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("AttributesToGet", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     keysAndAttributes
                             .setAttributesToGet(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("ConsistentRead", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     keysAndAttributes
                             .setConsistentRead(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ProjectionExpression", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     keysAndAttributes.setProjectionExpression(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpressionAttributeNames",
-                        targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     keysAndAttributes
                             .setExpressionAttributeNames(new MapUnmarshaller<String, String>(
                                     context.getUnmarshaller(String.class),
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
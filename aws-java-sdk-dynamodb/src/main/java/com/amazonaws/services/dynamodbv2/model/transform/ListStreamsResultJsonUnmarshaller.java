@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ListStreamsResultJsonUnmarshaller implements
         Unmarshaller<ListStreamsResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Streams", "LastEvaluatedStreamArn");
+
     public ListStreamsResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         ListStreamsResult listStreamsResult = new ListStreamsResult();
@@ -53,17 +56,18 @@ public class ListStreamsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Streams", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     listStreamsResult.setStreams(new ListUnmarshaller<Stream>(
                             StreamJsonUnmarshaller.getInstance())
                             .unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedStreamArn",
-                        targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     listStreamsResult.setLastEvaluatedStreamArn(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
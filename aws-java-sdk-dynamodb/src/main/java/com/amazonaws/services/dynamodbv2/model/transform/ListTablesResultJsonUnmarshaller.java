@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ListTablesResultJsonUnmarshaller implements
         Unmarshaller<ListTablesResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "TableNames", "LastEvaluatedTableName");
+
     public ListTablesResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         ListTablesResult listTablesResult = new ListTablesResult();
@@ -53,18 +56,19 @@ public class ListTablesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableNames", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     listTablesResult
                             .setTableNames(new ListUnmarshaller<String>(context
                                     .getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedTableName",
-                        targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     listTablesResult.setLastEvaluatedTableName(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
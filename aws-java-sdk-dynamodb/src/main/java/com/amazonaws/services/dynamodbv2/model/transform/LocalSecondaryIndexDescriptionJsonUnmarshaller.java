@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class LocalSecondaryIndexDescriptionJsonUnmarshaller implements
         Unmarshaller<LocalSecondaryIndexDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "IndexName", "KeySchema", "Projection", "IndexSizeBytes",
+            "ItemCount", "IndexArn");
+
     public LocalSecondaryIndexDescription unmarshall(
             JsonUnmarshallerContext context) throws Exception {
         LocalSecondaryIndexDescription localSecondaryIndexDescription = new LocalSecondaryIndexDescription();
@@ -53,38 +57,40 @@ public class LocalSecondaryIndexDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     localSecondaryIndexDescription.setIndexName(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     localSecondaryIndexDescription
                             .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
                                     KeySchemaElementJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     localSecondaryIndexDescription
                             .setProjection(ProjectionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     localSecondaryIndexDescription.setIndexSizeBytes(context
                             .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     localSecondaryIndexDescription.setItemCount(context
                             .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexArn", targetDepth)) {
+                    break;
+                case 5:
                     context.nextToken();
                     localSecondaryIndexDescription.setIndexArn(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class LocalSecondaryIndexJsonUnmarshaller implements
         Unmarshaller<LocalSecondaryIndex, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "IndexName", "KeySchema", "Projection");
+
     public LocalSecondaryIndex unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         LocalSecondaryIndex localSecondaryIndex = new LocalSecondaryIndex();
@@ -53,23 +56,25 @@ public class LocalSecondaryIndexJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     localSecondaryIndex.setIndexName(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     localSecondaryIndex
                             .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
                                     KeySchemaElementJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     localSecondaryIndex
                             .setProjection(ProjectionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
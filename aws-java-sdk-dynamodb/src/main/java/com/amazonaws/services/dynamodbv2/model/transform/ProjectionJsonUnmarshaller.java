@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ProjectionJsonUnmarshaller implements
         Unmarshaller<Projection, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "ProjectionType", "NonKeyAttributes");
+
     public Projection unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         Projection projection = new Projection();
@@ -53,17 +56,19 @@ public class ProjectionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProjectionType", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     projection.setProjectionType(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("NonKeyAttributes", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     projection
                             .setNonKeyAttributes(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
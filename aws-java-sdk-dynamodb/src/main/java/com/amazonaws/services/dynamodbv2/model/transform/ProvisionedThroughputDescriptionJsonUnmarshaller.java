@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ProvisionedThroughputDescriptionJsonUnmarshaller implements
         Unmarshaller<ProvisionedThroughputDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "LastIncreaseDateTime", "LastDecreaseDateTime",
+            "NumberOfDecreasesToday", "ReadCapacityUnits", "WriteCapacityUnits");
+
     public ProvisionedThroughputDescription unmarshall(
             JsonUnmarshallerContext context) throws Exception {
         ProvisionedThroughputDescription provisionedThroughputDescription = new ProvisionedThroughputDescription();
@@ -53,36 +57,37 @@ public class ProvisionedThroughputDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LastIncreaseDateTime", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     provisionedThroughputDescription
                             .setLastIncreaseDateTime(context.getUnmarshaller(
                                     java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastDecreaseDateTime", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     provisionedThroughputDescription
                             .setLastDecreaseDateTime(context.getUnmarshaller(
                                     java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDecreasesToday",
-                        targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     provisionedThroughputDescription
                             .setNumberOfDecreasesToday(context.getUnmarshaller(
                                     Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadCapacityUnits", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     provisionedThroughputDescription
                             .setReadCapacityUnits(context.getUnmarshaller(
                                     Long.class).unmarshall(context));
-                }
-                if (context.testExpression("WriteCapacityUnits", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     provisionedThroughputDescription
                             .setWriteCapacityUnits(context.getUnmarshaller(
                                     Long.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ProvisionedThroughputJsonUnmarshaller implements
         Unmarshaller<ProvisionedThroughput, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "ReadCapacityUnits", "WriteCapacityUnits");
+
     public ProvisionedThroughput unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         ProvisionedThroughput provisionedThroughput = new ProvisionedThroughput();
@@ -53,15 +56,17 @@ public class ProvisionedThroughputJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReadCapacityUnits", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     provisionedThroughput.setReadCapacityUnits(context
                             .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("WriteCapacityUnits", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     provisionedThroughput.setWriteCapacityUnits(context
                             .getUnmarshaller(Long.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
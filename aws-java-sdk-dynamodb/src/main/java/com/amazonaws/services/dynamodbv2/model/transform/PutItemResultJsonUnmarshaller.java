@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class PutItemResultJsonUnmarshaller implements
         Unmarshaller<PutItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Attributes", "ConsumedCapacity", "ItemCollectionMetrics");
+
     public PutItemResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         PutItemResult putItemResult = new PutItemResult();
@@ -53,26 +56,27 @@ public class PutItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     putItemResult
                             .setAttributes(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     putItemResult
                             .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ItemCollectionMetrics", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     putItemResult
                             .setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
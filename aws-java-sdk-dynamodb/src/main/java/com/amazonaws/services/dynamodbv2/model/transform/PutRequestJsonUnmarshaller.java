@@ -34,6 +34,8 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class PutRequestJsonUnmarshaller implements
         Unmarshaller<PutRequest, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex("Item");
+
     public PutRequest unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         PutRequest putRequest = new PutRequest();
@@ -53,13 +55,15 @@ public class PutRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Item", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     putRequest
                             .setItem(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class QueryResultJsonUnmarshaller implements
         Unmarshaller<QueryResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Items", "Count", "ScannedCount", "LastEvaluatedKey",
+            "ConsumedCapacity");
+
     public QueryResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         QueryResult queryResult = new QueryResult();
@@ -53,7 +57,8 @@ public class QueryResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Items", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     queryResult
                             .setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
@@ -62,30 +67,31 @@ public class QueryResultJsonUnmarshaller implements
                                             AttributeValueJsonUnmarshaller
                                                     .getInstance()))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     queryResult.setCount(context.getUnmarshaller(Integer.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("ScannedCount", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     queryResult.setScannedCount(context.getUnmarshaller(
                             Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedKey", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     queryResult
                             .setLastEvaluatedKey(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     queryResult
                             .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
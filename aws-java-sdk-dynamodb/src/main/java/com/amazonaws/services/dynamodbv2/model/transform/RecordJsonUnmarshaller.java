@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class RecordJsonUnmarshaller implements
         Unmarshaller<Record, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "eventID", "eventName", "eventVersion", "eventSource", "awsRegion",
+            "dynamodb");
+
     public Record unmarshall(JsonUnmarshallerContext context) throws Exception {
         Record record = new Record();
 
@@ -52,35 +56,37 @@ public class RecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("eventID", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     record.setEventID(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("eventName", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     record.setEventName(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("eventVersion", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     record.setEventVersion(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventSource", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     record.setEventSource(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("awsRegion", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     record.setAwsRegion(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("dynamodb", targetDepth)) {
+                    break;
+                case 5:
                     context.nextToken();
                     record.setDynamodb(StreamRecordJsonUnmarshaller
                             .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
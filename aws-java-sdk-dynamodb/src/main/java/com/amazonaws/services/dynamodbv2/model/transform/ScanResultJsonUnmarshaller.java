@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ScanResultJsonUnmarshaller implements
         Unmarshaller<ScanResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Items", "Count", "ScannedCount", "LastEvaluatedKey",
+            "ConsumedCapacity");
+
     public ScanResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         ScanResult scanResult = new ScanResult();
@@ -53,7 +57,8 @@ public class ScanResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Items", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     scanResult
                             .setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
@@ -62,30 +67,31 @@ public class ScanResultJsonUnmarshaller implements
                                             AttributeValueJsonUnmarshaller
                                                     .getInstance()))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     scanResult.setCount(context.getUnmarshaller(Integer.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("ScannedCount", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     scanResult.setScannedCount(context.getUnmarshaller(
                             Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedKey", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     scanResult
                             .setLastEvaluatedKey(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     scanResult
                             .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
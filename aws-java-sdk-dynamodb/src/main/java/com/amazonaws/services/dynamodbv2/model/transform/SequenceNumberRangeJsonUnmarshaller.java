@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class SequenceNumberRangeJsonUnmarshaller implements
         Unmarshaller<SequenceNumberRange, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "StartingSequenceNumber", "EndingSequenceNumber");
+
     public SequenceNumberRange unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         SequenceNumberRange sequenceNumberRange = new SequenceNumberRange();
@@ -53,16 +56,17 @@ public class SequenceNumberRangeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartingSequenceNumber",
-                        targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     sequenceNumberRange.setStartingSequenceNumber(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndingSequenceNumber", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     sequenceNumberRange.setEndingSequenceNumber(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class ShardJsonUnmarshaller implements
         Unmarshaller<Shard, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "ShardId", "SequenceNumberRange", "ParentShardId");
+
     public Shard unmarshall(JsonUnmarshallerContext context) throws Exception {
         Shard shard = new Shard();
 
@@ -52,20 +55,22 @@ public class ShardJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardId", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     shard.setShardId(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumberRange", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     shard.setSequenceNumberRange(SequenceNumberRangeJsonUnmarshaller
                             .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ParentShardId", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     shard.setParentShardId(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
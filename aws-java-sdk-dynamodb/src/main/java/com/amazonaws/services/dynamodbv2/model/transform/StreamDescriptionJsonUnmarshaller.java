@@ -34,6 +34,11 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class StreamDescriptionJsonUnmarshaller implements
         Unmarshaller<StreamDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "StreamArn", "StreamLabel", "StreamStatus", "StreamViewType",
+            "CreationRequestDateTime", "TableName", "KeySchema", "Shards",
+            "LastEvaluatedShardId");
+
     public StreamDescription unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         StreamDescription streamDescription = new StreamDescription();
@@ -53,55 +58,56 @@ public class StreamDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamArn", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     streamDescription.setStreamArn(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamLabel", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     streamDescription.setStreamLabel(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamStatus", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     streamDescription.setStreamStatus(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     streamDescription.setStreamViewType(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationRequestDateTime",
-                        targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     streamDescription.setCreationRequestDateTime(context
                             .getUnmarshaller(java.util.Date.class).unmarshall(
                                     context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
+                    break;
+                case 5:
                     context.nextToken();
                     streamDescription.setTableName(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 6:
                     context.nextToken();
                     streamDescription
                             .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
                                     KeySchemaElementJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Shards", targetDepth)) {
+                    break;
+                case 7:
                     context.nextToken();
                     streamDescription.setShards(new ListUnmarshaller<Shard>(
                             ShardJsonUnmarshaller.getInstance())
                             .unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedShardId", targetDepth)) {
+                    break;
+                case 8:
                     context.nextToken();
                     streamDescription.setLastEvaluatedShardId(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class StreamJsonUnmarshaller implements
         Unmarshaller<Stream, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "StreamArn", "TableName", "StreamLabel");
+
     public Stream unmarshall(JsonUnmarshallerContext context) throws Exception {
         Stream stream = new Stream();
 
@@ -52,20 +55,22 @@ public class StreamJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamArn", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     stream.setStreamArn(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     stream.setTableName(context.getUnmarshaller(String.class)
                             .unmarshall(context));
-                }
-                if (context.testExpression("StreamLabel", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     stream.setStreamLabel(context.getUnmarshaller(String.class)
                             .unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,10 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class StreamRecordJsonUnmarshaller implements
         Unmarshaller<StreamRecord, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "ApproximateCreationDateTime", "Keys", "NewImage", "OldImage",
+            "SequenceNumber", "SizeBytes", "StreamViewType");
+
     public StreamRecord unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         StreamRecord streamRecord = new StreamRecord();
@@ -53,51 +57,52 @@ public class StreamRecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApproximateCreationDateTime",
-                        targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     streamRecord.setApproximateCreationDateTime(context
                             .getUnmarshaller(java.util.Date.class).unmarshall(
                                     context));
-                }
-                if (context.testExpression("Keys", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     streamRecord
                             .setKeys(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NewImage", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     streamRecord
                             .setNewImage(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("OldImage", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     streamRecord
                             .setOldImage(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumber", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     streamRecord.setSequenceNumber(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeBytes", targetDepth)) {
+                    break;
+                case 5:
                     context.nextToken();
                     streamRecord.setSizeBytes(context.getUnmarshaller(
                             Long.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
+                    break;
+                case 6:
                     context.nextToken();
                     streamRecord.setStreamViewType(context.getUnmarshaller(
                             String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class StreamSpecificationJsonUnmarshaller implements
         Unmarshaller<StreamSpecification, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "StreamEnabled", "StreamViewType");
+
     public StreamSpecification unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         StreamSpecification streamSpecification = new StreamSpecification();
@@ -53,16 +56,18 @@ public class StreamSpecificationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamEnabled", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     streamSpecification
                             .setStreamEnabled(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     streamSpecification.setStreamViewType(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
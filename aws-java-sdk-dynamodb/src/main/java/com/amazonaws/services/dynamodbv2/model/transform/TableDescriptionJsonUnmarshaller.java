@@ -34,6 +34,13 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class TableDescriptionJsonUnmarshaller implements
         Unmarshaller<TableDescription, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "AttributeDefinitions", "TableName", "KeySchema", "TableStatus",
+            "CreationDateTime", "ProvisionedThroughput", "TableSizeBytes",
+            "ItemCount", "TableArn", "LocalSecondaryIndexes",
+            "GlobalSecondaryIndexes", "StreamSpecification",
+            "LatestStreamLabel", "LatestStreamArn");
+
     public TableDescription unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         TableDescription tableDescription = new TableDescription();
@@ -53,89 +60,88 @@ public class TableDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeDefinitions", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     tableDescription
                             .setAttributeDefinitions(new ListUnmarshaller<AttributeDefinition>(
                                     AttributeDefinitionJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     tableDescription.setTableName(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     tableDescription
                             .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
                                     KeySchemaElementJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableStatus", targetDepth)) {
+                    break;
+                case 3:
                     context.nextToken();
                     tableDescription.setTableStatus(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
+                    break;
+                case 4:
                     context.nextToken();
                     tableDescription.setCreationDateTime(context
                             .getUnmarshaller(java.util.Date.class).unmarshall(
                                     context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
+                    break;
+                case 5:
                     context.nextToken();
                     tableDescription
                             .setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TableSizeBytes", targetDepth)) {
+                    break;
+                case 6:
                     context.nextToken();
                     tableDescription.setTableSizeBytes(context.getUnmarshaller(
                             Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
+                    break;
+                case 7:
                     context.nextToken();
                     tableDescription.setItemCount(context.getUnmarshaller(
                             Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TableArn", targetDepth)) {
+                    break;
+                case 8:
                     context.nextToken();
                     tableDescription.setTableArn(context.getUnmarshaller(
                             String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("LocalSecondaryIndexes", targetDepth)) {
+                    break;
+                case 9:
                     context.nextToken();
                     tableDescription
                             .setLocalSecondaryIndexes(new ListUnmarshaller<LocalSecondaryIndexDescription>(
                                     LocalSecondaryIndexDescriptionJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes",
-                        targetDepth)) {
+                    break;
+                case 10:
                     context.nextToken();
                     tableDescription
                             .setGlobalSecondaryIndexes(new ListUnmarshaller<GlobalSecondaryIndexDescription>(
                                     GlobalSecondaryIndexDescriptionJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("StreamSpecification", targetDepth)) {
+                    break;
+                case 11:
                     context.nextToken();
                     tableDescription
                             .setStreamSpecification(StreamSpecificationJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LatestStreamLabel", targetDepth)) {
+                    break;
+                case 12:
                     context.nextToken();
                     tableDescription.setLatestStreamLabel(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestStreamArn", targetDepth)) {
+                    break;
+                case 13:
                     context.nextToken();
                     tableDescription.setLatestStreamArn(context
                             .getUnmarshaller(String.class).unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
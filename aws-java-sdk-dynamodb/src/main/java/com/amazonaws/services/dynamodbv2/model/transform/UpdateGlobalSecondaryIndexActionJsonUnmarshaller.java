@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class UpdateGlobalSecondaryIndexActionJsonUnmarshaller implements
         Unmarshaller<UpdateGlobalSecondaryIndexAction, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "IndexName", "ProvisionedThroughput");
+
     public UpdateGlobalSecondaryIndexAction unmarshall(
             JsonUnmarshallerContext context) throws Exception {
         UpdateGlobalSecondaryIndexAction updateGlobalSecondaryIndexAction = new UpdateGlobalSecondaryIndexAction();
@@ -53,17 +56,18 @@ public class UpdateGlobalSecondaryIndexActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     updateGlobalSecondaryIndexAction.setIndexName(context
                             .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     updateGlobalSecondaryIndexAction
                             .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class UpdateItemResultJsonUnmarshaller implements
         Unmarshaller<UpdateItemResult, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "Attributes", "ConsumedCapacity", "ItemCollectionMetrics");
+
     public UpdateItemResult unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         UpdateItemResult updateItemResult = new UpdateItemResult();
@@ -53,26 +56,27 @@ public class UpdateItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     updateItemResult
                             .setAttributes(new MapUnmarshaller<String, AttributeValue>(
                                     context.getUnmarshaller(String.class),
                                     AttributeValueJsonUnmarshaller
                                             .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     updateItemResult
                             .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ItemCollectionMetrics", targetDepth)) {
+                    break;
+                case 2:
                     context.nextToken();
                     updateItemResult
                             .setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
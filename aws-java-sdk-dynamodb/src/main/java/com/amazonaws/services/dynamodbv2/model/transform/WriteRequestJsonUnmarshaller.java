@@ -34,6 +34,9 @@ import static com.fasterxml.jackson.core.JsonToken.*;
 public class WriteRequestJsonUnmarshaller implements
         Unmarshaller<WriteRequest, JsonUnmarshallerContext> {
 
+    private static final JsonFieldIndex FIELD_INDEX = new JsonFieldIndex(
+            "PutRequest", "DeleteRequest");
+
     public WriteRequest unmarshall(JsonUnmarshallerContext context)
             throws Exception {
         WriteRequest writeRequest = new WriteRequest();
@@ -53,15 +56,17 @@ public class WriteRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PutRequest", targetDepth)) {
+                switch (FIELD_INDEX.indexOf(context, targetDepth)) {
+                case 0:
                     context.nextToken();
                     writeRequest.setPutRequest(PutRequestJsonUnmarshaller
                             .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DeleteRequest", targetDepth)) {
+                    break;
+                case 1:
                     context.nextToken();
                     writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller
                             .getInstance().unmarshall(context));
+                    break;
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
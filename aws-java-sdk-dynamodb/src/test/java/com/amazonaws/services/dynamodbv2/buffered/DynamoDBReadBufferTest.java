@@ -0,0 +1,319 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.util.BinaryUtils;
+
+public class DynamoDBReadBufferTest {
+
+    private static final String TABLE = "read-buffer-test";
+
+    @Test
+    public void testCoalescesReadsFromManyThreads() throws Exception {
+        final StubDynamoDB db = new StubDynamoDB();
+        final DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db,
+                new ReadBufferConfig().withMaxBatchSize(20).withMaxBatchOpenMs(1000));
+
+        final List<Future<GetItemResult>> futures = new CopyOnWriteArrayList<Future<GetItemResult>>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 5; t++) {
+            final int thread = t;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10; i++) {
+                        futures.add(buffer.getItem(get(thread + "-" + i)));
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        buffer.flush();
+
+        assertEquals(50, futures.size());
+        for (Future<GetItemResult> future : futures) {
+            assertTrue(future.isDone());
+            assertTrue(future.get().getItem().containsKey("value"));
+        }
+        assertEquals(50, db.keys.get());
+        assertTrue(db.batches.get() >= 3);
+        assertTrue(db.maxBatchSize.get() <= 20);
+    }
+
+    @Test
+    public void testDeduplicatesIdenticalKeys() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        Future<GetItemResult> first = buffer.getItem(get("a"));
+        Future<GetItemResult> second = buffer.getItem(get("a"));
+
+        assertEquals("a", first.get().getItem().get("value").getS());
+        assertEquals("a", second.get().getItem().get("value").getS());
+        assertEquals(1, db.keys.get());
+    }
+
+    @Test
+    public void testRetriesUnprocessedKeys() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.unprocessedTimes.set(2);
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        Future<GetItemResult> first = buffer.getItem(get("a"));
+        Future<GetItemResult> second = buffer.getItem(get("b"));
+
+        assertEquals("a", first.get().getItem().get("value").getS());
+        assertEquals("b", second.get().getItem().get("value").getS());
+        assertEquals(3, db.batches.get());
+    }
+
+    @Test
+    public void testFailsReadsStillUnprocessedAfterMaxRetries() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.unprocessedTimes.set(Integer.MAX_VALUE);
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db, new ReadBufferConfig().withMaxRetries(1));
+
+        try {
+            buffer.getItem(get("a")).get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonClientException);
+        }
+        assertEquals(2, db.batches.get());
+    }
+
+    @Test
+    public void testCompletesMissingItemsWithoutItem() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        assertNull(buffer.getItem(get(StubDynamoDB.MISSING)).get().getItem());
+    }
+
+    @Test
+    public void testSendsProjectedReadsAlone() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        Future<GetItemResult> projected = buffer.getItem(get("a").withProjectionExpression("id"));
+        Future<GetItemResult> whole = buffer.getItem(get("b"));
+
+        assertEquals("a", projected.get().getItem().get("value").getS());
+        assertEquals("b", whole.get().getItem().get("value").getS());
+        assertEquals(1, db.singleGets.get());
+        assertEquals(1, db.batches.get());
+    }
+
+    @Test
+    public void testMatchesNumberKeysByValue() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        Future<GetItemResult> decimal = buffer.getItem(getNumber("1.0"));
+        Future<GetItemResult> padded = buffer.getItem(getNumber("01"));
+        Future<GetItemResult> other = buffer.getItem(getNumber("2.50"));
+
+        assertEquals("1", decimal.get().getItem().get("value").getS());
+        assertEquals("1", padded.get().getItem().get("value").getS());
+        assertEquals("2.5", other.get().getItem().get("value").getS());
+        assertEquals(2, db.keys.get());
+    }
+
+    @Test
+    public void testMatchesBinaryKeysByContent() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        ByteBuffer key = ByteBuffer.wrap(new byte[] {9, 1, 2, 3}, 1, 3).slice();
+        Future<GetItemResult> read = buffer.getItem(new GetItemRequest()
+                .withTableName(TABLE)
+                .withKey(Collections.singletonMap("id", new AttributeValue().withB(key))));
+
+        assertEquals("010203", read.get().getItem().get("value").getS());
+    }
+
+    @Test
+    public void testMatchesUnprocessedNumberKeysByValue() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.unprocessedTimes.set(1);
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        assertEquals("10", buffer.getItem(getNumber("10.00")).get().getItem().get("value").getS());
+        assertEquals(2, db.batches.get());
+    }
+
+    @Test
+    public void testFailsReadsSentAloneWhenTheClientThrows() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.getItemFailure = new IllegalStateException("client failure");
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(db);
+
+        Future<GetItemResult> projected = buffer.getItem(get("a").withProjectionExpression("id"));
+        Future<GetItemResult> whole = buffer.getItem(get("b"));
+
+        try {
+            projected.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals("b", whole.get().getItem().get("value").getS());
+    }
+
+    @Test(expected = AmazonClientException.class)
+    public void testRejectsReadsAfterShutdown() {
+        DynamoDBReadBuffer buffer = new DynamoDBReadBuffer(new StubDynamoDB());
+        buffer.shutdown();
+        buffer.getItem(get("a"));
+    }
+
+    private static GetItemRequest get(String id) {
+        return new GetItemRequest()
+                .withTableName(TABLE)
+                .withKey(Collections.singletonMap("id", new AttributeValue(id)));
+    }
+
+    private static GetItemRequest getNumber(String id) {
+        return new GetItemRequest()
+                .withTableName(TABLE)
+                .withKey(Collections.singletonMap("id", new AttributeValue().withN(id)));
+    }
+
+    private static class StubDynamoDB extends AbstractAmazonDynamoDB {
+
+        /** The id of the key which has no item. */
+        private static final String MISSING = "missing";
+
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger keys = new AtomicInteger();
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+        private final AtomicInteger singleGets = new AtomicInteger();
+
+        /** The number of batches whose first key is returned as unprocessed. */
+        private final AtomicInteger unprocessedTimes = new AtomicInteger();
+
+        /** Thrown by {@link #getItem(GetItemRequest)} if set. */
+        private volatile RuntimeException getItemFailure;
+
+        @Override
+        public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+            batches.incrementAndGet();
+            List<Map<String, AttributeValue>> requested = request.getRequestItems().get(TABLE).getKeys();
+
+            synchronized (maxBatchSize) {
+                maxBatchSize.set(Math.max(maxBatchSize.get(), requested.size()));
+            }
+
+            BatchGetItemResult result = new BatchGetItemResult();
+            List<Map<String, AttributeValue>> items = new ArrayList<Map<String, AttributeValue>>();
+            for (int i = 0; i < requested.size(); i++) {
+                if (i == 0 && unprocessedTimes.getAndDecrement() > 0) {
+                    // Return a canonical copy, as the service would.
+                    Map<String, AttributeValue> unprocessed = canonical(requested.get(0));
+                    result.setUnprocessedKeys(Collections.singletonMap(TABLE,
+                            new KeysAndAttributes().withKeys(unprocessed)));
+                    continue;
+                }
+                keys.incrementAndGet();
+                Map<String, AttributeValue> item = itemOf(requested.get(i));
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+            // The service returns the items in any order.
+            Collections.reverse(items);
+            result.setResponses(Collections.singletonMap(TABLE, items));
+            return result;
+        }
+
+        @Override
+        public GetItemResult getItem(GetItemRequest request) {
+            singleGets.incrementAndGet();
+            if (getItemFailure != null) {
+                throw getItemFailure;
+            }
+            return new GetItemResult().withItem(itemOf(request.getKey()));
+        }
+
+        private static Map<String, AttributeValue> itemOf(Map<String, AttributeValue> key) {
+            Map<String, AttributeValue> item = canonical(key);
+            AttributeValue idValue = item.get("id");
+            String id;
+            if (idValue.getN() != null) {
+                id = idValue.getN();
+            } else if (idValue.getB() != null) {
+                id = BinaryUtils.toHex(BinaryUtils.copyAllBytesFrom(idValue.getB()));
+            } else {
+                id = idValue.getS();
+            }
+            if (MISSING.equals(id)) {
+                return null;
+            }
+            item.put("value", new AttributeValue(id));
+            return item;
+        }
+
+        /**
+         * Returns a copy of the key with numbers in canonical form and binary values in new
+         * buffers, as the service would.
+         */
+        private static Map<String, AttributeValue> canonical(Map<String, AttributeValue> key) {
+            Map<String, AttributeValue> copy = new HashMap<String, AttributeValue>();
+            for (Map.Entry<String, AttributeValue> attribute : key.entrySet()) {
+                AttributeValue value = attribute.getValue();
+                if (value.getN() != null) {
+                    value = new AttributeValue().withN(
+                            new BigDecimal(value.getN()).stripTrailingZeros().toPlainString());
+                } else if (value.getB() != null) {
+                    value = new AttributeValue().withB(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(value.getB())));
+                }
+                copy.put(attribute.getKey(), value);
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.DeleteItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.amazonaws.util.BinaryUtils;
+
+public class DynamoDBWriteBufferTest {
+
+    private static final String TABLE = "write-buffer-test";
+
+    @Test
+    public void testCoalescesWritesFromManyThreads() throws Exception {
+        final StubDynamoDB db = new StubDynamoDB();
+        final DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db,
+                new WriteBufferConfig().withMaxBatchOpenMs(1000));
+
+        final List<Future<PutItemResult>> futures = new CopyOnWriteArrayList<Future<PutItemResult>>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 5; t++) {
+            final int thread = t;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10; i++) {
+                        futures.add(buffer.putItem(put(thread + "-" + i)));
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        buffer.flush();
+
+        assertEquals(50, futures.size());
+        for (Future<PutItemResult> future : futures) {
+            assertTrue(future.isDone());
+            assertNotNull(future.get());
+        }
+        assertEquals(50, db.writes.get());
+        assertTrue(db.batches.get() >= 2);
+        assertTrue(db.maxBatchSize.get() <= WriteBufferConfig.SERVICE_MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void testRetriesUnprocessedItems() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.unprocessedTimes.set(2);
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db);
+
+        Future<PutItemResult> put = buffer.putItem(put("a"));
+        Future<DeleteItemResult> delete = buffer.deleteItem(new DeleteItemRequest()
+                .withTableName(TABLE)
+                .withKey(Collections.singletonMap("id", new AttributeValue("b"))));
+
+        assertNotNull(put.get());
+        assertNotNull(delete.get());
+        assertEquals(3, db.batches.get());
+    }
+
+    @Test
+    public void testRetriesUnprocessedItemsEchoedInCanonicalForm() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.unprocessedTimes.set(1);
+        db.echoCanonicalForm = true;
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db);
+
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("id", new AttributeValue().withN("1.0"));
+        item.put("data", new AttributeValue().withB(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+        Future<PutItemResult> put = buffer.putItem(new PutItemRequest()
+                .withTableName(TABLE)
+                .withItem(item));
+
+        assertNotNull(put.get());
+        assertEquals(2, db.batches.get());
+        assertEquals(1, db.writes.get());
+    }
+
+    @Test
+    public void testRetriesBatchWhenUnprocessedItemMatchesNoWrite() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.unprocessedTimes.set(1);
+        db.echoUnknownItem = true;
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db);
+
+        Future<PutItemResult> first = buffer.putItem(put("a"));
+        Future<PutItemResult> second = buffer.putItem(put("b"));
+
+        assertNotNull(first.get());
+        assertNotNull(second.get());
+        assertEquals(2, db.batches.get());
+        // Both writes were sent again, as neither can be told written.
+        assertEquals(2, db.lastBatchSize.get());
+    }
+
+    @Test
+    public void testFailsWritesStillUnprocessedAfterMaxRetries() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.unprocessedTimes.set(Integer.MAX_VALUE);
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db, new WriteBufferConfig().withMaxRetries(1));
+
+        try {
+            buffer.putItem(put("a")).get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AmazonClientException);
+        }
+        assertEquals(2, db.batches.get());
+    }
+
+    @Test
+    public void testSendsConditionalWritesAlone() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db);
+
+        Future<PutItemResult> conditional = buffer.putItem(put("a")
+                .withConditionExpression("attribute_not_exists(id)"));
+        Future<PutItemResult> unconditional = buffer.putItem(put("b"));
+
+        assertNotNull(conditional.get());
+        assertNotNull(unconditional.get());
+        assertEquals(1, db.singlePuts.get());
+        assertEquals(1, db.batches.get());
+    }
+
+    @Test
+    public void testFailsWriteSentAloneOnAnyError() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.singlePutFailure = new IllegalStateException("broken");
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db);
+
+        try {
+            buffer.putItem(put("a").withConditionExpression("attribute_not_exists(id)")).get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertSame(db.singlePutFailure, e.getCause());
+        }
+    }
+
+    @Test
+    public void testSendsWritesAloneWhenBatchIsInvalid() throws Exception {
+        StubDynamoDB db = new StubDynamoDB();
+        db.rejectBatches = true;
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db);
+
+        Future<PutItemResult> first = buffer.putItem(put("a"));
+        Future<PutItemResult> second = buffer.putItem(put("a"));
+
+        assertNotNull(first.get());
+        assertNotNull(second.get());
+        assertEquals(2, db.singlePuts.get());
+    }
+
+    @Test
+    public void testWriterWaitingForFullBufferDoesNotBlockFlush() throws Exception {
+        final StubDynamoDB db = new StubDynamoDB();
+        db.sendBatches = new CountDownLatch(1);
+        final DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(db,
+                new WriteBufferConfig().withMaxBatchSize(1).withMaxInflightBatches(1));
+
+        Future<PutItemResult> first = buffer.putItem(put("a"));
+        // The only in flight batch is full and held by the service, so the
+        // next writer waits for it to be sent.
+        Thread writer = new Thread() {
+            @Override
+            public void run() {
+                buffer.putItem(put("b"));
+            }
+        };
+        writer.start();
+        awaitState(writer, Thread.State.WAITING);
+
+        Thread flusher = new Thread() {
+            @Override
+            public void run() {
+                buffer.flush();
+            }
+        };
+        flusher.start();
+        // The flush closes the open batch and waits for the in flight ones,
+        // rather than waiting for the writer's lock.
+        awaitState(flusher, Thread.State.WAITING);
+
+        db.sendBatches.countDown();
+        writer.join(10000);
+        flusher.join(10000);
+        buffer.flush();
+        assertNotNull(first.get());
+        assertEquals(2, db.writes.get());
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (thread.getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(state, thread.getState());
+    }
+
+    @Test(expected = AmazonClientException.class)
+    public void testRejectsWritesAfterShutdown() {
+        DynamoDBWriteBuffer buffer = new DynamoDBWriteBuffer(new StubDynamoDB());
+        buffer.shutdown();
+        buffer.putItem(put("a"));
+    }
+
+    private static PutItemRequest put(String id) {
+        return new PutItemRequest()
+                .withTableName(TABLE)
+                .withItem(Collections.singletonMap("id", new AttributeValue(id)));
+    }
+
+    private static class StubDynamoDB extends AbstractAmazonDynamoDB {
+
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+        private final AtomicInteger singlePuts = new AtomicInteger();
+
+        /** The number of batches whose first write is returned as unprocessed. */
+        private final AtomicInteger unprocessedTimes = new AtomicInteger();
+
+        private final AtomicInteger lastBatchSize = new AtomicInteger();
+
+        private volatile boolean rejectBatches;
+
+        /**
+         * If set, unprocessed items are returned with canonical numbers and new binary buffers,
+         * while the binary buffers of the request are consumed as marshalling would.
+         */
+        private volatile boolean echoCanonicalForm;
+
+        /** If set, an item that was not written is returned as unprocessed. */
+        private volatile boolean echoUnknownItem;
+
+        private volatile RuntimeException singlePutFailure;
+
+        /** If set, batches are only sent once it is counted down. */
+        private volatile CountDownLatch sendBatches;
+
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            if (sendBatches != null) {
+                try {
+                    sendBatches.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batches.incrementAndGet();
+            List<WriteRequest> requests = request.getRequestItems().get(TABLE);
+            if (rejectBatches) {
+                AmazonServiceException ase = new AmazonServiceException(
+                        "Provided list of item keys contains duplicates");
+                ase.setErrorCode("ValidationException");
+                throw ase;
+            }
+
+            lastBatchSize.set(requests.size());
+            synchronized (maxBatchSize) {
+                maxBatchSize.set(Math.max(maxBatchSize.get(), requests.size()));
+            }
+
+            BatchWriteItemResult result = new BatchWriteItemResult();
+            if (unprocessedTimes.getAndDecrement() > 0) {
+                // Return a copy, as the service would.
+                WriteRequest unprocessed = new WriteRequest()
+                        .withPutRequest(requests.get(0).getPutRequest())
+                        .withDeleteRequest(requests.get(0).getDeleteRequest());
+                if (echoCanonicalForm) {
+                    unprocessed = new WriteRequest().withPutRequest(new PutRequest()
+                            .withItem(canonicalForm(requests.get(0).getPutRequest().getItem())));
+                } else if (echoUnknownItem) {
+                    unprocessed = new WriteRequest().withPutRequest(new PutRequest()
+                            .withItem(Collections.singletonMap("id", new AttributeValue("unknown"))));
+                }
+                Map<String, List<WriteRequest>> unprocessedItems = Collections.singletonMap(
+                        TABLE, Collections.singletonList(unprocessed));
+                result.setUnprocessedItems(unprocessedItems);
+                writes.addAndGet(requests.size() - 1);
+            } else {
+                writes.addAndGet(requests.size());
+            }
+            return result;
+        }
+
+        @Override
+        public PutItemResult putItem(PutItemRequest request) {
+            singlePuts.incrementAndGet();
+            if (singlePutFailure != null) {
+                throw singlePutFailure;
+            }
+            return new PutItemResult();
+        }
+
+        private static Map<String, AttributeValue> canonicalForm(Map<String, AttributeValue> item) {
+            Map<String, AttributeValue> copy = new HashMap<String, AttributeValue>();
+            for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+                AttributeValue value = attribute.getValue();
+                if (value.getN() != null) {
+                    value = new AttributeValue().withN(
+                            new BigDecimal(value.getN()).stripTrailingZeros().toPlainString());
+                } else if (value.getB() != null) {
+                    ByteBuffer binary = value.getB();
+                    value = new AttributeValue().withB(ByteBuffer.wrap(BinaryUtils.copyBytesFrom(binary)));
+                    binary.position(binary.limit());
+                }
+                copy.put(attribute.getKey(), value);
+            }
+            return copy;
+        }
+    }
+}
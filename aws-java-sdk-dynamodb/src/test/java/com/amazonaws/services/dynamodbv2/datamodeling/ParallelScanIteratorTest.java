@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+
+public class ParallelScanIteratorTest {
+
+    private static final int TOTAL_SEGMENTS = 4;
+    private static final int PAGES_PER_SEGMENT = 3;
+    private static final int ITEMS_PER_PAGE = 2;
+
+    @Test
+    public void testReturnsEveryItemOfEverySegment() {
+        StubDynamoDB db = new StubDynamoDB(0, null);
+
+        Set<String> ids = scanAll(db);
+
+        assertEquals(TOTAL_SEGMENTS * PAGES_PER_SEGMENT * ITEMS_PER_PAGE, ids.size());
+        assertEquals(TOTAL_SEGMENTS * PAGES_PER_SEGMENT, db.scans.get());
+    }
+
+    @Test
+    public void testRetriesThrottledPages() {
+        StubDynamoDB db = new StubDynamoDB(2, null);
+
+        Set<String> ids = scanAll(db);
+
+        assertEquals(TOTAL_SEGMENTS * PAGES_PER_SEGMENT * ITEMS_PER_PAGE, ids.size());
+        assertEquals(TOTAL_SEGMENTS * (PAGES_PER_SEGMENT + 2), db.scans.get());
+    }
+
+    @Test
+    public void testFailsWithThrottlingExceptionAfterMaxRetries() {
+        StubDynamoDB db = new StubDynamoDB(Integer.MAX_VALUE, null);
+
+        ParallelScanIterator<Item> iterator = new DynamoDBMapper(db)
+                .parallelScanIterator(Item.class, new DynamoDBScanExpression(), TOTAL_SEGMENTS);
+        iterator.setMaxBackoffInMilliseconds(1);
+        try {
+            iterator.hasNext();
+            fail("Expected AmazonServiceException");
+        } catch (AmazonServiceException e) {
+            assertEquals("ProvisionedThroughputExceededException", e.getErrorCode());
+        }
+        // The first page of each segment, scanned once and retried at most
+        // MAX_THROTTLE_RETRIES times
+        assertTrue(db.scans.get() <= TOTAL_SEGMENTS * (ParallelScanIterator.MAX_THROTTLE_RETRIES + 1));
+    }
+
+    @Test
+    public void testRethrowsFailureOfSegment() {
+        AmazonServiceException failure = new AmazonServiceException("Table not found");
+        failure.setErrorCode("ResourceNotFoundException");
+        StubDynamoDB db = new StubDynamoDB(0, failure);
+
+        try {
+            scanAll(db);
+            fail("Expected AmazonServiceException");
+        } catch (AmazonServiceException e) {
+            assertEquals("ResourceNotFoundException", e.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testCloseStopsTheScan() {
+        StubDynamoDB db = new StubDynamoDB(0, null);
+
+        ParallelScanIterator<Item> iterator = new DynamoDBMapper(db)
+                .parallelScanIterator(Item.class, new DynamoDBScanExpression(), TOTAL_SEGMENTS);
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        iterator.close();
+
+        assertFalse(iterator.hasNext());
+    }
+
+    private static Set<String> scanAll(StubDynamoDB db) {
+        ParallelScanIterator<Item> iterator = new DynamoDBMapper(db)
+                .parallelScanIterator(Item.class, new DynamoDBScanExpression(), TOTAL_SEGMENTS);
+        Set<String> ids = new HashSet<String>();
+        while (iterator.hasNext()) {
+            assertTrue(ids.add(iterator.next().getId()));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns {@link #PAGES_PER_SEGMENT} pages for each segment, after
+     * throttling the first pages of each segment or failing the last one.
+     */
+    private static class StubDynamoDB extends AbstractAmazonDynamoDB {
+
+        private final int throttlesPerSegment;
+        private final AmazonServiceException failure;
+        private final Map<Integer, AtomicInteger> throttles = new ConcurrentHashMap<Integer, AtomicInteger>();
+        private final AtomicInteger scans = new AtomicInteger();
+
+        private StubDynamoDB(int throttlesPerSegment, AmazonServiceException failure) {
+            this.throttlesPerSegment = throttlesPerSegment;
+            this.failure = failure;
+            for (int segment = 0; segment < TOTAL_SEGMENTS; segment++) {
+                throttles.put(segment, new AtomicInteger());
+            }
+        }
+
+        @Override
+        public ScanResult scan(ScanRequest request) {
+            scans.incrementAndGet();
+            int segment = request.getSegment();
+            assertEquals(TOTAL_SEGMENTS, request.getTotalSegments().intValue());
+
+            if (throttles.get(segment).getAndIncrement() < throttlesPerSegment) {
+                AmazonServiceException throttled = new AmazonServiceException("Throttled");
+                throttled.setErrorCode("ProvisionedThroughputExceededException");
+                throw throttled;
+            }
+
+            int page = request.getExclusiveStartKey() == null
+                    ? 0 : Integer.parseInt(request.getExclusiveStartKey().get("id").getS().split("-")[1]) + 1;
+            if (failure != null && page == PAGES_PER_SEGMENT - 1) {
+                throw failure;
+            }
+
+            List<Map<String, AttributeValue>> items = new ArrayList<Map<String, AttributeValue>>();
+            for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+                items.add(Collections.singletonMap("id",
+                        new AttributeValue(segment + "-" + page + "-" + i)));
+            }
+
+            ScanResult result = new ScanResult().withItems(items);
+            if (page < PAGES_PER_SEGMENT - 1) {
+                Map<String, AttributeValue> lastEvaluatedKey = new HashMap<String, AttributeValue>();
+                lastEvaluatedKey.put("id", new AttributeValue(segment + "-" + page));
+                result.setLastEvaluatedKey(lastEvaluatedKey);
+            }
+            return result;
+        }
+    }
+
+    @DynamoDBTable(tableName = "parallel-scan-iterator-test")
+    public static class Item {
+        private String id;
+
+        @DynamoDBHashKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -341,6 +341,26 @@ public class V2MarshallerTest {
             convert("getObject", new SubClass()).getM());
     }
 
+    @Test
+    public void testAugmentedMarshallerIsReused() throws Exception {
+        ItemConverter converter = ConversionSchemas.V2
+                .getConverter(new ConversionSchema.Dependencies());
+
+        ArgumentMarshaller first = converter.getFieldModel(
+                TestClass.class.getMethod("getObjectList")).getArgumentMarshaller();
+        ArgumentMarshaller second = converter.getFieldModel(
+                TestClass.class.getMethod("getObjectList")).getArgumentMarshaller();
+
+        Assert.assertSame(first, second);
+        assertEquals(
+            Collections.singletonList(new AttributeValue().withM(
+                new HashMap<String, AttributeValue>() {{
+                    put("name", new AttributeValue("name"));
+                    put("value", new AttributeValue().withN("123"));
+                }})),
+            first.marshall(Collections.singletonList(new SubClass())).getL());
+    }
+
     @Test
     public void testUnannotatedObject() throws Exception {
         try {
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AcceptVpcPeeringConnectionResultStaxUnmarshaller implements
         Unmarshaller<AcceptVpcPeeringConnectionResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcPeeringConnection"));
+
     public AcceptVpcPeeringConnectionResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         AcceptVpcPeeringConnectionResult acceptVpcPeeringConnectionResult = new AcceptVpcPeeringConnectionResult();
@@ -57,6 +60,10 @@ public class AcceptVpcPeeringConnectionResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return acceptVpcPeeringConnectionResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AccountAttributeStaxUnmarshaller implements
         Unmarshaller<AccountAttribute, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("attributeName", "attributeValueSet"));
+
     public AccountAttribute unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AccountAttribute accountAttribute = new AccountAttribute();
@@ -65,6 +68,10 @@ public class AccountAttributeStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return accountAttribute;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AccountAttributeValueStaxUnmarshaller implements
         Unmarshaller<AccountAttributeValue, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("attributeValue"));
+
     public AccountAttributeValue unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AccountAttributeValue accountAttributeValue = new AccountAttributeValue();
@@ -57,6 +60,10 @@ public class AccountAttributeValueStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return accountAttributeValue;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ActiveInstanceStaxUnmarshaller implements
         Unmarshaller<ActiveInstance, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceType", "instanceId",
+                    "spotInstanceRequestId"));
+
     public ActiveInstance unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ActiveInstance activeInstance = new ActiveInstance();
@@ -70,6 +74,10 @@ public class ActiveInstanceStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return activeInstance;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AddressStaxUnmarshaller implements
         Unmarshaller<Address, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "publicIp", "allocationId",
+                    "associationId", "domain", "networkInterfaceId",
+                    "networkInterfaceOwnerId", "privateIpAddress"));
+
     public Address unmarshall(StaxUnmarshallerContext context) throws Exception {
         Address address = new Address();
         int originalDepth = context.getCurrentDepth();
@@ -98,6 +103,10 @@ public class AddressStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return address;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AllocateAddressResultStaxUnmarshaller implements
         Unmarshaller<AllocateAddressResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("publicIp", "domain", "allocationId"));
+
     public AllocateAddressResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AllocateAddressResult allocateAddressResult = new AllocateAddressResult();
@@ -69,6 +72,10 @@ public class AllocateAddressResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return allocateAddressResult;
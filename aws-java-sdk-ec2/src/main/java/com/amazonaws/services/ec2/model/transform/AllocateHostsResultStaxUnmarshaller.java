@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AllocateHostsResultStaxUnmarshaller implements
         Unmarshaller<AllocateHostsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("hostIdSet"));
+
     public AllocateHostsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AllocateHostsResult allocateHostsResult = new AllocateHostsResult();
@@ -57,6 +60,10 @@ public class AllocateHostsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return allocateHostsResult;
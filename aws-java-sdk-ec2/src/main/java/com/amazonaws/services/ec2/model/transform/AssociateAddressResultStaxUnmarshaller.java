@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AssociateAddressResultStaxUnmarshaller implements
         Unmarshaller<AssociateAddressResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("associationId"));
+
     public AssociateAddressResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AssociateAddressResult associateAddressResult = new AssociateAddressResult();
@@ -57,6 +60,10 @@ public class AssociateAddressResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return associateAddressResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AssociateRouteTableResultStaxUnmarshaller implements
         Unmarshaller<AssociateRouteTableResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("associationId"));
+
     public AssociateRouteTableResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AssociateRouteTableResult associateRouteTableResult = new AssociateRouteTableResult();
@@ -57,6 +60,10 @@ public class AssociateRouteTableResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return associateRouteTableResult;
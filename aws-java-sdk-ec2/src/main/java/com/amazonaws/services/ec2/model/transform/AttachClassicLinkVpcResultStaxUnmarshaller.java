@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AttachClassicLinkVpcResultStaxUnmarshaller implements
         Unmarshaller<AttachClassicLinkVpcResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public AttachClassicLinkVpcResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AttachClassicLinkVpcResult attachClassicLinkVpcResult = new AttachClassicLinkVpcResult();
@@ -57,6 +60,10 @@ public class AttachClassicLinkVpcResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return attachClassicLinkVpcResult;
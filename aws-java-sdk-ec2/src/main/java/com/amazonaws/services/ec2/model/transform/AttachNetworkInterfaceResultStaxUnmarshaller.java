@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AttachNetworkInterfaceResultStaxUnmarshaller implements
         Unmarshaller<AttachNetworkInterfaceResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("attachmentId"));
+
     public AttachNetworkInterfaceResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         AttachNetworkInterfaceResult attachNetworkInterfaceResult = new AttachNetworkInterfaceResult();
@@ -57,6 +60,10 @@ public class AttachNetworkInterfaceResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return attachNetworkInterfaceResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AttachVpnGatewayResultStaxUnmarshaller implements
         Unmarshaller<AttachVpnGatewayResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("attachment"));
+
     public AttachVpnGatewayResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AttachVpnGatewayResult attachVpnGatewayResult = new AttachVpnGatewayResult();
@@ -57,6 +60,10 @@ public class AttachVpnGatewayResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return attachVpnGatewayResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AvailabilityZoneMessageStaxUnmarshaller implements
         Unmarshaller<AvailabilityZoneMessage, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("message"));
+
     public AvailabilityZoneMessage unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AvailabilityZoneMessage availabilityZoneMessage = new AvailabilityZoneMessage();
@@ -56,6 +59,10 @@ public class AvailabilityZoneMessageStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return availabilityZoneMessage;
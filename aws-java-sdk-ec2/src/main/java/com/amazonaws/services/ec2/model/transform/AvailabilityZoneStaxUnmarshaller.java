@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AvailabilityZoneStaxUnmarshaller implements
         Unmarshaller<AvailabilityZone, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("zoneName", "zoneState", "regionName",
+                    "messageSet"));
+
     public AvailabilityZone unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AvailabilityZone availabilityZone = new AvailabilityZone();
@@ -76,6 +80,10 @@ public class AvailabilityZoneStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return availabilityZone;
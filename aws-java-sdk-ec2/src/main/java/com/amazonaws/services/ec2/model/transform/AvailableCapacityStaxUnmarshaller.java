@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class AvailableCapacityStaxUnmarshaller implements
         Unmarshaller<AvailableCapacity, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("availableInstanceCapacity",
+                    "availableVCpus"));
+
     public AvailableCapacity unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         AvailableCapacity availableCapacity = new AvailableCapacity();
@@ -64,6 +68,10 @@ public class AvailableCapacityStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return availableCapacity;
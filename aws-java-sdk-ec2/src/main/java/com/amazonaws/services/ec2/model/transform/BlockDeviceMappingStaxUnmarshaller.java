@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class BlockDeviceMappingStaxUnmarshaller implements
         Unmarshaller<BlockDeviceMapping, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("virtualName", "deviceName", "ebs",
+                    "noDevice"));
+
     public BlockDeviceMapping unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         BlockDeviceMapping blockDeviceMapping = new BlockDeviceMapping();
@@ -74,6 +78,10 @@ public class BlockDeviceMappingStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return blockDeviceMapping;
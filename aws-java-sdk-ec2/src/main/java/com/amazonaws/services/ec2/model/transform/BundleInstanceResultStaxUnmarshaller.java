@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class BundleInstanceResultStaxUnmarshaller implements
         Unmarshaller<BundleInstanceResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("bundleInstanceTask"));
+
     public BundleInstanceResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         BundleInstanceResult bundleInstanceResult = new BundleInstanceResult();
@@ -57,6 +60,10 @@ public class BundleInstanceResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return bundleInstanceResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class BundleTaskErrorStaxUnmarshaller implements
         Unmarshaller<BundleTaskError, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "message"));
+
     public BundleTaskError unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         BundleTaskError bundleTaskError = new BundleTaskError();
@@ -62,6 +65,10 @@ public class BundleTaskErrorStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return bundleTaskError;
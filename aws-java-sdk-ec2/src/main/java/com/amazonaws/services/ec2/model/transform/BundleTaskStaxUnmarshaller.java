@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class BundleTaskStaxUnmarshaller implements
         Unmarshaller<BundleTask, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "bundleId", "state",
+                    "startTime", "updateTime", "storage", "progress", "error"));
+
     public BundleTask unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         BundleTask bundleTask = new BundleTask();
@@ -99,6 +103,10 @@ public class BundleTaskStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return bundleTask;
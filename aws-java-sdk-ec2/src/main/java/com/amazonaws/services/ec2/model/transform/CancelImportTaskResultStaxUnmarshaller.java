@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CancelImportTaskResultStaxUnmarshaller implements
         Unmarshaller<CancelImportTaskResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("importTaskId", "state", "previousState"));
+
     public CancelImportTaskResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CancelImportTaskResult cancelImportTaskResult = new CancelImportTaskResult();
@@ -70,6 +73,10 @@ public class CancelImportTaskResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelImportTaskResult;
@@ -36,6 +36,9 @@ public class CancelReservedInstancesListingResultStaxUnmarshaller
         implements
         Unmarshaller<CancelReservedInstancesListingResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesListingsSet"));
+
     public CancelReservedInstancesListingResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CancelReservedInstancesListingResult cancelReservedInstancesListingResult = new CancelReservedInstancesListingResult();
@@ -60,6 +63,10 @@ public class CancelReservedInstancesListingResultStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelReservedInstancesListingResult;
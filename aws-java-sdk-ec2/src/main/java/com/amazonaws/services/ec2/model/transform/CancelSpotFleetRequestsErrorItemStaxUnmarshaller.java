@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CancelSpotFleetRequestsErrorItemStaxUnmarshaller implements
         Unmarshaller<CancelSpotFleetRequestsErrorItem, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotFleetRequestId", "error"));
+
     public CancelSpotFleetRequestsErrorItem unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CancelSpotFleetRequestsErrorItem cancelSpotFleetRequestsErrorItem = new CancelSpotFleetRequestsErrorItem();
@@ -64,6 +67,10 @@ public class CancelSpotFleetRequestsErrorItemStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelSpotFleetRequestsErrorItem;
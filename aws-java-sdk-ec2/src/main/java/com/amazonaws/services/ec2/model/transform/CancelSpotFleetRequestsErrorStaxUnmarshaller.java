@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CancelSpotFleetRequestsErrorStaxUnmarshaller implements
         Unmarshaller<CancelSpotFleetRequestsError, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "message"));
+
     public CancelSpotFleetRequestsError unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CancelSpotFleetRequestsError cancelSpotFleetRequestsError = new CancelSpotFleetRequestsError();
@@ -63,6 +66,10 @@ public class CancelSpotFleetRequestsErrorStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelSpotFleetRequestsError;
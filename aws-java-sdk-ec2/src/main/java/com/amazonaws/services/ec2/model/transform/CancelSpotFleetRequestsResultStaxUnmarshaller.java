@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CancelSpotFleetRequestsResultStaxUnmarshaller implements
         Unmarshaller<CancelSpotFleetRequestsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("unsuccessfulFleetRequestSet",
+                    "successfulFleetRequestSet"));
+
     public CancelSpotFleetRequestsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CancelSpotFleetRequestsResult cancelSpotFleetRequestsResult = new CancelSpotFleetRequestsResult();
@@ -67,6 +71,10 @@ public class CancelSpotFleetRequestsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelSpotFleetRequestsResult;
@@ -36,6 +36,11 @@ public class CancelSpotFleetRequestsSuccessItemStaxUnmarshaller
         implements
         Unmarshaller<CancelSpotFleetRequestsSuccessItem, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotFleetRequestId",
+                    "currentSpotFleetRequestState",
+                    "previousSpotFleetRequestState"));
+
     public CancelSpotFleetRequestsSuccessItem unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CancelSpotFleetRequestsSuccessItem cancelSpotFleetRequestsSuccessItem = new CancelSpotFleetRequestsSuccessItem();
@@ -74,6 +79,10 @@ public class CancelSpotFleetRequestsSuccessItemStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelSpotFleetRequestsSuccessItem;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CancelSpotInstanceRequestsResultStaxUnmarshaller implements
         Unmarshaller<CancelSpotInstanceRequestsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotInstanceRequestSet"));
+
     public CancelSpotInstanceRequestsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CancelSpotInstanceRequestsResult cancelSpotInstanceRequestsResult = new CancelSpotInstanceRequestsResult();
@@ -59,6 +62,10 @@ public class CancelSpotInstanceRequestsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelSpotInstanceRequestsResult;
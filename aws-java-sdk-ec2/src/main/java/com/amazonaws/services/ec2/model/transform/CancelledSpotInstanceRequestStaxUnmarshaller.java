@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CancelledSpotInstanceRequestStaxUnmarshaller implements
         Unmarshaller<CancelledSpotInstanceRequest, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotInstanceRequestId", "state"));
+
     public CancelledSpotInstanceRequest unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CancelledSpotInstanceRequest cancelledSpotInstanceRequest = new CancelledSpotInstanceRequest();
@@ -65,6 +68,10 @@ public class CancelledSpotInstanceRequestStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return cancelledSpotInstanceRequest;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ClassicLinkDnsSupportStaxUnmarshaller implements
         Unmarshaller<ClassicLinkDnsSupport, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcId", "classicLinkDnsSupported"));
+
     public ClassicLinkDnsSupport unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ClassicLinkDnsSupport classicLinkDnsSupport = new ClassicLinkDnsSupport();
@@ -64,6 +67,10 @@ public class ClassicLinkDnsSupportStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return classicLinkDnsSupport;
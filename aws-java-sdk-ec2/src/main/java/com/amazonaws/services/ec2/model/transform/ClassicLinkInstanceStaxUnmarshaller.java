@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ClassicLinkInstanceStaxUnmarshaller implements
         Unmarshaller<ClassicLinkInstance, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays
+                    .asList("instanceId", "vpcId", "groupSet", "tagSet"));
+
     public ClassicLinkInstance unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ClassicLinkInstance classicLinkInstance = new ClassicLinkInstance();
@@ -76,6 +80,10 @@ public class ClassicLinkInstanceStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return classicLinkInstance;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ClientDataStaxUnmarshaller implements
         Unmarshaller<ClientData, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("UploadStart", "UploadEnd", "UploadSize",
+                    "Comment"));
+
     public ClientData unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ClientData clientData = new ClientData();
@@ -74,6 +78,10 @@ public class ClientDataStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return clientData;
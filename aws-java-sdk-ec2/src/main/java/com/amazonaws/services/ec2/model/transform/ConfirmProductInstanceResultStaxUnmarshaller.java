@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ConfirmProductInstanceResultStaxUnmarshaller implements
         Unmarshaller<ConfirmProductInstanceResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("ownerId", "return"));
+
     public ConfirmProductInstanceResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ConfirmProductInstanceResult confirmProductInstanceResult = new ConfirmProductInstanceResult();
@@ -64,6 +67,10 @@ public class ConfirmProductInstanceResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return confirmProductInstanceResult;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ConversionTaskStaxUnmarshaller implements
         Unmarshaller<ConversionTask, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("conversionTaskId", "expirationTime",
+                    "importInstance", "importVolume", "state", "statusMessage",
+                    "tagSet"));
+
     public ConversionTask unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ConversionTask conversionTask = new ConversionTask();
@@ -95,6 +100,10 @@ public class ConversionTaskStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return conversionTask;
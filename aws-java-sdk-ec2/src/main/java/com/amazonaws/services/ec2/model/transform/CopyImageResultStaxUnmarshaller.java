@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CopyImageResultStaxUnmarshaller implements
         Unmarshaller<CopyImageResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("imageId"));
+
     public CopyImageResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CopyImageResult copyImageResult = new CopyImageResult();
@@ -56,6 +59,10 @@ public class CopyImageResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return copyImageResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CopySnapshotResultStaxUnmarshaller implements
         Unmarshaller<CopySnapshotResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("snapshotId"));
+
     public CopySnapshotResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CopySnapshotResult copySnapshotResult = new CopySnapshotResult();
@@ -56,6 +59,10 @@ public class CopySnapshotResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return copySnapshotResult;
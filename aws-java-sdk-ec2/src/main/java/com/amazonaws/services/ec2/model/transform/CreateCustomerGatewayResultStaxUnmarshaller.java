@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateCustomerGatewayResultStaxUnmarshaller implements
         Unmarshaller<CreateCustomerGatewayResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("customerGateway"));
+
     public CreateCustomerGatewayResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateCustomerGatewayResult createCustomerGatewayResult = new CreateCustomerGatewayResult();
@@ -57,6 +60,10 @@ public class CreateCustomerGatewayResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createCustomerGatewayResult;
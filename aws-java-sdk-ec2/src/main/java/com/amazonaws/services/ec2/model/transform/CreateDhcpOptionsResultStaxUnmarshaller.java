@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateDhcpOptionsResultStaxUnmarshaller implements
         Unmarshaller<CreateDhcpOptionsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("dhcpOptions"));
+
     public CreateDhcpOptionsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateDhcpOptionsResult createDhcpOptionsResult = new CreateDhcpOptionsResult();
@@ -57,6 +60,10 @@ public class CreateDhcpOptionsResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createDhcpOptionsResult;
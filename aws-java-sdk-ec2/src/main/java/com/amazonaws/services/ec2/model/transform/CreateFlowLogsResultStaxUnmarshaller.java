@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateFlowLogsResultStaxUnmarshaller implements
         Unmarshaller<CreateFlowLogsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("flowLogIdSet", "clientToken",
+                    "unsuccessful"));
+
     public CreateFlowLogsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateFlowLogsResult createFlowLogsResult = new CreateFlowLogsResult();
@@ -70,6 +74,10 @@ public class CreateFlowLogsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createFlowLogsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateImageResultStaxUnmarshaller implements
         Unmarshaller<CreateImageResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("imageId"));
+
     public CreateImageResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateImageResult createImageResult = new CreateImageResult();
@@ -56,6 +59,10 @@ public class CreateImageResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createImageResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateInstanceExportTaskResultStaxUnmarshaller implements
         Unmarshaller<CreateInstanceExportTaskResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("exportTask"));
+
     public CreateInstanceExportTaskResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateInstanceExportTaskResult createInstanceExportTaskResult = new CreateInstanceExportTaskResult();
@@ -57,6 +60,10 @@ public class CreateInstanceExportTaskResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createInstanceExportTaskResult;
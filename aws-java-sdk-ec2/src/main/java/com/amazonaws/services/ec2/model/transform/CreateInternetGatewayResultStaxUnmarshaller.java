@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateInternetGatewayResultStaxUnmarshaller implements
         Unmarshaller<CreateInternetGatewayResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("internetGateway"));
+
     public CreateInternetGatewayResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateInternetGatewayResult createInternetGatewayResult = new CreateInternetGatewayResult();
@@ -57,6 +60,10 @@ public class CreateInternetGatewayResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createInternetGatewayResult;
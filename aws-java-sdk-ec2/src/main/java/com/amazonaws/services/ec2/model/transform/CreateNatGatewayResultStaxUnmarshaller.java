@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateNatGatewayResultStaxUnmarshaller implements
         Unmarshaller<CreateNatGatewayResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("natGateway", "clientToken"));
+
     public CreateNatGatewayResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateNatGatewayResult createNatGatewayResult = new CreateNatGatewayResult();
@@ -64,6 +67,10 @@ public class CreateNatGatewayResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createNatGatewayResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateNetworkAclResultStaxUnmarshaller implements
         Unmarshaller<CreateNetworkAclResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkAcl"));
+
     public CreateNetworkAclResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateNetworkAclResult createNetworkAclResult = new CreateNetworkAclResult();
@@ -57,6 +60,10 @@ public class CreateNetworkAclResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createNetworkAclResult;
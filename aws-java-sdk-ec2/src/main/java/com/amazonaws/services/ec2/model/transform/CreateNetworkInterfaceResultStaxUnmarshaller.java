@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateNetworkInterfaceResultStaxUnmarshaller implements
         Unmarshaller<CreateNetworkInterfaceResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkInterface"));
+
     public CreateNetworkInterfaceResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateNetworkInterfaceResult createNetworkInterfaceResult = new CreateNetworkInterfaceResult();
@@ -57,6 +60,10 @@ public class CreateNetworkInterfaceResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createNetworkInterfaceResult;
@@ -36,6 +36,9 @@ public class CreateReservedInstancesListingResultStaxUnmarshaller
         implements
         Unmarshaller<CreateReservedInstancesListingResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesListingsSet"));
+
     public CreateReservedInstancesListingResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateReservedInstancesListingResult createReservedInstancesListingResult = new CreateReservedInstancesListingResult();
@@ -60,6 +63,10 @@ public class CreateReservedInstancesListingResultStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createReservedInstancesListingResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateRouteResultStaxUnmarshaller implements
         Unmarshaller<CreateRouteResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public CreateRouteResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateRouteResult createRouteResult = new CreateRouteResult();
@@ -56,6 +59,10 @@ public class CreateRouteResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createRouteResult;
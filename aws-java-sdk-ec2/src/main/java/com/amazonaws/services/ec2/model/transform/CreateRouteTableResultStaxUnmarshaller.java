@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateRouteTableResultStaxUnmarshaller implements
         Unmarshaller<CreateRouteTableResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("routeTable"));
+
     public CreateRouteTableResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateRouteTableResult createRouteTableResult = new CreateRouteTableResult();
@@ -57,6 +60,10 @@ public class CreateRouteTableResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createRouteTableResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateSecurityGroupResultStaxUnmarshaller implements
         Unmarshaller<CreateSecurityGroupResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("groupId"));
+
     public CreateSecurityGroupResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateSecurityGroupResult createSecurityGroupResult = new CreateSecurityGroupResult();
@@ -56,6 +59,10 @@ public class CreateSecurityGroupResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createSecurityGroupResult;
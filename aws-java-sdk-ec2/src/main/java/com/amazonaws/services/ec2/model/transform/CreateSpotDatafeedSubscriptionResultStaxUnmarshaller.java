@@ -36,6 +36,9 @@ public class CreateSpotDatafeedSubscriptionResultStaxUnmarshaller
         implements
         Unmarshaller<CreateSpotDatafeedSubscriptionResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotDatafeedSubscription"));
+
     public CreateSpotDatafeedSubscriptionResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateSpotDatafeedSubscriptionResult createSpotDatafeedSubscriptionResult = new CreateSpotDatafeedSubscriptionResult();
@@ -59,6 +62,10 @@ public class CreateSpotDatafeedSubscriptionResultStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createSpotDatafeedSubscriptionResult;
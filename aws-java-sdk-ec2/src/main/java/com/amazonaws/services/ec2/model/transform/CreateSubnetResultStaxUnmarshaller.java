@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateSubnetResultStaxUnmarshaller implements
         Unmarshaller<CreateSubnetResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("subnet"));
+
     public CreateSubnetResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateSubnetResult createSubnetResult = new CreateSubnetResult();
@@ -56,6 +59,10 @@ public class CreateSubnetResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createSubnetResult;
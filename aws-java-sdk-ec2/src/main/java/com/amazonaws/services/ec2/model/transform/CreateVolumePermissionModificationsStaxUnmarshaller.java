@@ -36,6 +36,9 @@ public class CreateVolumePermissionModificationsStaxUnmarshaller
         implements
         Unmarshaller<CreateVolumePermissionModifications, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Add", "Remove"));
+
     public CreateVolumePermissionModifications unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateVolumePermissionModifications createVolumePermissionModifications = new CreateVolumePermissionModifications();
@@ -66,6 +69,10 @@ public class CreateVolumePermissionModificationsStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createVolumePermissionModifications;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateVolumePermissionStaxUnmarshaller implements
         Unmarshaller<CreateVolumePermission, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("userId", "group"));
+
     public CreateVolumePermission unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateVolumePermission createVolumePermission = new CreateVolumePermission();
@@ -62,6 +65,10 @@ public class CreateVolumePermissionStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createVolumePermission;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateVpcEndpointResultStaxUnmarshaller implements
         Unmarshaller<CreateVpcEndpointResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcEndpoint", "clientToken"));
+
     public CreateVpcEndpointResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateVpcEndpointResult createVpcEndpointResult = new CreateVpcEndpointResult();
@@ -64,6 +67,10 @@ public class CreateVpcEndpointResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createVpcEndpointResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateVpcPeeringConnectionResultStaxUnmarshaller implements
         Unmarshaller<CreateVpcPeeringConnectionResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcPeeringConnection"));
+
     public CreateVpcPeeringConnectionResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         CreateVpcPeeringConnectionResult createVpcPeeringConnectionResult = new CreateVpcPeeringConnectionResult();
@@ -57,6 +60,10 @@ public class CreateVpcPeeringConnectionResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createVpcPeeringConnectionResult;
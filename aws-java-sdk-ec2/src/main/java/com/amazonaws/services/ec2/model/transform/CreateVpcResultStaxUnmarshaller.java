@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateVpcResultStaxUnmarshaller implements
         Unmarshaller<CreateVpcResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpc"));
+
     public CreateVpcResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateVpcResult createVpcResult = new CreateVpcResult();
@@ -56,6 +59,10 @@ public class CreateVpcResultStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createVpcResult;
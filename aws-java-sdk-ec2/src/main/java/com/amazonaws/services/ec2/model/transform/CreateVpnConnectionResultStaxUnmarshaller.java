@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateVpnConnectionResultStaxUnmarshaller implements
         Unmarshaller<CreateVpnConnectionResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpnConnection"));
+
     public CreateVpnConnectionResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateVpnConnectionResult createVpnConnectionResult = new CreateVpnConnectionResult();
@@ -57,6 +60,10 @@ public class CreateVpnConnectionResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createVpnConnectionResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CreateVpnGatewayResultStaxUnmarshaller implements
         Unmarshaller<CreateVpnGatewayResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpnGateway"));
+
     public CreateVpnGatewayResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CreateVpnGatewayResult createVpnGatewayResult = new CreateVpnGatewayResult();
@@ -57,6 +60,10 @@ public class CreateVpnGatewayResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createVpnGatewayResult;
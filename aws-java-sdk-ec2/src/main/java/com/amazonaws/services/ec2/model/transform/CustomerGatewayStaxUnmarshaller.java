@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class CustomerGatewayStaxUnmarshaller implements
         Unmarshaller<CustomerGateway, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("customerGatewayId", "state", "type",
+                    "ipAddress", "bgpAsn", "tagSet"));
+
     public CustomerGateway unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         CustomerGateway customerGateway = new CustomerGateway();
@@ -87,6 +91,10 @@ public class CustomerGatewayStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return customerGateway;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DeleteFlowLogsResultStaxUnmarshaller implements
         Unmarshaller<DeleteFlowLogsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("unsuccessful"));
+
     public DeleteFlowLogsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DeleteFlowLogsResult deleteFlowLogsResult = new DeleteFlowLogsResult();
@@ -58,6 +61,10 @@ public class DeleteFlowLogsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return deleteFlowLogsResult;
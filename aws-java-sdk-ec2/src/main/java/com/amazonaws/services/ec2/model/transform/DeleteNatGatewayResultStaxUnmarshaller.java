@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DeleteNatGatewayResultStaxUnmarshaller implements
         Unmarshaller<DeleteNatGatewayResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("natGatewayId"));
+
     public DeleteNatGatewayResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DeleteNatGatewayResult deleteNatGatewayResult = new DeleteNatGatewayResult();
@@ -57,6 +60,10 @@ public class DeleteNatGatewayResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return deleteNatGatewayResult;
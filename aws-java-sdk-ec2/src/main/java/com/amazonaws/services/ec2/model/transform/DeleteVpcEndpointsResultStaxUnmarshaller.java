@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DeleteVpcEndpointsResultStaxUnmarshaller implements
         Unmarshaller<DeleteVpcEndpointsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("unsuccessful"));
+
     public DeleteVpcEndpointsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DeleteVpcEndpointsResult deleteVpcEndpointsResult = new DeleteVpcEndpointsResult();
@@ -58,6 +61,10 @@ public class DeleteVpcEndpointsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return deleteVpcEndpointsResult;
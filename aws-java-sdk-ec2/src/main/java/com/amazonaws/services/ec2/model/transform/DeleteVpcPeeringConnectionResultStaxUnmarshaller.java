@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DeleteVpcPeeringConnectionResultStaxUnmarshaller implements
         Unmarshaller<DeleteVpcPeeringConnectionResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public DeleteVpcPeeringConnectionResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DeleteVpcPeeringConnectionResult deleteVpcPeeringConnectionResult = new DeleteVpcPeeringConnectionResult();
@@ -57,6 +60,10 @@ public class DeleteVpcPeeringConnectionResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return deleteVpcPeeringConnectionResult;
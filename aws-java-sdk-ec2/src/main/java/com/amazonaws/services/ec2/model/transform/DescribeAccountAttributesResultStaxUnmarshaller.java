@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeAccountAttributesResultStaxUnmarshaller implements
         Unmarshaller<DescribeAccountAttributesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("accountAttributeSet"));
+
     public DescribeAccountAttributesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeAccountAttributesResult describeAccountAttributesResult = new DescribeAccountAttributesResult();
@@ -59,6 +62,10 @@ public class DescribeAccountAttributesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeAccountAttributesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeAddressesResultStaxUnmarshaller implements
         Unmarshaller<DescribeAddressesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("addressesSet"));
+
     public DescribeAddressesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeAddressesResult describeAddressesResult = new DescribeAddressesResult();
@@ -58,6 +61,10 @@ public class DescribeAddressesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeAddressesResult;
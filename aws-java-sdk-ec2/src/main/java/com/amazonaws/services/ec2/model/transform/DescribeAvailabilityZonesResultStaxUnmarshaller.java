@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeAvailabilityZonesResultStaxUnmarshaller implements
         Unmarshaller<DescribeAvailabilityZonesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("availabilityZoneInfo"));
+
     public DescribeAvailabilityZonesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeAvailabilityZonesResult describeAvailabilityZonesResult = new DescribeAvailabilityZonesResult();
@@ -59,6 +62,10 @@ public class DescribeAvailabilityZonesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeAvailabilityZonesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeBundleTasksResultStaxUnmarshaller implements
         Unmarshaller<DescribeBundleTasksResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("bundleInstanceTasksSet"));
+
     public DescribeBundleTasksResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeBundleTasksResult describeBundleTasksResult = new DescribeBundleTasksResult();
@@ -59,6 +62,10 @@ public class DescribeBundleTasksResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeBundleTasksResult;
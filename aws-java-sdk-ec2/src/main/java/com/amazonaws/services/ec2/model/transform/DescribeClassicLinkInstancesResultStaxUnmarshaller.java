@@ -36,6 +36,9 @@ public class DescribeClassicLinkInstancesResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeClassicLinkInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instancesSet", "nextToken"));
+
     public DescribeClassicLinkInstancesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeClassicLinkInstancesResult describeClassicLinkInstancesResult = new DescribeClassicLinkInstancesResult();
@@ -65,6 +68,10 @@ public class DescribeClassicLinkInstancesResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeClassicLinkInstancesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeConversionTasksResultStaxUnmarshaller implements
         Unmarshaller<DescribeConversionTasksResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("conversionTasks"));
+
     public DescribeConversionTasksResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeConversionTasksResult describeConversionTasksResult = new DescribeConversionTasksResult();
@@ -58,6 +61,10 @@ public class DescribeConversionTasksResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeConversionTasksResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeCustomerGatewaysResultStaxUnmarshaller implements
         Unmarshaller<DescribeCustomerGatewaysResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("customerGatewaySet"));
+
     public DescribeCustomerGatewaysResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeCustomerGatewaysResult describeCustomerGatewaysResult = new DescribeCustomerGatewaysResult();
@@ -59,6 +62,10 @@ public class DescribeCustomerGatewaysResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeCustomerGatewaysResult;
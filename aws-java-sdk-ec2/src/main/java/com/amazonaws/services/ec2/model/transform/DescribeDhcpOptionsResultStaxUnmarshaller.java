@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeDhcpOptionsResultStaxUnmarshaller implements
         Unmarshaller<DescribeDhcpOptionsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("dhcpOptionsSet"));
+
     public DescribeDhcpOptionsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeDhcpOptionsResult describeDhcpOptionsResult = new DescribeDhcpOptionsResult();
@@ -58,6 +61,10 @@ public class DescribeDhcpOptionsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeDhcpOptionsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeExportTasksResultStaxUnmarshaller implements
         Unmarshaller<DescribeExportTasksResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("exportTaskSet"));
+
     public DescribeExportTasksResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeExportTasksResult describeExportTasksResult = new DescribeExportTasksResult();
@@ -58,6 +61,10 @@ public class DescribeExportTasksResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeExportTasksResult;
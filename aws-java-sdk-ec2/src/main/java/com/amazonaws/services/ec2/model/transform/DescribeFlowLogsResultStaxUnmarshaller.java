@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeFlowLogsResultStaxUnmarshaller implements
         Unmarshaller<DescribeFlowLogsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("flowLogSet", "nextToken"));
+
     public DescribeFlowLogsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeFlowLogsResult describeFlowLogsResult = new DescribeFlowLogsResult();
@@ -62,6 +65,10 @@ public class DescribeFlowLogsResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeFlowLogsResult;
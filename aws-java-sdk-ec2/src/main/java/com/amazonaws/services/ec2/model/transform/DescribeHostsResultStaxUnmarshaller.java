@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeHostsResultStaxUnmarshaller implements
         Unmarshaller<DescribeHostsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("hostSet", "nextToken"));
+
     public DescribeHostsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeHostsResult describeHostsResult = new DescribeHostsResult();
@@ -62,6 +65,10 @@ public class DescribeHostsResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeHostsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeIdFormatResultStaxUnmarshaller implements
         Unmarshaller<DescribeIdFormatResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("statusSet"));
+
     public DescribeIdFormatResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeIdFormatResult describeIdFormatResult = new DescribeIdFormatResult();
@@ -58,6 +61,10 @@ public class DescribeIdFormatResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeIdFormatResult;
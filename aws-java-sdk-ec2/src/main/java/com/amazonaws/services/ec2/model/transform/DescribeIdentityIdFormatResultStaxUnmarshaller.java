@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeIdentityIdFormatResultStaxUnmarshaller implements
         Unmarshaller<DescribeIdentityIdFormatResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("statusSet"));
+
     public DescribeIdentityIdFormatResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeIdentityIdFormatResult describeIdentityIdFormatResult = new DescribeIdentityIdFormatResult();
@@ -58,6 +61,10 @@ public class DescribeIdentityIdFormatResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeIdentityIdFormatResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeImagesResultStaxUnmarshaller implements
         Unmarshaller<DescribeImagesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("imagesSet"));
+
     public DescribeImagesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeImagesResult describeImagesResult = new DescribeImagesResult();
@@ -57,6 +60,10 @@ public class DescribeImagesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeImagesResult;
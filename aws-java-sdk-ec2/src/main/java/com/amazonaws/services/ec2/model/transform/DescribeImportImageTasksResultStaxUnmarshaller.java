@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeImportImageTasksResultStaxUnmarshaller implements
         Unmarshaller<DescribeImportImageTasksResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("importImageTaskSet", "nextToken"));
+
     public DescribeImportImageTasksResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeImportImageTasksResult describeImportImageTasksResult = new DescribeImportImageTasksResult();
@@ -65,6 +68,10 @@ public class DescribeImportImageTasksResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeImportImageTasksResult;
@@ -36,6 +36,9 @@ public class DescribeImportSnapshotTasksResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeImportSnapshotTasksResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("importSnapshotTaskSet", "nextToken"));
+
     public DescribeImportSnapshotTasksResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeImportSnapshotTasksResult describeImportSnapshotTasksResult = new DescribeImportSnapshotTasksResult();
@@ -66,6 +69,10 @@ public class DescribeImportSnapshotTasksResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeImportSnapshotTasksResult;
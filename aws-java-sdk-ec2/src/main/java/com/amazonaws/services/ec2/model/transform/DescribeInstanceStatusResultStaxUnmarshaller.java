@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeInstanceStatusResultStaxUnmarshaller implements
         Unmarshaller<DescribeInstanceStatusResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceStatusSet", "nextToken"));
+
     public DescribeInstanceStatusResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeInstanceStatusResult describeInstanceStatusResult = new DescribeInstanceStatusResult();
@@ -65,6 +68,10 @@ public class DescribeInstanceStatusResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeInstanceStatusResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeInstancesResultStaxUnmarshaller implements
         Unmarshaller<DescribeInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservationSet", "nextToken"));
+
     public DescribeInstancesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeInstancesResult describeInstancesResult = new DescribeInstancesResult();
@@ -63,6 +66,10 @@ public class DescribeInstancesResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeInstancesResult;
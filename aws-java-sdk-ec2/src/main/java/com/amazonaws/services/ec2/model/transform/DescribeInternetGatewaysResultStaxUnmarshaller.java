@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeInternetGatewaysResultStaxUnmarshaller implements
         Unmarshaller<DescribeInternetGatewaysResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("internetGatewaySet"));
+
     public DescribeInternetGatewaysResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeInternetGatewaysResult describeInternetGatewaysResult = new DescribeInternetGatewaysResult();
@@ -59,6 +62,10 @@ public class DescribeInternetGatewaysResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeInternetGatewaysResult;
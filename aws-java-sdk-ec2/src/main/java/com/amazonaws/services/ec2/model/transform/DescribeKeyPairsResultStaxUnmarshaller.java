@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeKeyPairsResultStaxUnmarshaller implements
         Unmarshaller<DescribeKeyPairsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("keySet"));
+
     public DescribeKeyPairsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeKeyPairsResult describeKeyPairsResult = new DescribeKeyPairsResult();
@@ -58,6 +61,10 @@ public class DescribeKeyPairsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeKeyPairsResult;
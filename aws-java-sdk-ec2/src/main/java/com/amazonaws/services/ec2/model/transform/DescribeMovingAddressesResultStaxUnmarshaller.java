@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeMovingAddressesResultStaxUnmarshaller implements
         Unmarshaller<DescribeMovingAddressesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("movingAddressStatusSet", "nextToken"));
+
     public DescribeMovingAddressesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeMovingAddressesResult describeMovingAddressesResult = new DescribeMovingAddressesResult();
@@ -65,6 +68,10 @@ public class DescribeMovingAddressesResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeMovingAddressesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeNatGatewaysResultStaxUnmarshaller implements
         Unmarshaller<DescribeNatGatewaysResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("natGatewaySet", "nextToken"));
+
     public DescribeNatGatewaysResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeNatGatewaysResult describeNatGatewaysResult = new DescribeNatGatewaysResult();
@@ -64,6 +67,10 @@ public class DescribeNatGatewaysResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeNatGatewaysResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeNetworkAclsResultStaxUnmarshaller implements
         Unmarshaller<DescribeNetworkAclsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkAclSet"));
+
     public DescribeNetworkAclsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeNetworkAclsResult describeNetworkAclsResult = new DescribeNetworkAclsResult();
@@ -58,6 +61,10 @@ public class DescribeNetworkAclsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeNetworkAclsResult;
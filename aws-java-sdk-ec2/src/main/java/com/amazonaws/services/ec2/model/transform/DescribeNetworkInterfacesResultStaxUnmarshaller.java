@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeNetworkInterfacesResultStaxUnmarshaller implements
         Unmarshaller<DescribeNetworkInterfacesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkInterfaceSet"));
+
     public DescribeNetworkInterfacesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeNetworkInterfacesResult describeNetworkInterfacesResult = new DescribeNetworkInterfacesResult();
@@ -59,6 +62,10 @@ public class DescribeNetworkInterfacesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeNetworkInterfacesResult;
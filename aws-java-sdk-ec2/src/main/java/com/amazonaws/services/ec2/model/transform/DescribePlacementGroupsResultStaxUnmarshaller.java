@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribePlacementGroupsResultStaxUnmarshaller implements
         Unmarshaller<DescribePlacementGroupsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("placementGroupSet"));
+
     public DescribePlacementGroupsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribePlacementGroupsResult describePlacementGroupsResult = new DescribePlacementGroupsResult();
@@ -59,6 +62,10 @@ public class DescribePlacementGroupsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describePlacementGroupsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribePrefixListsResultStaxUnmarshaller implements
         Unmarshaller<DescribePrefixListsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("prefixListSet", "nextToken"));
+
     public DescribePrefixListsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribePrefixListsResult describePrefixListsResult = new DescribePrefixListsResult();
@@ -64,6 +67,10 @@ public class DescribePrefixListsResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describePrefixListsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeRegionsResultStaxUnmarshaller implements
         Unmarshaller<DescribeRegionsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("regionInfo"));
+
     public DescribeRegionsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeRegionsResult describeRegionsResult = new DescribeRegionsResult();
@@ -57,6 +60,10 @@ public class DescribeRegionsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeRegionsResult;
@@ -36,6 +36,9 @@ public class DescribeReservedInstancesListingsResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeReservedInstancesListingsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesListingsSet"));
+
     public DescribeReservedInstancesListingsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeReservedInstancesListingsResult describeReservedInstancesListingsResult = new DescribeReservedInstancesListingsResult();
@@ -60,6 +63,10 @@ public class DescribeReservedInstancesListingsResultStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeReservedInstancesListingsResult;
@@ -36,6 +36,10 @@ public class DescribeReservedInstancesModificationsResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeReservedInstancesModificationsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesModificationsSet",
+                    "nextToken"));
+
     public DescribeReservedInstancesModificationsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeReservedInstancesModificationsResult describeReservedInstancesModificationsResult = new DescribeReservedInstancesModificationsResult();
@@ -66,6 +70,10 @@ public class DescribeReservedInstancesModificationsResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeReservedInstancesModificationsResult;
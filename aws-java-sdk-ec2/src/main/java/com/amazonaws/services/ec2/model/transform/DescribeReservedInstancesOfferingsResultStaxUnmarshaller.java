@@ -36,6 +36,10 @@ public class DescribeReservedInstancesOfferingsResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeReservedInstancesOfferingsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesOfferingsSet",
+                    "nextToken"));
+
     public DescribeReservedInstancesOfferingsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeReservedInstancesOfferingsResult describeReservedInstancesOfferingsResult = new DescribeReservedInstancesOfferingsResult();
@@ -66,6 +70,10 @@ public class DescribeReservedInstancesOfferingsResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeReservedInstancesOfferingsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeReservedInstancesResultStaxUnmarshaller implements
         Unmarshaller<DescribeReservedInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesSet"));
+
     public DescribeReservedInstancesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeReservedInstancesResult describeReservedInstancesResult = new DescribeReservedInstancesResult();
@@ -59,6 +62,10 @@ public class DescribeReservedInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeReservedInstancesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeRouteTablesResultStaxUnmarshaller implements
         Unmarshaller<DescribeRouteTablesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("routeTableSet"));
+
     public DescribeRouteTablesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeRouteTablesResult describeRouteTablesResult = new DescribeRouteTablesResult();
@@ -58,6 +61,10 @@ public class DescribeRouteTablesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeRouteTablesResult;
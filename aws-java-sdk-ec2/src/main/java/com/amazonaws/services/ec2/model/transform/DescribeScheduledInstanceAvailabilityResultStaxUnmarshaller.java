@@ -36,6 +36,10 @@ public class DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeScheduledInstanceAvailabilityResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("nextToken",
+                    "scheduledInstanceAvailabilitySet"));
+
     public DescribeScheduledInstanceAvailabilityResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeScheduledInstanceAvailabilityResult describeScheduledInstanceAvailabilityResult = new DescribeScheduledInstanceAvailabilityResult();
@@ -67,6 +71,10 @@ public class DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeScheduledInstanceAvailabilityResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeScheduledInstancesResultStaxUnmarshaller implements
         Unmarshaller<DescribeScheduledInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("nextToken", "scheduledInstanceSet"));
+
     public DescribeScheduledInstancesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeScheduledInstancesResult describeScheduledInstancesResult = new DescribeScheduledInstancesResult();
@@ -66,6 +69,10 @@ public class DescribeScheduledInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeScheduledInstancesResult;
@@ -36,6 +36,9 @@ public class DescribeSecurityGroupReferencesResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeSecurityGroupReferencesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("securityGroupReferenceSet"));
+
     public DescribeSecurityGroupReferencesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSecurityGroupReferencesResult describeSecurityGroupReferencesResult = new DescribeSecurityGroupReferencesResult();
@@ -60,6 +63,10 @@ public class DescribeSecurityGroupReferencesResultStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSecurityGroupReferencesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeSecurityGroupsResultStaxUnmarshaller implements
         Unmarshaller<DescribeSecurityGroupsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("securityGroupInfo"));
+
     public DescribeSecurityGroupsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSecurityGroupsResult describeSecurityGroupsResult = new DescribeSecurityGroupsResult();
@@ -59,6 +62,10 @@ public class DescribeSecurityGroupsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSecurityGroupsResult;
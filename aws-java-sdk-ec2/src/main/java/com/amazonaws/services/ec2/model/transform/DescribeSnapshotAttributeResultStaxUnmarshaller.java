@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeSnapshotAttributeResultStaxUnmarshaller implements
         Unmarshaller<DescribeSnapshotAttributeResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("snapshotId", "createVolumePermission",
+                    "productCodes"));
+
     public DescribeSnapshotAttributeResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSnapshotAttributeResult describeSnapshotAttributeResult = new DescribeSnapshotAttributeResult();
@@ -73,6 +77,10 @@ public class DescribeSnapshotAttributeResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSnapshotAttributeResult;
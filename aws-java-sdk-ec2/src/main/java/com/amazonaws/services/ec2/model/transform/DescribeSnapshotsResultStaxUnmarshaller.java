@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeSnapshotsResultStaxUnmarshaller implements
         Unmarshaller<DescribeSnapshotsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("snapshotSet", "nextToken"));
+
     public DescribeSnapshotsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeSnapshotsResult describeSnapshotsResult = new DescribeSnapshotsResult();
@@ -63,6 +66,10 @@ public class DescribeSnapshotsResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSnapshotsResult;
@@ -36,6 +36,9 @@ public class DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeSpotDatafeedSubscriptionResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotDatafeedSubscription"));
+
     public DescribeSpotDatafeedSubscriptionResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSpotDatafeedSubscriptionResult describeSpotDatafeedSubscriptionResult = new DescribeSpotDatafeedSubscriptionResult();
@@ -59,6 +62,10 @@ public class DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSpotDatafeedSubscriptionResult;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeSpotFleetInstancesResultStaxUnmarshaller implements
         Unmarshaller<DescribeSpotFleetInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotFleetRequestId", "activeInstanceSet",
+                    "nextToken"));
+
     public DescribeSpotFleetInstancesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSpotFleetInstancesResult describeSpotFleetInstancesResult = new DescribeSpotFleetInstancesResult();
@@ -72,6 +76,10 @@ public class DescribeSpotFleetInstancesResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSpotFleetInstancesResult;
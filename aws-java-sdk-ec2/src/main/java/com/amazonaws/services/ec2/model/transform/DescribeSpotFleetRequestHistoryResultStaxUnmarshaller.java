@@ -36,6 +36,10 @@ public class DescribeSpotFleetRequestHistoryResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeSpotFleetRequestHistoryResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotFleetRequestId", "startTime",
+                    "lastEvaluatedTime", "historyRecordSet", "nextToken"));
+
     public DescribeSpotFleetRequestHistoryResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSpotFleetRequestHistoryResult describeSpotFleetRequestHistoryResult = new DescribeSpotFleetRequestHistoryResult();
@@ -87,6 +91,10 @@ public class DescribeSpotFleetRequestHistoryResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSpotFleetRequestHistoryResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeSpotFleetRequestsResultStaxUnmarshaller implements
         Unmarshaller<DescribeSpotFleetRequestsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotFleetRequestConfigSet", "nextToken"));
+
     public DescribeSpotFleetRequestsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSpotFleetRequestsResult describeSpotFleetRequestsResult = new DescribeSpotFleetRequestsResult();
@@ -65,6 +68,10 @@ public class DescribeSpotFleetRequestsResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSpotFleetRequestsResult;
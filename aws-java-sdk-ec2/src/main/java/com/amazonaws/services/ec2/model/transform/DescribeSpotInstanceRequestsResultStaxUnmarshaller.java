@@ -36,6 +36,9 @@ public class DescribeSpotInstanceRequestsResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeSpotInstanceRequestsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotInstanceRequestSet"));
+
     public DescribeSpotInstanceRequestsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSpotInstanceRequestsResult describeSpotInstanceRequestsResult = new DescribeSpotInstanceRequestsResult();
@@ -60,6 +63,10 @@ public class DescribeSpotInstanceRequestsResultStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSpotInstanceRequestsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeSpotPriceHistoryResultStaxUnmarshaller implements
         Unmarshaller<DescribeSpotPriceHistoryResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotPriceHistorySet", "nextToken"));
+
     public DescribeSpotPriceHistoryResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeSpotPriceHistoryResult describeSpotPriceHistoryResult = new DescribeSpotPriceHistoryResult();
@@ -65,6 +68,10 @@ public class DescribeSpotPriceHistoryResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSpotPriceHistoryResult;
@@ -36,6 +36,9 @@ public class DescribeStaleSecurityGroupsResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeStaleSecurityGroupsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("staleSecurityGroupSet", "nextToken"));
+
     public DescribeStaleSecurityGroupsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeStaleSecurityGroupsResult describeStaleSecurityGroupsResult = new DescribeStaleSecurityGroupsResult();
@@ -66,6 +69,10 @@ public class DescribeStaleSecurityGroupsResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeStaleSecurityGroupsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeSubnetsResultStaxUnmarshaller implements
         Unmarshaller<DescribeSubnetsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("subnetSet"));
+
     public DescribeSubnetsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeSubnetsResult describeSubnetsResult = new DescribeSubnetsResult();
@@ -57,6 +60,10 @@ public class DescribeSubnetsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeSubnetsResult;
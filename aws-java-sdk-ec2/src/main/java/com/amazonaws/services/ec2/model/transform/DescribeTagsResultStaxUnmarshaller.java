@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeTagsResultStaxUnmarshaller implements
         Unmarshaller<DescribeTagsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("tagSet", "nextToken"));
+
     public DescribeTagsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeTagsResult describeTagsResult = new DescribeTagsResult();
@@ -62,6 +65,10 @@ public class DescribeTagsResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeTagsResult;
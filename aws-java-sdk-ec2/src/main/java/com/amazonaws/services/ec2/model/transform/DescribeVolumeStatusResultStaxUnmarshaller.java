@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeVolumeStatusResultStaxUnmarshaller implements
         Unmarshaller<DescribeVolumeStatusResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumeStatusSet", "nextToken"));
+
     public DescribeVolumeStatusResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeVolumeStatusResult describeVolumeStatusResult = new DescribeVolumeStatusResult();
@@ -64,6 +67,10 @@ public class DescribeVolumeStatusResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVolumeStatusResult;
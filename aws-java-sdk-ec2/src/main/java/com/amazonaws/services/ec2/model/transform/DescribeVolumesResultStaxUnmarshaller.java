@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeVolumesResultStaxUnmarshaller implements
         Unmarshaller<DescribeVolumesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumeSet", "nextToken"));
+
     public DescribeVolumesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeVolumesResult describeVolumesResult = new DescribeVolumesResult();
@@ -62,6 +65,10 @@ public class DescribeVolumesResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVolumesResult;
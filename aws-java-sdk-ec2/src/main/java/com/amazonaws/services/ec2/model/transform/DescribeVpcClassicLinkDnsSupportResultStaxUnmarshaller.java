@@ -36,6 +36,9 @@ public class DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeVpcClassicLinkDnsSupportResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcs", "nextToken"));
+
     public DescribeVpcClassicLinkDnsSupportResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeVpcClassicLinkDnsSupportResult describeVpcClassicLinkDnsSupportResult = new DescribeVpcClassicLinkDnsSupportResult();
@@ -65,6 +68,10 @@ public class DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpcClassicLinkDnsSupportResult;
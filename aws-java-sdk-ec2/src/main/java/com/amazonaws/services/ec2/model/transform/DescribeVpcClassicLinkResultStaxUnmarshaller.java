@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeVpcClassicLinkResultStaxUnmarshaller implements
         Unmarshaller<DescribeVpcClassicLinkResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcSet"));
+
     public DescribeVpcClassicLinkResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeVpcClassicLinkResult describeVpcClassicLinkResult = new DescribeVpcClassicLinkResult();
@@ -58,6 +61,10 @@ public class DescribeVpcClassicLinkResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpcClassicLinkResult;
@@ -36,6 +36,9 @@ public class DescribeVpcEndpointServicesResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeVpcEndpointServicesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("serviceNameSet", "nextToken"));
+
     public DescribeVpcEndpointServicesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeVpcEndpointServicesResult describeVpcEndpointServicesResult = new DescribeVpcEndpointServicesResult();
@@ -65,6 +68,10 @@ public class DescribeVpcEndpointServicesResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpcEndpointServicesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeVpcEndpointsResultStaxUnmarshaller implements
         Unmarshaller<DescribeVpcEndpointsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcEndpointSet", "nextToken"));
+
     public DescribeVpcEndpointsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeVpcEndpointsResult describeVpcEndpointsResult = new DescribeVpcEndpointsResult();
@@ -64,6 +67,10 @@ public class DescribeVpcEndpointsResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpcEndpointsResult;
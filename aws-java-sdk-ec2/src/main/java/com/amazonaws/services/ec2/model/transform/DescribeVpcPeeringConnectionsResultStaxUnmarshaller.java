@@ -36,6 +36,9 @@ public class DescribeVpcPeeringConnectionsResultStaxUnmarshaller
         implements
         Unmarshaller<DescribeVpcPeeringConnectionsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcPeeringConnectionSet"));
+
     public DescribeVpcPeeringConnectionsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeVpcPeeringConnectionsResult describeVpcPeeringConnectionsResult = new DescribeVpcPeeringConnectionsResult();
@@ -60,6 +63,10 @@ public class DescribeVpcPeeringConnectionsResultStaxUnmarshaller
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpcPeeringConnectionsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeVpcsResultStaxUnmarshaller implements
         Unmarshaller<DescribeVpcsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcSet"));
+
     public DescribeVpcsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeVpcsResult describeVpcsResult = new DescribeVpcsResult();
@@ -57,6 +60,10 @@ public class DescribeVpcsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpcsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeVpnConnectionsResultStaxUnmarshaller implements
         Unmarshaller<DescribeVpnConnectionsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpnConnectionSet"));
+
     public DescribeVpnConnectionsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DescribeVpnConnectionsResult describeVpnConnectionsResult = new DescribeVpnConnectionsResult();
@@ -59,6 +62,10 @@ public class DescribeVpnConnectionsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpnConnectionsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DescribeVpnGatewaysResultStaxUnmarshaller implements
         Unmarshaller<DescribeVpnGatewaysResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpnGatewaySet"));
+
     public DescribeVpnGatewaysResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DescribeVpnGatewaysResult describeVpnGatewaysResult = new DescribeVpnGatewaysResult();
@@ -58,6 +61,10 @@ public class DescribeVpnGatewaysResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return describeVpnGatewaysResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DetachClassicLinkVpcResultStaxUnmarshaller implements
         Unmarshaller<DetachClassicLinkVpcResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public DetachClassicLinkVpcResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DetachClassicLinkVpcResult detachClassicLinkVpcResult = new DetachClassicLinkVpcResult();
@@ -57,6 +60,10 @@ public class DetachClassicLinkVpcResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return detachClassicLinkVpcResult;
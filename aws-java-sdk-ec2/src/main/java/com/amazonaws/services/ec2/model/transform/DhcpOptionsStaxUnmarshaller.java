@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DhcpOptionsStaxUnmarshaller implements
         Unmarshaller<DhcpOptions, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("dhcpOptionsId", "dhcpConfigurationSet",
+                    "tagSet"));
+
     public DhcpOptions unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DhcpOptions dhcpOptions = new DhcpOptions();
@@ -71,6 +75,10 @@ public class DhcpOptionsStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return dhcpOptions;
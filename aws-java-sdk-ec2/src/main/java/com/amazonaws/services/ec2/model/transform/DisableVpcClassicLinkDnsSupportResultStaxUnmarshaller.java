@@ -36,6 +36,9 @@ public class DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller
         implements
         Unmarshaller<DisableVpcClassicLinkDnsSupportResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public DisableVpcClassicLinkDnsSupportResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DisableVpcClassicLinkDnsSupportResult disableVpcClassicLinkDnsSupportResult = new DisableVpcClassicLinkDnsSupportResult();
@@ -58,6 +61,10 @@ public class DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return disableVpcClassicLinkDnsSupportResult;
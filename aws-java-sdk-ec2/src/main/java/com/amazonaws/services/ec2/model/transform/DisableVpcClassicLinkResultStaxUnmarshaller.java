@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DisableVpcClassicLinkResultStaxUnmarshaller implements
         Unmarshaller<DisableVpcClassicLinkResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public DisableVpcClassicLinkResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         DisableVpcClassicLinkResult disableVpcClassicLinkResult = new DisableVpcClassicLinkResult();
@@ -57,6 +60,10 @@ public class DisableVpcClassicLinkResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return disableVpcClassicLinkResult;
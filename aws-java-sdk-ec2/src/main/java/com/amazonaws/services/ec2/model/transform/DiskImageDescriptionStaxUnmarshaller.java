@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DiskImageDescriptionStaxUnmarshaller implements
         Unmarshaller<DiskImageDescription, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("format", "size", "importManifestUrl",
+                    "checksum"));
+
     public DiskImageDescription unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DiskImageDescription diskImageDescription = new DiskImageDescription();
@@ -75,6 +79,10 @@ public class DiskImageDescriptionStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return diskImageDescription;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DiskImageDetailStaxUnmarshaller implements
         Unmarshaller<DiskImageDetail, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("format", "bytes", "importManifestUrl"));
+
     public DiskImageDetail unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DiskImageDetail diskImageDetail = new DiskImageDetail();
@@ -68,6 +71,10 @@ public class DiskImageDetailStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return diskImageDetail;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DiskImageStaxUnmarshaller implements
         Unmarshaller<DiskImage, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Image", "Description", "Volume"));
+
     public DiskImage unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DiskImage diskImage = new DiskImage();
@@ -68,6 +71,10 @@ public class DiskImageStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return diskImage;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class DiskImageVolumeDescriptionStaxUnmarshaller implements
         Unmarshaller<DiskImageVolumeDescription, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("size", "id"));
+
     public DiskImageVolumeDescription unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         DiskImageVolumeDescription diskImageVolumeDescription = new DiskImageVolumeDescription();
@@ -62,6 +65,10 @@ public class DiskImageVolumeDescriptionStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return diskImageVolumeDescription;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class EbsBlockDeviceStaxUnmarshaller implements
         Unmarshaller<EbsBlockDevice, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("snapshotId", "volumeSize",
+                    "deleteOnTermination", "volumeType", "iops", "encrypted"));
+
     public EbsBlockDevice unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         EbsBlockDevice ebsBlockDevice = new EbsBlockDevice();
@@ -87,6 +91,10 @@ public class EbsBlockDeviceStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return ebsBlockDevice;
@@ -36,6 +36,9 @@ public class EbsInstanceBlockDeviceSpecificationStaxUnmarshaller
         implements
         Unmarshaller<EbsInstanceBlockDeviceSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumeId", "deleteOnTermination"));
+
     public EbsInstanceBlockDeviceSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         EbsInstanceBlockDeviceSpecification ebsInstanceBlockDeviceSpecification = new EbsInstanceBlockDeviceSpecification();
@@ -65,6 +68,10 @@ public class EbsInstanceBlockDeviceSpecificationStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return ebsInstanceBlockDeviceSpecification;
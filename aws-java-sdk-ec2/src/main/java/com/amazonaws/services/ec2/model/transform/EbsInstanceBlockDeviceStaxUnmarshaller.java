@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class EbsInstanceBlockDeviceStaxUnmarshaller implements
         Unmarshaller<EbsInstanceBlockDevice, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumeId", "status", "attachTime",
+                    "deleteOnTermination"));
+
     public EbsInstanceBlockDevice unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         EbsInstanceBlockDevice ebsInstanceBlockDevice = new EbsInstanceBlockDevice();
@@ -75,6 +79,10 @@ public class EbsInstanceBlockDeviceStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return ebsInstanceBlockDevice;
@@ -36,6 +36,9 @@ public class EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller
         implements
         Unmarshaller<EnableVpcClassicLinkDnsSupportResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public EnableVpcClassicLinkDnsSupportResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         EnableVpcClassicLinkDnsSupportResult enableVpcClassicLinkDnsSupportResult = new EnableVpcClassicLinkDnsSupportResult();
@@ -58,6 +61,10 @@ public class EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return enableVpcClassicLinkDnsSupportResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class EnableVpcClassicLinkResultStaxUnmarshaller implements
         Unmarshaller<EnableVpcClassicLinkResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public EnableVpcClassicLinkResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         EnableVpcClassicLinkResult enableVpcClassicLinkResult = new EnableVpcClassicLinkResult();
@@ -57,6 +60,10 @@ public class EnableVpcClassicLinkResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return enableVpcClassicLinkResult;
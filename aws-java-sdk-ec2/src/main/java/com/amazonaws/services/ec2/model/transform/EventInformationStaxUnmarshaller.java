@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class EventInformationStaxUnmarshaller implements
         Unmarshaller<EventInformation, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "eventSubType",
+                    "eventDescription"));
+
     public EventInformation unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         EventInformation eventInformation = new EventInformation();
@@ -68,6 +72,10 @@ public class EventInformationStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return eventInformation;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ExportTaskStaxUnmarshaller implements
         Unmarshaller<ExportTask, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("exportTaskId", "description", "state",
+                    "statusMessage", "instanceExport", "exportToS3"));
+
     public ExportTask unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ExportTask exportTask = new ExportTask();
@@ -87,6 +91,10 @@ public class ExportTaskStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return exportTask;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ExportToS3TaskSpecificationStaxUnmarshaller implements
         Unmarshaller<ExportToS3TaskSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("diskImageFormat", "containerFormat",
+                    "s3Bucket", "s3Prefix"));
+
     public ExportToS3TaskSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ExportToS3TaskSpecification exportToS3TaskSpecification = new ExportToS3TaskSpecification();
@@ -78,6 +82,10 @@ public class ExportToS3TaskSpecificationStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return exportToS3TaskSpecification;
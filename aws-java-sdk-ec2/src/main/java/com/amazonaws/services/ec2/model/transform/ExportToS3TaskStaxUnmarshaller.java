@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ExportToS3TaskStaxUnmarshaller implements
         Unmarshaller<ExportToS3Task, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("diskImageFormat", "containerFormat",
+                    "s3Bucket", "s3Key"));
+
     public ExportToS3Task unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ExportToS3Task exportToS3Task = new ExportToS3Task();
@@ -74,6 +78,10 @@ public class ExportToS3TaskStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return exportToS3Task;
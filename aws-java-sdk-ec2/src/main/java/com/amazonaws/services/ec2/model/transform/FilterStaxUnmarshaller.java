@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class FilterStaxUnmarshaller implements
         Unmarshaller<Filter, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Name", "Value"));
+
     public Filter unmarshall(StaxUnmarshallerContext context) throws Exception {
         Filter filter = new Filter();
         int originalDepth = context.getCurrentDepth();
@@ -62,6 +65,10 @@ public class FilterStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return filter;
@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class FlowLogStaxUnmarshaller implements
         Unmarshaller<FlowLog, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("creationTime", "flowLogId",
+                    "flowLogStatus", "resourceId", "trafficType",
+                    "logGroupName", "deliverLogsStatus",
+                    "deliverLogsErrorMessage", "deliverLogsPermissionArn"));
+
     public FlowLog unmarshall(StaxUnmarshallerContext context) throws Exception {
         FlowLog flowLog = new FlowLog();
         int originalDepth = context.getCurrentDepth();
@@ -105,6 +111,10 @@ public class FlowLogStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return flowLog;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class GetConsoleOutputResultStaxUnmarshaller implements
         Unmarshaller<GetConsoleOutputResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "timestamp", "output"));
+
     public GetConsoleOutputResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         GetConsoleOutputResult getConsoleOutputResult = new GetConsoleOutputResult();
@@ -68,6 +71,10 @@ public class GetConsoleOutputResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return getConsoleOutputResult;
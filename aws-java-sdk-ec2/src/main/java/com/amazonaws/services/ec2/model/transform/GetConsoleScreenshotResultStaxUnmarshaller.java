@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class GetConsoleScreenshotResultStaxUnmarshaller implements
         Unmarshaller<GetConsoleScreenshotResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "imageData"));
+
     public GetConsoleScreenshotResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         GetConsoleScreenshotResult getConsoleScreenshotResult = new GetConsoleScreenshotResult();
@@ -64,6 +67,10 @@ public class GetConsoleScreenshotResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return getConsoleScreenshotResult;
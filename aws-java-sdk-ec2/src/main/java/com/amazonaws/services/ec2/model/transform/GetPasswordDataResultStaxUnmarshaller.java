@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class GetPasswordDataResultStaxUnmarshaller implements
         Unmarshaller<GetPasswordDataResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "timestamp", "passwordData"));
+
     public GetPasswordDataResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         GetPasswordDataResult getPasswordDataResult = new GetPasswordDataResult();
@@ -69,6 +72,10 @@ public class GetPasswordDataResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return getPasswordDataResult;
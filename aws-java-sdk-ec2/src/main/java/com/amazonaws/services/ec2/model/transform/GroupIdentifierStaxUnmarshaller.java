@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class GroupIdentifierStaxUnmarshaller implements
         Unmarshaller<GroupIdentifier, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("groupName", "groupId"));
+
     public GroupIdentifier unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         GroupIdentifier groupIdentifier = new GroupIdentifier();
@@ -62,6 +65,10 @@ public class GroupIdentifierStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return groupIdentifier;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class HistoryRecordStaxUnmarshaller implements
         Unmarshaller<HistoryRecord, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("timestamp", "eventType",
+                    "eventInformation"));
+
     public HistoryRecord unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         HistoryRecord historyRecord = new HistoryRecord();
@@ -69,6 +73,10 @@ public class HistoryRecordStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return historyRecord;
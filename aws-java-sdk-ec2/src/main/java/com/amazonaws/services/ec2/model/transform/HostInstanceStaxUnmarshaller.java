@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class HostInstanceStaxUnmarshaller implements
         Unmarshaller<HostInstance, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "instanceType"));
+
     public HostInstance unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         HostInstance hostInstance = new HostInstance();
@@ -62,6 +65,10 @@ public class HostInstanceStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return hostInstance;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class HostPropertiesStaxUnmarshaller implements
         Unmarshaller<HostProperties, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("sockets", "cores", "totalVCpus",
+                    "instanceType"));
+
     public HostProperties unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         HostProperties hostProperties = new HostProperties();
@@ -74,6 +78,10 @@ public class HostPropertiesStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return hostProperties;
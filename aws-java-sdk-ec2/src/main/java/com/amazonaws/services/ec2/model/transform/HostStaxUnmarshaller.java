@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class HostStaxUnmarshaller implements
         Unmarshaller<Host, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("hostId", "autoPlacement",
+                    "hostReservationId", "clientToken", "hostProperties",
+                    "state", "availabilityZone", "instances",
+                    "availableCapacity"));
+
     public Host unmarshall(StaxUnmarshallerContext context) throws Exception {
         Host host = new Host();
         int originalDepth = context.getCurrentDepth();
@@ -103,6 +109,10 @@ public class HostStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return host;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class IamInstanceProfileSpecificationStaxUnmarshaller implements
         Unmarshaller<IamInstanceProfileSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("arn", "name"));
+
     public IamInstanceProfileSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         IamInstanceProfileSpecification iamInstanceProfileSpecification = new IamInstanceProfileSpecification();
@@ -64,6 +67,10 @@ public class IamInstanceProfileSpecificationStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return iamInstanceProfileSpecification;
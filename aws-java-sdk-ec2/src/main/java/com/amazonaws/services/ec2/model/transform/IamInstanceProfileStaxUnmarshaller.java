@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class IamInstanceProfileStaxUnmarshaller implements
         Unmarshaller<IamInstanceProfile, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("arn", "id"));
+
     public IamInstanceProfile unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         IamInstanceProfile iamInstanceProfile = new IamInstanceProfile();
@@ -62,6 +65,10 @@ public class IamInstanceProfileStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return iamInstanceProfile;
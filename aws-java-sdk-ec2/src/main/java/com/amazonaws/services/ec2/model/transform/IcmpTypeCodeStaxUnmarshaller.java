@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class IcmpTypeCodeStaxUnmarshaller implements
         Unmarshaller<IcmpTypeCode, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("type", "code"));
+
     public IcmpTypeCode unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         IcmpTypeCode icmpTypeCode = new IcmpTypeCode();
@@ -62,6 +65,10 @@ public class IcmpTypeCodeStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return icmpTypeCode;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class IdFormatStaxUnmarshaller implements
         Unmarshaller<IdFormat, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("resource", "useLongIds", "deadline"));
+
     public IdFormat unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         IdFormat idFormat = new IdFormat();
@@ -68,6 +71,10 @@ public class IdFormatStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return idFormat;
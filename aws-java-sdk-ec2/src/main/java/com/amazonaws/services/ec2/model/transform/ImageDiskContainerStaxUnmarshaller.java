@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImageDiskContainerStaxUnmarshaller implements
         Unmarshaller<ImageDiskContainer, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Description", "Format", "Url",
+                    "UserBucket", "DeviceName", "SnapshotId"));
+
     public ImageDiskContainer unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImageDiskContainer imageDiskContainer = new ImageDiskContainer();
@@ -86,6 +90,10 @@ public class ImageDiskContainerStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return imageDiskContainer;
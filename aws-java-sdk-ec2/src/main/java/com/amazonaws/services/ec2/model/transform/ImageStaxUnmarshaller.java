@@ -35,6 +35,15 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImageStaxUnmarshaller implements
         Unmarshaller<Image, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("imageId", "imageLocation", "imageState",
+                    "imageOwnerId", "creationDate", "isPublic", "productCodes",
+                    "architecture", "imageType", "kernelId", "ramdiskId",
+                    "platform", "sriovNetSupport", "enaSupport", "stateReason",
+                    "imageOwnerAlias", "name", "description", "rootDeviceType",
+                    "rootDeviceName", "blockDeviceMapping",
+                    "virtualizationType", "tagSet", "hypervisor"));
+
     public Image unmarshall(StaxUnmarshallerContext context) throws Exception {
         Image image = new Image();
         int originalDepth = context.getCurrentDepth();
@@ -194,6 +203,10 @@ public class ImageStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return image;
@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportImageTaskStaxUnmarshaller implements
         Unmarshaller<ImportImageTask, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("importTaskId", "architecture",
+                    "licenseType", "platform", "hypervisor", "description",
+                    "snapshotDetailSet", "imageId", "progress",
+                    "statusMessage", "status"));
+
     public ImportImageTask unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImportImageTask importImageTask = new ImportImageTask();
@@ -118,6 +124,10 @@ public class ImportImageTaskStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importImageTask;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportInstanceTaskDetailsStaxUnmarshaller implements
         Unmarshaller<ImportInstanceTaskDetails, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumes", "instanceId", "platform",
+                    "description"));
+
     public ImportInstanceTaskDetails unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImportInstanceTaskDetails importInstanceTaskDetails = new ImportInstanceTaskDetails();
@@ -78,6 +82,10 @@ public class ImportInstanceTaskDetailsStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importInstanceTaskDetails;
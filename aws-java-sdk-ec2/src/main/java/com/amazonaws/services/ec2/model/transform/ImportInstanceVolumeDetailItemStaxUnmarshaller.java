@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportInstanceVolumeDetailItemStaxUnmarshaller implements
         Unmarshaller<ImportInstanceVolumeDetailItem, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays
+                    .asList("bytesConverted", "availabilityZone", "image",
+                            "volume", "status", "statusMessage", "description"));
+
     public ImportInstanceVolumeDetailItem unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ImportInstanceVolumeDetailItem importInstanceVolumeDetailItem = new ImportInstanceVolumeDetailItem();
@@ -99,6 +104,10 @@ public class ImportInstanceVolumeDetailItemStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importInstanceVolumeDetailItem;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportKeyPairResultStaxUnmarshaller implements
         Unmarshaller<ImportKeyPairResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("keyName", "keyFingerprint"));
+
     public ImportKeyPairResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImportKeyPairResult importKeyPairResult = new ImportKeyPairResult();
@@ -63,6 +66,10 @@ public class ImportKeyPairResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importKeyPairResult;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportSnapshotResultStaxUnmarshaller implements
         Unmarshaller<ImportSnapshotResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("importTaskId", "snapshotTaskDetail",
+                    "description"));
+
     public ImportSnapshotResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImportSnapshotResult importSnapshotResult = new ImportSnapshotResult();
@@ -69,6 +73,10 @@ public class ImportSnapshotResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importSnapshotResult;
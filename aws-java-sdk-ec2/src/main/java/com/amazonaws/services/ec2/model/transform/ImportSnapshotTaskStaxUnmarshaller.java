@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportSnapshotTaskStaxUnmarshaller implements
         Unmarshaller<ImportSnapshotTask, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("importTaskId", "snapshotTaskDetail",
+                    "description"));
+
     public ImportSnapshotTask unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImportSnapshotTask importSnapshotTask = new ImportSnapshotTask();
@@ -69,6 +73,10 @@ public class ImportSnapshotTaskStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importSnapshotTask;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportVolumeResultStaxUnmarshaller implements
         Unmarshaller<ImportVolumeResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("conversionTask"));
+
     public ImportVolumeResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImportVolumeResult importVolumeResult = new ImportVolumeResult();
@@ -57,6 +60,10 @@ public class ImportVolumeResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importVolumeResult;
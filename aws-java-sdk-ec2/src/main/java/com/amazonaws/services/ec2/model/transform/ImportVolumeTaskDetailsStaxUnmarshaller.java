@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ImportVolumeTaskDetailsStaxUnmarshaller implements
         Unmarshaller<ImportVolumeTaskDetails, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("bytesConverted", "availabilityZone",
+                    "description", "image", "volume"));
+
     public ImportVolumeTaskDetails unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ImportVolumeTaskDetails importVolumeTaskDetails = new ImportVolumeTaskDetails();
@@ -85,6 +89,10 @@ public class ImportVolumeTaskDetailsStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return importVolumeTaskDetails;
@@ -36,6 +36,10 @@ public class InstanceBlockDeviceMappingSpecificationStaxUnmarshaller
         implements
         Unmarshaller<InstanceBlockDeviceMappingSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("deviceName", "ebs", "virtualName",
+                    "noDevice"));
+
     public InstanceBlockDeviceMappingSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         InstanceBlockDeviceMappingSpecification instanceBlockDeviceMappingSpecification = new InstanceBlockDeviceMappingSpecification();
@@ -79,6 +83,10 @@ public class InstanceBlockDeviceMappingSpecificationStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceBlockDeviceMappingSpecification;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceBlockDeviceMappingStaxUnmarshaller implements
         Unmarshaller<InstanceBlockDeviceMapping, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("deviceName", "ebs"));
+
     public InstanceBlockDeviceMapping unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceBlockDeviceMapping instanceBlockDeviceMapping = new InstanceBlockDeviceMapping();
@@ -64,6 +67,10 @@ public class InstanceBlockDeviceMappingStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceBlockDeviceMapping;
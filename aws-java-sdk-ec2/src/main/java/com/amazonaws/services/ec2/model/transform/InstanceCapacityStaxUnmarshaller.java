@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceCapacityStaxUnmarshaller implements
         Unmarshaller<InstanceCapacity, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceType", "availableCapacity",
+                    "totalCapacity"));
+
     public InstanceCapacity unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceCapacity instanceCapacity = new InstanceCapacity();
@@ -69,6 +73,10 @@ public class InstanceCapacityStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceCapacity;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceCountStaxUnmarshaller implements
         Unmarshaller<InstanceCount, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("state", "instanceCount"));
+
     public InstanceCount unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceCount instanceCount = new InstanceCount();
@@ -62,6 +65,10 @@ public class InstanceCountStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceCount;
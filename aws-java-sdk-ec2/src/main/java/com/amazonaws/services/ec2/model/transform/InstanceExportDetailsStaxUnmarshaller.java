@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceExportDetailsStaxUnmarshaller implements
         Unmarshaller<InstanceExportDetails, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "targetEnvironment"));
+
     public InstanceExportDetails unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceExportDetails instanceExportDetails = new InstanceExportDetails();
@@ -63,6 +66,10 @@ public class InstanceExportDetailsStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceExportDetails;
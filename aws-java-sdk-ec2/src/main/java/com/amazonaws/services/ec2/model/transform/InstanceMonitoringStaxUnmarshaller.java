@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceMonitoringStaxUnmarshaller implements
         Unmarshaller<InstanceMonitoring, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "monitoring"));
+
     public InstanceMonitoring unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceMonitoring instanceMonitoring = new InstanceMonitoring();
@@ -62,6 +65,10 @@ public class InstanceMonitoringStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceMonitoring;
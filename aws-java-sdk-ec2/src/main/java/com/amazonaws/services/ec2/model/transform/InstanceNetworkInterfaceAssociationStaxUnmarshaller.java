@@ -36,6 +36,9 @@ public class InstanceNetworkInterfaceAssociationStaxUnmarshaller
         implements
         Unmarshaller<InstanceNetworkInterfaceAssociation, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("publicIp", "publicDnsName", "ipOwnerId"));
+
     public InstanceNetworkInterfaceAssociation unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         InstanceNetworkInterfaceAssociation instanceNetworkInterfaceAssociation = new InstanceNetworkInterfaceAssociation();
@@ -72,6 +75,10 @@ public class InstanceNetworkInterfaceAssociationStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceNetworkInterfaceAssociation;
@@ -36,6 +36,10 @@ public class InstanceNetworkInterfaceAttachmentStaxUnmarshaller
         implements
         Unmarshaller<InstanceNetworkInterfaceAttachment, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("attachmentId", "deviceIndex", "status",
+                    "attachTime", "deleteOnTermination"));
+
     public InstanceNetworkInterfaceAttachment unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         InstanceNetworkInterfaceAttachment instanceNetworkInterfaceAttachment = new InstanceNetworkInterfaceAttachment();
@@ -86,6 +90,10 @@ public class InstanceNetworkInterfaceAttachmentStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceNetworkInterfaceAttachment;
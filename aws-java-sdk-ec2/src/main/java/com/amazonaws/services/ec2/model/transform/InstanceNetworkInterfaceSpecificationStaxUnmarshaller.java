@@ -36,6 +36,13 @@ public class InstanceNetworkInterfaceSpecificationStaxUnmarshaller
         implements
         Unmarshaller<InstanceNetworkInterfaceSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkInterfaceId", "deviceIndex",
+                    "subnetId", "description", "privateIpAddress",
+                    "SecurityGroupId", "deleteOnTermination",
+                    "privateIpAddressesSet", "secondaryPrivateIpAddressCount",
+                    "associatePublicIpAddress"));
+
     public InstanceNetworkInterfaceSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         InstanceNetworkInterfaceSpecification instanceNetworkInterfaceSpecification = new InstanceNetworkInterfaceSpecification();
@@ -125,6 +132,10 @@ public class InstanceNetworkInterfaceSpecificationStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceNetworkInterfaceSpecification;
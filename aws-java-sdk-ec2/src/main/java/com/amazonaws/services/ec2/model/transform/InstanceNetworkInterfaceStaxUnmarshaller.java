@@ -35,6 +35,13 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceNetworkInterfaceStaxUnmarshaller implements
         Unmarshaller<InstanceNetworkInterface, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkInterfaceId", "subnetId", "vpcId",
+                    "description", "ownerId", "status", "macAddress",
+                    "privateIpAddress", "privateDnsName", "sourceDestCheck",
+                    "groupSet", "attachment", "association",
+                    "privateIpAddressesSet"));
+
     public InstanceNetworkInterface unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceNetworkInterface instanceNetworkInterface = new InstanceNetworkInterface();
@@ -146,6 +153,10 @@ public class InstanceNetworkInterfaceStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceNetworkInterface;
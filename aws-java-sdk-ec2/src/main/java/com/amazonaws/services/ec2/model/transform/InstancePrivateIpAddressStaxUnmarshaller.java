@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstancePrivateIpAddressStaxUnmarshaller implements
         Unmarshaller<InstancePrivateIpAddress, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("privateIpAddress", "privateDnsName",
+                    "primary", "association"));
+
     public InstancePrivateIpAddress unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstancePrivateIpAddress instancePrivateIpAddress = new InstancePrivateIpAddress();
@@ -77,6 +81,10 @@ public class InstancePrivateIpAddressStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instancePrivateIpAddress;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceStateChangeStaxUnmarshaller implements
         Unmarshaller<InstanceStateChange, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "currentState",
+                    "previousState"));
+
     public InstanceStateChange unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceStateChange instanceStateChange = new InstanceStateChange();
@@ -70,6 +74,10 @@ public class InstanceStateChangeStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceStateChange;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceStateStaxUnmarshaller implements
         Unmarshaller<InstanceState, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "name"));
+
     public InstanceState unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceState instanceState = new InstanceState();
@@ -62,6 +65,10 @@ public class InstanceStateStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceState;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceStatusDetailsStaxUnmarshaller implements
         Unmarshaller<InstanceStatusDetails, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("name", "status", "impairedSince"));
+
     public InstanceStatusDetails unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceStatusDetails instanceStatusDetails = new InstanceStatusDetails();
@@ -68,6 +71,10 @@ public class InstanceStatusDetailsStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceStatusDetails;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceStatusEventStaxUnmarshaller implements
         Unmarshaller<InstanceStatusEvent, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "description", "notBefore",
+                    "notAfter"));
+
     public InstanceStatusEvent unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceStatusEvent instanceStatusEvent = new InstanceStatusEvent();
@@ -74,6 +78,10 @@ public class InstanceStatusEventStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceStatusEvent;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceStatusStaxUnmarshaller implements
         Unmarshaller<InstanceStatus, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "availabilityZone",
+                    "eventsSet", "instanceState", "systemStatus",
+                    "instanceStatus"));
+
     public InstanceStatus unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceStatus instanceStatus = new InstanceStatus();
@@ -90,6 +95,10 @@ public class InstanceStatusStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceStatus;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceStatusSummaryStaxUnmarshaller implements
         Unmarshaller<InstanceStatusSummary, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("status", "details"));
+
     public InstanceStatusSummary unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InstanceStatusSummary instanceStatusSummary = new InstanceStatusSummary();
@@ -64,6 +67,10 @@ public class InstanceStatusSummaryStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instanceStatusSummary;
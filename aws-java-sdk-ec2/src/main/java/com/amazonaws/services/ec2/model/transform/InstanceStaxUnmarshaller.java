@@ -35,6 +35,20 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InstanceStaxUnmarshaller implements
         Unmarshaller<Instance, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceId", "imageId", "instanceState",
+                    "privateDnsName", "dnsName", "reason", "keyName",
+                    "amiLaunchIndex", "productCodes", "instanceType",
+                    "launchTime", "placement", "kernelId", "ramdiskId",
+                    "platform", "monitoring", "subnetId", "vpcId",
+                    "privateIpAddress", "ipAddress", "stateReason",
+                    "architecture", "rootDeviceType", "rootDeviceName",
+                    "blockDeviceMapping", "virtualizationType",
+                    "instanceLifecycle", "spotInstanceRequestId",
+                    "clientToken", "tagSet", "groupSet", "sourceDestCheck",
+                    "hypervisor", "networkInterfaceSet", "iamInstanceProfile",
+                    "ebsOptimized", "sriovNetSupport", "enaSupport"));
+
     public Instance unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         Instance instance = new Instance();
@@ -281,6 +295,10 @@ public class InstanceStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return instance;
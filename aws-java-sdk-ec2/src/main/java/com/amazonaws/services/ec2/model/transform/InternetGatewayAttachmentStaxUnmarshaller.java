@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InternetGatewayAttachmentStaxUnmarshaller implements
         Unmarshaller<InternetGatewayAttachment, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcId", "state"));
+
     public InternetGatewayAttachment unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InternetGatewayAttachment internetGatewayAttachment = new InternetGatewayAttachment();
@@ -62,6 +65,10 @@ public class InternetGatewayAttachmentStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return internetGatewayAttachment;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class InternetGatewayStaxUnmarshaller implements
         Unmarshaller<InternetGateway, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("internetGatewayId", "attachmentSet",
+                    "tagSet"));
+
     public InternetGateway unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         InternetGateway internetGateway = new InternetGateway();
@@ -70,6 +74,10 @@ public class InternetGatewayStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return internetGateway;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class KeyPairInfoStaxUnmarshaller implements
         Unmarshaller<KeyPairInfo, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("keyName", "keyFingerprint"));
+
     public KeyPairInfo unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         KeyPairInfo keyPairInfo = new KeyPairInfo();
@@ -62,6 +65,10 @@ public class KeyPairInfoStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return keyPairInfo;
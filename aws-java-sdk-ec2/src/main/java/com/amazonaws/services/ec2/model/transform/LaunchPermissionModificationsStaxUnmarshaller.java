@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class LaunchPermissionModificationsStaxUnmarshaller implements
         Unmarshaller<LaunchPermissionModifications, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Add", "Remove"));
+
     public LaunchPermissionModifications unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         LaunchPermissionModifications launchPermissionModifications = new LaunchPermissionModifications();
@@ -65,6 +68,10 @@ public class LaunchPermissionModificationsStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return launchPermissionModifications;
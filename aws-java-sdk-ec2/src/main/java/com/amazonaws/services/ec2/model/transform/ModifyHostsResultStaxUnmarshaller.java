@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ModifyHostsResultStaxUnmarshaller implements
         Unmarshaller<ModifyHostsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("successful", "unsuccessful"));
+
     public ModifyHostsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ModifyHostsResult modifyHostsResult = new ModifyHostsResult();
@@ -64,6 +67,10 @@ public class ModifyHostsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return modifyHostsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ModifyInstancePlacementResultStaxUnmarshaller implements
         Unmarshaller<ModifyInstancePlacementResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public ModifyInstancePlacementResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ModifyInstancePlacementResult modifyInstancePlacementResult = new ModifyInstancePlacementResult();
@@ -57,6 +60,10 @@ public class ModifyInstancePlacementResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return modifyInstancePlacementResult;
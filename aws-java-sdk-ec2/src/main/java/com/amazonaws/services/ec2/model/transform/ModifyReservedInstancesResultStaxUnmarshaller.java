@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ModifyReservedInstancesResultStaxUnmarshaller implements
         Unmarshaller<ModifyReservedInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesModificationId"));
+
     public ModifyReservedInstancesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ModifyReservedInstancesResult modifyReservedInstancesResult = new ModifyReservedInstancesResult();
@@ -58,6 +61,10 @@ public class ModifyReservedInstancesResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return modifyReservedInstancesResult;
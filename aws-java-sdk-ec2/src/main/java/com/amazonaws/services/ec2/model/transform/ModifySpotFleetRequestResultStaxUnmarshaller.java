@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ModifySpotFleetRequestResultStaxUnmarshaller implements
         Unmarshaller<ModifySpotFleetRequestResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public ModifySpotFleetRequestResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ModifySpotFleetRequestResult modifySpotFleetRequestResult = new ModifySpotFleetRequestResult();
@@ -57,6 +60,10 @@ public class ModifySpotFleetRequestResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return modifySpotFleetRequestResult;
@@ -36,6 +36,10 @@ public class ModifyVpcPeeringConnectionOptionsResultStaxUnmarshaller
         implements
         Unmarshaller<ModifyVpcPeeringConnectionOptionsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("requesterPeeringConnectionOptions",
+                    "accepterPeeringConnectionOptions"));
+
     public ModifyVpcPeeringConnectionOptionsResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ModifyVpcPeeringConnectionOptionsResult modifyVpcPeeringConnectionOptionsResult = new ModifyVpcPeeringConnectionOptionsResult();
@@ -67,6 +71,10 @@ public class ModifyVpcPeeringConnectionOptionsResultStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return modifyVpcPeeringConnectionOptionsResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class MonitorInstancesResultStaxUnmarshaller implements
         Unmarshaller<MonitorInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instancesSet"));
+
     public MonitorInstancesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         MonitorInstancesResult monitorInstancesResult = new MonitorInstancesResult();
@@ -58,6 +61,10 @@ public class MonitorInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return monitorInstancesResult;
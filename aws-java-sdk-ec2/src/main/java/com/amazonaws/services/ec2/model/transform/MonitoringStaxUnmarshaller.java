@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class MonitoringStaxUnmarshaller implements
         Unmarshaller<Monitoring, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("state"));
+
     public Monitoring unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         Monitoring monitoring = new Monitoring();
@@ -56,6 +59,10 @@ public class MonitoringStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return monitoring;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class MoveAddressToVpcResultStaxUnmarshaller implements
         Unmarshaller<MoveAddressToVpcResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("allocationId", "status"));
+
     public MoveAddressToVpcResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         MoveAddressToVpcResult moveAddressToVpcResult = new MoveAddressToVpcResult();
@@ -63,6 +66,10 @@ public class MoveAddressToVpcResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return moveAddressToVpcResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class MovingAddressStatusStaxUnmarshaller implements
         Unmarshaller<MovingAddressStatus, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("publicIp", "moveStatus"));
+
     public MovingAddressStatus unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         MovingAddressStatus movingAddressStatus = new MovingAddressStatus();
@@ -62,6 +65,10 @@ public class MovingAddressStatusStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return movingAddressStatus;
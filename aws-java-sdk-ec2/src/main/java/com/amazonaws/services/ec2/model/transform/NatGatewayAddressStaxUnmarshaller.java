@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NatGatewayAddressStaxUnmarshaller implements
         Unmarshaller<NatGatewayAddress, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("publicIp", "allocationId", "privateIp",
+                    "networkInterfaceId"));
+
     public NatGatewayAddress unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         NatGatewayAddress natGatewayAddress = new NatGatewayAddress();
@@ -75,6 +79,10 @@ public class NatGatewayAddressStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return natGatewayAddress;
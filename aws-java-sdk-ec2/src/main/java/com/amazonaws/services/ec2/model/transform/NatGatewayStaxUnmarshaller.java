@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NatGatewayStaxUnmarshaller implements
         Unmarshaller<NatGateway, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcId", "subnetId", "natGatewayId",
+                    "createTime", "deleteTime", "natGatewayAddressSet",
+                    "state", "failureCode", "failureMessage",
+                    "provisionedBandwidth"));
+
     public NatGateway unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         NatGateway natGateway = new NatGateway();
@@ -113,6 +119,10 @@ public class NatGatewayStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return natGateway;
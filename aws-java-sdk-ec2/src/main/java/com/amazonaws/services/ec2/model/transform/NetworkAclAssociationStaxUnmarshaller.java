@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NetworkAclAssociationStaxUnmarshaller implements
         Unmarshaller<NetworkAclAssociation, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkAclAssociationId", "networkAclId",
+                    "subnetId"));
+
     public NetworkAclAssociation unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         NetworkAclAssociation networkAclAssociation = new NetworkAclAssociation();
@@ -71,6 +75,10 @@ public class NetworkAclAssociationStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkAclAssociation;
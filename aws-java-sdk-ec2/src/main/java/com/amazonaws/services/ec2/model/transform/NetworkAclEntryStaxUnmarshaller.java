@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NetworkAclEntryStaxUnmarshaller implements
         Unmarshaller<NetworkAclEntry, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("ruleNumber", "protocol", "ruleAction",
+                    "egress", "cidrBlock", "icmpTypeCode", "portRange"));
+
     public NetworkAclEntry unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         NetworkAclEntry networkAclEntry = new NetworkAclEntry();
@@ -93,6 +97,10 @@ public class NetworkAclEntryStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkAclEntry;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NetworkAclStaxUnmarshaller implements
         Unmarshaller<NetworkAcl, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkAclId", "vpcId", "default",
+                    "entrySet", "associationSet", "tagSet"));
+
     public NetworkAcl unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         NetworkAcl networkAcl = new NetworkAcl();
@@ -88,6 +92,10 @@ public class NetworkAclStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkAcl;
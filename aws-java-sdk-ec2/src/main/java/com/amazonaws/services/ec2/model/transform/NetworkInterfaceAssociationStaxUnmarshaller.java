@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NetworkInterfaceAssociationStaxUnmarshaller implements
         Unmarshaller<NetworkInterfaceAssociation, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("publicIp", "publicDnsName", "ipOwnerId",
+                    "allocationId", "associationId"));
+
     public NetworkInterfaceAssociation unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         NetworkInterfaceAssociation networkInterfaceAssociation = new NetworkInterfaceAssociation();
@@ -85,6 +89,10 @@ public class NetworkInterfaceAssociationStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkInterfaceAssociation;
@@ -36,6 +36,9 @@ public class NetworkInterfaceAttachmentChangesStaxUnmarshaller
         implements
         Unmarshaller<NetworkInterfaceAttachmentChanges, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("attachmentId", "deleteOnTermination"));
+
     public NetworkInterfaceAttachmentChanges unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         NetworkInterfaceAttachmentChanges networkInterfaceAttachmentChanges = new NetworkInterfaceAttachmentChanges();
@@ -65,6 +68,10 @@ public class NetworkInterfaceAttachmentChangesStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkInterfaceAttachmentChanges;
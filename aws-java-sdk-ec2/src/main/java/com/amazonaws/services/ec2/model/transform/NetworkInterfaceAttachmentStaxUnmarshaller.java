@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NetworkInterfaceAttachmentStaxUnmarshaller implements
         Unmarshaller<NetworkInterfaceAttachment, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("attachmentId", "instanceId",
+                    "instanceOwnerId", "deviceIndex", "status", "attachTime",
+                    "deleteOnTermination"));
+
     public NetworkInterfaceAttachment unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         NetworkInterfaceAttachment networkInterfaceAttachment = new NetworkInterfaceAttachment();
@@ -98,6 +103,10 @@ public class NetworkInterfaceAttachmentStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkInterfaceAttachment;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NetworkInterfacePrivateIpAddressStaxUnmarshaller implements
         Unmarshaller<NetworkInterfacePrivateIpAddress, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("privateIpAddress", "privateDnsName",
+                    "primary", "association"));
+
     public NetworkInterfacePrivateIpAddress unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         NetworkInterfacePrivateIpAddress networkInterfacePrivateIpAddress = new NetworkInterfacePrivateIpAddress();
@@ -78,6 +82,10 @@ public class NetworkInterfacePrivateIpAddressStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkInterfacePrivateIpAddress;
@@ -35,6 +35,14 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class NetworkInterfaceStaxUnmarshaller implements
         Unmarshaller<NetworkInterface, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("networkInterfaceId", "subnetId", "vpcId",
+                    "availabilityZone", "description", "ownerId",
+                    "requesterId", "requesterManaged", "status", "macAddress",
+                    "privateIpAddress", "privateDnsName", "sourceDestCheck",
+                    "groupSet", "attachment", "association", "tagSet",
+                    "privateIpAddressesSet", "interfaceType"));
+
     public NetworkInterface unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         NetworkInterface networkInterface = new NetworkInterface();
@@ -170,6 +178,10 @@ public class NetworkInterfaceStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return networkInterface;
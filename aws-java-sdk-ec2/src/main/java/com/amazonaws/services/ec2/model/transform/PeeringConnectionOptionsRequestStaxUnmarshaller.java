@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PeeringConnectionOptionsRequestStaxUnmarshaller implements
         Unmarshaller<PeeringConnectionOptionsRequest, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList(
+                    "AllowEgressFromLocalClassicLinkToRemoteVpc",
+                    "AllowEgressFromLocalVpcToRemoteClassicLink"));
+
     public PeeringConnectionOptionsRequest unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         PeeringConnectionOptionsRequest peeringConnectionOptionsRequest = new PeeringConnectionOptionsRequest();
@@ -68,6 +73,10 @@ public class PeeringConnectionOptionsRequestStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return peeringConnectionOptionsRequest;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PeeringConnectionOptionsStaxUnmarshaller implements
         Unmarshaller<PeeringConnectionOptions, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList(
+                    "allowEgressFromLocalClassicLinkToRemoteVpc",
+                    "allowEgressFromLocalVpcToRemoteClassicLink"));
+
     public PeeringConnectionOptions unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PeeringConnectionOptions peeringConnectionOptions = new PeeringConnectionOptions();
@@ -68,6 +73,10 @@ public class PeeringConnectionOptionsStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return peeringConnectionOptions;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PlacementGroupStaxUnmarshaller implements
         Unmarshaller<PlacementGroup, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("groupName", "strategy", "state"));
+
     public PlacementGroup unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PlacementGroup placementGroup = new PlacementGroup();
@@ -68,6 +71,10 @@ public class PlacementGroupStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return placementGroup;
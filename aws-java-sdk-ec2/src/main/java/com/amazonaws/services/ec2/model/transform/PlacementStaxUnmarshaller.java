@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PlacementStaxUnmarshaller implements
         Unmarshaller<Placement, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("availabilityZone", "groupName", "tenancy",
+                    "hostId", "affinity"));
+
     public Placement unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         Placement placement = new Placement();
@@ -80,6 +84,10 @@ public class PlacementStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return placement;
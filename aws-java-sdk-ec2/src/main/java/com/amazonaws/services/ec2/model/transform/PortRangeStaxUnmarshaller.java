@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PortRangeStaxUnmarshaller implements
         Unmarshaller<PortRange, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("from", "to"));
+
     public PortRange unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PortRange portRange = new PortRange();
@@ -62,6 +65,10 @@ public class PortRangeStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return portRange;
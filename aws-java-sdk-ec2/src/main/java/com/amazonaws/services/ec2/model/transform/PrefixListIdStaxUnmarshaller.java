@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PrefixListIdStaxUnmarshaller implements
         Unmarshaller<PrefixListId, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("prefixListId"));
+
     public PrefixListId unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PrefixListId prefixListId = new PrefixListId();
@@ -56,6 +59,10 @@ public class PrefixListIdStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return prefixListId;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PrefixListStaxUnmarshaller implements
         Unmarshaller<PrefixList, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays
+                    .asList("prefixListId", "prefixListName", "cidrSet"));
+
     public PrefixList unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PrefixList prefixList = new PrefixList();
@@ -69,6 +73,10 @@ public class PrefixListStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return prefixList;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PriceScheduleSpecificationStaxUnmarshaller implements
         Unmarshaller<PriceScheduleSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("term", "price", "currencyCode"));
+
     public PriceScheduleSpecification unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PriceScheduleSpecification priceScheduleSpecification = new PriceScheduleSpecification();
@@ -69,6 +72,10 @@ public class PriceScheduleSpecificationStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return priceScheduleSpecification;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PriceScheduleStaxUnmarshaller implements
         Unmarshaller<PriceSchedule, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("term", "price", "currencyCode", "active"));
+
     public PriceSchedule unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PriceSchedule priceSchedule = new PriceSchedule();
@@ -74,6 +77,10 @@ public class PriceScheduleStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return priceSchedule;
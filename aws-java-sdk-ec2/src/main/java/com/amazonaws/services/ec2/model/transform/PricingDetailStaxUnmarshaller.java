@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PricingDetailStaxUnmarshaller implements
         Unmarshaller<PricingDetail, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("price", "count"));
+
     public PricingDetail unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PricingDetail pricingDetail = new PricingDetail();
@@ -62,6 +65,10 @@ public class PricingDetailStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return pricingDetail;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PrivateIpAddressSpecificationStaxUnmarshaller implements
         Unmarshaller<PrivateIpAddressSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("privateIpAddress", "primary"));
+
     public PrivateIpAddressSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         PrivateIpAddressSpecification privateIpAddressSpecification = new PrivateIpAddressSpecification();
@@ -64,6 +67,10 @@ public class PrivateIpAddressSpecificationStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return privateIpAddressSpecification;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ProductCodeStaxUnmarshaller implements
         Unmarshaller<ProductCode, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("productCode", "type"));
+
     public ProductCode unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ProductCode productCode = new ProductCode();
@@ -62,6 +65,10 @@ public class ProductCodeStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return productCode;
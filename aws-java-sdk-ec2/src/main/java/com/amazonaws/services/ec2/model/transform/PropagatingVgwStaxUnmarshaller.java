@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PropagatingVgwStaxUnmarshaller implements
         Unmarshaller<PropagatingVgw, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("gatewayId"));
+
     public PropagatingVgw unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PropagatingVgw propagatingVgw = new PropagatingVgw();
@@ -56,6 +59,10 @@ public class PropagatingVgwStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return propagatingVgw;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ProvisionedBandwidthStaxUnmarshaller implements
         Unmarshaller<ProvisionedBandwidth, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("provisioned", "requested", "requestTime",
+                    "provisionTime", "status"));
+
     public ProvisionedBandwidth unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ProvisionedBandwidth provisionedBandwidth = new ProvisionedBandwidth();
@@ -80,6 +84,10 @@ public class ProvisionedBandwidthStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return provisionedBandwidth;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PurchaseRequestStaxUnmarshaller implements
         Unmarshaller<PurchaseRequest, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("PurchaseToken", "InstanceCount"));
+
     public PurchaseRequest unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         PurchaseRequest purchaseRequest = new PurchaseRequest();
@@ -62,6 +65,10 @@ public class PurchaseRequestStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return purchaseRequest;
@@ -36,6 +36,9 @@ public class PurchaseReservedInstancesOfferingResultStaxUnmarshaller
         implements
         Unmarshaller<PurchaseReservedInstancesOfferingResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesId"));
+
     public PurchaseReservedInstancesOfferingResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         PurchaseReservedInstancesOfferingResult purchaseReservedInstancesOfferingResult = new PurchaseReservedInstancesOfferingResult();
@@ -58,6 +61,10 @@ public class PurchaseReservedInstancesOfferingResultStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return purchaseReservedInstancesOfferingResult;
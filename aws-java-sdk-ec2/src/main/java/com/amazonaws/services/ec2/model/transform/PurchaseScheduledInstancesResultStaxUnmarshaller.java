@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class PurchaseScheduledInstancesResultStaxUnmarshaller implements
         Unmarshaller<PurchaseScheduledInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("scheduledInstanceSet"));
+
     public PurchaseScheduledInstancesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         PurchaseScheduledInstancesResult purchaseScheduledInstancesResult = new PurchaseScheduledInstancesResult();
@@ -59,6 +62,10 @@ public class PurchaseScheduledInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return purchaseScheduledInstancesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RecurringChargeStaxUnmarshaller implements
         Unmarshaller<RecurringCharge, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("frequency", "amount"));
+
     public RecurringCharge unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         RecurringCharge recurringCharge = new RecurringCharge();
@@ -62,6 +65,10 @@ public class RecurringChargeStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return recurringCharge;
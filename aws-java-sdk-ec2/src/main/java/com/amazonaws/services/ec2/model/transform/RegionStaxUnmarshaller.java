@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RegionStaxUnmarshaller implements
         Unmarshaller<Region, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("regionName", "regionEndpoint"));
+
     public Region unmarshall(StaxUnmarshallerContext context) throws Exception {
         Region region = new Region();
         int originalDepth = context.getCurrentDepth();
@@ -61,6 +64,10 @@ public class RegionStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return region;
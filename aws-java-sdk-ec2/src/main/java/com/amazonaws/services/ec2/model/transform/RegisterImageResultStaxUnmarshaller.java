@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RegisterImageResultStaxUnmarshaller implements
         Unmarshaller<RegisterImageResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("imageId"));
+
     public RegisterImageResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         RegisterImageResult registerImageResult = new RegisterImageResult();
@@ -56,6 +59,10 @@ public class RegisterImageResultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return registerImageResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RejectVpcPeeringConnectionResultStaxUnmarshaller implements
         Unmarshaller<RejectVpcPeeringConnectionResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("return"));
+
     public RejectVpcPeeringConnectionResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         RejectVpcPeeringConnectionResult rejectVpcPeeringConnectionResult = new RejectVpcPeeringConnectionResult();
@@ -57,6 +60,10 @@ public class RejectVpcPeeringConnectionResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return rejectVpcPeeringConnectionResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReleaseHostsResultStaxUnmarshaller implements
         Unmarshaller<ReleaseHostsResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("successful", "unsuccessful"));
+
     public ReleaseHostsResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ReleaseHostsResult releaseHostsResult = new ReleaseHostsResult();
@@ -64,6 +67,10 @@ public class ReleaseHostsResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return releaseHostsResult;
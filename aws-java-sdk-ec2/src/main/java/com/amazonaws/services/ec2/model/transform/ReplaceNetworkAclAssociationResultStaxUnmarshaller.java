@@ -36,6 +36,9 @@ public class ReplaceNetworkAclAssociationResultStaxUnmarshaller
         implements
         Unmarshaller<ReplaceNetworkAclAssociationResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("newAssociationId"));
+
     public ReplaceNetworkAclAssociationResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ReplaceNetworkAclAssociationResult replaceNetworkAclAssociationResult = new ReplaceNetworkAclAssociationResult();
@@ -58,6 +61,10 @@ public class ReplaceNetworkAclAssociationResultStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return replaceNetworkAclAssociationResult;
@@ -36,6 +36,9 @@ public class ReplaceRouteTableAssociationResultStaxUnmarshaller
         implements
         Unmarshaller<ReplaceRouteTableAssociationResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("newAssociationId"));
+
     public ReplaceRouteTableAssociationResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ReplaceRouteTableAssociationResult replaceRouteTableAssociationResult = new ReplaceRouteTableAssociationResult();
@@ -58,6 +61,10 @@ public class ReplaceRouteTableAssociationResultStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return replaceRouteTableAssociationResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RequestSpotFleetResultStaxUnmarshaller implements
         Unmarshaller<RequestSpotFleetResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotFleetRequestId"));
+
     public RequestSpotFleetResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         RequestSpotFleetResult requestSpotFleetResult = new RequestSpotFleetResult();
@@ -57,6 +60,10 @@ public class RequestSpotFleetResultStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return requestSpotFleetResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RequestSpotInstancesResultStaxUnmarshaller implements
         Unmarshaller<RequestSpotInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotInstanceRequestSet"));
+
     public RequestSpotInstancesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         RequestSpotInstancesResult requestSpotInstancesResult = new RequestSpotInstancesResult();
@@ -59,6 +62,10 @@ public class RequestSpotInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return requestSpotInstancesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReservedInstanceLimitPriceStaxUnmarshaller implements
         Unmarshaller<ReservedInstanceLimitPrice, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("amount", "currencyCode"));
+
     public ReservedInstanceLimitPrice unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ReservedInstanceLimitPrice reservedInstanceLimitPrice = new ReservedInstanceLimitPrice();
@@ -63,6 +66,10 @@ public class ReservedInstanceLimitPriceStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstanceLimitPrice;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReservedInstancesConfigurationStaxUnmarshaller implements
         Unmarshaller<ReservedInstancesConfiguration, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("availabilityZone", "platform",
+                    "instanceCount", "instanceType"));
+
     public ReservedInstancesConfiguration unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ReservedInstancesConfiguration reservedInstancesConfiguration = new ReservedInstancesConfiguration();
@@ -78,6 +82,10 @@ public class ReservedInstancesConfigurationStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstancesConfiguration;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReservedInstancesIdStaxUnmarshaller implements
         Unmarshaller<ReservedInstancesId, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesId"));
+
     public ReservedInstancesId unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ReservedInstancesId reservedInstancesId = new ReservedInstancesId();
@@ -57,6 +60,10 @@ public class ReservedInstancesIdStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstancesId;
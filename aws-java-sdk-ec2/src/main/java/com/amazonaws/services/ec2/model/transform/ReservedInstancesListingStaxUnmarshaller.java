@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReservedInstancesListingStaxUnmarshaller implements
         Unmarshaller<ReservedInstancesListing, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesListingId",
+                    "reservedInstancesId", "createDate", "updateDate",
+                    "status", "statusMessage", "instanceCounts",
+                    "priceSchedules", "tagSet", "clientToken"));
+
     public ReservedInstancesListing unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ReservedInstancesListing reservedInstancesListing = new ReservedInstancesListing();
@@ -117,6 +123,10 @@ public class ReservedInstancesListingStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstancesListing;
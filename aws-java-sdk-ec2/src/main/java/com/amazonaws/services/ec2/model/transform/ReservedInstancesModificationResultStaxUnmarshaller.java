@@ -36,6 +36,10 @@ public class ReservedInstancesModificationResultStaxUnmarshaller
         implements
         Unmarshaller<ReservedInstancesModificationResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesId",
+                    "targetConfiguration"));
+
     public ReservedInstancesModificationResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ReservedInstancesModificationResult reservedInstancesModificationResult = new ReservedInstancesModificationResult();
@@ -65,6 +69,10 @@ public class ReservedInstancesModificationResultStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstancesModificationResult;
@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReservedInstancesModificationStaxUnmarshaller implements
         Unmarshaller<ReservedInstancesModification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesModificationId",
+                    "reservedInstancesSet", "modificationResultSet",
+                    "createDate", "updateDate", "effectiveDate", "status",
+                    "statusMessage", "clientToken"));
+
     public ReservedInstancesModification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ReservedInstancesModification reservedInstancesModification = new ReservedInstancesModification();
@@ -116,6 +122,10 @@ public class ReservedInstancesModificationStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstancesModification;
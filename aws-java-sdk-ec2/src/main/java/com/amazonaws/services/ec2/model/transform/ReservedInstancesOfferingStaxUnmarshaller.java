@@ -35,6 +35,13 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReservedInstancesOfferingStaxUnmarshaller implements
         Unmarshaller<ReservedInstancesOffering, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesOfferingId",
+                    "instanceType", "availabilityZone", "duration",
+                    "usagePrice", "fixedPrice", "productDescription",
+                    "instanceTenancy", "currencyCode", "offeringType",
+                    "recurringCharges", "marketplace", "pricingDetailsSet"));
+
     public ReservedInstancesOffering unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ReservedInstancesOffering reservedInstancesOffering = new ReservedInstancesOffering();
@@ -144,6 +151,10 @@ public class ReservedInstancesOfferingStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstancesOffering;
@@ -35,6 +35,13 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ReservedInstancesStaxUnmarshaller implements
         Unmarshaller<ReservedInstances, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("reservedInstancesId", "instanceType",
+                    "availabilityZone", "start", "end", "duration",
+                    "usagePrice", "fixedPrice", "instanceCount",
+                    "productDescription", "state", "tagSet", "instanceTenancy",
+                    "currencyCode", "offeringType", "recurringCharges"));
+
     public ReservedInstances unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ReservedInstances reservedInstances = new ReservedInstances();
@@ -152,6 +159,10 @@ public class ReservedInstancesStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return reservedInstances;
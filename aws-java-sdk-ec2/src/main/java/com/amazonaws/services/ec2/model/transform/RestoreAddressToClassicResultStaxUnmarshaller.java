@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RestoreAddressToClassicResultStaxUnmarshaller implements
         Unmarshaller<RestoreAddressToClassicResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("status", "publicIp"));
+
     public RestoreAddressToClassicResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         RestoreAddressToClassicResult restoreAddressToClassicResult = new RestoreAddressToClassicResult();
@@ -64,6 +67,10 @@ public class RestoreAddressToClassicResultStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return restoreAddressToClassicResult;
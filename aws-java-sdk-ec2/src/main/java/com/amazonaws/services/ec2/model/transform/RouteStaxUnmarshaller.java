@@ -35,6 +35,13 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RouteStaxUnmarshaller implements
         Unmarshaller<Route, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays
+                    .asList("destinationCidrBlock", "destinationPrefixListId",
+                            "gatewayId", "instanceId", "instanceOwnerId",
+                            "networkInterfaceId", "vpcPeeringConnectionId",
+                            "natGatewayId", "state", "origin"));
+
     public Route unmarshall(StaxUnmarshallerContext context) throws Exception {
         Route route = new Route();
         int originalDepth = context.getCurrentDepth();
@@ -111,6 +118,10 @@ public class RouteStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return route;
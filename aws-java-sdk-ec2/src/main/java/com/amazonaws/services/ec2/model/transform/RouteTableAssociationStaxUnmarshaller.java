@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RouteTableAssociationStaxUnmarshaller implements
         Unmarshaller<RouteTableAssociation, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("routeTableAssociationId", "routeTableId",
+                    "subnetId", "main"));
+
     public RouteTableAssociation unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         RouteTableAssociation routeTableAssociation = new RouteTableAssociation();
@@ -77,6 +81,10 @@ public class RouteTableAssociationStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return routeTableAssociation;
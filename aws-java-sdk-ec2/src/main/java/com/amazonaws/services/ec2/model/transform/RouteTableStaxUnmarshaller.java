@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RouteTableStaxUnmarshaller implements
         Unmarshaller<RouteTable, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("routeTableId", "vpcId", "routeSet",
+                    "associationSet", "tagSet", "propagatingVgwSet"));
+
     public RouteTable unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         RouteTable routeTable = new RouteTable();
@@ -90,6 +94,10 @@ public class RouteTableStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return routeTable;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class RunScheduledInstancesResultStaxUnmarshaller implements
         Unmarshaller<RunScheduledInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceIdSet"));
+
     public RunScheduledInstancesResult unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         RunScheduledInstancesResult runScheduledInstancesResult = new RunScheduledInstancesResult();
@@ -58,6 +61,10 @@ public class RunScheduledInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return runScheduledInstancesResult;
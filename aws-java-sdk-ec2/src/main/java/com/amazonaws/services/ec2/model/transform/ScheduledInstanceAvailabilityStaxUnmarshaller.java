@@ -35,6 +35,14 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ScheduledInstanceAvailabilityStaxUnmarshaller implements
         Unmarshaller<ScheduledInstanceAvailability, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceType", "platform",
+                    "networkPlatform", "availabilityZone", "purchaseToken",
+                    "slotDurationInHours", "recurrence", "firstSlotStartTime",
+                    "hourlyPrice", "totalScheduledInstanceHours",
+                    "availableInstanceCount", "minTermDurationInDays",
+                    "maxTermDurationInDays"));
+
     public ScheduledInstanceAvailability unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstanceAvailability scheduledInstanceAvailability = new ScheduledInstanceAvailability();
@@ -145,6 +153,10 @@ public class ScheduledInstanceAvailabilityStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstanceAvailability;
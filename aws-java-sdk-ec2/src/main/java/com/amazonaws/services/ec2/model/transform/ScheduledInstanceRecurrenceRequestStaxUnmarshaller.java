@@ -36,6 +36,10 @@ public class ScheduledInstanceRecurrenceRequestStaxUnmarshaller
         implements
         Unmarshaller<ScheduledInstanceRecurrenceRequest, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Frequency", "Interval", "OccurrenceDay",
+                    "OccurrenceRelativeToEnd", "OccurrenceUnit"));
+
     public ScheduledInstanceRecurrenceRequest unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstanceRecurrenceRequest scheduledInstanceRecurrenceRequest = new ScheduledInstanceRecurrenceRequest();
@@ -88,6 +92,10 @@ public class ScheduledInstanceRecurrenceRequestStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstanceRecurrenceRequest;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ScheduledInstanceRecurrenceStaxUnmarshaller implements
         Unmarshaller<ScheduledInstanceRecurrence, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("frequency", "interval",
+                    "occurrenceDaySet", "occurrenceRelativeToEnd",
+                    "occurrenceUnit"));
+
     public ScheduledInstanceRecurrence unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstanceRecurrence scheduledInstanceRecurrence = new ScheduledInstanceRecurrence();
@@ -87,6 +92,10 @@ public class ScheduledInstanceRecurrenceStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstanceRecurrence;
@@ -35,6 +35,14 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ScheduledInstanceStaxUnmarshaller implements
         Unmarshaller<ScheduledInstance, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("scheduledInstanceId", "instanceType",
+                    "platform", "networkPlatform", "availabilityZone",
+                    "slotDurationInHours", "recurrence", "previousSlotEndTime",
+                    "nextSlotStartTime", "hourlyPrice",
+                    "totalScheduledInstanceHours", "instanceCount",
+                    "termStartDate", "termEndDate", "createDate"));
+
     public ScheduledInstance unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ScheduledInstance scheduledInstance = new ScheduledInstance();
@@ -147,6 +155,10 @@ public class ScheduledInstanceStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstance;
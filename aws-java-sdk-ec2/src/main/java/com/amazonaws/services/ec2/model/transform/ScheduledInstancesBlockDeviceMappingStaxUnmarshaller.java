@@ -36,6 +36,10 @@ public class ScheduledInstancesBlockDeviceMappingStaxUnmarshaller
         implements
         Unmarshaller<ScheduledInstancesBlockDeviceMapping, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("DeviceName", "NoDevice", "VirtualName",
+                    "Ebs"));
+
     public ScheduledInstancesBlockDeviceMapping unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstancesBlockDeviceMapping scheduledInstancesBlockDeviceMapping = new ScheduledInstancesBlockDeviceMapping();
@@ -79,6 +83,10 @@ public class ScheduledInstancesBlockDeviceMappingStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesBlockDeviceMapping;
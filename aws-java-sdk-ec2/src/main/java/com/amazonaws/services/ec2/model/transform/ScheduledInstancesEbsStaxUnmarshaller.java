@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ScheduledInstancesEbsStaxUnmarshaller implements
         Unmarshaller<ScheduledInstancesEbs, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("SnapshotId", "VolumeSize",
+                    "DeleteOnTermination", "VolumeType", "Iops", "Encrypted"));
+
     public ScheduledInstancesEbs unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         ScheduledInstancesEbs scheduledInstancesEbs = new ScheduledInstancesEbs();
@@ -87,6 +91,10 @@ public class ScheduledInstancesEbsStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesEbs;
@@ -36,6 +36,9 @@ public class ScheduledInstancesIamInstanceProfileStaxUnmarshaller
         implements
         Unmarshaller<ScheduledInstancesIamInstanceProfile, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Arn", "Name"));
+
     public ScheduledInstancesIamInstanceProfile unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstancesIamInstanceProfile scheduledInstancesIamInstanceProfile = new ScheduledInstancesIamInstanceProfile();
@@ -65,6 +68,10 @@ public class ScheduledInstancesIamInstanceProfileStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesIamInstanceProfile;
@@ -36,6 +36,13 @@ public class ScheduledInstancesLaunchSpecificationStaxUnmarshaller
         implements
         Unmarshaller<ScheduledInstancesLaunchSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("ImageId", "KeyName", "SecurityGroupId",
+                    "UserData", "Placement", "KernelId", "InstanceType",
+                    "RamdiskId", "BlockDeviceMapping", "Monitoring",
+                    "SubnetId", "NetworkInterface", "IamInstanceProfile",
+                    "EbsOptimized"));
+
     public ScheduledInstancesLaunchSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstancesLaunchSpecification scheduledInstancesLaunchSpecification = new ScheduledInstancesLaunchSpecification();
@@ -152,6 +159,10 @@ public class ScheduledInstancesLaunchSpecificationStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesLaunchSpecification;
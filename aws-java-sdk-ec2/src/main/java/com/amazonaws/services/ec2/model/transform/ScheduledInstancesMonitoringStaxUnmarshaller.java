@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ScheduledInstancesMonitoringStaxUnmarshaller implements
         Unmarshaller<ScheduledInstancesMonitoring, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Enabled"));
+
     public ScheduledInstancesMonitoring unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstancesMonitoring scheduledInstancesMonitoring = new ScheduledInstancesMonitoring();
@@ -57,6 +60,10 @@ public class ScheduledInstancesMonitoringStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesMonitoring;
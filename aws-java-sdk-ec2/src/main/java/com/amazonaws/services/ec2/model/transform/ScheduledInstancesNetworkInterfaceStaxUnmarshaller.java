@@ -36,6 +36,12 @@ public class ScheduledInstancesNetworkInterfaceStaxUnmarshaller
         implements
         Unmarshaller<ScheduledInstancesNetworkInterface, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("NetworkInterfaceId", "DeviceIndex",
+                    "SubnetId", "Description", "PrivateIpAddress",
+                    "PrivateIpAddressConfig", "SecondaryPrivateIpAddressCount",
+                    "AssociatePublicIpAddress", "Group", "DeleteOnTermination"));
+
     public ScheduledInstancesNetworkInterface unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstancesNetworkInterface scheduledInstancesNetworkInterface = new ScheduledInstancesNetworkInterface();
@@ -126,6 +132,10 @@ public class ScheduledInstancesNetworkInterfaceStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesNetworkInterface;
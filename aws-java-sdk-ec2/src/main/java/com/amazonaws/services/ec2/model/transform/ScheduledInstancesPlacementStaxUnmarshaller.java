@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class ScheduledInstancesPlacementStaxUnmarshaller implements
         Unmarshaller<ScheduledInstancesPlacement, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("AvailabilityZone", "GroupName"));
+
     public ScheduledInstancesPlacement unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstancesPlacement scheduledInstancesPlacement = new ScheduledInstancesPlacement();
@@ -64,6 +67,10 @@ public class ScheduledInstancesPlacementStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesPlacement;
@@ -36,6 +36,9 @@ public class ScheduledInstancesPrivateIpAddressConfigStaxUnmarshaller
         implements
         Unmarshaller<ScheduledInstancesPrivateIpAddressConfig, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("PrivateIpAddress", "Primary"));
+
     public ScheduledInstancesPrivateIpAddressConfig unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         ScheduledInstancesPrivateIpAddressConfig scheduledInstancesPrivateIpAddressConfig = new ScheduledInstancesPrivateIpAddressConfig();
@@ -65,6 +68,10 @@ public class ScheduledInstancesPrivateIpAddressConfigStaxUnmarshaller
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return scheduledInstancesPrivateIpAddressConfig;
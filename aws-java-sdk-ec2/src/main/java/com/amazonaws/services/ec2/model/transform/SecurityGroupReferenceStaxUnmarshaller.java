@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SecurityGroupReferenceStaxUnmarshaller implements
         Unmarshaller<SecurityGroupReference, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("groupId", "referencingVpcId",
+                    "vpcPeeringConnectionId"));
+
     public SecurityGroupReference unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SecurityGroupReference securityGroupReference = new SecurityGroupReference();
@@ -71,6 +75,10 @@ public class SecurityGroupReferenceStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return securityGroupReference;
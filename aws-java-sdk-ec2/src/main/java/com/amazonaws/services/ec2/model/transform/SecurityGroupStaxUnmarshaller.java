@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SecurityGroupStaxUnmarshaller implements
         Unmarshaller<SecurityGroup, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("ownerId", "groupName", "groupId",
+                    "groupDescription", "ipPermissions", "ipPermissionsEgress",
+                    "vpcId", "tagSet"));
+
     public SecurityGroup unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SecurityGroup securityGroup = new SecurityGroup();
@@ -102,6 +107,10 @@ public class SecurityGroupStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return securityGroup;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SlotDateTimeRangeRequestStaxUnmarshaller implements
         Unmarshaller<SlotDateTimeRangeRequest, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("EarliestTime", "LatestTime"));
+
     public SlotDateTimeRangeRequest unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SlotDateTimeRangeRequest slotDateTimeRangeRequest = new SlotDateTimeRangeRequest();
@@ -63,6 +66,10 @@ public class SlotDateTimeRangeRequestStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return slotDateTimeRangeRequest;
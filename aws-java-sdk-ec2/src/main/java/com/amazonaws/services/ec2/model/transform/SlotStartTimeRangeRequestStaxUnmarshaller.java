@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SlotStartTimeRangeRequestStaxUnmarshaller implements
         Unmarshaller<SlotStartTimeRangeRequest, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("EarliestTime", "LatestTime"));
+
     public SlotStartTimeRangeRequest unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SlotStartTimeRangeRequest slotStartTimeRangeRequest = new SlotStartTimeRangeRequest();
@@ -64,6 +67,10 @@ public class SlotStartTimeRangeRequestStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return slotStartTimeRangeRequest;
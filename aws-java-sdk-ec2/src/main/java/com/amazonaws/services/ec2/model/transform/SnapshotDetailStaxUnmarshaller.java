@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SnapshotDetailStaxUnmarshaller implements
         Unmarshaller<SnapshotDetail, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("diskImageSize", "description", "format",
+                    "url", "userBucket", "deviceName", "snapshotId",
+                    "progress", "statusMessage", "status"));
+
     public SnapshotDetail unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SnapshotDetail snapshotDetail = new SnapshotDetail();
@@ -111,6 +116,10 @@ public class SnapshotDetailStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return snapshotDetail;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SnapshotDiskContainerStaxUnmarshaller implements
         Unmarshaller<SnapshotDiskContainer, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("Description", "Format", "Url",
+                    "UserBucket"));
+
     public SnapshotDiskContainer unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SnapshotDiskContainer snapshotDiskContainer = new SnapshotDiskContainer();
@@ -75,6 +79,10 @@ public class SnapshotDiskContainerStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return snapshotDiskContainer;
@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SnapshotStaxUnmarshaller implements
         Unmarshaller<Snapshot, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("snapshotId", "volumeId", "status",
+                    "statusMessage", "startTime", "progress", "ownerId",
+                    "description", "volumeSize", "ownerAlias", "tagSet",
+                    "encrypted", "kmsKeyId", "dataEncryptionKeyId"));
+
     public Snapshot unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         Snapshot snapshot = new Snapshot();
@@ -134,6 +140,10 @@ public class SnapshotStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return snapshot;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SnapshotTaskDetailStaxUnmarshaller implements
         Unmarshaller<SnapshotTaskDetail, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("diskImageSize", "description", "format",
+                    "url", "userBucket", "snapshotId", "progress",
+                    "statusMessage", "status"));
+
     public SnapshotTaskDetail unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SnapshotTaskDetail snapshotTaskDetail = new SnapshotTaskDetail();
@@ -105,6 +110,10 @@ public class SnapshotTaskDetailStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return snapshotTaskDetail;
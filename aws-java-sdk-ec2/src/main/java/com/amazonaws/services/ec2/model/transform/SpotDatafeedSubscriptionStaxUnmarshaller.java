@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotDatafeedSubscriptionStaxUnmarshaller implements
         Unmarshaller<SpotDatafeedSubscription, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("ownerId", "bucket", "prefix", "state",
+                    "fault"));
+
     public SpotDatafeedSubscription unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotDatafeedSubscription spotDatafeedSubscription = new SpotDatafeedSubscription();
@@ -81,6 +85,10 @@ public class SpotDatafeedSubscriptionStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotDatafeedSubscription;
@@ -35,6 +35,14 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotFleetLaunchSpecificationStaxUnmarshaller implements
         Unmarshaller<SpotFleetLaunchSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("imageId", "keyName", "groupSet",
+                    "userData", "addressingType", "instanceType", "placement",
+                    "kernelId", "ramdiskId", "blockDeviceMapping",
+                    "monitoring", "subnetId", "networkInterfaceSet",
+                    "iamInstanceProfile", "ebsOptimized", "weightedCapacity",
+                    "spotPrice"));
+
     public SpotFleetLaunchSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         SpotFleetLaunchSpecification spotFleetLaunchSpecification = new SpotFleetLaunchSpecification();
@@ -171,6 +179,10 @@ public class SpotFleetLaunchSpecificationStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotFleetLaunchSpecification;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotFleetMonitoringStaxUnmarshaller implements
         Unmarshaller<SpotFleetMonitoring, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("enabled"));
+
     public SpotFleetMonitoring unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotFleetMonitoring spotFleetMonitoring = new SpotFleetMonitoring();
@@ -56,6 +59,10 @@ public class SpotFleetMonitoringStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotFleetMonitoring;
@@ -35,6 +35,13 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotFleetRequestConfigDataStaxUnmarshaller implements
         Unmarshaller<SpotFleetRequestConfigData, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("clientToken", "spotPrice",
+                    "targetCapacity", "validFrom", "validUntil",
+                    "terminateInstancesWithExpiration", "iamFleetRole",
+                    "launchSpecifications", "excessCapacityTerminationPolicy",
+                    "allocationStrategy", "fulfilledCapacity", "type"));
+
     public SpotFleetRequestConfigData unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotFleetRequestConfigData spotFleetRequestConfigData = new SpotFleetRequestConfigData();
@@ -136,6 +143,10 @@ public class SpotFleetRequestConfigDataStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotFleetRequestConfigData;
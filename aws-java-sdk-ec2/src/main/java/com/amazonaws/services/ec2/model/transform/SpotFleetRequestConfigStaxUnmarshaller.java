@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotFleetRequestConfigStaxUnmarshaller implements
         Unmarshaller<SpotFleetRequestConfig, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotFleetRequestId",
+                    "spotFleetRequestState", "spotFleetRequestConfig",
+                    "createTime"));
+
     public SpotFleetRequestConfig unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotFleetRequestConfig spotFleetRequestConfig = new SpotFleetRequestConfig();
@@ -79,6 +84,10 @@ public class SpotFleetRequestConfigStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotFleetRequestConfig;
@@ -35,6 +35,15 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotInstanceRequestStaxUnmarshaller implements
         Unmarshaller<SpotInstanceRequest, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("spotInstanceRequestId", "spotPrice",
+                    "type", "state", "fault", "status", "validFrom",
+                    "validUntil", "launchGroup", "availabilityZoneGroup",
+                    "launchSpecification", "instanceId", "createTime",
+                    "productDescription", "blockDurationMinutes",
+                    "actualBlockHourlyPrice", "tagSet",
+                    "launchedAvailabilityZone"));
+
     public SpotInstanceRequest unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotInstanceRequest spotInstanceRequest = new SpotInstanceRequest();
@@ -171,6 +180,10 @@ public class SpotInstanceRequestStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotInstanceRequest;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotInstanceStateFaultStaxUnmarshaller implements
         Unmarshaller<SpotInstanceStateFault, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "message"));
+
     public SpotInstanceStateFault unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotInstanceStateFault spotInstanceStateFault = new SpotInstanceStateFault();
@@ -62,6 +65,10 @@ public class SpotInstanceStateFaultStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotInstanceStateFault;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotInstanceStatusStaxUnmarshaller implements
         Unmarshaller<SpotInstanceStatus, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "updateTime", "message"));
+
     public SpotInstanceStatus unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotInstanceStatus spotInstanceStatus = new SpotInstanceStatus();
@@ -68,6 +71,10 @@ public class SpotInstanceStatusStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotInstanceStatus;
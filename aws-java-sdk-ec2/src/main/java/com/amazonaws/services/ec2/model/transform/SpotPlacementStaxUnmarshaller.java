@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotPlacementStaxUnmarshaller implements
         Unmarshaller<SpotPlacement, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("availabilityZone", "groupName"));
+
     public SpotPlacement unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotPlacement spotPlacement = new SpotPlacement();
@@ -62,6 +65,10 @@ public class SpotPlacementStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotPlacement;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SpotPriceStaxUnmarshaller implements
         Unmarshaller<SpotPrice, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instanceType", "productDescription",
+                    "spotPrice", "timestamp", "availabilityZone"));
+
     public SpotPrice unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         SpotPrice spotPrice = new SpotPrice();
@@ -80,6 +84,10 @@ public class SpotPriceStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return spotPrice;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class StaleIpPermissionStaxUnmarshaller implements
         Unmarshaller<StaleIpPermission, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("fromPort", "ipProtocol", "ipRanges",
+                    "prefixListIds", "toPort", "groups"));
+
     public StaleIpPermission unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         StaleIpPermission staleIpPermission = new StaleIpPermission();
@@ -88,6 +92,10 @@ public class StaleIpPermissionStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return staleIpPermission;
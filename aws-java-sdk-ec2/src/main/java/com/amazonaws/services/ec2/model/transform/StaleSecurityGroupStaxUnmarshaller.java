@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class StaleSecurityGroupStaxUnmarshaller implements
         Unmarshaller<StaleSecurityGroup, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("groupId", "groupName", "description",
+                    "vpcId", "staleIpPermissions", "staleIpPermissionsEgress"));
+
     public StaleSecurityGroup unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         StaleSecurityGroup staleSecurityGroup = new StaleSecurityGroup();
@@ -91,6 +95,10 @@ public class StaleSecurityGroupStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return staleSecurityGroup;
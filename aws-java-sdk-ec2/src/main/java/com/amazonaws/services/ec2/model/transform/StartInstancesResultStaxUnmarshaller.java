@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class StartInstancesResultStaxUnmarshaller implements
         Unmarshaller<StartInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instancesSet"));
+
     public StartInstancesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         StartInstancesResult startInstancesResult = new StartInstancesResult();
@@ -58,6 +61,10 @@ public class StartInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return startInstancesResult;
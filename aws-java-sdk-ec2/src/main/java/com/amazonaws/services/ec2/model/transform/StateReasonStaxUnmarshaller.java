@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class StateReasonStaxUnmarshaller implements
         Unmarshaller<StateReason, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "message"));
+
     public StateReason unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         StateReason stateReason = new StateReason();
@@ -62,6 +65,10 @@ public class StateReasonStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return stateReason;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class StopInstancesResultStaxUnmarshaller implements
         Unmarshaller<StopInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instancesSet"));
+
     public StopInstancesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         StopInstancesResult stopInstancesResult = new StopInstancesResult();
@@ -58,6 +61,10 @@ public class StopInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return stopInstancesResult;
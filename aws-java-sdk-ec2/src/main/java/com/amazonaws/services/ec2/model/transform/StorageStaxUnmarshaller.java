@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class StorageStaxUnmarshaller implements
         Unmarshaller<Storage, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("S3"));
+
     public Storage unmarshall(StaxUnmarshallerContext context) throws Exception {
         Storage storage = new Storage();
         int originalDepth = context.getCurrentDepth();
@@ -55,6 +58,10 @@ public class StorageStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return storage;
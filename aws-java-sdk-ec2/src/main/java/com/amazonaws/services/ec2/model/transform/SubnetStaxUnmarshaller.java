@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class SubnetStaxUnmarshaller implements
         Unmarshaller<Subnet, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("subnetId", "state", "vpcId", "cidrBlock",
+                    "availableIpAddressCount", "availabilityZone",
+                    "defaultForAz", "mapPublicIpOnLaunch", "tagSet"));
+
     public Subnet unmarshall(StaxUnmarshallerContext context) throws Exception {
         Subnet subnet = new Subnet();
         int originalDepth = context.getCurrentDepth();
@@ -105,6 +110,10 @@ public class SubnetStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return subnet;
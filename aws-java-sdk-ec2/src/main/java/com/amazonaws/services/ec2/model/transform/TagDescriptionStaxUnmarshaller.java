@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class TagDescriptionStaxUnmarshaller implements
         Unmarshaller<TagDescription, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("resourceId", "resourceType", "key",
+                    "value"));
+
     public TagDescription unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         TagDescription tagDescription = new TagDescription();
@@ -74,6 +78,10 @@ public class TagDescriptionStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return tagDescription;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class TagStaxUnmarshaller implements
         Unmarshaller<Tag, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("key", "value"));
+
     public Tag unmarshall(StaxUnmarshallerContext context) throws Exception {
         Tag tag = new Tag();
         int originalDepth = context.getCurrentDepth();
@@ -61,6 +64,10 @@ public class TagStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return tag;
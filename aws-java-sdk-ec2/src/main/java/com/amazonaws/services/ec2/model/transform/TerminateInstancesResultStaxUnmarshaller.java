@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class TerminateInstancesResultStaxUnmarshaller implements
         Unmarshaller<TerminateInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instancesSet"));
+
     public TerminateInstancesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         TerminateInstancesResult terminateInstancesResult = new TerminateInstancesResult();
@@ -58,6 +61,10 @@ public class TerminateInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return terminateInstancesResult;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class UnmonitorInstancesResultStaxUnmarshaller implements
         Unmarshaller<UnmonitorInstancesResult, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("instancesSet"));
+
     public UnmonitorInstancesResult unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         UnmonitorInstancesResult unmonitorInstancesResult = new UnmonitorInstancesResult();
@@ -58,6 +61,10 @@ public class UnmonitorInstancesResultStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return unmonitorInstancesResult;
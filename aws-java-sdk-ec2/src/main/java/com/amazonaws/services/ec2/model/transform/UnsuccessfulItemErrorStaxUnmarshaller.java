@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class UnsuccessfulItemErrorStaxUnmarshaller implements
         Unmarshaller<UnsuccessfulItemError, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "message"));
+
     public UnsuccessfulItemError unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         UnsuccessfulItemError unsuccessfulItemError = new UnsuccessfulItemError();
@@ -62,6 +65,10 @@ public class UnsuccessfulItemErrorStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return unsuccessfulItemError;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class UnsuccessfulItemStaxUnmarshaller implements
         Unmarshaller<UnsuccessfulItem, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("resourceId", "error"));
+
     public UnsuccessfulItem unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         UnsuccessfulItem unsuccessfulItem = new UnsuccessfulItem();
@@ -63,6 +66,10 @@ public class UnsuccessfulItemStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return unsuccessfulItem;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class UserBucketDetailsStaxUnmarshaller implements
         Unmarshaller<UserBucketDetails, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("s3Bucket", "s3Key"));
+
     public UserBucketDetails unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         UserBucketDetails userBucketDetails = new UserBucketDetails();
@@ -62,6 +65,10 @@ public class UserBucketDetailsStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return userBucketDetails;
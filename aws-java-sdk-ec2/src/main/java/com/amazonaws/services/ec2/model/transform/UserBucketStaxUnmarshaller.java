@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class UserBucketStaxUnmarshaller implements
         Unmarshaller<UserBucket, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("S3Bucket", "S3Key"));
+
     public UserBucket unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         UserBucket userBucket = new UserBucket();
@@ -62,6 +65,10 @@ public class UserBucketStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return userBucket;
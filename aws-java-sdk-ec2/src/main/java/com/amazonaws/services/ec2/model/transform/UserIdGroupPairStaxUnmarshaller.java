@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class UserIdGroupPairStaxUnmarshaller implements
         Unmarshaller<UserIdGroupPair, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("userId", "groupName", "groupId", "vpcId",
+                    "vpcPeeringConnectionId", "peeringStatus"));
+
     public UserIdGroupPair unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         UserIdGroupPair userIdGroupPair = new UserIdGroupPair();
@@ -88,6 +92,10 @@ public class UserIdGroupPairStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return userIdGroupPair;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VgwTelemetryStaxUnmarshaller implements
         Unmarshaller<VgwTelemetry, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("outsideIpAddress", "status",
+                    "lastStatusChange", "statusMessage", "acceptedRouteCount"));
+
     public VgwTelemetry unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VgwTelemetry vgwTelemetry = new VgwTelemetry();
@@ -80,6 +84,10 @@ public class VgwTelemetryStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vgwTelemetry;
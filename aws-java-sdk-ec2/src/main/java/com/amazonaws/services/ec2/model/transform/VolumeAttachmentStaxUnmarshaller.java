@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeAttachmentStaxUnmarshaller implements
         Unmarshaller<VolumeAttachment, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumeId", "instanceId", "device",
+                    "status", "attachTime", "deleteOnTermination"));
+
     public VolumeAttachment unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VolumeAttachment volumeAttachment = new VolumeAttachment();
@@ -87,6 +91,10 @@ public class VolumeAttachmentStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volumeAttachment;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeDetailStaxUnmarshaller implements
         Unmarshaller<VolumeDetail, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("size"));
+
     public VolumeDetail unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VolumeDetail volumeDetail = new VolumeDetail();
@@ -56,6 +59,10 @@ public class VolumeDetailStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volumeDetail;
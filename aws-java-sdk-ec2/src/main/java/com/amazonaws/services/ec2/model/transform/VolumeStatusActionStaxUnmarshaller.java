@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeStatusActionStaxUnmarshaller implements
         Unmarshaller<VolumeStatusAction, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "description", "eventType",
+                    "eventId"));
+
     public VolumeStatusAction unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VolumeStatusAction volumeStatusAction = new VolumeStatusAction();
@@ -74,6 +78,10 @@ public class VolumeStatusActionStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volumeStatusAction;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeStatusDetailsStaxUnmarshaller implements
         Unmarshaller<VolumeStatusDetails, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("name", "status"));
+
     public VolumeStatusDetails unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VolumeStatusDetails volumeStatusDetails = new VolumeStatusDetails();
@@ -62,6 +65,10 @@ public class VolumeStatusDetailsStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volumeStatusDetails;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeStatusEventStaxUnmarshaller implements
         Unmarshaller<VolumeStatusEvent, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("eventType", "description", "notBefore",
+                    "notAfter", "eventId"));
+
     public VolumeStatusEvent unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VolumeStatusEvent volumeStatusEvent = new VolumeStatusEvent();
@@ -80,6 +84,10 @@ public class VolumeStatusEventStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volumeStatusEvent;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeStatusInfoStaxUnmarshaller implements
         Unmarshaller<VolumeStatusInfo, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("status", "details"));
+
     public VolumeStatusInfo unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VolumeStatusInfo volumeStatusInfo = new VolumeStatusInfo();
@@ -64,6 +67,10 @@ public class VolumeStatusInfoStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volumeStatusInfo;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeStatusItemStaxUnmarshaller implements
         Unmarshaller<VolumeStatusItem, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumeId", "availabilityZone",
+                    "volumeStatus", "eventsSet", "actionsSet"));
+
     public VolumeStatusItem unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VolumeStatusItem volumeStatusItem = new VolumeStatusItem();
@@ -84,6 +88,10 @@ public class VolumeStatusItemStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volumeStatusItem;
@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VolumeStaxUnmarshaller implements
         Unmarshaller<Volume, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("volumeId", "size", "snapshotId",
+                    "availabilityZone", "status", "createTime",
+                    "attachmentSet", "tagSet", "volumeType", "iops",
+                    "encrypted", "kmsKeyId"));
+
     public Volume unmarshall(StaxUnmarshallerContext context) throws Exception {
         Volume volume = new Volume();
         int originalDepth = context.getCurrentDepth();
@@ -121,6 +127,10 @@ public class VolumeStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return volume;
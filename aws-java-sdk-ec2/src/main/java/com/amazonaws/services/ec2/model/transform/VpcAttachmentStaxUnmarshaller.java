@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpcAttachmentStaxUnmarshaller implements
         Unmarshaller<VpcAttachment, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcId", "state"));
+
     public VpcAttachment unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpcAttachment vpcAttachment = new VpcAttachment();
@@ -62,6 +65,10 @@ public class VpcAttachmentStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpcAttachment;
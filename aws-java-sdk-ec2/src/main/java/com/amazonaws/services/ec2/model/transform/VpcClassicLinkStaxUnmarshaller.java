@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpcClassicLinkStaxUnmarshaller implements
         Unmarshaller<VpcClassicLink, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcId", "classicLinkEnabled", "tagSet"));
+
     public VpcClassicLink unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpcClassicLink vpcClassicLink = new VpcClassicLink();
@@ -70,6 +73,10 @@ public class VpcClassicLinkStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpcClassicLink;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpcEndpointStaxUnmarshaller implements
         Unmarshaller<VpcEndpoint, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcEndpointId", "vpcId", "serviceName",
+                    "state", "policyDocument", "routeTableIdSet",
+                    "creationTimestamp"));
+
     public VpcEndpoint unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpcEndpoint vpcEndpoint = new VpcEndpoint();
@@ -92,6 +97,10 @@ public class VpcEndpointStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpcEndpoint;
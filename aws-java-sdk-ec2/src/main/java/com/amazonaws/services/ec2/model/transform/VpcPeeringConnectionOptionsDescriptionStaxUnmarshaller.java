@@ -36,6 +36,11 @@ public class VpcPeeringConnectionOptionsDescriptionStaxUnmarshaller
         implements
         Unmarshaller<VpcPeeringConnectionOptionsDescription, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList(
+                    "allowEgressFromLocalClassicLinkToRemoteVpc",
+                    "allowEgressFromLocalVpcToRemoteClassicLink"));
+
     public VpcPeeringConnectionOptionsDescription unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         VpcPeeringConnectionOptionsDescription vpcPeeringConnectionOptionsDescription = new VpcPeeringConnectionOptionsDescription();
@@ -69,6 +74,10 @@ public class VpcPeeringConnectionOptionsDescriptionStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpcPeeringConnectionOptionsDescription;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpcPeeringConnectionStateReasonStaxUnmarshaller implements
         Unmarshaller<VpcPeeringConnectionStateReason, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("code", "message"));
+
     public VpcPeeringConnectionStateReason unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         VpcPeeringConnectionStateReason vpcPeeringConnectionStateReason = new VpcPeeringConnectionStateReason();
@@ -64,6 +67,10 @@ public class VpcPeeringConnectionStateReasonStaxUnmarshaller implements
                                     .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpcPeeringConnectionStateReason;
@@ -35,6 +35,11 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpcPeeringConnectionStaxUnmarshaller implements
         Unmarshaller<VpcPeeringConnection, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("accepterVpcInfo", "expirationTime",
+                    "requesterVpcInfo", "status", "tagSet",
+                    "vpcPeeringConnectionId"));
+
     public VpcPeeringConnection unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpcPeeringConnection vpcPeeringConnection = new VpcPeeringConnection();
@@ -91,6 +96,10 @@ public class VpcPeeringConnectionStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpcPeeringConnection;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpcPeeringConnectionVpcInfoStaxUnmarshaller implements
         Unmarshaller<VpcPeeringConnectionVpcInfo, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("cidrBlock", "ownerId", "vpcId",
+                    "peeringOptions"));
+
     public VpcPeeringConnectionVpcInfo unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         VpcPeeringConnectionVpcInfo vpcPeeringConnectionVpcInfo = new VpcPeeringConnectionVpcInfo();
@@ -77,6 +81,10 @@ public class VpcPeeringConnectionVpcInfoStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpcPeeringConnectionVpcInfo;
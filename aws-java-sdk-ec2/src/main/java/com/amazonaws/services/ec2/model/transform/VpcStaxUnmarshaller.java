@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpcStaxUnmarshaller implements
         Unmarshaller<Vpc, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpcId", "state", "cidrBlock",
+                    "dhcpOptionsId", "tagSet", "instanceTenancy", "isDefault"));
+
     public Vpc unmarshall(StaxUnmarshallerContext context) throws Exception {
         Vpc vpc = new Vpc();
         int originalDepth = context.getCurrentDepth();
@@ -91,6 +95,10 @@ public class VpcStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpc;
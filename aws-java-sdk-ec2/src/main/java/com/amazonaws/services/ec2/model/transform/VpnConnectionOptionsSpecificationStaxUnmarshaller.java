@@ -36,6 +36,9 @@ public class VpnConnectionOptionsSpecificationStaxUnmarshaller
         implements
         Unmarshaller<VpnConnectionOptionsSpecification, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("staticRoutesOnly"));
+
     public VpnConnectionOptionsSpecification unmarshall(
             StaxUnmarshallerContext context) throws Exception {
         VpnConnectionOptionsSpecification vpnConnectionOptionsSpecification = new VpnConnectionOptionsSpecification();
@@ -58,6 +61,10 @@ public class VpnConnectionOptionsSpecificationStaxUnmarshaller
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpnConnectionOptionsSpecification;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpnConnectionOptionsStaxUnmarshaller implements
         Unmarshaller<VpnConnectionOptions, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("staticRoutesOnly"));
+
     public VpnConnectionOptions unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpnConnectionOptions vpnConnectionOptions = new VpnConnectionOptions();
@@ -57,6 +60,10 @@ public class VpnConnectionOptionsStaxUnmarshaller implements
                                     .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpnConnectionOptions;
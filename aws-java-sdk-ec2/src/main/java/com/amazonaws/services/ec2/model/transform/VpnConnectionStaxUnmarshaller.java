@@ -35,6 +35,12 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpnConnectionStaxUnmarshaller implements
         Unmarshaller<VpnConnection, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpnConnectionId", "state",
+                    "customerGatewayConfiguration", "type",
+                    "customerGatewayId", "vpnGatewayId", "tagSet",
+                    "vgwTelemetry", "options", "routes"));
+
     public VpnConnection unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpnConnection vpnConnection = new VpnConnection();
@@ -114,6 +120,10 @@ public class VpnConnectionStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpnConnection;
@@ -35,6 +35,10 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpnGatewayStaxUnmarshaller implements
         Unmarshaller<VpnGateway, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("vpnGatewayId", "state", "type",
+                    "availabilityZone", "attachments", "tagSet"));
+
     public VpnGateway unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpnGateway vpnGateway = new VpnGateway();
@@ -87,6 +91,10 @@ public class VpnGatewayStaxUnmarshaller implements
                     continue;
                 }
 
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpnGateway;
@@ -35,6 +35,9 @@ import com.amazonaws.transform.SimpleTypeStaxUnmarshallers.*;
 public class VpnStaticRouteStaxUnmarshaller implements
         Unmarshaller<VpnStaticRoute, StaxUnmarshallerContext> {
 
+    private static final java.util.Set<String> MEMBER_ELEMENTS = new java.util.HashSet<String>(
+            java.util.Arrays.asList("destinationCidrBlock", "source", "state"));
+
     public VpnStaticRoute unmarshall(StaxUnmarshallerContext context)
             throws Exception {
         VpnStaticRoute vpnStaticRoute = new VpnStaticRoute();
@@ -69,6 +72,10 @@ public class VpnStaticRouteStaxUnmarshaller implements
                             .getInstance().unmarshall(context));
                     continue;
                 }
+                if (context
+                        .skipElementUnlessNamed(targetDepth, MEMBER_ELEMENTS)) {
+                    continue;
+                }
             } else if (xmlEvent.isEndElement()) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return vpnStaticRoute;
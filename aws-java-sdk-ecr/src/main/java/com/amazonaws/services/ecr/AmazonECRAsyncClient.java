@@ -93,8 +93,8 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
     public AmazonECRAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonECRAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -112,8 +112,8 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AmazonECRAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonECRAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -175,8 +175,8 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
      */
     public AmazonECRAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonECRAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -203,8 +203,8 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonECRAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -100,8 +100,8 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
     public AmazonECSAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonECSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -119,8 +119,8 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AmazonECSAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonECSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -182,8 +182,8 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
      */
     public AmazonECSAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonECSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -210,8 +210,8 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonECSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
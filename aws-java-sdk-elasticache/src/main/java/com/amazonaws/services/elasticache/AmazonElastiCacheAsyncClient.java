@@ -101,8 +101,8 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
     public AmazonElastiCacheAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonElastiCacheAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -121,8 +121,8 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public AmazonElastiCacheAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonElastiCacheAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -184,8 +184,8 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public AmazonElastiCacheAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonElastiCacheAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -212,8 +212,8 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonElastiCacheAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -112,8 +112,8 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
     public AWSElasticBeanstalkAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSElasticBeanstalkAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -132,8 +132,8 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public AWSElasticBeanstalkAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSElasticBeanstalkAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -195,8 +195,8 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public AWSElasticBeanstalkAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSElasticBeanstalkAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -223,8 +223,8 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSElasticBeanstalkAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -109,8 +109,8 @@ public class AmazonElasticLoadBalancingAsyncClient extends
     public AmazonElasticLoadBalancingAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonElasticLoadBalancingAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -129,8 +129,8 @@ public class AmazonElasticLoadBalancingAsyncClient extends
      */
     public AmazonElasticLoadBalancingAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonElasticLoadBalancingAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -192,8 +192,8 @@ public class AmazonElasticLoadBalancingAsyncClient extends
      */
     public AmazonElasticLoadBalancingAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonElasticLoadBalancingAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -220,8 +220,8 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonElasticLoadBalancingAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -97,8 +97,8 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
     public AWSElasticsearchAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSElasticsearchAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -117,8 +117,8 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
      */
     public AWSElasticsearchAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSElasticsearchAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -180,8 +180,8 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
      */
     public AWSElasticsearchAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSElasticsearchAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -208,8 +208,8 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSElasticsearchAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
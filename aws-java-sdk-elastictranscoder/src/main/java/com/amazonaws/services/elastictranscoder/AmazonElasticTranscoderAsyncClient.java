@@ -89,8 +89,8 @@ public class AmazonElasticTranscoderAsyncClient extends
     public AmazonElasticTranscoderAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonElasticTranscoderAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -109,8 +109,8 @@ public class AmazonElasticTranscoderAsyncClient extends
      */
     public AmazonElasticTranscoderAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonElasticTranscoderAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -172,8 +172,8 @@ public class AmazonElasticTranscoderAsyncClient extends
      */
     public AmazonElasticTranscoderAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonElasticTranscoderAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -200,8 +200,8 @@ public class AmazonElasticTranscoderAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonElasticTranscoderAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -107,8 +107,8 @@ public class AmazonCloudWatchEventsAsyncClient extends
     public AmazonCloudWatchEventsAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudWatchEventsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -127,8 +127,8 @@ public class AmazonCloudWatchEventsAsyncClient extends
      */
     public AmazonCloudWatchEventsAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudWatchEventsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -190,8 +190,8 @@ public class AmazonCloudWatchEventsAsyncClient extends
      */
     public AmazonCloudWatchEventsAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonCloudWatchEventsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -218,8 +218,8 @@ public class AmazonCloudWatchEventsAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonCloudWatchEventsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -218,8 +218,8 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
     public AmazonGameLiftAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonGameLiftAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -238,8 +238,8 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
      */
     public AmazonGameLiftAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonGameLiftAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -301,8 +301,8 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
      */
     public AmazonGameLiftAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonGameLiftAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -329,8 +329,8 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonGameLiftAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
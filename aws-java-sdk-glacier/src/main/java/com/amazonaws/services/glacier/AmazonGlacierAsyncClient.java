@@ -135,8 +135,8 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
     public AmazonGlacierAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonGlacierAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -155,8 +155,8 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
      */
     public AmazonGlacierAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonGlacierAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -218,8 +218,8 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
      */
     public AmazonGlacierAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonGlacierAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -246,8 +246,8 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonGlacierAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
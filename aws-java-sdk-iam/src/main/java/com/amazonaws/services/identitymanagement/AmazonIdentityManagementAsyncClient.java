@@ -167,8 +167,8 @@ public class AmazonIdentityManagementAsyncClient extends
     public AmazonIdentityManagementAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonIdentityManagementAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -187,8 +187,8 @@ public class AmazonIdentityManagementAsyncClient extends
      */
     public AmazonIdentityManagementAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonIdentityManagementAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -250,8 +250,8 @@ public class AmazonIdentityManagementAsyncClient extends
      */
     public AmazonIdentityManagementAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonIdentityManagementAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -278,8 +278,8 @@ public class AmazonIdentityManagementAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonIdentityManagementAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
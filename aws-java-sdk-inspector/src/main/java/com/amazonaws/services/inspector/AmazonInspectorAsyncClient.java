@@ -92,8 +92,8 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
     public AmazonInspectorAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonInspectorAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -112,8 +112,8 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
      */
     public AmazonInspectorAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonInspectorAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -175,8 +175,8 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
      */
     public AmazonInspectorAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonInspectorAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -203,8 +203,8 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonInspectorAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
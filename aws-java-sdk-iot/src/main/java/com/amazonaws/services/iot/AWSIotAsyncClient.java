@@ -98,8 +98,8 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
     public AWSIotAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSIotAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -117,8 +117,8 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AWSIotAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSIotAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -178,8 +178,8 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
      */
     public AWSIotAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSIotAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -206,8 +206,8 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSIotAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
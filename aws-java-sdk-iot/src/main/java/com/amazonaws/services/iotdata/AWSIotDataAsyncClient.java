@@ -94,8 +94,8 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
     public AWSIotDataAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSIotDataAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -114,8 +114,8 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
      */
     public AWSIotDataAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSIotDataAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -177,8 +177,8 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
      */
     public AWSIotDataAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSIotDataAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -205,8 +205,8 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSIotDataAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -89,8 +89,8 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
     public AmazonKinesisAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonKinesisAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -109,8 +109,8 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
      */
     public AmazonKinesisAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonKinesisAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -172,8 +172,8 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
      */
     public AmazonKinesisAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonKinesisAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -200,8 +200,8 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonKinesisAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
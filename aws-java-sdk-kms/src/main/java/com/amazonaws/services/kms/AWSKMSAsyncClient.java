@@ -207,8 +207,8 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
     public AWSKMSAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSKMSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -226,8 +226,8 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AWSKMSAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSKMSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -287,8 +287,8 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
      */
     public AWSKMSAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSKMSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -315,8 +315,8 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSKMSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
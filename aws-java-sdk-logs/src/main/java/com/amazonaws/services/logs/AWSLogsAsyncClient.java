@@ -129,8 +129,8 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
     public AWSLogsAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSLogsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -148,8 +148,8 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AWSLogsAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSLogsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -209,8 +209,8 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
      */
     public AWSLogsAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSLogsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -237,8 +237,8 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSLogsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
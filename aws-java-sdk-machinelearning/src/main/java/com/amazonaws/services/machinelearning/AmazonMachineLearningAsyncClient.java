@@ -86,8 +86,8 @@ public class AmazonMachineLearningAsyncClient extends
     public AmazonMachineLearningAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonMachineLearningAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -106,8 +106,8 @@ public class AmazonMachineLearningAsyncClient extends
      */
     public AmazonMachineLearningAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonMachineLearningAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -169,8 +169,8 @@ public class AmazonMachineLearningAsyncClient extends
      */
     public AmazonMachineLearningAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonMachineLearningAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -197,8 +197,8 @@ public class AmazonMachineLearningAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonMachineLearningAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -87,8 +87,8 @@ public class AWSMarketplaceCommerceAnalyticsAsyncClient extends
     public AWSMarketplaceCommerceAnalyticsAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSMarketplaceCommerceAnalyticsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -108,8 +108,8 @@ public class AWSMarketplaceCommerceAnalyticsAsyncClient extends
      */
     public AWSMarketplaceCommerceAnalyticsAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSMarketplaceCommerceAnalyticsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -171,8 +171,8 @@ public class AWSMarketplaceCommerceAnalyticsAsyncClient extends
      */
     public AWSMarketplaceCommerceAnalyticsAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSMarketplaceCommerceAnalyticsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -199,8 +199,8 @@ public class AWSMarketplaceCommerceAnalyticsAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSMarketplaceCommerceAnalyticsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -177,8 +177,8 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
     public AWSOpsWorksAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSOpsWorksAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -197,8 +197,8 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
      */
     public AWSOpsWorksAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSOpsWorksAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -260,8 +260,8 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
      */
     public AWSOpsWorksAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSOpsWorksAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -288,8 +288,8 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSOpsWorksAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -168,8 +168,8 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
     public AmazonRDSAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRDSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -187,8 +187,8 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AmazonRDSAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRDSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -250,8 +250,8 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
      */
     public AmazonRDSAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRDSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -278,8 +278,8 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRDSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
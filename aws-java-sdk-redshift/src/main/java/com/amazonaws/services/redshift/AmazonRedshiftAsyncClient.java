@@ -118,8 +118,8 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
     public AmazonRedshiftAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRedshiftAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -138,8 +138,8 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
      */
     public AmazonRedshiftAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRedshiftAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -201,8 +201,8 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
      */
     public AmazonRedshiftAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRedshiftAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -229,8 +229,8 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRedshiftAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
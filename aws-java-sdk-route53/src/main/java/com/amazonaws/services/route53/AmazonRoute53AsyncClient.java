@@ -83,8 +83,8 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
     public AmazonRoute53AsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRoute53AsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -103,8 +103,8 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
      */
     public AmazonRoute53AsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRoute53AsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -166,8 +166,8 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
      */
     public AmazonRoute53AsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRoute53AsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -194,8 +194,8 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRoute53AsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -84,8 +84,8 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
     public AmazonRoute53DomainsAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRoute53DomainsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -104,8 +104,8 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public AmazonRoute53DomainsAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRoute53DomainsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -167,8 +167,8 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
      */
     public AmazonRoute53DomainsAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonRoute53DomainsAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -195,8 +195,8 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonRoute53DomainsAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
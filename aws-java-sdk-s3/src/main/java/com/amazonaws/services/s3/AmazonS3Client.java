@@ -221,6 +221,7 @@ import com.amazonaws.util.IOUtils;
 import com.amazonaws.util.LengthCheckInputStream;
 import com.amazonaws.util.Md5Utils;
 import com.amazonaws.util.RuntimeHttpUtils;
+import com.amazonaws.util.SdkExecutors;
 import com.amazonaws.util.SdkHttpUtils;
 import com.amazonaws.util.ServiceClientHolderInputStream;
 import com.amazonaws.util.StringUtils;
@@ -253,7 +254,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 
@@ -4198,7 +4198,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         ExecutorService es = req.getExecutorService();
         final boolean defaultExecutorService = es == null;
         if (es == null)
-            es = Executors.newFixedThreadPool(clientConfiguration.getMaxConnections());
+            es = SdkExecutors.newFixedThreadPool("s3-upload-object", clientConfiguration.getMaxConnections());
         UploadObjectObserver observer = req.getUploadObjectObserver();
         if (observer == null)
             observer = new UploadObjectObserver();
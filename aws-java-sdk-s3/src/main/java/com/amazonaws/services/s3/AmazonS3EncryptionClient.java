@@ -57,6 +57,7 @@ import com.amazonaws.services.s3.model.StaticEncryptionMaterialsProvider;
 import com.amazonaws.services.s3.model.UploadObjectRequest;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.SdkExecutors;
 import com.amazonaws.util.VersionInfoUtils;
 
 import java.io.File;
@@ -65,7 +66,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 /**
@@ -706,7 +706,8 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
         ExecutorService es = req.getExecutorService();
         final boolean defaultExecutorService = es == null;
         if (es == null)
-            es = Executors.newFixedThreadPool(clientConfiguration.getMaxConnections());
+            es = SdkExecutors.newFixedThreadPool("s3-encryption-upload-object",
+                    clientConfiguration.getMaxConnections());
         UploadObjectObserver observer = req.getUploadObjectObserver();
         if (observer == null)
             observer = new UploadObjectObserver();
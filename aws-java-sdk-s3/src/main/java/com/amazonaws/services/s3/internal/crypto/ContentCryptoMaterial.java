@@ -249,12 +249,17 @@ final class ContentCryptoMaterial {
      * @param securityProvider
      *            security provider or null if the default security provider of
      *            the JCE is used
+     * @param dataKeyCache
+     *            cache of the content encrypting keys decrypted by KMS; or
+     *            null if the key is decrypted by KMS every time
      */
     private static SecretKey cek(byte[] cekSecured, String keyWrapAlgo,
             EncryptionMaterials materials, Provider securityProvider,
-            ContentCryptoScheme contentCryptoScheme, AWSKMSClient kms) {
+            ContentCryptoScheme contentCryptoScheme, AWSKMSClient kms,
+            DataKeyCache dataKeyCache) {
         if (isKMSKeyWrapped(keyWrapAlgo))
-            return cekByKMS(cekSecured, keyWrapAlgo, materials, contentCryptoScheme, kms);
+            return cekByKMS(cekSecured, keyWrapAlgo, materials,
+                    contentCryptoScheme, kms, dataKeyCache);
         Key kek;
         if (materials.getKeyPair() != null) {
             // Do envelope decryption with private key from key pair
@@ -298,18 +303,29 @@ final class ContentCryptoMaterial {
     }
 
     /**
-     * Decrypts the secured CEK via KMS; involves network calls.
+     * Decrypts the secured CEK via KMS; involves network calls unless the
+     * CEK is found in the given cache.
      *
      * @return the CEK (in plaintext).
      */
     private static SecretKey cekByKMS(byte[] cekSecured, String keyWrapAlgo,
             EncryptionMaterials materials,
-            ContentCryptoScheme contentCryptoScheme, AWSKMSClient kms) {
-        DecryptRequest kmsreq = new DecryptRequest()
-            .withEncryptionContext(materials.getMaterialsDescription())
-            .withCiphertextBlob(ByteBuffer.wrap(cekSecured));
-        DecryptResult result = kms.decrypt(kmsreq);
-        return new SecretKeySpec(copyAllBytesFrom(result.getPlaintext()),
+            ContentCryptoScheme contentCryptoScheme, AWSKMSClient kms,
+            DataKeyCache dataKeyCache) {
+        final Map<String, String> encryptionContext =
+                materials.getMaterialsDescription();
+        byte[] plaintext = dataKeyCache == null ? null
+                         : dataKeyCache.getDecrypted(cekSecured, encryptionContext);
+        if (plaintext == null) {
+            DecryptRequest kmsreq = new DecryptRequest()
+                .withEncryptionContext(encryptionContext)
+                .withCiphertextBlob(ByteBuffer.wrap(cekSecured));
+            DecryptResult result = kms.decrypt(kmsreq);
+            plaintext = copyAllBytesFrom(result.getPlaintext());
+            if (dataKeyCache != null)
+                dataKeyCache.putDecrypted(cekSecured, encryptionContext, plaintext);
+        }
+        return new SecretKeySpec(plaintext,
                 contentCryptoScheme.getKeyGeneratorAlgorithm());
     }
 
@@ -323,7 +339,7 @@ final class ContentCryptoMaterial {
             boolean keyWrapExpected,
             AWSKMSClient kms) {
         return fromObjectMetadata0(metadata, kekMaterialAccessor,
-                securityProvider, null, NONE, keyWrapExpected, kms);
+                securityProvider, null, NONE, keyWrapExpected, kms, null);
     }
 
     /**
@@ -340,9 +356,11 @@ final class ContentCryptoMaterial {
             long[] range,
             ExtraMaterialsDescription extra,
             boolean keyWrapExpected,
-            AWSKMSClient kms) {
+            AWSKMSClient kms,
+            DataKeyCache dataKeyCache) {
         return fromObjectMetadata0(metadata, kekMaterialAccessor,
-                securityProvider, range, extra, keyWrapExpected, kms);
+                securityProvider, range, extra, keyWrapExpected, kms,
+                dataKeyCache);
     }
 
     /**
@@ -355,7 +373,8 @@ final class ContentCryptoMaterial {
             long[] range,
             ExtraMaterialsDescription extra,
             boolean keyWrapExpected,
-            AWSKMSClient kms) {
+            AWSKMSClient kms,
+            DataKeyCache dataKeyCache) {
         // CEK and IV
         Map<String, String> userMeta = metadata.getUserMetadata();
         String b64key = userMeta.get(Headers.CRYPTO_KEY_V2);
@@ -419,7 +438,7 @@ final class ContentCryptoMaterial {
         if (keyWrapExpected && keyWrapAlgo == null)
             throw newKeyWrapException();
         SecretKey cek = cek(cekWrapped, keyWrapAlgo, materials,
-                securityProvider, contentCryptoScheme, kms);
+                securityProvider, contentCryptoScheme, kms, dataKeyCache);
         return new ContentCryptoMaterial(merged, cekWrapped, keyWrapAlgo,
                 contentCryptoScheme.createCipherLite(cek, iv,
                         Cipher.DECRYPT_MODE, securityProvider));
@@ -440,7 +459,7 @@ final class ContentCryptoMaterial {
             boolean keyWrapExpected,
             AWSKMSClient kms) {
         return fromInstructionFile0(instFile, kekMaterialAccessor,
-                securityProvider, null, NONE, keyWrapExpected, kms);
+                securityProvider, null, NONE, keyWrapExpected, kms, null);
     }
 
     /**
@@ -457,9 +476,11 @@ final class ContentCryptoMaterial {
             long[] range,
             ExtraMaterialsDescription extra,
             boolean keyWrapExpected,
-            AWSKMSClient kms) {
+            AWSKMSClient kms,
+            DataKeyCache dataKeyCache) {
         return fromInstructionFile0(instFile, kekMaterialAccessor,
-                securityProvider, range, extra, keyWrapExpected, kms);
+                securityProvider, range, extra, keyWrapExpected, kms,
+                dataKeyCache);
     }
 
     /**
@@ -472,7 +493,8 @@ final class ContentCryptoMaterial {
             long[] range,
             ExtraMaterialsDescription extra,
             boolean keyWrapExpected,
-            AWSKMSClient kms) {
+            AWSKMSClient kms,
+            DataKeyCache dataKeyCache) {
         // CEK and IV
         String b64key = instFile.get(Headers.CRYPTO_KEY_V2);
         if (b64key == null) {
@@ -537,7 +559,7 @@ final class ContentCryptoMaterial {
         if (keyWrapExpected && keyWrapAlgo == null)
             throw newKeyWrapException();
         SecretKey cek = cek(cekWrapped, keyWrapAlgo, materials,
-                securityProvider, contentCryptoScheme, kms);
+                securityProvider, contentCryptoScheme, kms, dataKeyCache);
         return new ContentCryptoMaterial(merged, cekWrapped, keyWrapAlgo,
                 contentCryptoScheme.createCipherLite(cek, iv,
                         Cipher.DECRYPT_MODE, securityProvider));
@@ -648,7 +670,7 @@ final class ContentCryptoMaterial {
                     + " from the encryption material provider");
         }
         SecretKey cek = cek(encryptedCEK, keyWrappingAlgorithm, origKEK, p,
-                getContentCryptoScheme(), kms);
+                getContentCryptoScheme(), kms, null);
         ContentCryptoMaterial output = create(cek, cipherLite.getIV(), newKEK,
                 getContentCryptoScheme(),  // must use same content crypto scheme
                 targetScheme,
@@ -698,7 +720,7 @@ final class ContentCryptoMaterial {
             origKEK = accessor.getEncryptionMaterials(kekMaterialsDescription);
         }
         SecretKey cek = cek(encryptedCEK, keyWrappingAlgorithm, origKEK, p,
-                getContentCryptoScheme(), kms);
+                getContentCryptoScheme(), kms, null);
         ContentCryptoMaterial output =
             create(cek, cipherLite.getIV(), newKEK,
                    getContentCryptoScheme(),  // must use same content crypto scheme
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the data keys generated by KMS, so that objects encrypted
+ * under the same customer master key and encryption context can share a data
+ * key instead of calling KMS for each of them. A cached key is used for a
+ * limited time and a limited number of objects; each object is still
+ * encrypted with its own randomly generated IV.
+ * <p>
+ * The data keys decrypted by KMS are cached for a limited time as well, so
+ * that reading several ranges of an object decrypts its data key once.
+ */
+final class DataKeyCache {
+    /** The maximum number of data keys held by the cache. */
+    static final int MAX_ENTRIES = 100;
+
+    private final long maxAgeMillis;
+    private final int maxUses;
+    // Guarded by this; in access order, so that the least recently used key
+    // is evicted first.
+    private final Map<Object, Entry> entries =
+        new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+    /**
+     * @param maxAgeMillis
+     *            how long a data key may be used after it was generated
+     * @param maxUses
+     *            the maximum number of objects a generated data key may be
+     *            used to encrypt; or 0 or 1 to not reuse generated data keys
+     */
+    DataKeyCache(long maxAgeMillis, int maxUses) {
+        if (maxAgeMillis <= 0)
+            throw new IllegalArgumentException("The maximum age of a data key must be positive");
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxUses = maxUses;
+    }
+
+    /**
+     * Returns a copy of the cached plaintext and encrypted data key for the
+     * given master key, encryption context and key spec, and counts it as one
+     * more use of the data key; or null if there is no such key which may
+     * still be used.
+     *
+     * @return a two element array of the plaintext key and the encrypted key
+     *         blob; or null
+     */
+    synchronized byte[][] get(String keyId,
+            Map<String, String> encryptionContext, String keySpec) {
+        Key key = new Key(keyId, encryptionContext, keySpec);
+        Entry entry = entries.get(key);
+        if (entry == null)
+            return null;
+        if (entry.uses >= maxUses || isExpired(entry)) {
+            entries.remove(key);
+            return null;
+        }
+        entry.uses++;
+        return new byte[][] { entry.plaintext.clone(), entry.keyBlob.clone() };
+    }
+
+    /**
+     * Caches the data key generated for the given master key, encryption
+     * context and key spec, counting the object it is generated for as its
+     * first use.
+     */
+    synchronized void put(String keyId, Map<String, String> encryptionContext,
+            String keySpec, byte[] plaintext, byte[] keyBlob) {
+        if (maxUses > 1) {
+            entries.put(new Key(keyId, encryptionContext, keySpec),
+                    new Entry(plaintext.clone(), keyBlob.clone()));
+        }
+    }
+
+    /**
+     * Returns a copy of the cached plaintext of the given encrypted data key
+     * decrypted under the given encryption context; or null if there is no
+     * such key which may still be used.
+     */
+    synchronized byte[] getDecrypted(byte[] keyBlob,
+            Map<String, String> encryptionContext) {
+        DecryptedKey key = new DecryptedKey(keyBlob, encryptionContext);
+        Entry entry = entries.get(key);
+        if (entry == null)
+            return null;
+        if (isExpired(entry)) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.plaintext.clone();
+    }
+
+    /**
+     * Caches the plaintext of the given encrypted data key decrypted under the
+     * given encryption context.
+     */
+    synchronized void putDecrypted(byte[] keyBlob,
+            Map<String, String> encryptionContext, byte[] plaintext) {
+        entries.put(new DecryptedKey(keyBlob, encryptionContext),
+                new Entry(plaintext.clone(), null));
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.currentTimeMillis() - entry.createdMillis >= maxAgeMillis;
+    }
+
+    private static Map<String, String> copyOf(Map<String, String> encryptionContext) {
+        return encryptionContext == null
+             ? Collections.<String, String>emptyMap()
+             : Collections.unmodifiableMap(new HashMap<String, String>(encryptionContext));
+    }
+
+    private static final class Key {
+        private final String keyId;
+        private final Map<String, String> encryptionContext;
+        private final String keySpec;
+
+        Key(String keyId, Map<String, String> encryptionContext, String keySpec) {
+            this.keyId = keyId;
+            this.encryptionContext = copyOf(encryptionContext);
+            this.keySpec = keySpec;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key that = (Key) o;
+            return equal(keyId, that.keyId)
+                && encryptionContext.equals(that.encryptionContext)
+                && equal(keySpec, that.keySpec);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = keyId == null ? 0 : keyId.hashCode();
+            hash = 31 * hash + encryptionContext.hashCode();
+            return 31 * hash + (keySpec == null ? 0 : keySpec.hashCode());
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+
+    private static final class DecryptedKey {
+        private final byte[] keyBlob;
+        private final Map<String, String> encryptionContext;
+
+        DecryptedKey(byte[] keyBlob, Map<String, String> encryptionContext) {
+            this.keyBlob = keyBlob.clone();
+            this.encryptionContext = copyOf(encryptionContext);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof DecryptedKey))
+                return false;
+            DecryptedKey that = (DecryptedKey) o;
+            return Arrays.equals(keyBlob, that.keyBlob)
+                && encryptionContext.equals(that.encryptionContext);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(keyBlob) + encryptionContext.hashCode();
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] plaintext;
+        /** The encrypted data key; or null for a decrypted data key. */
+        private final byte[] keyBlob;
+        private final long createdMillis = System.currentTimeMillis();
+        private int uses = 1;
+
+        Entry(byte[] plaintext, byte[] keyBlob) {
+            this.plaintext = plaintext;
+            this.keyBlob = keyBlob;
+        }
+    }
+}
@@ -95,6 +95,11 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
         extends S3CryptoModule<T> {
     private static final boolean IS_MULTI_PART = true;
     protected static final int DEFAULT_BUFFER_SIZE = 1024*2;    // 2K
+    /**
+     * Buffer size for encrypting the parts of a multipart upload, which are
+     * typically several megabytes each.
+     */
+    protected static final int MULTIPART_BUFFER_SIZE = 1024*16; // 16K
     protected final EncryptionMaterialsProvider kekMaterialsProvider;
     protected final Log log = LogFactory.getLog(getClass());
     protected final S3CryptoScheme cryptoScheme;
@@ -107,6 +112,11 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
         Collections.synchronizedMap(new HashMap<String,T>());
     protected final S3Direct s3;
     protected final AWSKMSClient kms;
+    /**
+     * Cache of the data keys generated or decrypted by KMS; or null if data
+     * keys are not reused.
+     */
+    protected final DataKeyCache dataKeyCache;
 
     /**
      * @param cryptoConfig a read-only copy of the crypto configuration.
@@ -123,6 +133,7 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
         this.cryptoScheme = S3CryptoScheme.from(cryptoConfig.getCryptoMode());
         this.contentCryptoScheme = cryptoScheme.getContentCryptoScheme();
         this.kms = kms;
+        this.dataKeyCache = newDataKeyCache(cryptoConfig);
     }
 
     /**
@@ -138,6 +149,14 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
         this.cryptoScheme = S3CryptoScheme.from(cryptoConfig.getCryptoMode());
         this.contentCryptoScheme = cryptoScheme.getContentCryptoScheme();
         this.kms = null;
+        this.dataKeyCache = newDataKeyCache(cryptoConfig);
+    }
+
+    private static DataKeyCache newDataKeyCache(CryptoConfiguration cryptoConfig) {
+        return cryptoConfig.getDataKeyCacheMaxAgeMillis() > 0
+             ? new DataKeyCache(cryptoConfig.getDataKeyCacheMaxAgeMillis(),
+                     cryptoConfig.getDataKeyCacheMaxUses())
+             : null;
     }
 
     /**
@@ -362,10 +381,10 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
                     req.isLastPart());
             return cipherLite.markSupported()
                  ? new CipherLiteInputStream(isCurr, cipherLite,
-                       DEFAULT_BUFFER_SIZE,
+                       MULTIPART_BUFFER_SIZE,
                        IS_MULTI_PART, req.isLastPart())
                  : new RenewableCipherLiteInputStream(isCurr, cipherLite,
-                        DEFAULT_BUFFER_SIZE,
+                        MULTIPART_BUFFER_SIZE,
                         IS_MULTI_PART, req.isLastPart());
         } catch (Exception e) {
             cleanupDataSource(req, fileOrig, isOrig, isCurr, log);
@@ -528,19 +547,34 @@ public abstract class S3CryptoModuleBase<T extends MultipartUploadCryptoContext>
         if (materials.isKMSEnabled()) {
             final Map<String, String> encryptionContext =
                     ContentCryptoMaterial.mergeMaterialDescriptions(materials, req);
-            GenerateDataKeyRequest keyGenReq = new GenerateDataKeyRequest()
-                .withEncryptionContext(encryptionContext)
-                .withKeyId(materials.getCustomerMasterKeyId())
-                .withKeySpec(contentCryptoScheme.getKeySpec());
-            keyGenReq
-                .withGeneralProgressListener(req.getGeneralProgressListener())
-                .withRequestMetricCollector(req.getRequestMetricCollector())
-                ;
-            GenerateDataKeyResult keyGenRes = kms.generateDataKey(keyGenReq);
-            final SecretKey cek =
-                new SecretKeySpec(copyAllBytesFrom(keyGenRes.getPlaintext()),
-                        contentCryptoScheme.getKeyGeneratorAlgorithm());
-            byte[] keyBlob = copyAllBytesFrom(keyGenRes.getCiphertextBlob());
+            final String keyId = materials.getCustomerMasterKeyId();
+            final String keySpec = contentCryptoScheme.getKeySpec();
+            byte[][] cached = dataKeyCache == null ? null
+                            : dataKeyCache.get(keyId, encryptionContext, keySpec);
+            final byte[] plaintextKey;
+            final byte[] keyBlob;
+            if (cached == null) {
+                GenerateDataKeyRequest keyGenReq = new GenerateDataKeyRequest()
+                    .withEncryptionContext(encryptionContext)
+                    .withKeyId(keyId)
+                    .withKeySpec(keySpec);
+                keyGenReq
+                    .withGeneralProgressListener(req.getGeneralProgressListener())
+                    .withRequestMetricCollector(req.getRequestMetricCollector())
+                    ;
+                GenerateDataKeyResult keyGenRes = kms.generateDataKey(keyGenReq);
+                plaintextKey = copyAllBytesFrom(keyGenRes.getPlaintext());
+                keyBlob = copyAllBytesFrom(keyGenRes.getCiphertextBlob());
+                if (dataKeyCache != null) {
+                    dataKeyCache.put(keyId, encryptionContext, keySpec,
+                            plaintextKey, keyBlob);
+                }
+            } else {
+                plaintextKey = cached[0];
+                keyBlob = cached[1];
+            }
+            final SecretKey cek = new SecretKeySpec(plaintextKey,
+                    contentCryptoScheme.getKeyGeneratorAlgorithm());
             return ContentCryptoMaterial.wrap(cek, iv,
                     contentCryptoScheme, provider,
                     new KMSSecuredCEK(keyBlob, encryptionContext));
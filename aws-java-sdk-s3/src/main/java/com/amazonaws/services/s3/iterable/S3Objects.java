@@ -15,7 +15,12 @@
 package com.amazonaws.services.s3.iterable;
 
 import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
@@ -33,7 +38,10 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
  * <p>
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Objects#withBatchSize(int)} method.
+ * {@link S3Objects#withBatchSize(int)} method. If an executor is supplied
+ * through {@link S3Objects#withPrefetchExecutor(ExecutorService)}, the next
+ * page is requested in the background while the current one is consumed; at
+ * most two pages are held in memory at any time.
  */
 public class S3Objects implements Iterable<S3ObjectSummary> {
 
@@ -41,6 +49,7 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
     private String prefix = null;
     private String bucketName;
     private Integer batchSize = null;
+    private ExecutorService prefetchExecutor = null;
 
     private S3Objects(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -91,6 +100,26 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return this;
     }
 
+    /**
+     * Sets the executor used to fetch the next page of {@link S3ObjectSummary}s
+     * in the background while the current page is being iterated. By default
+     * no executor is set, and each page is fetched on the iterating thread
+     * when the previous one is exhausted. The executor is not shut down by
+     * this class.
+     *
+     * @param prefetchExecutor
+     *            The executor to fetch pages ahead of time with, or null to
+     *            disable prefetching.
+     */
+    public S3Objects withPrefetchExecutor(ExecutorService prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+        return this;
+    }
+
+    public ExecutorService getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -113,6 +142,8 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
 
         private Iterator<S3ObjectSummary> currentIterator = null;
 
+        private Future<ObjectListing> nextListing = null;
+
         @Override
         public boolean hasNext() {
             prepareCurrentListing();
@@ -139,11 +170,42 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
                     req.setPrefix(getPrefix());
                     req.setMaxKeys(getBatchSize());
                     currentListing = getS3().listObjects(req);
+                } else if ( nextListing != null ) {
+                    currentListing = waitForNextListing();
                 } else {
                     currentListing = getS3().listNextBatchOfObjects(currentListing);
                 }
 
                 currentIterator = currentListing.getObjectSummaries().iterator();
+                prefetchNextListing();
+            }
+        }
+
+        private void prefetchNextListing() {
+            if ( getPrefetchExecutor() == null || !currentListing.isTruncated() ) {
+                return;
+            }
+            final ObjectListing previousListing = currentListing;
+            nextListing = getPrefetchExecutor().submit(new Callable<ObjectListing>() {
+                @Override
+                public ObjectListing call() {
+                    return getS3().listNextBatchOfObjects(previousListing);
+                }
+            });
+        }
+
+        private ObjectListing waitForNextListing() {
+            try {
+                return nextListing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while waiting for the next object listing", e);
+            } catch (ExecutionException e) {
+                Throwable t = e.getCause();
+                if (t instanceof AmazonClientException) throw (AmazonClientException) t;
+                throw new AmazonClientException("Unable to list objects: " + t.getMessage(), t);
+            } finally {
+                nextListing = null;
             }
         }
 
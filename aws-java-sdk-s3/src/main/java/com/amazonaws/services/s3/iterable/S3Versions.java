@@ -15,7 +15,12 @@
 package com.amazonaws.services.s3.iterable;
 
 import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListVersionsRequest;
 import com.amazonaws.services.s3.model.S3VersionSummary;
@@ -33,7 +38,10 @@ import com.amazonaws.services.s3.model.VersionListing;
  * <p>
  * The list of {@link S3VersionSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
- * {@link S3Versions#withBatchSize(int)} method.
+ * {@link S3Versions#withBatchSize(int)} method. If an executor is supplied
+ * through {@link S3Versions#withPrefetchExecutor(ExecutorService)}, the next
+ * page is requested in the background while the current one is consumed; at
+ * most two pages are held in memory at any time.
  */
 public class S3Versions implements Iterable<S3VersionSummary> {
 
@@ -42,6 +50,7 @@ public class S3Versions implements Iterable<S3VersionSummary> {
     private String prefix;
     private String key;
     private Integer batchSize;
+    private ExecutorService prefetchExecutor;
 
     private S3Versions(AmazonS3 s3, String bucketName) {
         this.s3 = s3;
@@ -111,6 +120,26 @@ public class S3Versions implements Iterable<S3VersionSummary> {
         return this;
     }
 
+    /**
+     * Sets the executor used to fetch the next page of {@link S3VersionSummary}s
+     * in the background while the current page is being iterated. By default
+     * no executor is set, and each page is fetched on the iterating thread
+     * when the previous one is exhausted. The executor is not shut down by
+     * this class.
+     *
+     * @param prefetchExecutor
+     *            The executor to fetch pages ahead of time with, or null to
+     *            disable prefetching.
+     */
+    public S3Versions withPrefetchExecutor(ExecutorService prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+        return this;
+    }
+
+    public ExecutorService getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
     public Integer getBatchSize() {
         return batchSize;
     }
@@ -136,6 +165,7 @@ public class S3Versions implements Iterable<S3VersionSummary> {
         private VersionListing currentListing = null;
         private Iterator<S3VersionSummary> currentIterator = null;
         private S3VersionSummary nextSummary = null;
+        private Future<VersionListing> nextListing = null;
 
         @Override
         public boolean hasNext() {
@@ -182,12 +212,15 @@ public class S3Versions implements Iterable<S3VersionSummary> {
 
                     req.setMaxResults(getBatchSize());
                     currentListing = getS3().listVersions(req);
+                } else if (nextListing != null) {
+                    currentListing = waitForNextListing();
                 } else {
                     currentListing = getS3().listNextBatchOfVersions(
                             currentListing);
                 }
                 currentIterator = currentListing.getVersionSummaries()
                         .iterator();
+                prefetchNextListing();
             }
 
             if (nextSummary == null && currentIterator.hasNext()) {
@@ -195,6 +228,37 @@ public class S3Versions implements Iterable<S3VersionSummary> {
             }
         }
 
+        private void prefetchNextListing() {
+            if (getPrefetchExecutor() == null || !currentListing.isTruncated()) {
+                return;
+            }
+            final VersionListing previousListing = currentListing;
+            nextListing = getPrefetchExecutor().submit(
+                    new Callable<VersionListing>() {
+                        @Override
+                        public VersionListing call() {
+                            return getS3().listNextBatchOfVersions(
+                                    previousListing);
+                        }
+                    });
+        }
+
+        private VersionListing waitForNextListing() {
+            try {
+                return nextListing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException(
+                        "Interrupted while waiting for the next version listing", e);
+            } catch (ExecutionException e) {
+                Throwable t = e.getCause();
+                if (t instanceof AmazonClientException) throw (AmazonClientException) t;
+                throw new AmazonClientException(
+                        "Unable to list versions: " + t.getMessage(), t);
+            } finally {
+                nextListing = null;
+            }
+        }
     }
 
     @Override
@@ -48,6 +48,16 @@ public class CryptoConfiguration implements Cloneable,Serializable {
      * null if no explicit KMS region is specified.
      */
     private transient com.amazonaws.regions.Region awskmsRegion;
+    /**
+     * How long in milliseconds a data key generated or decrypted by KMS may be
+     * reused; or 0 to call KMS for every object. Default is 0.
+     */
+    private long dataKeyCacheMaxAgeMillis;
+    /**
+     * The maximum number of objects a data key generated by KMS may be used
+     * to encrypt when data keys are reused. Default is 0.
+     */
+    private int dataKeyCacheMaxUses;
 
     /**
      * Creates a new CryptoConfiguration object with default storage mode and
@@ -224,6 +234,82 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         return this;
     }
 
+    /**
+     * Returns how long in milliseconds a data key generated or decrypted by
+     * KMS may be reused; or 0 if KMS is called for every object. Default is 0.
+     */
+    public long getDataKeyCacheMaxAgeMillis() {
+        return dataKeyCacheMaxAgeMillis;
+    }
+
+    /**
+     * Sets how long in milliseconds a data key generated or decrypted by KMS
+     * may be reused.
+     * <p>
+     * A generated data key is reused for encrypting further objects under the
+     * same customer master key and encryption context only if the maximum
+     * number of uses of a data key is greater than 1 as well. Each object is
+     * still encrypted with its own randomly generated IV.
+     * <p>
+     * A decrypted data key is reused for reading the same object again, so
+     * that reading several ranges of an object decrypts its data key once.
+     *
+     * @param dataKeyCacheMaxAgeMillis
+     *            the maximum age of a reused data key in milliseconds, or 0 to
+     *            call KMS for every object
+     */
+    public void setDataKeyCacheMaxAgeMillis(long dataKeyCacheMaxAgeMillis) {
+        if (dataKeyCacheMaxAgeMillis < 0)
+            throw new IllegalArgumentException("dataKeyCacheMaxAgeMillis must not be negative");
+        this.dataKeyCacheMaxAgeMillis = dataKeyCacheMaxAgeMillis;
+    }
+
+    /**
+     * Fluent API to set how long in milliseconds a data key generated by KMS
+     * may be reused for encrypting further objects.
+     *
+     * @see #setDataKeyCacheMaxAgeMillis(long)
+     */
+    public CryptoConfiguration withDataKeyCacheMaxAgeMillis(
+            long dataKeyCacheMaxAgeMillis) {
+        setDataKeyCacheMaxAgeMillis(dataKeyCacheMaxAgeMillis);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of objects a data key generated by KMS may be
+     * used to encrypt when data keys are reused. Default is 0.
+     */
+    public int getDataKeyCacheMaxUses() {
+        return dataKeyCacheMaxUses;
+    }
+
+    /**
+     * Sets the maximum number of objects a data key generated by KMS may be
+     * used to encrypt. Generated data keys are reused only if this is greater
+     * than 1 and the maximum age of a data key is positive.
+     *
+     * @param dataKeyCacheMaxUses
+     *            the maximum number of objects encrypted with a data key, or 0
+     *            to generate a data key for every object
+     */
+    public void setDataKeyCacheMaxUses(int dataKeyCacheMaxUses) {
+        if (dataKeyCacheMaxUses < 0)
+            throw new IllegalArgumentException("dataKeyCacheMaxUses must not be negative");
+        this.dataKeyCacheMaxUses = dataKeyCacheMaxUses;
+    }
+
+    /**
+     * Fluent API to set the maximum number of objects a data key generated by
+     * KMS may be used to encrypt.
+     *
+     * @see #setDataKeyCacheMaxUses(int)
+     */
+    public CryptoConfiguration withDataKeyCacheMaxUses(int dataKeyCacheMaxUses) {
+        setDataKeyCacheMaxUses(dataKeyCacheMaxUses);
+        return this;
+    }
+
     /**
      * Checks if the crypto mode is supported by the runtime.
      * 
@@ -288,6 +374,19 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         @Override public CryptoConfiguration withKmsRegion(Regions kmsRegion) {
             throw new UnsupportedOperationException();
         }
+        @Override public void setDataKeyCacheMaxAgeMillis(long dataKeyCacheMaxAgeMillis) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withDataKeyCacheMaxAgeMillis(
+                long dataKeyCacheMaxAgeMillis) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public void setDataKeyCacheMaxUses(int dataKeyCacheMaxUses) {
+            throw new UnsupportedOperationException();
+        }
+        @Override public CryptoConfiguration withDataKeyCacheMaxUses(int dataKeyCacheMaxUses) {
+            throw new UnsupportedOperationException();
+        }
     }
 
     /**
@@ -310,6 +409,8 @@ public class CryptoConfiguration implements Cloneable,Serializable {
         that.cryptoProvider = this.cryptoProvider;
         that.ignoreMissingInstructionFile = this.ignoreMissingInstructionFile;
         that.awskmsRegion = this.awskmsRegion;
+        that.dataKeyCacheMaxAgeMillis = this.dataKeyCacheMaxAgeMillis;
+        that.dataKeyCacheMaxUses = this.dataKeyCacheMaxUses;
         return that;
     }
 
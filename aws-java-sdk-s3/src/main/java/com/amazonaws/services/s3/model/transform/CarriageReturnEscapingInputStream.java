@@ -0,0 +1,161 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+
+/**
+ * FilterInputStream implementation that wraps an InputStream containing a
+ * UTF-8 encoded XML document, and replaces every carriage return (\r)
+ * character with the equivalent XML character entity as the bytes are read.
+ * This prevents the SAX parser from normalizing 0x0D characters in object
+ * keys to 0x0A, without first buffering the whole document in memory.
+ * <p>
+ * The replacement is done byte by byte; this is safe because the 0x0D byte
+ * can never appear inside a multi-byte UTF-8 sequence.
+ */
+class CarriageReturnEscapingInputStream extends SdkFilterInputStream {
+
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = {
+        '&', '#', '0', '1', '3', ';'
+    };
+
+    /**
+     * Position within {@link #ESCAPED_CARRIAGE_RETURN} of the next byte to
+     * return, or the length of the array if no escape is in progress.
+     */
+    private int escapePosition = ESCAPED_CARRIAGE_RETURN.length;
+
+    /**
+     * Bytes already read from the wrapped stream which follow a carriage
+     * return and didn't fit into the caller's buffer; lazily allocated and
+     * reused.
+     */
+    private byte[] pending;
+    private int pendingPosition;
+    private int pendingLimit;
+
+    public CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        abortIfNeeded();
+        if (escapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+            return ESCAPED_CARRIAGE_RETURN[escapePosition++];
+        }
+        int b = pendingPosition < pendingLimit
+                ? pending[pendingPosition++] & 0xff
+                : in.read();
+        if (b == '\r') {
+            escapePosition = 1;
+            return ESCAPED_CARRIAGE_RETURN[0];
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+
+        // Serve any partially returned escape and any buffered bytes first.
+        int count = 0;
+        while (count < len) {
+            if (escapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[escapePosition++];
+            } else if (pendingPosition < pendingLimit) {
+                byte next = pending[pendingPosition++];
+                if (next == '\r') {
+                    escapePosition = 0;
+                } else {
+                    b[off + count++] = next;
+                }
+            } else {
+                break;
+            }
+        }
+        if (count > 0) {
+            return count;
+        }
+
+        // Fast path: read straight into the caller's buffer, which needs no
+        // further work unless it contains a carriage return.
+        int read = in.read(b, off, len);
+        if (read <= 0) {
+            return read;
+        }
+        for (int i = off; i < off + read; i++) {
+            if (b[i] == '\r') {
+                int remaining = off + read - (i + 1);
+                if (remaining > 0) {
+                    if (pending == null || pending.length < remaining) {
+                        pending = new byte[Math.max(remaining, 512)];
+                    }
+                    System.arraycopy(b, i + 1, pending, 0, remaining);
+                    pendingPosition = 0;
+                    pendingLimit = remaining;
+                }
+                escapePosition = 0;
+                int end = i;
+                while (end < off + len
+                        && escapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+                    b[end++] = ESCAPED_CARRIAGE_RETURN[escapePosition++];
+                }
+                return end - off;
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        abortIfNeeded();
+        long skipped = 0;
+        while (skipped < n && read() != -1) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        abortIfNeeded();
+        return (ESCAPED_CARRIAGE_RETURN.length - escapePosition)
+                + (pendingLimit - pendingPosition)
+                + in.available();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // mark/reset is not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
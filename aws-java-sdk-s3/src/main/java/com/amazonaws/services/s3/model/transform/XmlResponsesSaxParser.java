@@ -19,10 +19,6 @@ package com.amazonaws.services.s3.model.transform;
 
 import com.amazonaws.services.s3.model.*;
 
-import static com.amazonaws.util.StringUtils.UTF8;
-
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -68,6 +64,17 @@ import com.amazonaws.util.StringUtils;
 public class XmlResponsesSaxParser {
     private static final Log log = LogFactory.getLog(XmlResponsesSaxParser.class);
 
+    /**
+     * A SAX reader of each thread, reused by the parsers it creates since
+     * creating one means looking up the SAX driver and allocating its buffers.
+     * A reader is held either by one parser or by the cache, so that a parser
+     * created during a parse gets a reader of its own.
+     */
+    private static final ThreadLocal<XMLReader> cachedReader = new ThreadLocal<XMLReader>();
+
+    /** Handler the cached readers are left with, so that they don't retain the last one used. */
+    private static final DefaultHandler NO_HANDLER = new DefaultHandler();
+
     private XMLReader xr = null;
 
     private boolean sanitizeXmlDocument = true;
@@ -80,12 +87,21 @@ public class XmlResponsesSaxParser {
     public XmlResponsesSaxParser() throws AmazonClientException {
         // Ensure we can load the XML Reader.
         try {
-            xr = XMLReaderFactory.createXMLReader();
+            xr = takeXmlReader();
         } catch (SAXException e) {
             throw new AmazonClientException("Couldn't initialize a SAX driver to create an XMLReader", e);
         }
     }
 
+    private static XMLReader takeXmlReader() throws SAXException {
+        XMLReader reader = cachedReader.get();
+        if (reader == null) {
+            return XMLReaderFactory.createXMLReader();
+        }
+        cachedReader.remove();
+        return reader;
+    }
+
     /**
      * Parses an XML document from an input stream using a document handler.
      *
@@ -107,11 +123,23 @@ public class XmlResponsesSaxParser {
                 log.debug("Parsing XML response document with handler: " + handler.getClass());
             }
 
-            BufferedReader breader = new BufferedReader(new InputStreamReader(inputStream,
-                Constants.DEFAULT_ENCODING));
+            if (xr == null) {
+                // Released after a previous parse
+                xr = takeXmlReader();
+            }
+
+            // The reader buffers the decoded characters itself
+            InputStreamReader reader = new InputStreamReader(inputStream,
+                Constants.DEFAULT_ENCODING);
             xr.setContentHandler(handler);
             xr.setErrorHandler(handler);
-            xr.parse(new InputSource(breader));
+            xr.parse(new InputSource(reader));
+
+            // Only a reader which completed its parse is reused
+            xr.setContentHandler(NO_HANDLER);
+            xr.setErrorHandler(NO_HANDLER);
+            cachedReader.set(xr);
+            xr = null;
 
         } catch (IOException e) {
             throw e;
@@ -140,52 +168,14 @@ public class XmlResponsesSaxParser {
                 log.debug("Sanitizing XML document destined for handler " + handler.getClass());
             }
 
-            InputStream sanitizedInputStream = null;
-
-            try {
-
-                /*
-                 * Read object listing XML document from input stream provided into a
-                 * string buffer, so we can replace troublesome characters before
-                 * sending the document to the XML parser.
-                 */
-                StringBuilder listingDocBuffer = new StringBuilder();
-                BufferedReader br = new BufferedReader(
-                    new InputStreamReader(inputStream, Constants.DEFAULT_ENCODING));
-
-                char[] buf = new char[8192];
-                int read = -1;
-                while ((read = br.read(buf)) != -1) {
-                    listingDocBuffer.append(buf, 0, read);
-                }
-                br.close();
-
-                /*
-                 * Replace any carriage return (\r) characters with explicit XML
-                 * character entities, to prevent the SAX parser from
-                 * misinterpreting 0x0D characters as 0x0A and being unable to
-                 * parse the XML.
-                 */
-                String listingDoc = listingDocBuffer.toString().replaceAll("\r", "&#013;");
-
-                sanitizedInputStream = new ByteArrayInputStream(
-                    listingDoc.getBytes(UTF8));
-
-            } catch (IOException e) {
-                throw e;
-
-            } catch (Throwable t) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    if (log.isErrorEnabled()) {
-                        log.error("Unable to close response InputStream after failure sanitizing XML document", e);
-                    }
-                }
-                throw new AmazonClientException("Failed to sanitize XML document destined for handler "
-                    + handler.getClass(), t);
-            }
-            return sanitizedInputStream;
+            /*
+             * Replace any carriage return (\r) characters with explicit XML
+             * character entities as the document streams through, to prevent
+             * the SAX parser from misinterpreting 0x0D characters as 0x0A and
+             * being unable to parse the XML. The document is never buffered
+             * as a whole, so the memory used doesn't grow with the page size.
+             */
+            return new CarriageReturnEscapingInputStream(inputStream);
         }
     }
 
@@ -18,11 +18,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.SocketException;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ExecutorService;
@@ -40,6 +43,7 @@ import com.amazonaws.services.s3.internal.FileLocks;
 import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.internal.ServiceUtils.RetryableS3DownloadTask;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
 import com.amazonaws.services.s3.transfer.exception.FileLockException;
@@ -47,6 +51,7 @@ import com.amazonaws.services.s3.transfer.internal.AbstractTransfer;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
 import com.amazonaws.services.s3.transfer.internal.DownloadPartCallable;
+import com.amazonaws.services.s3.transfer.internal.DownloadRangeCallable;
 import com.amazonaws.util.IOUtils;
 
 @SdkInternalApi
@@ -64,9 +69,13 @@ final class DownloadCallable implements Callable<File> {
     private final ScheduledExecutorService timedExecutor;
     /** The thread pool in which parts are downloaded downloaded. */
     private final ExecutorService executor;
-    private final List<Future<File>> futureFiles;
+    private final List<Future<?>> futureFiles;
     private final boolean isDownloadParallel;
     private Integer lastFullyMergedPartNumber;
+    /** The size of each byte range of a ranged download; null if not ranged. */
+    private final Long rangedDownloadPartSize;
+    /** Bitmap of the byte ranges already written into dstfile. */
+    private final long[] completedRanges;
 
     private long expectedFileLength;
 
@@ -76,7 +85,8 @@ final class DownloadCallable implements Callable<File> {
             long expectedFileLength, long timeout,
             ScheduledExecutorService timedExecutor,
             ExecutorService executor,
-            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel)
+            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel,
+            Long rangedDownloadPartSize, long[] completedRanges)
     {
         if (s3 == null || latch == null || req == null || dstfile == null || download == null)
             throw new IllegalArgumentException();
@@ -91,9 +101,11 @@ final class DownloadCallable implements Callable<File> {
         this.timeout = timeout;
         this.timedExecutor = timedExecutor;
         this.executor = executor;
-        this.futureFiles = new ArrayList<Future<File>>();
+        this.futureFiles = new ArrayList<Future<?>>();
         this.lastFullyMergedPartNumber = lastFullyDownloadedPartNumber;
         this.isDownloadParallel = isDownloadParallel;
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+        this.completedRanges = completedRanges;
     }
 
     /**
@@ -125,7 +137,10 @@ final class DownloadCallable implements Callable<File> {
 
             download.setState(TransferState.InProgress);
 
-            if (isDownloadParallel) {
+            if (rangedDownloadPartSize != null) {
+                downloadInRanges();
+                download.setState(TransferState.Completed);
+            } else if (isDownloadParallel) {
                 downloadInParallel(ServiceUtils.getPartCount(req, s3));
                 download.setState(TransferState.Completed);
             } else {
@@ -137,7 +152,7 @@ final class DownloadCallable implements Callable<File> {
             return dstfile;
         } catch (Throwable t) {
             // Cancel all the futures
-            for (Future<File> f : futureFiles) {
+            for (Future<?> f : futureFiles) {
                 f.cancel(true);
             }
             // Downloads aren't allowed to move from canceled to failed
@@ -192,13 +207,98 @@ final class DownloadCallable implements Callable<File> {
         combineFiles();
     }
 
+    /**
+     * Downloads the byte ranges of the object in parallel, writing each one
+     * directly into its position in dstfile. Ranges already written before a
+     * pause are skipped.
+     */
+    private void downloadInRanges() throws Exception {
+        ObjectMetadata objectMetadata = download.getObjectMetadata();
+        long[] range = req.getRange();
+        long firstByte = 0;
+        long lastByte = objectMetadata.getContentLength() - 1;
+        if (range != null && range.length == 2) {
+            firstByte = range[0];
+            lastByte = Math.min(range[1], lastByte);
+        }
+        long totalBytes = lastByte - firstByte + 1;
+        int rangeCount = (int) ((totalBytes + rangedDownloadPartSize - 1) / rangedDownloadPartSize);
+
+        long completedBytes = 0;
+        for (int i = 0; i < rangeCount; i++) {
+            if (isRangeCompleted(i)) {
+                completedBytes += Math.min(rangedDownloadPartSize, totalBytes - i * rangedDownloadPartSize);
+            }
+        }
+
+        RandomAccessFile raf = null;
+        if (!FileLocks.lock(dstfile)) {
+            throw new FileLockException("Fail to lock " + dstfile);
+        }
+        try {
+            raf = new RandomAccessFile(dstfile, "rw");
+            if (completedBytes == 0) {
+                raf.setLength(0);
+                raf.setLength(totalBytes);
+            } else if (raf.length() != totalBytes) {
+                throw new AmazonClientException(
+                        "File " + dstfile.getAbsolutePath() + " has been modified since last pause.");
+            } else {
+                download.getProgress().updateProgress(completedBytes);
+            }
+
+            FileChannel channel = raf.getChannel();
+            CompletionService<Integer> completionService = new ExecutorCompletionService<Integer>(executor);
+            int pendingRanges = 0;
+            for (int i = 0; i < rangeCount; i++) {
+                if (isRangeCompleted(i)) {
+                    continue;
+                }
+                long position = i * rangedDownloadPartSize;
+                long rangeLastByte = Math.min(firstByte + position + rangedDownloadPartSize, lastByte + 1) - 1;
+                GetObjectRequest getRangeRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
+                        req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
+                                .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
+                                .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
+                                .withRange(firstByte + position, rangeLastByte)
+                                .withGeneralProgressListener(req.getGeneralProgressListener());
+
+                if (req.getMatchingETagConstraints() != null && !req.getMatchingETagConstraints().isEmpty()) {
+                    getRangeRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
+                } else if (objectMetadata.getETag() != null) {
+                    // Fail rather than mix the ranges of different versions of the object
+                    getRangeRequest.withMatchingETagConstraint(objectMetadata.getETag());
+                }
+                getRangeRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
+                getRangeRequest.setRequesterPays(req.isRequesterPays());
+
+                futureFiles.add(completionService.submit(
+                        new DownloadRangeCallable(s3, getRangeRequest, channel, position, i)));
+                pendingRanges++;
+            }
+
+            for (; pendingRanges > 0; pendingRanges--) {
+                int completedRange = completionService.take().get();
+                completedRanges[completedRange >>> 6] |= 1L << completedRange;
+                download.updatePersistableTransfer(rangedDownloadPartSize, completedRanges);
+            }
+        } finally {
+            IOUtils.closeQuietly(raf, LOG);
+            FileLocks.unlock(dstfile);
+        }
+    }
+
+    private boolean isRangeCompleted(int range) {
+        return (completedRanges[range >>> 6] & (1L << range)) != 0;
+    }
+
     /**
      * Merges all the individual part Files into dstFile
      */
     private void combineFiles() throws Exception {
         truncateDestinationFileIfNecessary();
-        for (Future<File> f : futureFiles) {
-            ServiceUtils.appendFile(f.get(), dstfile);
+        for (Future<?> f : futureFiles) {
+            ServiceUtils.appendFile((File) f.get(), dstfile);
             download.updatePersistableTransfer(++lastFullyMergedPartNumber);
         }
     }
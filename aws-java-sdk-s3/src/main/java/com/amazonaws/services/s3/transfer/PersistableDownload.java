@@ -15,6 +15,7 @@
 package com.amazonaws.services.s3.transfer;
 
 import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -75,11 +76,51 @@ public final class PersistableDownload extends PersistableTransfer {
     @JsonProperty
     private final long lastModifiedTime;
 
+    /**
+     * The size of each byte range of a ranged download; null if the download
+     * is not ranged.
+     */
+    @JsonProperty
+    private final Long rangedDownloadPartSize;
+
+    /**
+     * Bitmap of the byte ranges of a ranged download that have been
+     * successfully written into the downloaded file; bit <code>i % 64</code>
+     * of element <code>i / 64</code> is set once range <code>i</code> is
+     * written.
+     */
+    @JsonProperty
+    private final long[] completedRanges;
+
 
     public PersistableDownload() {
         this(null, null, null, null, null, false, null, null, 0L);
     }
 
+    public PersistableDownload(String bucketName, String key, String versionId,
+            long[] range, ResponseHeaderOverrides responseHeaders,
+            boolean isRequesterPays, String file,
+            Integer lastFullyDownloadedPartNumber, long lastModifiedTime) {
+        this(bucketName, key, versionId, range, responseHeaders, isRequesterPays,
+                file, lastFullyDownloadedPartNumber, lastModifiedTime, null, null);
+    }
+
+    /**
+     * Creates the state of a paused ranged download.
+     */
+    public PersistableDownload(String bucketName, String key, String versionId,
+            long[] range, ResponseHeaderOverrides responseHeaders,
+            boolean isRequesterPays, String file, long lastModifiedTime,
+            Long rangedDownloadPartSize, long[] completedRanges) {
+        this(bucketName, key, versionId, range, responseHeaders, isRequesterPays,
+                file, null, lastModifiedTime, rangedDownloadPartSize, completedRanges);
+    }
+
+    /**
+     * Creates the state of a paused download. The ranged state is absent from
+     * states persisted by earlier versions, and is then deserialized as null.
+     */
+    @JsonCreator
     public PersistableDownload(
             @JsonProperty(value = "bucketName") String bucketName,
             @JsonProperty(value = "key") String key,
@@ -89,7 +130,9 @@ public final class PersistableDownload extends PersistableTransfer {
             @JsonProperty(value = "isRequesterPays") boolean isRequesterPays,
             @JsonProperty(value = "file") String file,
             @JsonProperty(value = "lastFullyDownloadedPartNumber") Integer lastFullyDownloadedPartNumber,
-            @JsonProperty(value = "lastModifiedTime") long lastModifiedTime) {
+            @JsonProperty(value = "lastModifiedTime") long lastModifiedTime,
+            @JsonProperty(value = "rangedDownloadPartSize") Long rangedDownloadPartSize,
+            @JsonProperty(value = "completedRanges") long[] completedRanges) {
         this.bucketName = bucketName;
         this.key = key;
         this.versionId = versionId;
@@ -99,6 +142,8 @@ public final class PersistableDownload extends PersistableTransfer {
         this.file = file;
         this.lastFullyDownloadedPartNumber = lastFullyDownloadedPartNumber;
         this.lastModifiedTime = lastModifiedTime;
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+        this.completedRanges = completedRanges == null ? null : completedRanges.clone();
     }
 
     /**
@@ -169,4 +214,20 @@ public final class PersistableDownload extends PersistableTransfer {
     Long getlastModifiedTime() {
         return lastModifiedTime;
     }
+
+    /**
+     * Returns the size of each byte range of a ranged download; or null if the
+     * download is not ranged.
+     */
+    Long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * Returns the bitmap of the byte ranges that were successfully written
+     * into the downloaded file; or null if the download is not ranged.
+     */
+    long[] getCompletedRanges() {
+        return completedRanges == null ? null : completedRanges.clone();
+    }
 }
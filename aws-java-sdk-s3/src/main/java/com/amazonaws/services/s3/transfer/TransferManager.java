@@ -225,7 +225,7 @@ public class TransferManager {
      *            The client to use when making requests to Amazon S3.
      */
     public TransferManager(AmazonS3 s3) {
-        this(s3, TransferManagerUtils.createDefaultExecutorService());
+        this(s3, TransferManagerUtils.createDefaultExecutor());
     }
 
     /**
@@ -794,7 +794,7 @@ public class TransferManager {
     public Download download(final GetObjectRequest getObjectRequest,
                              final File file, long timeoutMillis) {
         return doDownload(getObjectRequest, file, null, null, OVERWRITE_MODE,
-                timeoutMillis, null, 0L);
+                timeoutMillis, null, 0L, null, null);
     }
 
     /**
@@ -836,7 +836,7 @@ public class TransferManager {
     public Download download(final GetObjectRequest getObjectRequest,
             final File file, final S3ProgressListener progressListener) {
         return doDownload(getObjectRequest, file, null, progressListener,
-                OVERWRITE_MODE, 0, null, 0L);
+                OVERWRITE_MODE, 0, null, 0L, null, null);
     }
 
     /**
@@ -885,7 +885,7 @@ public class TransferManager {
                              final File file, final S3ProgressListener progressListener,
                              final long timeoutMillis) {
         return doDownload(getObjectRequest, file, null, progressListener,
-                OVERWRITE_MODE, timeoutMillis, null, 0L);
+                OVERWRITE_MODE, timeoutMillis, null, 0L, null, null);
     }
 
     /**
@@ -900,7 +900,9 @@ public class TransferManager {
             final boolean resumeExistingDownload,
             final long timeoutMillis,
             final Integer lastFullyDownloadedPart,
-            final long lastModifiedTimeRecordedDuringPause)
+            final long lastModifiedTimeRecordedDuringPause,
+            final Long lastRangedDownloadPartSize,
+            final long[] lastCompletedRanges)
     {
         assertParameterNotNull(getObjectRequest,
                 "A valid GetObjectRequest must be provided to initiate download");
@@ -939,21 +941,50 @@ public class TransferManager {
         long[] range = getObjectRequest.getRange();
         if (range != null && range.length == 2) {
             startingByte = range[0];
-            lastByte = range[1];
+            // The requested range may run past the end of the object
+            lastByte = Math.min(range[1], objectMetadata.getContentLength() - 1);
         } else {
             lastByte = objectMetadata.getContentLength() - 1;
         }
 
         final long origStartingByte = startingByte;
-        final boolean isDownloadParallel = TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest,
-                ServiceUtils.getPartCount(getObjectRequest, s3));
+        long totalBytesToDownload = lastByte - startingByte + 1;
+
+        final Long rangedDownloadPartSize;
+        if (resumeExistingDownload) {
+            // A resumed download keeps the ranges it was paused with
+            rangedDownloadPartSize = lastRangedDownloadPartSize;
+        } else if (TransferManagerUtils.shouldUseRangedDownload(s3, getObjectRequest,
+                totalBytesToDownload, configuration)) {
+            rangedDownloadPartSize = configuration.getRangedDownloadPartSize();
+        } else {
+            rangedDownloadPartSize = null;
+        }
+        final boolean isDownloadParallel = rangedDownloadPartSize == null
+                && TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest,
+                        ServiceUtils.getPartCount(getObjectRequest, s3));
         // We still pass the unfiltered listener chain into DownloadImpl
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null,
                 stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel);
 
-        long totalBytesToDownload = lastByte - startingByte + 1;
         transferProgress.setTotalBytesToTransfer(totalBytesToDownload);
 
+        long[] completedRanges = null;
+        if (rangedDownloadPartSize != null) {
+            long rangeCount = (totalBytesToDownload + rangedDownloadPartSize - 1) / rangedDownloadPartSize;
+            completedRanges = new long[(int) ((rangeCount + 63) / 64)];
+            if (lastCompletedRanges != null) {
+                if (lastCompletedRanges.length != completedRanges.length) {
+                    throw new AmazonClientException("The ranges of the paused download of " + file
+                            + " do not match the requested object.");
+                }
+                completedRanges = lastCompletedRanges;
+            }
+            // Capture the ranged state right away, so that a download paused
+            // before its first range completes is not resumed as a serial one
+            download.updatePersistableTransfer(rangedDownloadPartSize, completedRanges);
+        }
+
         long fileLength = -1;
 
         if (resumeExistingDownload) {
@@ -962,7 +993,7 @@ public class TransferManager {
                         + " with key " + getObjectRequest.getKey() + " is modified on Amazon S3 since the last pause.");
             }
 
-            if (!isDownloadParallel) {
+            if (!isDownloadParallel && rangedDownloadPartSize == null) {
                 if (!FileLocks.lock(file)) {
                     throw new FileLockException("Fail to lock " + file + " for resume download");
                 }
@@ -996,7 +1027,8 @@ public class TransferManager {
             new DownloadCallable(s3, latch,
                 getObjectRequest, resumeExistingDownload, download, file,
                 origStartingByte, fileLength, timeoutMillis, timedThreadPool,
-                executorService, lastFullyDownloadedPart, isDownloadParallel));
+                executorService, lastFullyDownloadedPart, isDownloadParallel,
+                rangedDownloadPartSize, completedRanges));
         download.setMonitor(new DownloadMonitor(download, future));
         latch.countDown();
         return download;
@@ -1112,7 +1144,7 @@ public class TransferManager {
                                             listener),
                             f,
                             transferListener, null, false, 0,
-                            null, 0L));
+                            null, 0L, null, null));
         }
 
         if ( downloads.isEmpty() ) {
@@ -1760,7 +1792,9 @@ public class TransferManager {
         return doDownload(request, new File(persistableDownload.getFile()), null, null,
                 APPEND_MODE, 0,
                 persistableDownload.getLastFullyDownloadedPartNumber(),
-                persistableDownload.getlastModifiedTime());
+                persistableDownload.getlastModifiedTime(),
+                persistableDownload.getRangedDownloadPartSize(),
+                persistableDownload.getCompletedRanges());
     }
 
     /**
@@ -39,6 +39,12 @@ public class TransferManagerConfiguration {
     /** Default minimum size of each part for multi-part copy. */
     private static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /** Default size threshold for when to use ranged downloads; disabled. */
+    private static final long DEFAULT_RANGED_DOWNLOAD_THRESHOLD = Long.MAX_VALUE;
+
+    /** Default size of each byte range in a ranged download. */
+    private static final long DEFAULT_RANGED_DOWNLOAD_PART_SIZE = 8 * MB;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -77,6 +83,20 @@ public class TransferManagerConfiguration {
      */
     private long multipartCopyPartSize = DEFAULT_MINIMUM_COPY_PART_SIZE;
 
+    /**
+     * The size threshold, in bytes, for when to use ranged downloads.
+     * Downloads of objects over this size are split into byte ranges which are
+     * fetched in parallel and written directly into the destination file,
+     * whether or not the object was uploaded in parts. Ranged downloads are
+     * disabled by default.
+     */
+    private long rangedDownloadThreshold = DEFAULT_RANGED_DOWNLOAD_THRESHOLD;
+
+    /**
+     * The size in bytes of each byte range requested in a ranged download.
+     */
+    private long rangedDownloadPartSize = DEFAULT_RANGED_DOWNLOAD_PART_SIZE;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -193,6 +213,59 @@ public class TransferManagerConfiguration {
         this.multipartCopyThreshold = multipartCopyThreshold;
     }
 
+    /**
+     * Returns the size threshold in bytes for when to use ranged downloads.
+     * Downloads of objects over this size are split into byte ranges which are
+     * fetched in parallel and written directly into the destination file.
+     *
+     * @return The size threshold in bytes for when to use ranged downloads.
+     */
+    public long getRangedDownloadThreshold() {
+        return rangedDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to use ranged downloads.
+     * Downloads of objects over this size are split into byte ranges which are
+     * fetched in parallel and written directly into the destination file,
+     * whether or not the object was uploaded in parts. Ranged downloads are
+     * disabled by default.
+     * <p>
+     * Ranged downloads are not used with the Amazon S3 encryption client, nor
+     * for requests of a single part number.
+     *
+     * @param rangedDownloadThreshold
+     *            The size threshold in bytes for when to use ranged downloads.
+     */
+    public void setRangedDownloadThreshold(long rangedDownloadThreshold) {
+        this.rangedDownloadThreshold = rangedDownloadThreshold;
+    }
+
+    /**
+     * Returns the size in bytes of each byte range requested in a ranged
+     * download.
+     *
+     * @return The size in bytes of each byte range in a ranged download.
+     */
+    public long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range requested in a ranged
+     * download. Smaller ranges are retried and resumed at a finer grain, but
+     * cause more requests to be made.
+     *
+     * @param rangedDownloadPartSize
+     *            The size in bytes of each byte range in a ranged download.
+     */
+    public void setRangedDownloadPartSize(long rangedDownloadPartSize) {
+        if (rangedDownloadPartSize <= 0) {
+            throw new IllegalArgumentException("The ranged download part size must be positive");
+        }
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+    }
+
     /**
      * Sets the size threshold in bytes for when to use multipart uploads.
      * Uploads over this size will automatically use a multipart upload
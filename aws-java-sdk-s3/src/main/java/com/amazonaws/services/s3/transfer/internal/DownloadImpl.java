@@ -41,6 +41,18 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     private Integer lastFullyDownloadedPartNumber;
 
+    /**
+     * The size of each byte range of a ranged download; null if the download
+     * is not ranged.
+     */
+    private Long rangedDownloadPartSize;
+
+    /**
+     * Bitmap of the byte ranges of a ranged download that have been
+     * successfully written into the downloaded file.
+     */
+    private long[] completedRanges;
+
     private final GetObjectRequest getObjectRequest;
     private final File file;
     private final ObjectMetadata objectMetadata;
@@ -114,6 +126,23 @@ public class DownloadImpl extends AbstractTransfer implements Download {
         S3ProgressPublisher.publishTransferPersistable(progressListenerChain, persistableDownload);
     }
 
+    /**
+     * Only for internal use.
+     * For ranged downloads, updates the persistableTransfer each time a byte
+     * range is successfully written into the download file.
+     * Then notify the listeners that new persistableTransfer is available.
+     */
+    @SdkInternalApi
+    public void updatePersistableTransfer(long rangedDownloadPartSize, long[] completedRanges) {
+        synchronized (this) {
+            this.rangedDownloadPartSize = rangedDownloadPartSize;
+            this.completedRanges = completedRanges.clone();
+        }
+
+        persistableDownload = captureDownloadState(getObjectRequest, file);
+        S3ProgressPublisher.publishTransferPersistable(progressListenerChain, persistableDownload);
+    }
+
     /**
      * For parallel downloads, returns the last part number that was
      * successfully written into the download file.
@@ -175,6 +204,16 @@ public class DownloadImpl extends AbstractTransfer implements Download {
     private PersistableDownload captureDownloadState(
             final GetObjectRequest getObjectRequest, final File file) {
         if (getObjectRequest.getSSECustomerKey() == null) {
+            synchronized (this) {
+                if (rangedDownloadPartSize != null) {
+                    return new PersistableDownload(
+                            getObjectRequest.getBucketName(), getObjectRequest.getKey(),
+                            getObjectRequest.getVersionId(), getObjectRequest.getRange(),
+                            getObjectRequest.getResponseHeaders(), getObjectRequest.isRequesterPays(),
+                            file.getAbsolutePath(), getObjectMetadata().getLastModified().getTime(),
+                            rangedDownloadPartSize, completedRanges);
+                }
+            }
             return new PersistableDownload(
                     getObjectRequest.getBucketName(), getObjectRequest.getKey(),
                     getObjectRequest.getVersionId(), getObjectRequest.getRange(),
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * Helper class to get a byte range of an object from s3 and write it
+ * directly into its position in the destination file, and return the index
+ * of the range.
+ */
+@SdkInternalApi
+public class DownloadRangeCallable implements Callable<Integer> {
+    private static final Log LOG = LogFactory.getLog(DownloadRangeCallable.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AmazonS3 s3;
+    private final GetObjectRequest getRangeRequest;
+    private final FileChannel destination;
+    private final long position;
+    private final int rangeIndex;
+
+    /**
+     * @param getRangeRequest
+     *            The request for the byte range to download.
+     * @param destination
+     *            The channel of the destination file. Positional writes to a
+     *            channel may be made concurrently from several threads.
+     * @param position
+     *            The position in the destination file of the first byte of
+     *            the range.
+     * @param rangeIndex
+     *            The index of the range, returned once it has been written.
+     */
+    public DownloadRangeCallable(AmazonS3 s3, GetObjectRequest getRangeRequest,
+            FileChannel destination, long position, int rangeIndex) {
+        this.s3 = s3;
+        this.getRangeRequest = getRangeRequest;
+        this.destination = destination;
+        this.position = position;
+        this.rangeIndex = rangeIndex;
+    }
+
+    public Integer call() throws Exception {
+        S3Object s3Object = s3.getObject(getRangeRequest);
+        if (s3Object == null) {
+            throw new AmazonClientException(
+                    "There is no object in S3 satisfying this request. The getObject method returned null");
+        }
+
+        InputStream in = s3Object.getObjectContent();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long offset = position;
+            int bytesRead;
+            while ((bytesRead = in.read(buffer.array())) > -1) {
+                buffer.limit(bytesRead);
+                while (buffer.hasRemaining()) {
+                    offset += destination.write(buffer, offset);
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            s3Object.getObjectContent().abort();
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            IOUtils.closeQuietly(in, LOG);
+        }
+        return rangeIndex;
+    }
+}
@@ -14,6 +14,8 @@
  */
 package com.amazonaws.services.s3.transfer.internal;
 
+import java.util.List;
+
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.services.s3.transfer.PersistableTransfer;
 
@@ -43,4 +45,12 @@ public class S3ProgressListenerChain extends
             }
         }
     }
+
+    /**
+     * Returns the listeners of this chain, for {@link S3ProgressPublisher} to
+     * deliver the persistable transfer to each of them.
+     */
+    List<ProgressListener> listeners() {
+        return getListeners();
+    }
 }
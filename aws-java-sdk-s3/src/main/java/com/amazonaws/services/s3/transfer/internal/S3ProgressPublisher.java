@@ -44,6 +44,20 @@ public class S3ProgressPublisher extends SDKProgressPublisher {
             return null;
         }
         final S3ProgressListener s3listener = (S3ProgressListener)listener;
+        if (s3listener.getClass() == S3ProgressListenerChain.class) {
+            // Deliver to each listener of the chain in order with the
+            // progress events, which are queued for each of them.
+            Future<?> future = null;
+            for (ProgressListener member :
+                    ((S3ProgressListenerChain) s3listener).listeners()) {
+                Future<?> memberFuture =
+                        publishTransferPersistable(member, persistableTransfer);
+                if (memberFuture != null) {
+                    future = memberFuture;
+                }
+            }
+            return future;
+        }
         return deliverEvent(s3listener, persistableTransfer);
     }
 
@@ -61,11 +75,11 @@ public class S3ProgressPublisher extends SDKProgressPublisher {
         // This is unfortunate as the listener should never block in the first
         // place, but such task submission is necessary to remain backward
         // compatible.
-        return setLatestFutureTask(getExecutorService().submit(new Runnable() {
+        return deliverCallback(listener, new Runnable() {
             @Override public void run() {
                 listener.onPersistableTransfer(persistableTransfer);
             }
-        }));
+        });
     }
 
     private static Future<?> quietlyCallListener(
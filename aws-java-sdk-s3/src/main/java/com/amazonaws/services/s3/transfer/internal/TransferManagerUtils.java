@@ -17,6 +17,7 @@ package com.amazonaws.services.s3.transfer.internal;
 import static com.amazonaws.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
 
 import java.io.File;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -29,6 +30,8 @@ import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.transfer.PauseStatus;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
 import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
+import com.amazonaws.util.SdkExecutorProvider;
+import com.amazonaws.util.SdkExecutors;
 import com.amazonaws.util.ValidationUtils;
 
 /**
@@ -42,7 +45,23 @@ public class TransferManagerUtils {
      * @return A new thread pool configured with the default settings.
      */
     public static ThreadPoolExecutor createDefaultExecutorService() {
-        ThreadFactory threadFactory = new ThreadFactory() {
+        return (ThreadPoolExecutor)Executors.newFixedThreadPool(10, createDefaultThreadFactory());
+    }
+
+    /**
+     * Returns a new pool of the default size, running its tasks on the
+     * executor of the installed {@link SdkExecutorProvider} if any, or on
+     * threads of its own otherwise.
+     *
+     * @return A new pool configured with the default settings.
+     */
+    public static ExecutorService createDefaultExecutor() {
+        return SdkExecutors.newFixedThreadPool("s3-transfer-manager-worker", 10,
+                createDefaultThreadFactory());
+    }
+
+    private static ThreadFactory createDefaultThreadFactory() {
+        return new ThreadFactory() {
             private int threadCount = 1;
 
             public Thread newThread(Runnable r) {
@@ -51,7 +70,6 @@ public class TransferManagerUtils {
                 return thread;
             }
         };
-        return (ThreadPoolExecutor)Executors.newFixedThreadPool(10, threadFactory);
     }
 
     /**
@@ -210,4 +228,31 @@ public class TransferManagerUtils {
         }
         return true;
     }
+
+    /**
+     * Returns true if the specified download request should be split into
+     * byte ranges downloaded in parallel, according to the specified
+     * configuration.
+     *
+     * @param s3
+     *            The Amazon s3 client.
+     * @param getObjectRequest
+     *            The request to check.
+     * @param totalBytesToDownload
+     *            The number of bytes the request downloads.
+     * @param configuration
+     *            The configuration of the transfer manager.
+     *
+     * @return True if this request should use a ranged download.
+     */
+    public static boolean shouldUseRangedDownload(final AmazonS3 s3, final GetObjectRequest getObjectRequest,
+            long totalBytesToDownload, TransferManagerConfiguration configuration) {
+        ValidationUtils.assertNotNull(s3, "S3 client");
+        ValidationUtils.assertNotNull(getObjectRequest, "GetObjectRequest");
+
+        if (s3 instanceof AmazonS3Encryption || getObjectRequest.getPartNumber() != null) {
+            return false;
+        }
+        return totalBytesToDownload > configuration.getRangedDownloadThreshold();
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class DataKeyCacheTest {
+
+    private static final String CMK = "cmk";
+    private static final String KEY_SPEC = "AES_256";
+    private static final byte[] PLAINTEXT = { 1, 2, 3 };
+    private static final byte[] KEY_BLOB = { 4, 5, 6 };
+
+    @Test
+    public void reusesGeneratedKeyUpToMaxUses() {
+        DataKeyCache cache = new DataKeyCache(60000, 3);
+        cache.put(CMK, context("a", "1"), KEY_SPEC, PLAINTEXT, KEY_BLOB);
+
+        byte[][] cached = cache.get(CMK, context("a", "1"), KEY_SPEC);
+        assertArrayEquals(PLAINTEXT, cached[0]);
+        assertArrayEquals(KEY_BLOB, cached[1]);
+        assertNotNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+        // The put counts as the first use
+        assertNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+        assertNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+    }
+
+    @Test
+    public void doesNotReuseGeneratedKeyWithMaxUsesOfOne() {
+        DataKeyCache cache = new DataKeyCache(60000, 1);
+        cache.put(CMK, context("a", "1"), KEY_SPEC, PLAINTEXT, KEY_BLOB);
+
+        assertNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+    }
+
+    @Test
+    public void expiresKeysAfterMaxAge() throws InterruptedException {
+        DataKeyCache cache = new DataKeyCache(50, 100);
+        cache.put(CMK, context("a", "1"), KEY_SPEC, PLAINTEXT, KEY_BLOB);
+        cache.putDecrypted(KEY_BLOB, context("a", "1"), PLAINTEXT);
+        assertNotNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+        assertNotNull(cache.getDecrypted(KEY_BLOB, context("a", "1")));
+
+        Thread.sleep(100);
+
+        assertNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+        assertNull(cache.getDecrypted(KEY_BLOB, context("a", "1")));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedKey() {
+        DataKeyCache cache = new DataKeyCache(60000, 100);
+        for (int i = 0; i < DataKeyCache.MAX_ENTRIES; i++) {
+            cache.put(CMK + i, null, KEY_SPEC, PLAINTEXT, KEY_BLOB);
+        }
+        assertNotNull(cache.get(CMK + 0, null, KEY_SPEC));
+
+        cache.put(CMK + DataKeyCache.MAX_ENTRIES, null, KEY_SPEC, PLAINTEXT, KEY_BLOB);
+
+        assertNotNull(cache.get(CMK + 0, null, KEY_SPEC));
+        assertNull(cache.get(CMK + 1, null, KEY_SPEC));
+        assertNotNull(cache.get(CMK + 2, null, KEY_SPEC));
+        assertNotNull(cache.get(CMK + DataKeyCache.MAX_ENTRIES, null, KEY_SPEC));
+    }
+
+    @Test
+    public void isolatesGeneratedKeysByMasterKeyContextAndKeySpec() {
+        DataKeyCache cache = new DataKeyCache(60000, 100);
+        cache.put(CMK, context("a", "1"), KEY_SPEC, PLAINTEXT, KEY_BLOB);
+
+        assertNull(cache.get("other-cmk", context("a", "1"), KEY_SPEC));
+        assertNull(cache.get(CMK, context("a", "2"), KEY_SPEC));
+        assertNull(cache.get(CMK, context("b", "1"), KEY_SPEC));
+        assertNull(cache.get(CMK, null, KEY_SPEC));
+        assertNull(cache.get(CMK, context("a", "1"), "AES_128"));
+        assertNotNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+    }
+
+    @Test
+    public void isolatesDecryptedKeysByKeyBlobAndContext() {
+        DataKeyCache cache = new DataKeyCache(60000, 0);
+        cache.putDecrypted(KEY_BLOB, context("a", "1"), PLAINTEXT);
+
+        assertNull(cache.getDecrypted(new byte[] { 4, 5, 7 }, context("a", "1")));
+        assertNull(cache.getDecrypted(KEY_BLOB, context("a", "2")));
+        assertNull(cache.getDecrypted(KEY_BLOB, null));
+        assertArrayEquals(PLAINTEXT, cache.getDecrypted(KEY_BLOB.clone(), context("a", "1")));
+        // A generated key is not a decrypted one
+        assertNull(cache.get(CMK, context("a", "1"), KEY_SPEC));
+    }
+
+    @Test
+    public void isUnaffectedByChangesToKeysAndContexts() {
+        DataKeyCache cache = new DataKeyCache(60000, 100);
+        Map<String, String> context = context("a", "1");
+        byte[] plaintext = PLAINTEXT.clone();
+        cache.put(CMK, context, KEY_SPEC, plaintext, KEY_BLOB);
+        context.put("a", "2");
+        plaintext[0] = 0;
+
+        byte[][] cached = cache.get(CMK, context("a", "1"), KEY_SPEC);
+        assertArrayEquals(PLAINTEXT, cached[0]);
+        cached[0][0] = 0;
+        assertArrayEquals(PLAINTEXT, cache.get(CMK, context("a", "1"), KEY_SPEC)[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNonPositiveMaxAge() {
+        new DataKeyCache(0, 10);
+    }
+
+    private static Map<String, String> context(String key, String value) {
+        return new HashMap<String, String>(Collections.singletonMap(key, value));
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.internal.S3Direct;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
+import com.amazonaws.services.s3.model.CryptoConfiguration;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.KMSEncryptionMaterialsProvider;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+
+public class S3CryptoModuleDataKeyCacheTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String CONTENT =
+            "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789abcdefghijklmnopqrstuvwxyz";
+
+    private final StubKMSClient kms = new StubKMSClient();
+    private final StubS3Direct s3 = new StubS3Direct();
+
+    @Test
+    public void generatesDataKeyForEveryObjectByDefault() {
+        S3CryptoModule<?> module = newModule(new CryptoConfiguration());
+
+        Set<String> ivs = new HashSet<String>();
+        Set<String> keys = new HashSet<String>();
+        for (int i = 0; i < 4; i++) {
+            Map<String, String> userMetadata = put(module, "key" + i);
+            ivs.add(userMetadata.get(Headers.CRYPTO_IV));
+            keys.add(userMetadata.get(Headers.CRYPTO_KEY_V2));
+        }
+
+        assertEquals(4, kms.generateDataKeyCalls.get());
+        assertEquals(4, keys.size());
+        assertEquals(4, ivs.size());
+    }
+
+    @Test
+    public void reusesDataKeyUpToMaxUsesWithDistinctIVs() throws IOException {
+        S3CryptoModule<?> module = newModule(new CryptoConfiguration()
+                .withDataKeyCacheMaxAgeMillis(60000)
+                .withDataKeyCacheMaxUses(3));
+
+        Set<String> ivs = new HashSet<String>();
+        Map<String, Integer> objectsByKey = new HashMap<String, Integer>();
+        for (int i = 0; i < 7; i++) {
+            Map<String, String> userMetadata = put(module, "key" + i);
+            ivs.add(userMetadata.get(Headers.CRYPTO_IV));
+            String key = userMetadata.get(Headers.CRYPTO_KEY_V2);
+            Integer objects = objectsByKey.get(key);
+            objectsByKey.put(key, objects == null ? 1 : objects + 1);
+        }
+
+        assertEquals(3, kms.generateDataKeyCalls.get());
+        assertEquals(3, objectsByKey.size());
+        assertEquals(new HashSet<Integer>(Arrays.asList(3, 1)),
+                new HashSet<Integer>(objectsByKey.values()));
+        assertEquals(7, ivs.size());
+        // Objects sharing a data key still decrypt
+        for (int i = 0; i < 7; i++) {
+            assertEquals(CONTENT, get(module, "key" + i));
+        }
+    }
+
+    @Test
+    public void generatesNewDataKeyOnceMaxAgeIsReached() throws InterruptedException {
+        S3CryptoModule<?> module = newModule(new CryptoConfiguration()
+                .withDataKeyCacheMaxAgeMillis(1000)
+                .withDataKeyCacheMaxUses(100));
+
+        put(module, "key0");
+        put(module, "key1");
+        assertEquals(1, kms.generateDataKeyCalls.get());
+
+        Thread.sleep(1100);
+        put(module, "key2");
+        assertEquals(2, kms.generateDataKeyCalls.get());
+    }
+
+    @Test
+    public void decryptsDataKeyOnceForRangedGetsWithinMaxAge() throws IOException {
+        S3CryptoModule<?> module = newModule(new CryptoConfiguration()
+                .withDataKeyCacheMaxAgeMillis(60000));
+        put(module, "key0");
+
+        assertEquals(CONTENT.substring(0, 10), get(module, "key0", 0, 9));
+        assertEquals(CONTENT.substring(20, 50), get(module, "key0", 20, 49));
+        assertEquals(CONTENT.substring(64), get(module, "key0", 64, CONTENT.length() - 1));
+        assertEquals(1, kms.decryptCalls.get());
+    }
+
+    @Test
+    public void decryptsDataKeyAgainOnceMaxAgeIsReached() throws IOException, InterruptedException {
+        S3CryptoModule<?> module = newModule(new CryptoConfiguration()
+                .withDataKeyCacheMaxAgeMillis(1000));
+        put(module, "key0");
+
+        assertEquals(CONTENT.substring(0, 10), get(module, "key0", 0, 9));
+        assertEquals(CONTENT.substring(10, 20), get(module, "key0", 10, 19));
+        assertEquals(1, kms.decryptCalls.get());
+
+        Thread.sleep(1100);
+        assertEquals(CONTENT.substring(20, 30), get(module, "key0", 20, 29));
+        assertEquals(2, kms.decryptCalls.get());
+    }
+
+    @Test
+    public void doesNotReuseDecryptedKeyForOtherDataKeys() throws IOException {
+        S3CryptoModule<?> module = newModule(new CryptoConfiguration()
+                .withDataKeyCacheMaxAgeMillis(60000));
+        put(module, "key0");
+        put(module, "key1");
+        assertEquals(2, kms.generateDataKeyCalls.get());
+
+        assertEquals(CONTENT.substring(0, 10), get(module, "key0", 0, 9));
+        assertEquals(CONTENT.substring(0, 10), get(module, "key1", 0, 9));
+        assertEquals(CONTENT.substring(10, 20), get(module, "key0", 10, 19));
+        assertEquals(CONTENT.substring(10, 20), get(module, "key1", 10, 19));
+        assertEquals(2, kms.decryptCalls.get());
+    }
+
+    @Test
+    public void doesNotReuseDecryptedKeyForOtherEncryptionContext() throws IOException {
+        S3CryptoModule<?> module = newModule(new CryptoConfiguration()
+                .withDataKeyCacheMaxAgeMillis(60000));
+        put(module, "key0");
+        assertEquals(CONTENT.substring(0, 10), get(module, "key0", 0, 9));
+        assertEquals(1, kms.decryptCalls.get());
+
+        // Same encrypted data key, different encryption context
+        Map<String, String> userMetadata = s3.metadata.get("key0").getUserMetadata();
+        userMetadata.put(Headers.MATERIALS_DESCRIPTION,
+                "{\"kms_cmk_id\":\"cmk\",\"other\":\"value\"}");
+        try {
+            get(module, "key0", 0, 9);
+            fail("expected AmazonServiceException");
+        } catch (AmazonServiceException expected) {
+        }
+        assertEquals(2, kms.decryptCalls.get());
+    }
+
+    private S3CryptoModule<?> newModule(CryptoConfiguration cryptoConfig) {
+        return new CryptoModuleDispatcher(kms, s3,
+                new StaticCredentialsProvider(new BasicAWSCredentials("access", "secret")),
+                new KMSEncryptionMaterialsProvider("cmk"), cryptoConfig);
+    }
+
+    private Map<String, String> put(S3CryptoModule<?> module, String key) {
+        byte[] content = CONTENT.getBytes(StringUtils.UTF8);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        module.putObjectSecurely(new PutObjectRequest(BUCKET, key,
+                new ByteArrayInputStream(content), metadata));
+        return s3.metadata.get(key).getUserMetadata();
+    }
+
+    private String get(S3CryptoModule<?> module, String key) throws IOException {
+        S3Object object = module.getObjectSecurely(new GetObjectRequest(BUCKET, key));
+        return IOUtils.toString(object.getObjectContent());
+    }
+
+    private String get(S3CryptoModule<?> module, String key, long start, long end)
+            throws IOException {
+        S3Object object = module.getObjectSecurely(new GetObjectRequest(BUCKET, key)
+                .withRange(start, end));
+        return IOUtils.toString(object.getObjectContent());
+    }
+
+    /**
+     * Keeps the objects put in memory, and serves ranges of them.
+     */
+    private static class StubS3Direct extends S3Direct {
+        private final Map<String, byte[]> contents = new HashMap<String, byte[]>();
+        private final Map<String, ObjectMetadata> metadata = new HashMap<String, ObjectMetadata>();
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest req) {
+            try {
+                contents.put(req.getKey(), IOUtils.toByteArray(req.getInputStream()));
+            } catch (IOException e) {
+                throw new AmazonClientException(e);
+            }
+            metadata.put(req.getKey(), req.getMetadata().clone());
+            return new PutObjectResult();
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest req) {
+            S3Object object = new S3Object();
+            object.setBucketName(req.getBucketName());
+            object.setKey(req.getKey());
+            object.setObjectMetadata(metadata.get(req.getKey()).clone());
+            byte[] content = contents.get(req.getKey());
+            long[] range = req.getRange();
+            if (range == null) {
+                object.setObjectContent(new ByteArrayInputStream(content));
+            } else {
+                int start = (int) range[0];
+                int end = (int) Math.min(range[1], content.length - 1);
+                object.setObjectContent(new ByteArrayInputStream(content, start, end - start + 1));
+            }
+            return object;
+        }
+
+        @Override
+        public ObjectMetadata getObject(GetObjectRequest req, File dest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CopyPartResult copyPart(CopyPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
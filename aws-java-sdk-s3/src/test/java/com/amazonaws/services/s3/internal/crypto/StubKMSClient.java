@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static com.amazonaws.util.BinaryUtils.copyAllBytesFrom;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.kms.AWSKMSClient;
+import com.amazonaws.services.kms.model.DecryptRequest;
+import com.amazonaws.services.kms.model.DecryptResult;
+import com.amazonaws.services.kms.model.GenerateDataKeyRequest;
+import com.amazonaws.services.kms.model.GenerateDataKeyResult;
+import com.amazonaws.services.kms.model.InvalidCiphertextException;
+
+/**
+ * A KMS client which generates and decrypts data keys in memory, and counts
+ * its calls.
+ */
+class StubKMSClient extends AWSKMSClient {
+
+    final AtomicInteger generateDataKeyCalls = new AtomicInteger();
+    final AtomicInteger decryptCalls = new AtomicInteger();
+
+    private final SecureRandom random = new SecureRandom();
+    /** The generated data keys, by encrypted key blob. */
+    private final Map<ByteBuffer, DataKey> dataKeys = new ConcurrentHashMap<ByteBuffer, DataKey>();
+
+    StubKMSClient() {
+        super(new BasicAWSCredentials("access", "secret"));
+    }
+
+    @Override
+    public GenerateDataKeyResult generateDataKey(GenerateDataKeyRequest req) {
+        generateDataKeyCalls.incrementAndGet();
+        byte[] plaintext = new byte[32];
+        random.nextBytes(plaintext);
+        byte[] keyBlob = new byte[48];
+        random.nextBytes(keyBlob);
+        dataKeys.put(ByteBuffer.wrap(keyBlob), new DataKey(req.getKeyId(), plaintext, req.getEncryptionContext()));
+        return new GenerateDataKeyResult()
+            .withKeyId(req.getKeyId())
+            .withPlaintext(ByteBuffer.wrap(plaintext.clone()))
+            .withCiphertextBlob(ByteBuffer.wrap(keyBlob.clone()));
+    }
+
+    @Override
+    public DecryptResult decrypt(DecryptRequest req) {
+        decryptCalls.incrementAndGet();
+        DataKey dataKey = dataKeys.get(ByteBuffer.wrap(copyAllBytesFrom(req.getCiphertextBlob())));
+        if (dataKey == null || !dataKey.encryptionContext.equals(contextOf(req.getEncryptionContext()))) {
+            throw new InvalidCiphertextException("Unable to decrypt the data key");
+        }
+        return new DecryptResult()
+            .withKeyId(dataKey.keyId)
+            .withPlaintext(ByteBuffer.wrap(dataKey.plaintext.clone()));
+    }
+
+    private static Map<String, String> contextOf(Map<String, String> encryptionContext) {
+        return encryptionContext == null
+             ? Collections.<String, String>emptyMap()
+             : new HashMap<String, String>(encryptionContext);
+    }
+
+    private static final class DataKey {
+        private final String keyId;
+        private final byte[] plaintext;
+        private final Map<String, String> encryptionContext;
+
+        DataKey(String keyId, byte[] plaintext, Map<String, String> encryptionContext) {
+            this.keyId = keyId;
+            this.plaintext = plaintext;
+            this.encryptionContext = contextOf(encryptionContext);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.amazonaws.util.StringUtils;
+
+public class CarriageReturnEscapingInputStreamTest {
+
+    private static final String DOCUMENT =
+            "<Key>a\rb</Key>\r\r<Key>é\r中</Key>\r";
+    private static final String ESCAPED =
+            "<Key>a&#013;b</Key>&#013;&#013;<Key>é&#013;中</Key>&#013;";
+
+    @Test
+    public void escapesWhenReadByteByByte() throws IOException {
+        InputStream in = escaping(DOCUMENT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        assertEquals(ESCAPED, new String(out.toByteArray(), StringUtils.UTF8));
+    }
+
+    @Test
+    public void escapesWhenReadIntoArraysOfAnySize() throws IOException {
+        for (int size = 1; size <= 16; size++) {
+            assertEquals("buffer size " + size, ESCAPED, readAll(escaping(DOCUMENT), size));
+        }
+        assertEquals(ESCAPED, readAll(escaping(DOCUMENT), 4096));
+    }
+
+    @Test
+    public void escapesCarriageReturnAtBufferBoundary() throws IOException {
+        // The carriage return is the last byte of each read from the
+        // wrapped stream, and the escape does not fit in the caller's buffer
+        InputStream in = new CarriageReturnEscapingInputStream(
+                new ChunkedInputStream(bytes("abc\rdef\r"), 4));
+        assertEquals("abc&#013;def&#013;", readAll(in, 4));
+
+        in = new CarriageReturnEscapingInputStream(
+                new ChunkedInputStream(bytes("\r\r\r"), 1));
+        assertEquals("&#013;&#013;&#013;", readAll(in, 5));
+    }
+
+    @Test
+    public void mixesSingleByteAndArrayReads() throws IOException {
+        InputStream in = escaping("x\ry\rz");
+        StringBuilder sb = new StringBuilder();
+        sb.append((char) in.read());
+        byte[] buffer = new byte[3];
+        int read = in.read(buffer, 0, 3);
+        sb.append(new String(buffer, 0, read, StringUtils.UTF8));
+        sb.append((char) in.read());
+        sb.append((char) in.read());
+        sb.append(readAll(in, 2));
+        assertEquals("x&#013;y&#013;z", sb.toString());
+    }
+
+    @Test
+    public void skipCountsEscapedBytes() throws IOException {
+        InputStream in = escaping("a\rb");
+        assertEquals(3, in.skip(3));
+        assertEquals("013;b", readAll(in, 8));
+    }
+
+    @Test
+    public void markAndResetAreNotSupported() throws IOException {
+        InputStream in = escaping(DOCUMENT);
+        assertFalse(in.markSupported());
+        in.mark(100);
+        try {
+            in.reset();
+            fail("expected IOException");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void bufferedStreamCanMarkAndResetEscapedContent() throws IOException {
+        InputStream in = new BufferedInputStream(escaping(DOCUMENT), 4);
+        byte[] head = new byte[8];
+        assertEquals(5, in.read(head, 0, 5));
+        in.mark(100);
+        String rest = readAll(in, 3);
+        in.reset();
+        assertEquals(rest, readAll(in, 7));
+        assertEquals(ESCAPED, new String(head, 0, 5, StringUtils.UTF8) + rest);
+    }
+
+    private static InputStream escaping(String document) {
+        return new CarriageReturnEscapingInputStream(
+                new ByteArrayInputStream(bytes(document)));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StringUtils.UTF8);
+    }
+
+    private static String readAll(InputStream in, int bufferSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[bufferSize];
+        int read;
+        while ((read = in.read(buffer, 0, bufferSize)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StringUtils.UTF8);
+    }
+
+    /**
+     * Returns at most the given number of bytes per read, so that reads end
+     * at known positions.
+     */
+    private static class ChunkedInputStream extends ByteArrayInputStream {
+        private final int chunkSize;
+
+        ChunkedInputStream(byte[] bytes, int chunkSize) {
+            super(bytes);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+
+import com.amazonaws.services.s3.model.ResponseHeaderOverrides;
+
+public class PersistableDownloadTest {
+
+    @Test
+    public void roundTripsRangedState() {
+        PersistableDownload download = deserialize(new PersistableDownload("bucket", "key",
+                "version", new long[] { 10, 5009 }, null, true, "/tmp/file", 1234L,
+                100L, new long[] { 0x5L }).serialize());
+
+        assertEquals("bucket", download.getBucketName());
+        assertEquals("key", download.getKey());
+        assertEquals("version", download.getVersionId());
+        assertArrayEquals(new long[] { 10, 5009 }, download.getRange());
+        assertTrue(download.isRequesterPays());
+        assertEquals("/tmp/file", download.getFile());
+        assertEquals(Long.valueOf(1234L), download.getlastModifiedTime());
+        assertNull(download.getLastFullyDownloadedPartNumber());
+        assertEquals(Long.valueOf(100L), download.getRangedDownloadPartSize());
+        assertArrayEquals(new long[] { 0x5L }, download.getCompletedRanges());
+    }
+
+    @Test
+    public void roundTripsPartState() {
+        PersistableDownload download = deserialize(new PersistableDownload("bucket", "key",
+                null, null, new ResponseHeaderOverrides().withContentType("text/plain"),
+                false, "/tmp/file", 3, 1234L).serialize());
+
+        assertEquals(Integer.valueOf(3), download.getLastFullyDownloadedPartNumber());
+        assertEquals("text/plain", download.getResponseHeaders().getContentType());
+        assertFalse(download.isRequesterPays());
+        assertNull(download.getRangedDownloadPartSize());
+        assertNull(download.getCompletedRanges());
+    }
+
+    @Test
+    public void readsStateWithoutRangedFields() {
+        PersistableDownload download = deserialize("{\"pauseType\":\"download\","
+                + "\"bucketName\":\"bucket\",\"key\":\"key\",\"versionId\":null,"
+                + "\"range\":null,\"responseHeaders\":null,\"isRequesterPays\":false,"
+                + "\"file\":\"/tmp/file\",\"lastFullyDownloadedPartNumber\":2,"
+                + "\"lastModifiedTime\":1234}");
+
+        assertEquals("bucket", download.getBucketName());
+        assertEquals(Integer.valueOf(2), download.getLastFullyDownloadedPartNumber());
+        assertEquals(Long.valueOf(1234L), download.getlastModifiedTime());
+        assertNull(download.getRangedDownloadPartSize());
+        assertNull(download.getCompletedRanges());
+    }
+
+    private static PersistableDownload deserialize(String serialized) {
+        return PersistableTransfer.deserializeFrom(
+                new ByteArrayInputStream(serialized.getBytes(UTF8)));
+    }
+}
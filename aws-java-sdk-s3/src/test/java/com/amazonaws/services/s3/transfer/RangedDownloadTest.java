@@ -0,0 +1,357 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.Md5Utils;
+
+public class RangedDownloadTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final Date LAST_MODIFIED = new Date(1000000L);
+    private static final int PART_SIZE = 100;
+    private static final int RANGES = 11;
+    private static final byte[] CONTENT = new byte[PART_SIZE * (RANGES - 1) + 50];
+
+    static {
+        for (int i = 0; i < CONTENT.length; i++) {
+            CONTENT[i] = (byte) (i * 31);
+        }
+    }
+
+    private static final String ETAG = BinaryUtils.toHex(Md5Utils.computeMD5Hash(CONTENT));
+
+    private final StubS3Client s3 = new StubS3Client();
+    private TransferManager tm;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        // One thread runs the download, the others fetch the ranges
+        tm = new TransferManager(s3, Executors.newFixedThreadPool(4));
+        TransferManagerConfiguration configuration = new TransferManagerConfiguration();
+        configuration.setRangedDownloadThreshold(PART_SIZE);
+        configuration.setRangedDownloadPartSize(PART_SIZE);
+        tm.setConfiguration(configuration);
+        file = File.createTempFile("ranged-download", ".tmp");
+        file.deleteOnExit();
+    }
+
+    @After
+    public void tearDown() {
+        tm.shutdownNow(false);
+        file.delete();
+    }
+
+    @Test
+    public void splitsObjectIntoRangesConstrainedToItsETag() throws Exception {
+        tm.download(new GetObjectRequest(BUCKET, KEY), file).waitForCompletion();
+
+        List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < RANGES - 1; i++) {
+            expected.add(i * PART_SIZE + "-" + (i * PART_SIZE + PART_SIZE - 1));
+        }
+        expected.add((RANGES - 1) * PART_SIZE + "-" + (CONTENT.length - 1));
+        List<String> requested = new ArrayList<String>();
+        for (GetObjectRequest req : s3.requests) {
+            requested.add(req.getRange()[0] + "-" + req.getRange()[1]);
+            assertEquals(Collections.singletonList(ETAG), req.getMatchingETagConstraints());
+        }
+        Collections.sort(requested, new RangeComparator());
+        assertEquals(expected, requested);
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void writesRangesInPlaceWhateverTheirCompletionOrder() throws Exception {
+        // The first ranges are served the slowest
+        for (int i = 0; i < RANGES; i++) {
+            s3.delays.put((long) i * PART_SIZE, (RANGES - i) * 20L);
+        }
+
+        Download download = tm.download(new GetObjectRequest(BUCKET, KEY), file);
+        download.waitForCompletion();
+
+        assertEquals(TransferState.Completed, download.getState());
+        assertFalse(isSorted(s3.served));
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void splitsRequestedRangeOfObject() throws Exception {
+        tm.download(new GetObjectRequest(BUCKET, KEY).withRange(150, 849), file)
+            .waitForCompletion();
+
+        assertEquals(7, s3.requests.size());
+        assertEquals(new TreeSet<Long>(Arrays.asList(150L, 250L, 350L, 450L, 550L, 650L, 750L)),
+                startsOf(s3.requests));
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 150, 850), contentOf(file));
+    }
+
+    @Test
+    public void clampsRequestedRangeToEndOfObject() throws Exception {
+        Download download = tm.download(new GetObjectRequest(BUCKET, KEY).withRange(500, 5000), file);
+        download.waitForCompletion();
+
+        assertEquals(CONTENT.length - 500, download.getProgress().getTotalBytesToTransfer());
+        assertEquals(new TreeSet<Long>(Arrays.asList(500L, 600L, 700L, 800L, 900L, 1000L)),
+                startsOf(s3.requests));
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 500, CONTENT.length), contentOf(file));
+    }
+
+    @Test
+    public void failedRangeFailsDownloadAndCancelsPendingRanges() throws Exception {
+        AmazonServiceException error = new AmazonServiceException("Precondition Failed");
+        s3.failures.put(0L, error);
+        for (int i = 1; i < RANGES; i++) {
+            s3.delays.put((long) i * PART_SIZE, 200L);
+        }
+
+        Download download = tm.download(new GetObjectRequest(BUCKET, KEY), file);
+        try {
+            download.waitForCompletion();
+            fail("expected AmazonClientException");
+        } catch (AmazonClientException expected) {
+            assertTrue(isCausedBy(expected, error));
+        }
+
+        assertEquals(TransferState.Failed, download.getState());
+        assertTrue(s3.requests.size() < RANGES);
+    }
+
+    @Test
+    public void resumesOnlyTheRangesNotWrittenBeforeFailure() throws Exception {
+        s3.failures.put(5L * PART_SIZE, new AmazonServiceException("Internal Error"));
+        s3.delays.put(5L * PART_SIZE, 200L);
+        Download download = tm.download(new GetObjectRequest(BUCKET, KEY), file);
+        try {
+            download.waitForCompletion();
+            fail("expected AmazonClientException");
+        } catch (AmazonClientException expected) {
+        }
+        PersistableDownload paused = download.pause();
+        long[] completedRanges = paused.getCompletedRanges();
+        assertEquals(Long.valueOf(PART_SIZE), paused.getRangedDownloadPartSize());
+        assertEquals(0x1FL, completedRanges[0] & 0x3FL);
+
+        // Resume from the serialized state of the download
+        s3.failures.clear();
+        s3.requests.clear();
+        PersistableDownload deserialized = PersistableTransfer.deserializeFrom(
+                new ByteArrayInputStream(paused.serialize().getBytes(UTF8)));
+        tm.resumeDownload(deserialized).waitForCompletion();
+
+        Set<Long> expected = new TreeSet<Long>();
+        for (int i = 0; i < RANGES; i++) {
+            if ((completedRanges[0] & (1L << i)) == 0) {
+                expected.add((long) i * PART_SIZE);
+            }
+        }
+        assertTrue(expected.contains(5L * PART_SIZE));
+        assertEquals(expected, startsOf(s3.requests));
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void resumesFromPersistedRanges() throws Exception {
+        // The first five ranges were written before the pause
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(CONTENT.length);
+            raf.write(CONTENT, 0, 5 * PART_SIZE);
+        } finally {
+            raf.close();
+        }
+        PersistableDownload paused = new PersistableDownload(BUCKET, KEY, null, null, null,
+                false, file.getAbsolutePath(), LAST_MODIFIED.getTime(), (long) PART_SIZE,
+                new long[] { 0x1FL });
+
+        tm.resumeDownload(paused).waitForCompletion();
+
+        assertEquals(new TreeSet<Long>(Arrays.asList(500L, 600L, 700L, 800L, 900L, 1000L)),
+                startsOf(s3.requests));
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    @Test
+    public void refusesToResumeIntoModifiedFile() throws Exception {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(CONTENT, 0, 5 * PART_SIZE);
+        } finally {
+            out.close();
+        }
+        PersistableDownload paused = new PersistableDownload(BUCKET, KEY, null, null, null,
+                false, file.getAbsolutePath(), LAST_MODIFIED.getTime(), (long) PART_SIZE,
+                new long[] { 0x1FL });
+
+        try {
+            tm.resumeDownload(paused).waitForCompletion();
+            fail("expected AmazonClientException");
+        } catch (AmazonClientException expected) {
+        }
+        assertTrue(s3.requests.isEmpty());
+    }
+
+    @Test
+    public void doesNotSplitObjectsUnderThreshold() throws Exception {
+        TransferManagerConfiguration configuration = new TransferManagerConfiguration();
+        configuration.setRangedDownloadThreshold(CONTENT.length);
+        configuration.setRangedDownloadPartSize(PART_SIZE);
+        tm.setConfiguration(configuration);
+
+        tm.download(new GetObjectRequest(BUCKET, KEY), file).waitForCompletion();
+
+        assertEquals(1, s3.requests.size());
+        assertArrayEquals(CONTENT, contentOf(file));
+    }
+
+    private static byte[] contentOf(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static Set<Long> startsOf(List<GetObjectRequest> requests) {
+        Set<Long> starts = new TreeSet<Long>();
+        for (GetObjectRequest req : requests) {
+            starts.add(req.getRange()[0]);
+        }
+        return starts;
+    }
+
+    private static boolean isSorted(List<Long> values) {
+        List<Long> sorted = new ArrayList<Long>(values);
+        Collections.sort(sorted);
+        return sorted.equals(values);
+    }
+
+    private static boolean isCausedBy(Throwable t, Throwable cause) {
+        for (; t != null; t = t.getCause()) {
+            if (t == cause) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class RangeComparator implements Comparator<String> {
+        public int compare(String a, String b) {
+            return Long.valueOf(a.split("-")[0]).compareTo(Long.valueOf(b.split("-")[0]));
+        }
+    }
+
+    /**
+     * Serves ranges of CONTENT, optionally delaying or failing the ranges
+     * starting at given positions, and records the requests made.
+     */
+    private static class StubS3Client extends AmazonS3Client {
+        final List<GetObjectRequest> requests =
+                Collections.synchronizedList(new ArrayList<GetObjectRequest>());
+        final List<Long> served = Collections.synchronizedList(new ArrayList<Long>());
+        final ConcurrentMap<Long, Long> delays = new ConcurrentHashMap<Long, Long>();
+        final ConcurrentMap<Long, AmazonServiceException> failures =
+                new ConcurrentHashMap<Long, AmazonServiceException>();
+
+        StubS3Client() {
+            super(new BasicAWSCredentials("access", "secret"));
+        }
+
+        @Override
+        public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest req) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(CONTENT.length);
+            metadata.setLastModified(LAST_MODIFIED);
+            metadata.setHeader(Headers.ETAG, ETAG);
+            return metadata;
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest req) {
+            requests.add(req);
+            long start = 0;
+            long end = CONTENT.length - 1;
+            if (req.getRange() != null) {
+                start = req.getRange()[0];
+                end = Math.min(req.getRange()[1], end);
+            }
+            Long delay = delays.get(start);
+            if (delay != null) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException(e);
+                }
+            }
+            AmazonServiceException failure = failures.get(start);
+            if (failure != null) {
+                throw failure;
+            }
+            served.add(start);
+
+            S3Object object = new S3Object();
+            object.setBucketName(req.getBucketName());
+            object.setKey(req.getKey());
+            object.setObjectMetadata(getObjectMetadata(new GetObjectMetadataRequest(BUCKET, KEY)));
+            object.setObjectContent(new ByteArrayInputStream(CONTENT, (int) start, (int) (end - start + 1)));
+            return object;
+        }
+    }
+}
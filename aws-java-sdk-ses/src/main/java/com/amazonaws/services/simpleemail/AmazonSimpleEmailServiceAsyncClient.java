@@ -98,8 +98,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends
     public AmazonSimpleEmailServiceAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonSimpleEmailServiceAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -118,8 +118,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends
      */
     public AmazonSimpleEmailServiceAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonSimpleEmailServiceAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -181,8 +181,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends
      */
     public AmazonSimpleEmailServiceAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonSimpleEmailServiceAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -209,8 +209,8 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonSimpleEmailServiceAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -104,8 +104,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
     public AmazonSNSAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonSNSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -123,8 +123,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AmazonSNSAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonSNSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -186,8 +186,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
      */
     public AmazonSNSAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonSNSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -214,8 +214,8 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonSNSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
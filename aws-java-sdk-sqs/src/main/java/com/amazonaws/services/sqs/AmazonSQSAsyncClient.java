@@ -164,8 +164,8 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
     public AmazonSQSAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonSQSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -183,8 +183,8 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AmazonSQSAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonSQSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -246,8 +246,8 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
      */
     public AmazonSQSAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AmazonSQSAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -274,8 +274,8 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AmazonSQSAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -16,7 +16,6 @@ package com.amazonaws.services.sqs.buffered;
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,6 +31,7 @@ import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
 import com.amazonaws.services.sqs.model.ReceiveMessageResult;
 import com.amazonaws.services.sqs.model.SendMessageRequest;
 import com.amazonaws.services.sqs.model.SendMessageResult;
+import com.amazonaws.util.SdkExecutors;
 
 /**
  * A buffer to operate on an SQS queue. The buffer batches outbound ( {@code SendMessage},
@@ -62,7 +62,8 @@ class QueueBuffer {
      * for each queue. The DaemonThreadFactory creates daemon threads, which means they won't block
      * the JVM from exiting if only they are still around.
      */
-    static ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory());;
+    static ExecutorService executor = SdkExecutors.newCachedThreadPool("sqs-queue-buffer",
+            new DaemonThreadFactory());
 
     QueueBuffer(QueueBufferConfig paramConfig, String url, AmazonSQSAsync sqs) {
         realSqs = sqs;
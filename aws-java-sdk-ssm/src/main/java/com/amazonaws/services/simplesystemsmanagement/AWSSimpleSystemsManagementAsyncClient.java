@@ -293,8 +293,8 @@ public class AWSSimpleSystemsManagementAsyncClient extends
     public AWSSimpleSystemsManagementAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSSimpleSystemsManagementAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -313,8 +313,8 @@ public class AWSSimpleSystemsManagementAsyncClient extends
      */
     public AWSSimpleSystemsManagementAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSSimpleSystemsManagementAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -376,8 +376,8 @@ public class AWSSimpleSystemsManagementAsyncClient extends
      */
     public AWSSimpleSystemsManagementAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSSimpleSystemsManagementAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -404,8 +404,8 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSSimpleSystemsManagementAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
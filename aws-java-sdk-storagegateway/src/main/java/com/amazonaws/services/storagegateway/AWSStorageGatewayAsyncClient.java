@@ -178,8 +178,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
     public AWSStorageGatewayAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSStorageGatewayAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -198,8 +198,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public AWSStorageGatewayAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSStorageGatewayAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -261,8 +261,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public AWSStorageGatewayAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSStorageGatewayAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -289,8 +289,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSStorageGatewayAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -154,8 +154,8 @@ public class AWSSecurityTokenServiceAsyncClient extends
     public AWSSecurityTokenServiceAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSSecurityTokenServiceAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -174,8 +174,8 @@ public class AWSSecurityTokenServiceAsyncClient extends
      */
     public AWSSecurityTokenServiceAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSSecurityTokenServiceAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -237,8 +237,8 @@ public class AWSSecurityTokenServiceAsyncClient extends
      */
     public AWSSecurityTokenServiceAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSSecurityTokenServiceAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -265,8 +265,8 @@ public class AWSSecurityTokenServiceAsyncClient extends
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSSecurityTokenServiceAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -145,8 +145,8 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
     public AWSSupportAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSSupportAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -165,8 +165,8 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
      */
     public AWSSupportAsyncClient(
             com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSSupportAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -228,8 +228,8 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
      */
     public AWSSupportAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSSupportAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -256,8 +256,8 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSSupportAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -15,7 +15,9 @@
 package com.amazonaws.services.simpleworkflow.flow;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Contains value that is bound to a currently executing workflow. Has the same
@@ -68,6 +70,52 @@ public class WorkflowExecutionLocal<T> {
         }
     }
 
+    /**
+     * May be called at the end of a decision instead of {@link #after()} to
+     * keep the values of the currently executing workflow for its next
+     * decision, which then calls {@link #resume(Object)} instead of
+     * {@link #before()}. It is not a good idea to call this method from non
+     * framework code.
+     * 
+     * @return the values to pass to {@link #resume(Object)}
+     */
+    public static Object suspend() {
+        List<WorkflowExecutionLocal<?>> currentLocals;
+        synchronized (locals) {
+            currentLocals = new ArrayList<WorkflowExecutionLocal<?>>(locals);
+        }
+        // hashCode is the one of the value
+        Map<WorkflowExecutionLocal<?>, Wrapper<?>> values = new IdentityHashMap<WorkflowExecutionLocal<?>, Wrapper<?>>();
+        for (WorkflowExecutionLocal<?> local : currentLocals) {
+            values.put(local, local.value.get());
+            local.removeAfter();
+        }
+        return values;
+    }
+
+    /**
+     * Must be called before a decision of a workflow whose values were kept
+     * by {@link #suspend()} at the end of its previous decision, possibly by
+     * another thread. It is not a good idea to call this method from non
+     * framework code.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static void resume(Object suspended) {
+        Map<WorkflowExecutionLocal<?>, Wrapper<?>> values = (Map<WorkflowExecutionLocal<?>, Wrapper<?>>) suspended;
+        List<WorkflowExecutionLocal<?>> currentLocals;
+        synchronized (locals) {
+            currentLocals = new ArrayList<WorkflowExecutionLocal<?>>(locals);
+        }
+        for (WorkflowExecutionLocal local : currentLocals) {
+            Wrapper w = values.get(local);
+            if (w == null) {
+                w = new Wrapper();
+                w.wrapped = local.initialValue();
+            }
+            local.set(w);
+        }
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public WorkflowExecutionLocal() {
         Wrapper w = new Wrapper();
@@ -243,6 +243,14 @@ public class WorkflowWorker implements WorkerBase {
         factoryFactory.setDataConverter(converter);
     }
 
+    public int getDeciderCacheSize() {
+        return genericWorker.getDeciderCacheSize();
+    }
+
+    public void setDeciderCacheSize(int deciderCacheSize) {
+        genericWorker.setDeciderCacheSize(deciderCacheSize);
+    }
+
     @Override
     public void setDisableTypeRegistrationOnStart(boolean disableTypeRegistrationOnStart) {
         genericWorker.setDisableTypeRegistrationOnStart(disableTypeRegistrationOnStart);
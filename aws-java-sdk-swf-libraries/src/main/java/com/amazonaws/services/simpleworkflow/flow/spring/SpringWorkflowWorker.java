@@ -175,6 +175,14 @@ public class SpringWorkflowWorker implements WorkerBase, SmartLifecycle {
         genericWorker.setDisableServiceShutdownOnStop(disableServiceShutdownOnStop);
     }
 
+    public int getDeciderCacheSize() {
+        return genericWorker.getDeciderCacheSize();
+    }
+
+    public void setDeciderCacheSize(int deciderCacheSize) {
+        genericWorker.setDeciderCacheSize(deciderCacheSize);
+    }
+
     @Override
     public void setDisableTypeRegistrationOnStart(boolean disableTypeRegistrationOnStart) {
         genericWorker.setDisableTypeRegistrationOnStart(disableTypeRegistrationOnStart);
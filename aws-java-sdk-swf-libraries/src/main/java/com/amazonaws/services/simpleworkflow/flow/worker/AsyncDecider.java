@@ -25,6 +25,7 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.AmazonServiceException.ErrorType;
 import com.amazonaws.services.simpleworkflow.flow.DecisionContext;
 import com.amazonaws.services.simpleworkflow.flow.WorkflowException;
+import com.amazonaws.services.simpleworkflow.flow.WorkflowExecutionLocal;
 import com.amazonaws.services.simpleworkflow.flow.core.AsyncScope;
 import com.amazonaws.services.simpleworkflow.flow.core.AsyncTaskInfo;
 import com.amazonaws.services.simpleworkflow.flow.core.Promise;
@@ -131,7 +132,7 @@ class AsyncDecider {
 
     private WorkflowDefinition definition;
 
-    private final HistoryHelper historyHelper;
+    private HistoryHelper historyHelper;
 
     private final DecisionsHelper decisionsHelper;
 
@@ -157,6 +158,17 @@ class AsyncDecider {
 
     private Throwable failure;
 
+    /**
+     * The ID of the last history event handled.
+     */
+    private long lastEventId;
+
+    /**
+     * The workflow execution locals of the definition kept between decision
+     * tasks; or null if the decider is not suspended.
+     */
+    private Object suspendedLocals;
+
     public AsyncDecider(WorkflowDefinitionFactory workflowDefinitionFactory, HistoryHelper historyHelper,
             DecisionsHelper decisionsHelper) throws Exception {
         this.workflowDefinitionFactory = workflowDefinitionFactory;
@@ -444,10 +456,73 @@ class AsyncDecider {
     }
 
     public void decide() throws Exception {
+        decide(false);
+    }
+
+    /**
+     * Same as {@link #decide()}, but keeps the workflow definition if the
+     * workflow is still open after the decisions, so that the decisions for the
+     * next decision task of the workflow execution can be made by
+     * {@link #resume(HistoryHelper)} without replaying its history.
+     */
+    void decideAndSuspend() throws Exception {
+        decide(true);
+    }
+
+    /**
+     * Makes the decisions for the next decision task of the workflow execution
+     * of a suspended decider, handling only the events that follow the ones
+     * handled by its previous decision task.
+     */
+    void resume(HistoryHelper historyHelper) throws Exception {
+        if (!isSuspended()) {
+            throw new IllegalStateException("not suspended");
+        }
+        this.historyHelper = historyHelper;
+        WorkflowExecutionLocal.resume(suspendedLocals);
+        suspendedLocals = null;
+        try {
+            historyHelper.getEvents().skipTo(lastEventId + 1);
+        }
+        catch (RuntimeException e) {
+            // Failed to get the next page of the history
+            workflowDefinitionFactory.deleteWorkflowDefinition(definition);
+            throw e;
+        }
+        decide(true);
+    }
+
+    boolean isSuspended() {
+        return suspendedLocals != null;
+    }
+
+    /**
+     * Returns the ID of the last history event handled, which for a suspended
+     * decider is the DecisionTaskStarted event of its previous decision task.
+     */
+    long getLastEventId() {
+        return lastEventId;
+    }
+
+    /**
+     * Deletes the workflow definition kept by a suspended decider.
+     */
+    void close() {
+        if (isSuspended()) {
+            WorkflowExecutionLocal.resume(suspendedLocals);
+            suspendedLocals = null;
+            workflowDefinitionFactory.deleteWorkflowDefinition(definition);
+        }
+    }
+
+    private void decide(boolean suspend) throws Exception {
+        boolean suspendable = suspend;
         try {
-            definition = workflowDefinitionFactory.getWorkflowDefinition(context);
             if (definition == null) {
-                throw new IllegalStateException("Unknown workflow type: " + context.getWorkflowContext().getWorkflowType());
+                definition = workflowDefinitionFactory.getWorkflowDefinition(context);
+                if (definition == null) {
+                    throw new IllegalStateException("Unknown workflow type: " + context.getWorkflowContext().getWorkflowType());
+                }
             }
             long lastNonReplayedEventId = historyHelper.getLastNonReplayEventId();
             // Buffer events until the next DecisionTaskStarted and then process them
@@ -461,6 +536,7 @@ class AsyncDecider {
                 int lastDecisionIndex = -1;
                 while (eventsIterator.hasNext()) {
                     HistoryEvent event = eventsIterator.next();
+                    lastEventId = event.getEventId();
                     EventType eventType = EventType.valueOf(event.getEventType());
                     if (eventType == EventType.DecisionTaskCompleted) {
                         decisionsHelper.setWorkflowContextData(event.getDecisionTaskCompletedEventAttributes().getExecutionContext());
@@ -525,6 +601,7 @@ class AsyncDecider {
             }
         }
         catch (AmazonServiceException e) {
+            suspendable = false;
             // We don't want to fail workflow on service exceptions like 500 or throttling
             // Throwing from here drops decision task which is OK as it is rescheduled after its StartToClose timeout.
             if (e.getErrorType() == ErrorType.Client && !"ThrottlingException".equals(e.getErrorCode())) {
@@ -538,6 +615,7 @@ class AsyncDecider {
             }
         }
         catch (Throwable e) {
+            suspendable = false;
             if (log.isErrorEnabled()) {
                 log.error("Failing workflow " + workflowContext.getWorkflowExecution(), e);
             }
@@ -553,7 +631,14 @@ class AsyncDecider {
             catch (Throwable e) {
                 decisionsHelper.setWorkflowContextData(e.getMessage());
             }
-            workflowDefinitionFactory.deleteWorkflowDefinition(this.definition);
+            // The next decision task can only resume from the DecisionTaskStarted
+            // event of this one, as the events that follow it are reordered
+            if (suspendable && !completed && lastEventId == historyHelper.getDecisionTask().getStartedEventId()) {
+                suspendedLocals = WorkflowExecutionLocal.suspend();
+            }
+            else {
+                workflowDefinitionFactory.deleteWorkflowDefinition(this.definition);
+            }
         }
     }
 
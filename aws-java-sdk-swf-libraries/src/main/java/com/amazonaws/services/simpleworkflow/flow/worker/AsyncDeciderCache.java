@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not
+ * use this file except in compliance with the License. A copy of the License is
+ * located at
+ * 
+ * http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.simpleworkflow.flow.worker;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Keeps the suspended deciders of the most recently decided workflow
+ * executions, keyed by run ID, so that the next decision task of an execution
+ * handles only the events which are new since its previous decision task
+ * instead of replaying the whole history. The least recently used decider is
+ * closed when the cache is full.
+ */
+class AsyncDeciderCache {
+
+    private static final Log log = LogFactory.getLog(AsyncDeciderCache.class);
+
+    private final int maximumSize;
+
+    // in access order
+    private final Map<String, AsyncDecider> deciders = new LinkedHashMap<String, AsyncDecider>(16, 0.75f, true);
+
+    public AsyncDeciderCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize should be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Removes the decider of the given workflow execution from the cache and
+     * returns it if its last decision task is the previous one of the workflow
+     * execution, that is the decider can resume.
+     *
+     * @return the decider or null on a cache miss
+     */
+    public AsyncDecider take(String runId, long previousStartedEventId) {
+        AsyncDecider decider;
+        synchronized (deciders) {
+            decider = deciders.remove(runId);
+        }
+        if (decider == null) {
+            return null;
+        }
+        if (decider.getLastEventId() != previousStartedEventId) {
+            // Another worker or a timed out decision task decided meanwhile
+            if (log.isDebugEnabled()) {
+                log.debug("Stale decider for runId=" + runId + ": lastEventId=" + decider.getLastEventId()
+                        + ", previousStartedEventId=" + previousStartedEventId);
+            }
+            close(decider);
+            return null;
+        }
+        return decider;
+    }
+
+    /**
+     * Adds the suspended decider of the given workflow execution, closing the
+     * least recently used one if the cache is full.
+     */
+    public void put(String runId, AsyncDecider decider) {
+        AsyncDecider evicted = null;
+        synchronized (deciders) {
+            AsyncDecider replaced = deciders.put(runId, decider);
+            if (replaced != null && replaced != decider) {
+                evicted = replaced;
+            }
+            else if (deciders.size() > maximumSize) {
+                Iterator<AsyncDecider> eldest = deciders.values().iterator();
+                evicted = eldest.next();
+                eldest.remove();
+            }
+        }
+        if (evicted != null) {
+            close(evicted);
+        }
+    }
+
+    private void close(AsyncDecider decider) {
+        try {
+            decider.close();
+        }
+        catch (Throwable e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failure closing decider", e);
+            }
+        }
+    }
+}
@@ -39,19 +39,56 @@ public class AsyncDecisionTaskHandler extends DecisionTaskHandler {
 
     private final WorkflowDefinitionFactoryFactory definitionFactoryFactory;
 
+    private final AsyncDeciderCache deciderCache;
+
     public AsyncDecisionTaskHandler(WorkflowDefinitionFactoryFactory definitionFactoryFactory) {
+        this(definitionFactoryFactory, 0);
+    }
+
+    /**
+     * @param deciderCacheSize
+     *            maximum number of workflow executions whose state is kept
+     *            between their decision tasks, so that a decision task of a
+     *            cached execution handles only the new events instead of
+     *            replaying the whole history. 0 disables the cache. Each
+     *            cached execution keeps the first history page of the
+     *            decision task which created its decider.
+     */
+    public AsyncDecisionTaskHandler(WorkflowDefinitionFactoryFactory definitionFactoryFactory, int deciderCacheSize) {
         this.definitionFactoryFactory = definitionFactoryFactory;
+        this.deciderCache = deciderCacheSize > 0 ? new AsyncDeciderCache(deciderCacheSize) : null;
     }
 
     @Override
     public RespondDecisionTaskCompletedRequest handleDecisionTask(Iterator<DecisionTask> decisionTaskIterator) throws Exception {
         HistoryHelper historyHelper = new HistoryHelper(decisionTaskIterator);
-        AsyncDecider decider = createDecider(historyHelper);
-        decider.decide();
+        DecisionTask decisionTask = historyHelper.getDecisionTask();
+        AsyncDecider decider;
+        if (deciderCache == null) {
+            decider = createDecider(historyHelper);
+            decider.decide();
+        }
+        else {
+            String runId = decisionTask.getWorkflowExecution().getRunId();
+            decider = deciderCache.take(runId, historyHelper.getLastNonReplayEventId());
+            if (decider != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("WorkflowTask resumed: taskId=" + decisionTask.getStartedEventId() + ", taskToken="
+                            + decisionTask.getTaskToken() + ", workflowExecution=" + decisionTask.getWorkflowExecution());
+                }
+                decider.resume(historyHelper);
+            }
+            else {
+                decider = createDecider(historyHelper);
+                decider.decideAndSuspend();
+            }
+            if (decider.isSuspended()) {
+                deciderCache.put(runId, decider);
+            }
+        }
         DecisionsHelper decisionsHelper = decider.getDecisionsHelper();
         Collection<Decision> decisions = decisionsHelper.getDecisions();
         String context = decisionsHelper.getWorkflowContextDataToReturn();
-        DecisionTask decisionTask = historyHelper.getDecisionTask();
         if (log.isDebugEnabled()) {
             log.debug("WorkflowTask taskId=" + decisionTask.getStartedEventId() + ", taskToken=" + decisionTask.getTaskToken()
                     + " completed with " + decisions.size() + " new decisions");
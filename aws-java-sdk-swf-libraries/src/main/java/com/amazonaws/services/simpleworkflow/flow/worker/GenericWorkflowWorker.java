@@ -38,6 +38,8 @@ public class GenericWorkflowWorker extends GenericWorker {
 
     private WorkflowDefinitionFactoryFactory workflowDefinitionFactoryFactory;
 
+    private int deciderCacheSize;
+
     public GenericWorkflowWorker() {
         setIdentity(ManagementFactory.getRuntimeMXBean().getName());
     }
@@ -57,6 +59,26 @@ public class GenericWorkflowWorker extends GenericWorker {
         this.workflowDefinitionFactoryFactory = workflowDefinitionFactoryFactory;
     }
 
+    public int getDeciderCacheSize() {
+        return deciderCacheSize;
+    }
+
+    /**
+     * Maximum number of workflow executions whose state is kept between their
+     * decision tasks, so that a decision task polled by this worker for a
+     * cached execution handles only the events which are new since its
+     * previous decision task instead of replaying the whole history. Default
+     * is 0 which disables the cache.
+     * <p>
+     * A cached execution keeps the first history page of the decision task
+     * that created its state, as the workflow context refers to that decision
+     * task. So the memory used by the cache grows by up to one history page
+     * per cached execution, on top of the state of the workflow definition.
+     */
+    public void setDeciderCacheSize(int deciderCacheSize) {
+        this.deciderCacheSize = deciderCacheSize;
+    }
+
     protected DecisionTaskPoller createWorkflowPoller() {
         DecisionTaskPoller poller = new DecisionTaskPoller();
         return poller;
@@ -75,7 +97,7 @@ public class GenericWorkflowWorker extends GenericWorker {
     @Override
     protected TaskPoller createPoller() {
         DecisionTaskPoller result = new DecisionTaskPoller();
-        result.setDecisionTaskHandler(new AsyncDecisionTaskHandler(workflowDefinitionFactoryFactory));
+        result.setDecisionTaskHandler(new AsyncDecisionTaskHandler(workflowDefinitionFactoryFactory, deciderCacheSize));
         result.setDomain(getDomain());
         result.setIdentity(getIdentity());
         result.setService(getService());
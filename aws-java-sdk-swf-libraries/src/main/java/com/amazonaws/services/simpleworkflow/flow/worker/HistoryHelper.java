@@ -61,16 +61,35 @@ class HistoryHelper {
         @Override
         public HistoryEvent next() {
             if (index == events.size()) {
-                decisionTask = decisionTasks.next();
-                events = decisionTask.getEvents();
-                if (historyLog.isTraceEnabled()) {
-                    historyLog.trace(WorkflowExecutionUtils.prettyPrintHistory(events, true));
-                }
-                index = 0;
+                nextPage();
             }
             return events.get(index++);
         }
 
+        /**
+         * Skips the events preceding the one with the given ID.
+         */
+        public void skipTo(long eventId) {
+            while (hasNext()) {
+                if (index == events.size()) {
+                    nextPage();
+                }
+                if (events.get(index).getEventId() >= eventId) {
+                    return;
+                }
+                index++;
+            }
+        }
+
+        private void nextPage() {
+            decisionTask = decisionTasks.next();
+            events = decisionTask.getEvents();
+            if (historyLog.isTraceEnabled()) {
+                historyLog.trace(WorkflowExecutionUtils.prettyPrintHistory(events, true));
+            }
+            index = 0;
+        }
+
         public DecisionTask getDecisionTask() {
             return decisionTask;
         }
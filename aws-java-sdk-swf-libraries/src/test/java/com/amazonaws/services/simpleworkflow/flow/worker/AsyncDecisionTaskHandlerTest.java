@@ -0,0 +1,467 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not
+ * use this file except in compliance with the License. A copy of the License is
+ * located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.simpleworkflow.flow.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.services.simpleworkflow.flow.DecisionContext;
+import com.amazonaws.services.simpleworkflow.flow.WorkflowException;
+import com.amazonaws.services.simpleworkflow.flow.WorkflowExecutionLocal;
+import com.amazonaws.services.simpleworkflow.flow.WorkflowTypeRegistrationOptions;
+import com.amazonaws.services.simpleworkflow.flow.core.ExternalTask;
+import com.amazonaws.services.simpleworkflow.flow.core.ExternalTaskCancellationHandler;
+import com.amazonaws.services.simpleworkflow.flow.core.ExternalTaskCompletionHandle;
+import com.amazonaws.services.simpleworkflow.flow.core.Promise;
+import com.amazonaws.services.simpleworkflow.flow.core.Settable;
+import com.amazonaws.services.simpleworkflow.flow.generic.WorkflowDefinition;
+import com.amazonaws.services.simpleworkflow.flow.generic.WorkflowDefinitionFactory;
+import com.amazonaws.services.simpleworkflow.flow.generic.WorkflowDefinitionFactoryFactory;
+import com.amazonaws.services.simpleworkflow.model.ActivityTaskCompletedEventAttributes;
+import com.amazonaws.services.simpleworkflow.model.Decision;
+import com.amazonaws.services.simpleworkflow.model.DecisionTask;
+import com.amazonaws.services.simpleworkflow.model.DecisionTaskCompletedEventAttributes;
+import com.amazonaws.services.simpleworkflow.model.DecisionType;
+import com.amazonaws.services.simpleworkflow.model.EventType;
+import com.amazonaws.services.simpleworkflow.model.HistoryEvent;
+import com.amazonaws.services.simpleworkflow.model.RespondDecisionTaskCompletedRequest;
+import com.amazonaws.services.simpleworkflow.model.WorkflowExecution;
+import com.amazonaws.services.simpleworkflow.model.WorkflowExecutionSignaledEventAttributes;
+import com.amazonaws.services.simpleworkflow.model.WorkflowExecutionStartedEventAttributes;
+import com.amazonaws.services.simpleworkflow.model.WorkflowType;
+
+public class AsyncDecisionTaskHandlerTest {
+
+    private static final WorkflowType WORKFLOW_TYPE = new WorkflowType().withName("TestWorkflow").withVersion("1.0");
+
+    /**
+     * Set to the input of the workflow when it starts.
+     */
+    private static final WorkflowExecutionLocal<String> INPUT = new WorkflowExecutionLocal<String>();
+
+    private final TestWorkflowDefinitionFactory factory = new TestWorkflowDefinitionFactory();
+
+    @Test
+    public void resumesCachedDeciderFromPreviousDecisionTask() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("a");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("b");
+        handler.handleDecisionTask(history.decisionTask());
+
+        assertEquals(1, factory.created.size());
+        TestWorkflowDefinition definition = factory.created.get(0);
+        assertEquals(1, definition.executions);
+        assertEquals(Arrays.asList("a:input", "b:input"), definition.signals);
+        assertTrue(factory.deleted.isEmpty());
+    }
+
+    @Test
+    public void replaysWholeHistoryWithoutCache() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(0);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("a");
+        handler.handleDecisionTask(history.decisionTask());
+
+        assertEquals(2, factory.created.size());
+        assertEquals(factory.created, factory.deleted);
+        assertEquals(Arrays.asList("a:input"), factory.created.get(1).signals);
+    }
+
+    @Test
+    public void replaysWholeHistoryWhenPreviousStartedEventIdDoesNotMatch() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("a");
+        // Decided by another worker
+        history.decisionTask();
+        history.completed();
+        history.signal("b");
+        handler.handleDecisionTask(history.decisionTask());
+
+        assertEquals(2, factory.created.size());
+        assertEquals(Arrays.asList(factory.created.get(0)), factory.deleted);
+        TestWorkflowDefinition replayed = factory.created.get(1);
+        assertEquals(1, replayed.executions);
+        assertEquals(Arrays.asList("a:input", "b:input"), replayed.signals);
+    }
+
+    @Test
+    public void closesLeastRecentlyUsedDecider() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(2);
+        History history1 = new History("run1", "input1");
+        History history2 = new History("run2", "input2");
+        History history3 = new History("run3", "input3");
+        handler.handleDecisionTask(history1.decisionTask());
+        history1.completed();
+        handler.handleDecisionTask(history2.decisionTask());
+        history2.completed();
+        history1.signal("a");
+        handler.handleDecisionTask(history1.decisionTask());
+        assertTrue(factory.deleted.isEmpty());
+
+        handler.handleDecisionTask(history3.decisionTask());
+
+        assertEquals(Arrays.asList(factory.created.get(1)), factory.deleted);
+        history2.signal("b");
+        handler.handleDecisionTask(history2.decisionTask());
+        assertEquals(4, factory.created.size());
+        assertEquals(Arrays.asList("b:input2"), factory.created.get(3).signals);
+    }
+
+    @Test
+    public void doesNotCacheCompletedWorkflow() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("complete");
+        RespondDecisionTaskCompletedRequest response = handler.handleDecisionTask(history.decisionTask());
+
+        assertEquals(DecisionType.CompleteWorkflowExecution.toString(), onlyDecisionType(response));
+        assertEquals(factory.created, factory.deleted);
+    }
+
+    @Test
+    public void doesNotCacheFailedWorkflow() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("fail");
+        RespondDecisionTaskCompletedRequest response = handler.handleDecisionTask(history.decisionTask());
+
+        assertEquals(DecisionType.FailWorkflowExecution.toString(), onlyDecisionType(response));
+        assertEquals(factory.created, factory.deleted);
+    }
+
+    @Test
+    public void doesNotCacheDeciderAfterUnexpectedException() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        // An activity which was never scheduled
+        history.add(EventType.ActivityTaskCompleted).withActivityTaskCompletedEventAttributes(
+                new ActivityTaskCompletedEventAttributes().withScheduledEventId(1L).withStartedEventId(2L));
+        RespondDecisionTaskCompletedRequest response = handler.handleDecisionTask(history.decisionTask());
+
+        assertEquals(DecisionType.FailWorkflowExecution.toString(), onlyDecisionType(response));
+        assertEquals(factory.created, factory.deleted);
+    }
+
+    @Test
+    public void doesNotCacheDeciderAfterServiceException() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("a");
+        DecisionTask decisionTask = history.decisionTask().next();
+        // The second page of the history fails after the new events are skipped to
+        assertServiceException(handler, firstPageOf(decisionTask, history.events.size() - 2));
+        assertEquals(factory.created, factory.deleted);
+
+        handler.handleDecisionTask(Collections.singletonList(decisionTask).iterator());
+        assertEquals(2, factory.created.size());
+        assertEquals(Arrays.asList("a:input"), factory.created.get(1).signals);
+    }
+
+    @Test
+    public void closesDeciderWhenHistoryFailsBeforeNewEvents() throws Exception {
+        AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("a");
+        // The second page of the history fails while skipping to the new events
+        assertServiceException(handler, firstPageOf(history.decisionTask().next(), 2));
+
+        assertEquals(factory.created, factory.deleted);
+    }
+
+    @Test
+    public void resumesWorkflowExecutionLocalsOnOtherThread() throws Exception {
+        final AsyncDecisionTaskHandler handler = newHandler(10);
+        History history = new History("run1", "input");
+        handler.handleDecisionTask(history.decisionTask());
+        history.completed();
+        history.signal("a");
+        final Iterator<DecisionTask> decisionTask = history.decisionTask();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread thread = new Thread() {
+
+            @Override
+            public void run() {
+                try {
+                    handler.handleDecisionTask(decisionTask);
+                }
+                catch (Throwable e) {
+                    failure.set(e);
+                }
+            }
+        };
+        thread.start();
+        thread.join();
+
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(1, factory.created.size());
+        TestWorkflowDefinition definition = factory.created.get(0);
+        assertEquals(Arrays.asList("a:input"), definition.signals);
+        assertSame(definition.context, definition.signalContext);
+    }
+
+    private AsyncDecisionTaskHandler newHandler(int deciderCacheSize) {
+        return new AsyncDecisionTaskHandler(new WorkflowDefinitionFactoryFactory() {
+
+            @Override
+            public WorkflowDefinitionFactory getWorkflowDefinitionFactory(WorkflowType workflowType) {
+                return factory;
+            }
+
+            @Override
+            public Iterable<WorkflowType> getWorkflowTypesToRegister() {
+                return Collections.singletonList(WORKFLOW_TYPE);
+            }
+        }, deciderCacheSize);
+    }
+
+    private static void assertServiceException(AsyncDecisionTaskHandler handler, Iterator<DecisionTask> decisionTask)
+            throws Exception {
+        try {
+            handler.handleDecisionTask(decisionTask);
+            fail("expected AmazonServiceException");
+        }
+        catch (AmazonServiceException expected) {
+        }
+    }
+
+    private static String onlyDecisionType(RespondDecisionTaskCompletedRequest response) {
+        List<Decision> decisions = response.getDecisions();
+        assertEquals(1, decisions.size());
+        return decisions.get(0).getDecisionType();
+    }
+
+    /**
+     * Returns the first page of the history of the given decision task, with
+     * the given number of events, followed by a page which fails to be
+     * retrieved.
+     */
+    private static Iterator<DecisionTask> firstPageOf(DecisionTask decisionTask, int events) {
+        final DecisionTask firstPage = decisionTask.clone()
+                .withEvents(new ArrayList<HistoryEvent>(decisionTask.getEvents().subList(0, events)))
+                .withNextPageToken("page2");
+        return new Iterator<DecisionTask>() {
+
+            private boolean first = true;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public DecisionTask next() {
+                if (first) {
+                    first = false;
+                    return firstPage;
+                }
+                AmazonServiceException e = new AmazonServiceException("Rate exceeded");
+                e.setErrorType(ErrorType.Service);
+                throw e;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * The history of a workflow execution.
+     */
+    private static class History {
+
+        private final String runId;
+
+        private final List<HistoryEvent> events = new ArrayList<HistoryEvent>();
+
+        private long previousStartedEventId;
+
+        private long scheduledEventId;
+
+        private long startedEventId;
+
+        History(String runId, String input) {
+            this.runId = runId;
+            add(EventType.WorkflowExecutionStarted).withWorkflowExecutionStartedEventAttributes(
+                    new WorkflowExecutionStartedEventAttributes().withInput(input).withWorkflowType(WORKFLOW_TYPE));
+        }
+
+        HistoryEvent add(EventType eventType) {
+            long eventId = events.size() + 1;
+            HistoryEvent event = new HistoryEvent().withEventId(eventId).withEventType(eventType)
+                    .withEventTimestamp(new Date(eventId * 1000));
+            events.add(event);
+            return event;
+        }
+
+        void signal(String signalName) {
+            add(EventType.WorkflowExecutionSignaled).withWorkflowExecutionSignaledEventAttributes(
+                    new WorkflowExecutionSignaledEventAttributes().withSignalName(signalName));
+        }
+
+        /**
+         * Schedules and starts a decision task.
+         */
+        Iterator<DecisionTask> decisionTask() {
+            scheduledEventId = add(EventType.DecisionTaskScheduled).getEventId();
+            startedEventId = add(EventType.DecisionTaskStarted).getEventId();
+            DecisionTask decisionTask = new DecisionTask().withTaskToken(runId + ":" + startedEventId)
+                    .withWorkflowExecution(new WorkflowExecution().withWorkflowId("workflow").withRunId(runId))
+                    .withWorkflowType(WORKFLOW_TYPE).withStartedEventId(startedEventId)
+                    .withPreviousStartedEventId(previousStartedEventId).withEvents(new ArrayList<HistoryEvent>(events));
+            return Collections.singletonList(decisionTask).iterator();
+        }
+
+        /**
+         * Completes the last started decision task.
+         */
+        void completed() {
+            add(EventType.DecisionTaskCompleted).withDecisionTaskCompletedEventAttributes(
+                    new DecisionTaskCompletedEventAttributes().withScheduledEventId(scheduledEventId).withStartedEventId(
+                            startedEventId));
+            previousStartedEventId = startedEventId;
+        }
+    }
+
+    private static class TestWorkflowDefinitionFactory extends WorkflowDefinitionFactory {
+
+        private final List<TestWorkflowDefinition> created = new ArrayList<TestWorkflowDefinition>();
+
+        private final List<TestWorkflowDefinition> deleted = new ArrayList<TestWorkflowDefinition>();
+
+        @Override
+        public WorkflowTypeRegistrationOptions getWorkflowRegistrationOptions() {
+            return null;
+        }
+
+        @Override
+        public WorkflowDefinition getWorkflowDefinition(DecisionContext context) throws Exception {
+            CurrentDecisionContext.set(context);
+            TestWorkflowDefinition definition = new TestWorkflowDefinition(context);
+            created.add(definition);
+            return definition;
+        }
+
+        @Override
+        public void deleteWorkflowDefinition(WorkflowDefinition instance) {
+            deleted.add((TestWorkflowDefinition) instance);
+            CurrentDecisionContext.unset();
+        }
+
+        @Override
+        public WorkflowType getWorkflowType() {
+            return WORKFLOW_TYPE;
+        }
+    }
+
+    /**
+     * Records the signals received along with the input of the workflow, and
+     * waits for the "complete" signal to complete or the "fail" one to fail.
+     */
+    private static class TestWorkflowDefinition extends WorkflowDefinition {
+
+        private final DecisionContext context;
+
+        private final Settable<String> result = new Settable<String>();
+
+        private final List<String> signals = new ArrayList<String>();
+
+        private DecisionContext signalContext;
+
+        private ExternalTaskCompletionHandle completionHandle;
+
+        private int executions;
+
+        TestWorkflowDefinition(DecisionContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public Promise<String> execute(String input) throws WorkflowException {
+            executions++;
+            INPUT.set(input);
+            new ExternalTask() {
+
+                @Override
+                protected ExternalTaskCancellationHandler doExecute(final ExternalTaskCompletionHandle handle) {
+                    completionHandle = handle;
+                    return new ExternalTaskCancellationHandler() {
+
+                        @Override
+                        public void handleCancellation(Throwable cause) {
+                            handle.fail(cause);
+                        }
+                    };
+                }
+            };
+            return result;
+        }
+
+        @Override
+        public void signalRecieved(String signalName, String input) throws WorkflowException {
+            signals.add(signalName + ":" + INPUT.get());
+            signalContext = CurrentDecisionContext.get();
+            if ("complete".equals(signalName)) {
+                result.set("done");
+                completionHandle.complete();
+            }
+            else if ("fail".equals(signalName)) {
+                throw new IllegalStateException("failed by signal");
+            }
+        }
+
+        @Override
+        public String getWorkflowState() throws WorkflowException {
+            return null;
+        }
+    }
+}
@@ -91,8 +91,8 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
     public AWSWAFAsyncClient(
             com.amazonaws.ClientConfiguration clientConfiguration) {
         this(new com.amazonaws.auth.DefaultAWSCredentialsProviderChain(),
-                clientConfiguration, java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                clientConfiguration, com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSWAFAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 
@@ -110,8 +110,8 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
      * @see java.util.concurrent.Executors#newFixedThreadPool(int)
      */
     public AWSWAFAsyncClient(com.amazonaws.auth.AWSCredentials awsCredentials) {
-        this(awsCredentials, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentials, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSWAFAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -171,8 +171,8 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
      */
     public AWSWAFAsyncClient(
             com.amazonaws.auth.AWSCredentialsProvider awsCredentialsProvider) {
-        this(awsCredentialsProvider, java.util.concurrent.Executors
-                .newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE));
+        this(awsCredentialsProvider, com.amazonaws.util.SdkExecutors
+                .newFixedThreadPool("AWSWAFAsyncClient", DEFAULT_THREAD_POOL_SIZE));
     }
 
     /**
@@ -199,8 +199,8 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             com.amazonaws.ClientConfiguration clientConfiguration) {
 
         this(awsCredentialsProvider, clientConfiguration,
-                java.util.concurrent.Executors
-                        .newFixedThreadPool(clientConfiguration
+                com.amazonaws.util.SdkExecutors
+                        .newFixedThreadPool("AWSWAFAsyncClient", clientConfiguration
                                 .getMaxConnections()));
     }
 